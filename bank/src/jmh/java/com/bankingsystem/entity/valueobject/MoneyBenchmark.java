@@ -0,0 +1,125 @@
+// File: src/jmh/java/com/bankingsystem/entity/valueobject/MoneyBenchmark.java
+package com.bankingsystem.entity.valueobject;
+
+import com.bankingsystem.entity.account.SavingsAccount;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.service.strategy.interest.CompoundInterestStrategy;
+import com.bankingsystem.service.strategy.interest.RateFactorCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-based Money against BigDecimal on the two hot paths: summing postings and accruing interest.
+ *
+ * Interest is measured three ways over a whole year of monthly compounding: the BigDecimal path that
+ * {@link CompoundInterestStrategy} takes, the same factor applied to a BigDecimal balance, and the
+ * fixed-point factor applied with {@link Money#multiply(long, int)} as the nightly accrual does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final int OPERANDS = 10_000;
+    private static final int FREQUENCY = 12;
+    private static final BigDecimal RATE = new BigDecimal("0.025");
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = FROM.plusDays(365);
+
+    private final Money[] amounts = new Money[OPERANDS];
+    private final BigDecimal[] decimals = new BigDecimal[OPERANDS];
+    private final SavingsAccount[] accounts = new SavingsAccount[OPERANDS];
+
+    private CompoundInterestStrategy strategy;
+    private BigDecimal growth;
+    private long growthFixedPoint;
+
+    @Setup
+    public void setUp() {
+        RateFactorCache factorCache = new RateFactorCache();
+        ReflectionTestUtils.setField(factorCache, "maxEntries", 4096);
+        ReflectionTestUtils.invokeMethod(factorCache, "init");
+        strategy = new CompoundInterestStrategy();
+        ReflectionTestUtils.setField(strategy, "factorCache", factorCache);
+        ReflectionTestUtils.setField(strategy, "compoundingFrequency", FREQUENCY);
+        growth = factorCache.growth(RATE, FREQUENCY, FREQUENCY);
+        growthFixedPoint = factorCache.growthFixedPoint(RateFactorCache.rateMicros(RATE), FREQUENCY, FREQUENCY);
+
+        Random random = new Random(7);
+        for (int i = 0; i < OPERANDS; i++) {
+            long minorUnits = random.nextInt(10_000_000);
+            amounts[i] = Money.ofMinor(minorUnits, Currency.USD);
+            decimals[i] = BigDecimal.valueOf(minorUnits, 2);
+            accounts[i] = new SavingsAccount();
+            accounts[i].setCurrency(Currency.USD);
+            accounts[i].setBalance(amounts[i]);
+            accounts[i].setInterestRate(RATE.doubleValue());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERANDS)
+    public long sumMoney() {
+        Money total = Money.zero(Currency.USD);
+        for (Money amount : amounts) {
+            total = total.add(amount);
+        }
+        return total.getMinorUnits();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERANDS)
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERANDS)
+    public void interestCompoundStrategy(Blackhole blackhole) {
+        for (SavingsAccount account : accounts) {
+            blackhole.consume(strategy.calculateInterest(account, FROM, TO));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERANDS)
+    public void interestBigDecimalBalance(Blackhole blackhole) {
+        for (BigDecimal balance : decimals) {
+            blackhole.consume(balance.multiply(growth).setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERANDS)
+    public long interestFixedPointMoney() {
+        long total = 0;
+        for (Money amount : amounts) {
+            total += amount.multiply(growthFixedPoint, RateFactorCache.FACTOR_SCALE).getMinorUnits();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,143 @@
+// File: src/jmh/java/com/bankingsystem/service/strategy/interest/InterestStrategyBenchmark.java
+package com.bankingsystem.service.strategy.interest;
+
+import com.bankingsystem.entity.account.CheckingAccount;
+import com.bankingsystem.entity.account.SavingsAccount;
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.Currency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ns per interest calculation, before and after the shared {@link RateFactorCache}.
+ *
+ * "Recomputed" benchmarks run the formulas the strategies used before the cache, rebuilding the rate per
+ * period and the power on every call. Each operation calculates one account, cycling through a fixed set
+ * whose rates and periods follow the chosen distribution:
+ * PRODUCT_RATES puts nearly every account on a handful of published rates, NEGOTIATED_RATES gives each
+ * account its own rate in basis-point steps, so far more (rate, periods) keys compete for the cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class InterestStrategyBenchmark {
+
+    private static final int ACCOUNTS = 4096;
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final double[] PRODUCT_RATES = {0.005, 0.0125, 0.025, 0.031, 0.0435};
+    private static final BigDecimal DAYS_IN_YEAR = new BigDecimal("365");
+    private static final BigDecimal CHECKING_RATE = new BigDecimal("0.001");
+
+    @Param({"PRODUCT_RATES", "NEGOTIATED_RATES"})
+    public String rates;
+
+    @Param({"12", "365"})
+    public int compoundingFrequency;
+
+    private final SavingsAccount[] savings = new SavingsAccount[ACCOUNTS];
+    private final CheckingAccount[] checking = new CheckingAccount[ACCOUNTS];
+    private final LocalDate[] toDates = new LocalDate[ACCOUNTS];
+
+    private CompoundInterestStrategy compound;
+    private SimpleInterestStrategy simple;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        RateFactorCache factorCache = new RateFactorCache();
+        ReflectionTestUtils.setField(factorCache, "maxEntries", 4096);
+        factorCache.init();
+        compound = new CompoundInterestStrategy();
+        ReflectionTestUtils.setField(compound, "factorCache", factorCache);
+        ReflectionTestUtils.setField(compound, "compoundingFrequency", compoundingFrequency);
+        simple = new SimpleInterestStrategy();
+        ReflectionTestUtils.setField(simple, "factorCache", factorCache);
+
+        Random random = new Random(11);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Money balance = Money.ofMinor(100_000 + random.nextInt(50_000_000), Currency.USD);
+            savings[i] = new SavingsAccount();
+            savings[i].setCurrency(Currency.USD);
+            savings[i].setBalance(balance);
+            savings[i].setInterestRate(rate(random));
+            checking[i] = new CheckingAccount();
+            checking[i].setCurrency(Currency.USD);
+            checking[i].setBalance(balance);
+            // Mostly monthly statement runs, with some ad hoc quotes over up to a year
+            int days = random.nextInt(10) < 8 ? 28 + random.nextInt(4) : 1 + random.nextInt(365);
+            toDates[i] = FROM.plusDays(days);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal compoundCached() {
+        int i = advance();
+        return compound.calculateInterest(savings[i], FROM, toDates[i]);
+    }
+
+    @Benchmark
+    public BigDecimal compoundRecomputed() {
+        int i = advance();
+        SavingsAccount account = savings[i];
+        BigDecimal principal = account.getBalance().toBigDecimal();
+        BigDecimal rate = BigDecimal.valueOf(account.getInterestRate());
+        long days = ChronoUnit.DAYS.between(FROM, toDates[i]);
+        BigDecimal timeInYears = BigDecimal.valueOf(days).divide(DAYS_IN_YEAR, 6, RoundingMode.HALF_UP);
+        BigDecimal ratePerPeriod = rate.divide(BigDecimal.valueOf(compoundingFrequency), 6, RoundingMode.HALF_UP);
+        BigDecimal exponent = timeInYears.multiply(BigDecimal.valueOf(compoundingFrequency));
+        BigDecimal finalAmount = principal.multiply(BigDecimal.ONE.add(ratePerPeriod).pow(exponent.intValue()));
+        return finalAmount.subtract(principal).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal simpleCached() {
+        int i = advance();
+        return simple.calculateInterest(checking[i], FROM, toDates[i]);
+    }
+
+    @Benchmark
+    public BigDecimal simpleRecomputed() {
+        int i = advance();
+        BigDecimal days = BigDecimal.valueOf(ChronoUnit.DAYS.between(FROM, toDates[i]));
+        return checking[i].getBalance().toBigDecimal()
+                .multiply(CHECKING_RATE)
+                .multiply(days)
+                .divide(DAYS_IN_YEAR, 2, RoundingMode.HALF_UP);
+    }
+
+    // Private helper methods
+
+    private int advance() {
+        int i = next;
+        next = (i + 1) & (ACCOUNTS - 1);
+        return i;
+    }
+
+    private double rate(Random random) {
+        if ("PRODUCT_RATES".equals(rates)) {
+            return PRODUCT_RATES[random.nextInt(PRODUCT_RATES.length)];
+        }
+        // 0.10% to 5.00% in basis points
+        return (10 + random.nextInt(491)) / 10_000d;
+    }
+}
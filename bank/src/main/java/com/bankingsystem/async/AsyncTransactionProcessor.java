@@ -0,0 +1,508 @@
+// File: src/main/java/com/bankingsystem/async/AsyncTransactionProcessor.java
+package com.bankingsystem.async;
+
+import com.bankingsystem.dto.response.transaction.QueuedTransactionStatus;
+import com.bankingsystem.enums.AccountStatus;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.exception.BankingException;
+import com.bankingsystem.repository.account.DailyBalanceSnapshotRepository;
+import com.bankingsystem.service.ledger.AccountLockStripes;
+import com.bankingsystem.util.UuidV7;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Background processor for queued deposits and withdrawals.
+ *
+ * Requests are drained in micro-batches of up to {@code batch-size} postings or {@code batch-window-ms},
+ * whichever comes first. Each batch is appended to the on-disk journal and fsynced before callers are
+ * acknowledged, then applied with one UPDATE per account and one multi-row INSERT into transactions.
+ * This absorbs bursts such as payroll runs without a database round trip per posting. Rejected postings
+ * are inserted as FAILED rows in the same transaction, so every posting's outcome is decided once.
+ *
+ * A batch that fails to apply is retried with backoff before the drainer takes the next one, so
+ * postings are applied in the order they were acknowledged; meanwhile new submissions wait in the
+ * queue and eventually time out. The batch stays in its journal segment until it is applied.
+ */
+@Component
+public class AsyncTransactionProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncTransactionProcessor.class);
+
+    private static final String ACCOUNT_CACHE = "accounts";
+
+    private static final String LOCK_ACCOUNTS_SQL =
+            "SELECT id, account_number, balance, status, currency FROM accounts " +
+            "WHERE account_number IN (:accountNumbers) ORDER BY account_number FOR UPDATE";
+
+    private static final String APPLY_NET_SQL =
+            "UPDATE accounts SET balance = balance + :delta, last_transaction_date = :now, version = version + 1 " +
+            "WHERE id = :id";
+
+    // Completed and rejected postings both leave a row, so either outcome is final for replay
+    private static final String EXISTING_IDS_SQL =
+            "SELECT transaction_id FROM transactions WHERE transaction_id IN (:transactionIds)";
+
+    private static final String STATUS_SQL =
+            "SELECT a.account_number, t.status, t.failure_reason FROM transactions t " +
+            "LEFT JOIN accounts a ON a.id = t.account_id WHERE t.transaction_id = :transactionId";
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO transactions (id, transaction_id, transaction_type, amount, currency, timestamp, " +
+            "description, status, failure_reason, fees, account_id, created_date, version, active) VALUES ";
+
+    private static final int INSERT_ROWS_PER_STATEMENT = 500;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AccountLockStripes lockStripes;
+
+    @Autowired
+    private DailyBalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${banking.async.journal-dir:./data/journal}")
+    private String journalDir;
+
+    @Value("${banking.async.max-segment-bytes:67108864}")
+    private long maxSegmentBytes;
+
+    @Value("${banking.async.queue-capacity:100000}")
+    private int queueCapacity;
+
+    @Value("${banking.async.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${banking.async.batch-window-ms:20}")
+    private long batchWindowMs;
+
+    @Value("${banking.async.ack-timeout-ms:5000}")
+    private long ackTimeoutMs;
+
+    @Value("${banking.async.status-retention-minutes:60}")
+    private long statusRetentionMinutes;
+
+    @Value("${banking.async.retry-backoff-ms:100}")
+    private long retryBackoffMs;
+
+    @Value("${banking.async.max-retry-backoff-ms:30000}")
+    private long maxRetryBackoffMs;
+
+    private BlockingQueue<Pending> queue;
+    private TransactionJournal journal;
+    private Thread drainer;
+    private volatile boolean running;
+
+    private final Map<String, StatusEntry> statuses = new ConcurrentHashMap<>();
+
+    private record Pending(QueuedPosting posting, CompletableFuture<Void> durable) {}
+
+    private record StatusEntry(TrackedStatus tracked, long updatedAtMillis) {}
+
+    private record LockedAccount(UUID id, long balanceMinor, AccountStatus status, Currency currency) {}
+
+    /**
+     * Status of a queued transaction with the account it posts to, for access checks
+     */
+    public record TrackedStatus(String accountNumber, QueuedTransactionStatus status) {}
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        journal = new TransactionJournal(Path.of(journalDir), maxSegmentBytes);
+
+        List<QueuedPosting> recovered = journal.recover();
+        if (!recovered.isEmpty()) {
+            replay(recovered);
+        }
+
+        running = true;
+        drainer = new Thread(this::drainLoop, "async-txn-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Queue a posting and wait until it is durable in the journal
+     * @return Transaction ID to poll with {@link #find(String)}
+     */
+    public String submit(String accountNumber, TransactionType type, long amountMinor,
+                         Currency currency, String description) {
+        if (amountMinor <= 0) {
+            throw new BankingException("INVALID_AMOUNT", "Amount must be positive");
+        }
+
+        QueuedPosting posting = new QueuedPosting("TXN-" + UuidV7.next(), accountNumber, type,
+                amountMinor, currency, description, System.currentTimeMillis());
+        Pending pending = new Pending(posting, new CompletableFuture<>());
+
+        // Recorded before the offer so the drainer's final status can never be overwritten
+        updateStatus(posting, TransactionStatus.PENDING, null);
+        try {
+            if (!queue.offer(pending, ackTimeoutMs, TimeUnit.MILLISECONDS)) {
+                statuses.remove(posting.transactionId());
+                throw new BankingException("QUEUE_FULL",
+                        "Async transaction queue is full",
+                        "The system is busy. Please retry shortly.");
+            }
+            pending.durable().get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BankingException("QUEUE_INTERRUPTED", "Interrupted while queueing transaction");
+        } catch (ExecutionException | TimeoutException e) {
+            throw new BankingException("QUEUE_NOT_DURABLE",
+                    "Queued transaction was not acknowledged by the journal",
+                    "The transaction could not be queued. Please retry.", e);
+        }
+        return posting.transactionId();
+    }
+
+    /**
+     * Get the processing state of a queued transaction
+     * @return Status and account, or empty if the transaction is unknown
+     */
+    public Optional<TrackedStatus> find(String transactionId) {
+        StatusEntry entry = statuses.get(transactionId);
+        if (entry != null) {
+            return Optional.of(entry.tracked());
+        }
+
+        // Older than the retention window or processed on another node: fall back to the table
+        List<TrackedStatus> found = namedJdbcTemplate.query(STATUS_SQL,
+                new MapSqlParameterSource("transactionId", transactionId),
+                (rs, rowNum) -> new TrackedStatus(rs.getString("account_number"),
+                        new QueuedTransactionStatus(transactionId,
+                                TransactionStatus.valueOf(rs.getString("status")), rs.getString("failure_reason"))));
+        return found.stream().findFirst();
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredStatuses() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(statusRetentionMinutes);
+        statuses.values().removeIf(entry -> entry.updatedAtMillis() < cutoff
+                && entry.tracked().status().getStatus() != TransactionStatus.PENDING);
+    }
+
+    @PreDestroy
+    void stop() throws IOException, InterruptedException {
+        running = false;
+        drainer.interrupt();
+        drainer.join(TimeUnit.SECONDS.toMillis(10));
+        journal.close();
+    }
+
+    // Private helper methods
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Async batch processing failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void processBatch(List<Pending> batch) throws InterruptedException {
+        List<QueuedPosting> postings = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            postings.add(pending.posting());
+        }
+
+        long segment;
+        try {
+            segment = journal.append(postings);
+        } catch (IOException e) {
+            logger.error("Journal append failed for batch of {}", postings.size(), e);
+            for (Pending pending : batch) {
+                updateStatus(pending.posting(), TransactionStatus.FAILED, "Journal unavailable");
+                pending.durable().completeExceptionally(e);
+            }
+            return;
+        }
+        // Durable: callers can be acknowledged before the database work
+        for (Pending pending : batch) {
+            pending.durable().complete(null);
+        }
+
+        applyWithRetry(postings);
+        try {
+            journal.batchApplied(segment);
+        } catch (IOException e) {
+            logger.warn("Could not remove applied journal segment {}", segment, e);
+        }
+    }
+
+    /**
+     * Apply a journaled batch, retrying with backoff until it succeeds. A retry skips postings whose
+     * outcome is already recorded, in case the failure came after the commit. If the processor is
+     * stopped meanwhile the batch stays in the journal and is replayed on the next start.
+     */
+    private void applyWithRetry(List<QueuedPosting> postings) throws InterruptedException {
+        long backoffMs = retryBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (attempt == 1) {
+                    applyBatch(postings);
+                } else {
+                    applyUnrecorded(postings);
+                }
+                if (attempt > 1) {
+                    logger.info("Applied batch of {} postings after {} attempts", postings.size(), attempt);
+                }
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Applying batch of {} postings failed (attempt {}); retrying in {} ms",
+                        postings.size(), attempt, backoffMs, e);
+            }
+            if (!running) {
+                throw new InterruptedException("Stopped with an unapplied batch; kept in journal for replay");
+            }
+            Thread.sleep(backoffMs);
+            backoffMs = Math.min(maxRetryBackoffMs, backoffMs * 2);
+        }
+    }
+
+    private void replay(List<QueuedPosting> recovered) {
+        for (int from = 0; from < recovered.size(); from += batchSize) {
+            applyUnrecorded(recovered.subList(from, Math.min(recovered.size(), from + batchSize)));
+        }
+        try {
+            journal.discardRecovered();
+        } catch (IOException e) {
+            logger.warn("Could not remove replayed journal segments", e);
+        }
+    }
+
+    private void applyUnrecorded(List<QueuedPosting> postings) {
+        Set<String> alreadyApplied = new HashSet<>(namedJdbcTemplate.queryForList(EXISTING_IDS_SQL,
+                new MapSqlParameterSource("transactionIds",
+                        postings.stream().map(QueuedPosting::transactionId).toList()),
+                String.class));
+        List<QueuedPosting> toApply = postings.stream()
+                .filter(posting -> !alreadyApplied.contains(posting.transactionId()))
+                .toList();
+        if (!toApply.isEmpty()) {
+            applyBatch(toApply);
+        }
+    }
+
+    private void applyBatch(List<QueuedPosting> postings) {
+        Set<String> accountNumbers = new TreeSet<>();
+        for (QueuedPosting posting : postings) {
+            accountNumbers.add(posting.accountNumber());
+        }
+
+        Map<String, Long> netByAccount = new HashMap<>();
+        Map<String, String> failures = new HashMap<>();
+
+        try (AccountLockStripes.Held ignored = lockStripes.lockAll(accountNumbers)) {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, LockedAccount> locked = lockAccounts(accountNumbers);
+                Map<String, Long> running = new HashMap<>();
+
+                // Postings are checked in arrival order against a running balance per account
+                for (QueuedPosting posting : postings) {
+                    LockedAccount account = locked.get(posting.accountNumber());
+                    String failure = validate(posting, account);
+                    if (failure == null) {
+                        long balance = running.computeIfAbsent(posting.accountNumber(), number -> account.balanceMinor());
+                        long next = balance + posting.signedAmountMinor();
+                        if (next < 0) {
+                            failure = "Insufficient funds";
+                        } else {
+                            running.put(posting.accountNumber(), next);
+                            netByAccount.merge(posting.accountNumber(), posting.signedAmountMinor(), Long::sum);
+                        }
+                    }
+                    if (failure != null) {
+                        failures.put(posting.transactionId(), failure);
+                    }
+                }
+
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                applyNetBalances(locked, netByAccount, now);
+                insertTransactions(locked, postings, failures, now);
+            });
+            // Committed: cached account responses of every account whose balance moved are stale
+            evictCached(netByAccount.entrySet().stream()
+                    .filter(entry -> entry.getValue() != 0)
+                    .map(Map.Entry::getKey)
+                    .toList());
+        } catch (RuntimeException e) {
+            for (QueuedPosting posting : postings) {
+                updateStatus(posting, TransactionStatus.PENDING, "Held in journal for retry");
+            }
+            throw e;
+        }
+
+        for (QueuedPosting posting : postings) {
+            String failure = failures.get(posting.transactionId());
+            updateStatus(posting,
+                    failure == null ? TransactionStatus.COMPLETED : TransactionStatus.FAILED, failure);
+        }
+        logger.debug("Applied async batch: postings={}, accounts={}, failed={}",
+                postings.size(), netByAccount.size(), failures.size());
+    }
+
+    private void evictCached(List<String> accountNumbers) {
+        Cache cache = cacheManager.getCache(ACCOUNT_CACHE);
+        if (cache != null) {
+            accountNumbers.forEach(cache::evict);
+        }
+    }
+
+    private Map<String, LockedAccount> lockAccounts(Set<String> accountNumbers) {
+        Map<String, LockedAccount> locked = new HashMap<>();
+        namedJdbcTemplate.query(LOCK_ACCOUNTS_SQL,
+                new MapSqlParameterSource("accountNumbers", accountNumbers),
+                rs -> {
+                    locked.put(rs.getString("account_number"), new LockedAccount(
+                            rs.getObject("id", UUID.class),
+                            rs.getLong("balance"),
+                            AccountStatus.valueOf(rs.getString("status")),
+                            Currency.valueOf(rs.getString("currency"))));
+                });
+        return locked;
+    }
+
+    private String validate(QueuedPosting posting, LockedAccount account) {
+        if (account == null) {
+            return "Account not found";
+        }
+        if (!account.status().canPerformTransactions()) {
+            return "Account cannot perform transactions in status: " + account.status();
+        }
+        if (account.currency() != posting.currency()) {
+            return "Currency mismatch: account is " + account.currency() + ", transaction is " + posting.currency();
+        }
+        return null;
+    }
+
+    private void applyNetBalances(Map<String, LockedAccount> locked, Map<String, Long> netByAccount, Timestamp now) {
+        MapSqlParameterSource[] updates = netByAccount.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("delta", entry.getValue())
+                        .addValue("now", now)
+                        .addValue("id", locked.get(entry.getKey()).id()))
+                .toArray(MapSqlParameterSource[]::new);
+        if (updates.length > 0) {
+            namedJdbcTemplate.batchUpdate(APPLY_NET_SQL, updates);
+            List<UUID> changed = new ArrayList<>(updates.length);
+            for (MapSqlParameterSource update : updates) {
+                changed.add((UUID) update.getValue("id"));
+            }
+            snapshotRepository.recordClosing(changed, now.toLocalDateTime().toLocalDate());
+        }
+    }
+
+    /**
+     * One row per posting: COMPLETED, or FAILED with its reason so a replay does not validate it again
+     */
+    private void insertTransactions(Map<String, LockedAccount> locked, List<QueuedPosting> postings,
+                                    Map<String, String> failures, Timestamp now) {
+        for (int from = 0; from < postings.size(); from += INSERT_ROWS_PER_STATEMENT) {
+            List<QueuedPosting> rows = postings.subList(from, Math.min(postings.size(), from + INSERT_ROWS_PER_STATEMENT));
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            MapSqlParameterSource params = new MapSqlParameterSource("now", now);
+            for (int i = 0; i < rows.size(); i++) {
+                QueuedPosting posting = rows.get(i);
+                String failure = failures.get(posting.transactionId());
+                LockedAccount account = locked.get(posting.accountNumber());
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append("(:id").append(i).append(", :txn").append(i).append(", :type").append(i)
+                        .append(", :amount").append(i).append(", :currency").append(i)
+                        .append(", :now, :description").append(i)
+                        .append(", :status").append(i).append(", :failure").append(i)
+                        .append(", 0, :account").append(i).append(", :now, 0, true)");
+                params.addValue("id" + i, UuidV7.next())
+                        .addValue("txn" + i, posting.transactionId())
+                        .addValue("type" + i, posting.type().name())
+                        .addValue("amount" + i, posting.amountMinor())
+                        .addValue("currency" + i, posting.currency().name())
+                        .addValue("description" + i, posting.description())
+                        .addValue("status" + i, (failure == null ? TransactionStatus.COMPLETED : TransactionStatus.FAILED).name())
+                        .addValue("failure" + i, failure)
+                        // Unknown accounts still get a row, without an account reference
+                        .addValue("account" + i, account == null ? null : account.id(), Types.OTHER);
+            }
+            namedJdbcTemplate.update(sql.toString(), params);
+        }
+    }
+
+    private void updateStatus(QueuedPosting posting, TransactionStatus status, String message) {
+        statuses.put(posting.transactionId(), new StatusEntry(new TrackedStatus(posting.accountNumber(),
+                new QueuedTransactionStatus(posting.transactionId(), status, message)), System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,368 @@
+// File: src/main/java/com/bankingsystem/async/NotificationDispatcher.java
+package com.bankingsystem.async;
+
+import com.bankingsystem.enums.ContactMethod;
+import com.bankingsystem.event.TransactionCompletedEvent;
+import com.bankingsystem.service.interfaces.INotificationChannel;
+import com.bankingsystem.service.notification.CoalescedNotification;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers customer transaction notifications off the request and database transaction path.
+ *
+ * Events go into a bounded queue drained by a single thread. Alerts for the same recipient and channel
+ * that arrive within {@code coalesce-window-ms} are merged into one message, and due messages are handed
+ * to the channel's {@link INotificationChannel} in batches of up to {@code batch-size}. When the queue is
+ * full the {@code overflow-policy} applies: BLOCK waits briefly and then drops, DROP_NEWEST and
+ * DROP_OLDEST discard, and SPILL appends to a file that is replayed once the queue has drained.
+ * Replay is at least once: a replay cut short by a crash or a read error starts over from the same file.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    public enum OverflowPolicy { BLOCK, DROP_NEWEST, DROP_OLDEST, SPILL }
+
+    @Autowired
+    private List<INotificationChannel> channelBeans;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${banking.notifications.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${banking.notifications.overflow-policy:SPILL}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${banking.notifications.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    @Value("${banking.notifications.coalesce-window-ms:2000}")
+    private long coalesceWindowMs;
+
+    @Value("${banking.notifications.batch-size:100}")
+    private int batchSize;
+
+    @Value("${banking.notifications.spill-dir:./data/notifications}")
+    private String spillDir;
+
+    private BlockingQueue<Pending> queue;
+    private final Map<ContactMethod, INotificationChannel> channels = new EnumMap<>(ContactMethod.class);
+
+    // Owned by the drainer thread
+    private final Map<RecipientKey, Window> windows = new LinkedHashMap<>();
+
+    private final Object spillLock = new Object();
+    private Path spillFile;
+    private Path replayFile;
+    private volatile boolean spillPending;
+
+    private Thread drainer;
+    private volatile boolean running;
+
+    private Counter enqueued;
+    private Counter coalesced;
+    private Counter spilled;
+    private Timer deliveryLatency;
+
+    private record Pending(TransactionCompletedEvent event, long enqueuedAtNanos) {}
+
+    private record RecipientKey(UUID recipientId, ContactMethod channel) {}
+
+    private static final class Window {
+        private final long openedAtNanos;
+        private final List<Pending> items = new ArrayList<>(2);
+
+        Window(long openedAtNanos) {
+            this.openedAtNanos = openedAtNanos;
+        }
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        for (INotificationChannel channel : channelBeans) {
+            channels.put(channel.getChannel(), channel);
+        }
+
+        Path dir = Path.of(spillDir);
+        Files.createDirectories(dir);
+        spillFile = dir.resolve("notifications.spill");
+        replayFile = dir.resolve("notifications.replay");
+        // A replay file left behind was never fully replayed
+        spillPending = Files.exists(spillFile) || Files.exists(replayFile);
+
+        Gauge.builder("banking.notifications.queue.depth", queue, BlockingQueue::size)
+                .description("Notifications waiting to be coalesced")
+                .register(meterRegistry);
+        enqueued = Counter.builder("banking.notifications.enqueued").register(meterRegistry);
+        coalesced = Counter.builder("banking.notifications.coalesced")
+                .description("Alerts merged into an earlier message for the same recipient")
+                .register(meterRegistry);
+        spilled = Counter.builder("banking.notifications.spilled").register(meterRegistry);
+        deliveryLatency = Timer.builder("banking.notifications.delivery.latency")
+                .description("Time from enqueue to hand-off to the channel")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        running = true;
+        drainer = new Thread(this::drainLoop, "notification-dispatcher");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Queue an event for delivery; never blocks longer than {@code block-timeout-ms}
+     */
+    public void enqueue(TransactionCompletedEvent event) {
+        Pending pending = new Pending(event, System.nanoTime());
+        if (queue.offer(pending)) {
+            enqueued.increment();
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(pending, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        enqueued.increment();
+                    } else {
+                        dropped("timeout");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped("interrupted");
+                }
+            }
+            case DROP_NEWEST -> dropped("overflow");
+            case DROP_OLDEST -> {
+                if (queue.poll() != null) {
+                    dropped("evicted");
+                }
+                if (queue.offer(pending)) {
+                    enqueued.increment();
+                } else {
+                    dropped("overflow");
+                }
+            }
+            case SPILL -> spill(event);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        drainer.interrupt();
+        drainer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // Private helper methods
+
+    private void drainLoop() {
+        List<Pending> drained = new ArrayList<>(batchSize);
+        long pollMillis = Math.max(10, Math.min(coalesceWindowMs / 4, 250));
+        while (running || !queue.isEmpty() || !windows.isEmpty()) {
+            try {
+                Pending first = running ? queue.poll(pollMillis, TimeUnit.MILLISECONDS) : queue.poll();
+                if (first != null) {
+                    drained.add(first);
+                    queue.drainTo(drained, batchSize * 10);
+                    for (Pending pending : drained) {
+                        addToWindow(pending);
+                    }
+                }
+                if (running && spillPending && queue.isEmpty()) {
+                    replaySpill();
+                }
+                // On shutdown everything still pending goes out immediately
+                flushDue(running ? System.nanoTime() : Long.MAX_VALUE);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    Thread.currentThread().interrupt();
+                }
+            } catch (RuntimeException e) {
+                logger.error("Notification dispatch failed", e);
+            } finally {
+                drained.clear();
+            }
+        }
+    }
+
+    private void addToWindow(Pending pending) {
+        TransactionCompletedEvent event = pending.event();
+        ContactMethod channel = event.preferredContact() == null ? ContactMethod.EMAIL : event.preferredContact();
+        Window window = windows.computeIfAbsent(new RecipientKey(event.recipientId(), channel),
+                key -> new Window(pending.enqueuedAtNanos()));
+        if (!window.items.isEmpty()) {
+            coalesced.increment();
+        }
+        window.items.add(pending);
+        // Too many distinct recipients at once: deliver early rather than grow without bound
+        if (windows.size() > queueCapacity) {
+            flushDue(Long.MAX_VALUE);
+        }
+    }
+
+    private void flushDue(long nowNanos) {
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(coalesceWindowMs);
+        Map<ContactMethod, List<Window>> due = new EnumMap<>(ContactMethod.class);
+        Map<ContactMethod, List<CoalescedNotification>> byChannel = new EnumMap<>(ContactMethod.class);
+
+        Iterator<Map.Entry<RecipientKey, Window>> iterator = windows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<RecipientKey, Window> entry = iterator.next();
+            Window window = entry.getValue();
+            if (nowNanos != Long.MAX_VALUE && nowNanos - window.openedAtNanos < windowNanos) {
+                // Insertion order is open order, so every later window is younger still
+                break;
+            }
+            iterator.remove();
+            RecipientKey key = entry.getKey();
+            List<TransactionCompletedEvent> events = new ArrayList<>(window.items.size());
+            for (Pending pending : window.items) {
+                events.add(pending.event());
+            }
+            due.computeIfAbsent(key.channel(), channel -> new ArrayList<>()).add(window);
+            byChannel.computeIfAbsent(key.channel(), channel -> new ArrayList<>())
+                    .add(new CoalescedNotification(key.recipientId(), key.channel(), events));
+        }
+
+        byChannel.forEach((channel, notifications) -> {
+            List<Window> channelWindows = due.get(channel);
+            for (int from = 0; from < notifications.size(); from += batchSize) {
+                int to = Math.min(notifications.size(), from + batchSize);
+                deliver(channel, notifications.subList(from, to), channelWindows.subList(from, to));
+            }
+        });
+    }
+
+    private void deliver(ContactMethod channelType, List<CoalescedNotification> batch, List<Window> batchWindows) {
+        INotificationChannel channel = channels.get(channelType);
+        if (channel == null) {
+            counter("banking.notifications.dropped", "reason", "no_channel").increment(batch.size());
+            return;
+        }
+        try {
+            channel.deliver(batch);
+        } catch (RuntimeException e) {
+            logger.warn("Delivery of {} {} notifications failed", batch.size(), channelType, e);
+            counter("banking.notifications.failed", "channel", channelType.name()).increment(batch.size());
+            return;
+        }
+        long now = System.nanoTime();
+        for (Window window : batchWindows) {
+            for (Pending pending : window.items) {
+                if (pending.enqueuedAtNanos() > 0) {
+                    deliveryLatency.record(now - pending.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+        counter("banking.notifications.delivered", "channel", channelType.name()).increment(batch.size());
+    }
+
+    private void spill(TransactionCompletedEvent event) {
+        synchronized (spillLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+                spillPending = true;
+                spilled.increment();
+            } catch (IOException e) {
+                logger.warn("Could not spill notification for {}", event.recipientId(), e);
+                dropped("spill_failed");
+            }
+        }
+    }
+
+    private void replaySpill() {
+        synchronized (spillLock) {
+            try {
+                // An unfinished replay goes first; the spill file is rotated on the next pass
+                if (!Files.exists(replayFile) && Files.exists(spillFile)) {
+                    Files.move(spillFile, replayFile);
+                }
+            } catch (IOException e) {
+                logger.warn("Could not rotate notification spill file", e);
+                return;
+            }
+            spillPending = Files.exists(spillFile);
+        }
+        if (!Files.exists(replayFile)) {
+            return;
+        }
+        int replayed = 0;
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                TransactionCompletedEvent event;
+                try {
+                    event = objectMapper.readValue(line, TransactionCompletedEvent.class);
+                } catch (JsonProcessingException e) {
+                    // Typically the half-written last line of a crash while spilling
+                    skipped++;
+                    dropped("spill_unreadable");
+                    continue;
+                }
+                // Latency is only tracked for in-memory events
+                addToWindow(new Pending(event, 0L));
+                if (++replayed % batchSize == 0) {
+                    flushDue(Long.MAX_VALUE);
+                }
+            }
+            Files.delete(replayFile);
+        } catch (IOException e) {
+            // Keep the file and try it again on a later pass
+            logger.warn("Notification spill replay stopped after {} entries", replayed, e);
+            spillPending = true;
+            return;
+        }
+        if (skipped > 0) {
+            logger.warn("Skipped {} unreadable spilled notifications", skipped);
+        }
+        logger.info("Replayed {} spilled notifications", replayed);
+    }
+
+    private void dropped(String reason) {
+        counter("banking.notifications.dropped", "reason", reason).increment();
+    }
+
+    private Counter counter(String name, String tagKey, String tagValue) {
+        return Counter.builder(name).tag(tagKey, tagValue).register(meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+// File: src/main/java/com/bankingsystem/async/QueuedPosting.java
+package com.bankingsystem.async;
+
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Single deposit or withdrawal waiting in the async batch queue.
+ * Amounts are signed by {@link TransactionType#isDebitTransaction()} when applied.
+ */
+public record QueuedPosting(String transactionId,
+                            String accountNumber,
+                            TransactionType type,
+                            long amountMinor,
+                            Currency currency,
+                            String description,
+                            long enqueuedAtMillis) {
+
+    /**
+     * Amount with the sign it has on the account balance
+     */
+    public long signedAmountMinor() {
+        return type.isDebitTransaction() ? -amountMinor : amountMinor;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeUTF(transactionId);
+        out.writeUTF(accountNumber);
+        out.writeUTF(type.name());
+        out.writeLong(amountMinor);
+        out.writeUTF(currency.name());
+        out.writeUTF(description == null ? "" : description);
+        out.writeLong(enqueuedAtMillis);
+    }
+
+    static QueuedPosting readFrom(DataInput in) throws IOException {
+        String transactionId = in.readUTF();
+        String accountNumber = in.readUTF();
+        TransactionType type = TransactionType.valueOf(in.readUTF());
+        long amountMinor = in.readLong();
+        Currency currency = Currency.valueOf(in.readUTF());
+        String description = in.readUTF();
+        long enqueuedAt = in.readLong();
+        return new QueuedPosting(transactionId, accountNumber, type, amountMinor, currency,
+                description.isEmpty() ? null : description, enqueuedAt);
+    }
+}
@@ -0,0 +1,253 @@
+// File: src/main/java/com/bankingsystem/async/TransactionJournal.java
+package com.bankingsystem.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of queued postings on local disk.
+ *
+ * Each batch is written as length + CRC32 framed records and forced to disk before the batch is
+ * acknowledged. The journal counts the unapplied batches of every segment and deletes a segment only
+ * once it has been rolled over and that count is zero, so a batch that failed to apply stays on disk
+ * even when later batches succeed; anything left on disk at startup is replayed. A batch whose write fails
+ * is cut off again and the segment rolled over, so acknowledged batches are never written behind torn bytes.
+ *
+ * Not thread-safe: the processor's drainer thread is the only caller after {@link #recover()}.
+ */
+class TransactionJournal implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionJournal.class);
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+
+    // Unapplied batch count of every live segment, including the current one
+    private final Map<Long, Integer> unappliedBatches = new HashMap<>();
+
+    private FileChannel current;
+    private Path currentPath;
+    private long currentSegmentId = -1;
+    private long nextSegmentId;
+
+    TransactionJournal(Path directory, long maxSegmentBytes) {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal directory " + directory, e);
+        }
+    }
+
+    /**
+     * Read every posting left over from a previous run, oldest segment first.
+     * Must be called before the first append.
+     */
+    List<QueuedPosting> recover() {
+        List<QueuedPosting> recovered = new ArrayList<>();
+        for (Path segment : listSegments()) {
+            nextSegmentId = Math.max(nextSegmentId, segmentId(segment) + 1);
+            try {
+                readSegment(segment, recovered);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read journal segment " + segment, e);
+            }
+        }
+        if (!recovered.isEmpty()) {
+            logger.warn("Recovered {} unapplied postings from journal {}", recovered.size(), directory);
+        }
+        return recovered;
+    }
+
+    /**
+     * Append a batch and fsync it, rolling to a new segment first if the current one is full
+     * @return Segment holding the batch, to pass to {@link #batchApplied(long)}
+     */
+    long append(List<QueuedPosting> batch) throws IOException {
+        if (current != null && current.size() >= maxSegmentBytes) {
+            sealCurrent();
+        }
+        if (current == null) {
+            openNewSegment();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(batch.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        ByteArrayOutputStream record = new ByteArrayOutputStream(128);
+        DataOutputStream recordOut = new DataOutputStream(record);
+        CRC32 crc = new CRC32();
+        for (QueuedPosting posting : batch) {
+            record.reset();
+            posting.writeTo(recordOut);
+            crc.reset();
+            crc.update(record.toByteArray());
+            out.writeInt(record.size());
+            out.writeLong(crc.getValue());
+            record.writeTo(out);
+        }
+
+        long validLength = current.size();
+        try {
+            writeAndForce(current, ByteBuffer.wrap(bytes.toByteArray()));
+        } catch (IOException e) {
+            abandonFailedAppend(validLength);
+            throw e;
+        }
+        unappliedBatches.merge(currentSegmentId, 1, Integer::sum);
+        return currentSegmentId;
+    }
+
+    /**
+     * Record that a batch returned by {@link #append} is in the database.
+     * Its segment is removed once it has been rolled over and holds no other unapplied batch.
+     */
+    void batchApplied(long segmentId) throws IOException {
+        Integer remaining = unappliedBatches.computeIfPresent(segmentId, (id, count) -> count - 1);
+        if (remaining != null && remaining == 0 && segmentId != currentSegmentId) {
+            deleteSegment(segmentId);
+        }
+    }
+
+    /**
+     * Remove segments whose postings have all been replayed
+     */
+    void discardRecovered() throws IOException {
+        for (Path segment : listSegments()) {
+            if (!segment.equals(currentPath)) {
+                Files.deleteIfExists(segment);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * Write the whole buffer and force it to disk; package-private so tests can simulate a failing disk
+     */
+    void writeAndForce(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        // Metadata is not needed to recover the records, only the data blocks
+        channel.force(false);
+    }
+
+    // Private helper methods
+
+    /**
+     * Cut a failed batch off the current segment and roll over. Replay stops at the first bad frame, so no later
+     * batch may ever be written behind torn bytes; if the cut itself fails, the torn bytes at least stay the tail.
+     */
+    private void abandonFailedAppend(long validLength) {
+        try {
+            current.truncate(validLength);
+            current.force(false);
+        } catch (IOException e) {
+            logger.error("Cannot truncate journal segment {} after a failed append", currentPath, e);
+        }
+        try {
+            sealCurrent();
+        } catch (IOException e) {
+            logger.error("Cannot close journal segment {} after a failed append", currentPath, e);
+            current = null;
+            currentPath = null;
+            currentSegmentId = -1;
+        }
+    }
+
+    private void openNewSegment() throws IOException {
+        currentSegmentId = nextSegmentId++;
+        currentPath = segmentPath(currentSegmentId);
+        current = FileChannel.open(currentPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        unappliedBatches.put(currentSegmentId, 0);
+    }
+
+    private void sealCurrent() throws IOException {
+        long sealed = currentSegmentId;
+        current.close();
+        current = null;
+        currentPath = null;
+        currentSegmentId = -1;
+        if (unappliedBatches.getOrDefault(sealed, 0) == 0) {
+            deleteSegment(sealed);
+        } else {
+            logger.warn("Journal segment {} rolled over with {} unapplied batches", sealed, unappliedBatches.get(sealed));
+        }
+    }
+
+    private void deleteSegment(long segmentId) throws IOException {
+        unappliedBatches.remove(segmentId);
+        Files.deleteIfExists(segmentPath(segmentId));
+    }
+
+    private Path segmentPath(long segmentId) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segmentId, SEGMENT_SUFFIX));
+    }
+
+    private List<Path> listSegments() {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list journal directory " + directory, e);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private static long segmentId(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void readSegment(Path segment, List<QueuedPosting> into) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(segment))) {
+            CRC32 crc = new CRC32();
+            while (in.available() >= Integer.BYTES + Long.BYTES) {
+                int length = in.readInt();
+                long expectedCrc = in.readLong();
+                if (length <= 0 || in.available() < length) {
+                    logger.warn("Truncated record at end of journal segment {}", segment);
+                    return;
+                }
+                byte[] payload = in.readNBytes(length);
+                crc.reset();
+                crc.update(payload);
+                if (crc.getValue() != expectedCrc) {
+                    // A torn write can only affect the tail, which was never acknowledged
+                    logger.warn("Checksum mismatch in journal segment {}, ignoring the rest", segment);
+                    return;
+                }
+                into.add(QueuedPosting.readFrom(new DataInputStream(new ByteArrayInputStream(payload))));
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+// File: src/main/java/com/bankingsystem/audit/AuditLogWriter.java
+package com.bankingsystem.audit;
+
+import com.bankingsystem.audit.AuditSegmentFormat.Header;
+import com.bankingsystem.audit.AuditSegmentFormat.Located;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only, hash-chained audit log on local disk.
+ *
+ * Records are appended by a single committer thread into a memory-mapped, pre-sized segment file. Every
+ * record carries SHA-256(previous hash || record), and each segment header repeats the last hash of the
+ * segment before it, so {@link #verifyChain()} detects any edited, removed or reordered record. Callers
+ * are queued and committed together: one batch costs one msync however many events it holds. A segment
+ * that cannot fit the next record is sealed and a new one started.
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${banking.audit.dir:./data/audit}")
+    private String auditDir;
+
+    @Value("${banking.audit.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    @Value("${banking.audit.queue-capacity:50000}")
+    private int queueCapacity;
+
+    @Value("${banking.audit.max-batch:1000}")
+    private int maxBatch;
+
+    private Path directory;
+    private BlockingQueue<Pending> queue;
+    private Thread committer;
+    private volatile boolean running;
+
+    // Owned by the committer thread
+    private final MessageDigest digest = AuditSegmentFormat.sha256();
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long segmentId;
+    private int writeOffset;
+    private long nextSequence;
+    private long lastTimestamp;
+    private byte[] lastHash;
+
+    // Everything before this position is durable; verifyChain stops there
+    private volatile Position committed;
+
+    private Timer commitTimer;
+
+    /**
+     * A durable position in the log
+     */
+    public record Position(long segmentId, long offset) {}
+
+    private record Pending(String category, String userId, String accountNumber, String action, String details,
+                           CompletableFuture<Long> durable) {}
+
+    @PostConstruct
+    void start() throws IOException {
+        directory = Path.of(auditDir);
+        Files.createDirectories(directory);
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        commitTimer = Timer.builder("banking.audit.commit")
+                .description("Time to write and msync one group of audit records")
+                .register(meterRegistry);
+        meterRegistry.gauge("banking.audit.queue.depth", queue, BlockingQueue::size);
+
+        recover();
+
+        running = true;
+        committer = new Thread(this::commitLoop, "audit-committer");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * Queue a record; the future completes with its sequence number once it is on disk
+     */
+    public CompletableFuture<Long> append(String category, String userId, String accountNumber,
+                                          String action, String details) {
+        CompletableFuture<Long> durable = new CompletableFuture<>();
+        if (!queue.offer(new Pending(category, userId, accountNumber, action, details, durable))) {
+            durable.completeExceptionally(new IllegalStateException("Audit queue is full"));
+        }
+        return durable;
+    }
+
+    /**
+     * IDs of all segments, oldest first
+     */
+    public List<Long> segmentIds() {
+        List<Long> ids = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(path -> ids.add(segmentId(path)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list audit directory " + directory, e);
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    public Path segmentPath(long id) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Re-read every segment and check the hash chain
+     * @return Description of the first broken link, or null if the chain is intact
+     */
+    public String verifyChain() throws IOException {
+        MessageDigest verifyDigest = AuditSegmentFormat.sha256();
+        byte[] previous = null;
+        long checked = 0;
+        Position limit = committed;
+        for (long id : segmentIds()) {
+            try (FileChannel segment = FileChannel.open(segmentPath(id), StandardOpenOption.READ)) {
+                Header header = AuditSegmentFormat.readHeader(segment);
+                if (previous != null && !Arrays.equals(previous, header.previousHash())) {
+                    return "Segment " + id + " does not continue the previous segment";
+                }
+                previous = header.previousHash();
+                long offset = AuditSegmentFormat.HEADER_SIZE;
+                Located located;
+                while ((limit == null || id < limit.segmentId() || offset < limit.offset())
+                        && (located = AuditSegmentFormat.readRecord(segment, offset)) != null) {
+                    byte[] expected = AuditSegmentFormat.chainHash(verifyDigest, previous, located.payload());
+                    if (!Arrays.equals(expected, located.hash())) {
+                        return "Hash mismatch at sequence " + located.record().sequence() + " in segment " + id;
+                    }
+                    previous = located.hash();
+                    offset = located.nextOffset();
+                    checked++;
+                }
+            }
+        }
+        logger.info("Audit chain verified: {} records", checked);
+        return null;
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        running = false;
+        committer.interrupt();
+        committer.join(TimeUnit.SECONDS.toMillis(10));
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    // Private helper methods
+
+    private void commitLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = running ? queue.poll(1, TimeUnit.SECONDS) : queue.poll();
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Whatever queued up during the previous msync goes into this group
+                queue.drainTo(batch, maxBatch - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    Thread.currentThread().interrupt();
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.error("Audit commit of {} records failed", batch.size(), e);
+                for (Pending pending : batch) {
+                    pending.durable().completeExceptionally(e);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<Pending> batch) throws IOException {
+        long started = System.nanoTime();
+        long[] sequences = new long[batch.size()];
+        int flushFrom = writeOffset;
+
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            // Timestamps never go backwards along the chain
+            long timestamp = Math.max(lastTimestamp, System.currentTimeMillis());
+            byte[] payload = AuditSegmentFormat.encodePayload(nextSequence, timestamp, pending.category(),
+                    pending.userId(), pending.accountNumber(), pending.action(), pending.details());
+            int recordSize = Integer.BYTES + payload.length + AuditSegmentFormat.HASH_SIZE;
+            if (writeOffset + recordSize + Integer.BYTES > segmentBytes) {
+                mapped.putInt(writeOffset, 0);
+                mapped.force(flushFrom, writeOffset + Integer.BYTES - flushFrom);
+                openSegment(segmentId + 1, nextSequence);
+                flushFrom = writeOffset;
+            }
+            byte[] hash = AuditSegmentFormat.chainHash(digest, lastHash, payload);
+            mapped.putInt(writeOffset, payload.length);
+            mapped.put(writeOffset + Integer.BYTES, payload);
+            mapped.put(writeOffset + Integer.BYTES + payload.length, hash);
+            writeOffset += recordSize;
+
+            sequences[i] = nextSequence++;
+            lastTimestamp = timestamp;
+            lastHash = hash;
+        }
+        mapped.putInt(writeOffset, 0);
+        mapped.force(flushFrom, writeOffset + Integer.BYTES - flushFrom);
+        committed = new Position(segmentId, writeOffset);
+        commitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).durable().complete(sequences[i]);
+        }
+    }
+
+    /**
+     * Continue the newest segment after its last intact record, or start the first one.
+     *
+     * Only a partially written last record may be discarded: it belongs to a group whose msync never
+     * completed, so it was never acknowledged. An invalid record with any data after it means an
+     * acknowledged record was damaged or edited; the segment is left exactly as found and startup fails
+     * until someone has looked at it.
+     */
+    private void recover() throws IOException {
+        List<Long> ids = segmentIds();
+        if (ids.isEmpty()) {
+            lastHash = AuditSegmentFormat.GENESIS_HASH;
+            nextSequence = 1;
+            openSegment(0, 1);
+            committed = new Position(segmentId, writeOffset);
+            return;
+        }
+
+        long newest = ids.get(ids.size() - 1);
+        channel = FileChannel.open(segmentPath(newest), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        Header header = AuditSegmentFormat.readHeader(channel);
+        segmentId = newest;
+        lastHash = header.previousHash();
+        nextSequence = header.firstSequence();
+
+        long offset = AuditSegmentFormat.HEADER_SIZE;
+        Located located;
+        while ((located = AuditSegmentFormat.readRecord(channel, offset)) != null) {
+            byte[] expected = AuditSegmentFormat.chainHash(digest, lastHash, located.payload());
+            if (!Arrays.equals(expected, located.hash())) {
+                break;
+            }
+            lastHash = located.hash();
+            lastTimestamp = located.record().timestamp().toEpochMilli();
+            nextSequence = located.record().sequence() + 1;
+            offset = located.nextOffset();
+        }
+        writeOffset = (int) offset;
+
+        int tornEnd = tornTailEnd(writeOffset);
+        if (tornEnd < 0) {
+            channel.close();
+            channel = null;
+            throw new IllegalStateException("Audit segment " + newest + " has an invalid record at offset "
+                    + offset + " followed by more data; refusing to append to it");
+        }
+        if (tornEnd > writeOffset) {
+            logger.warn("Audit segment {} ends in a torn record at offset {}, discarding {} bytes",
+                    newest, offset, tornEnd - writeOffset);
+            for (int i = writeOffset; i < tornEnd; i++) {
+                mapped.put(i, (byte) 0);
+            }
+            mapped.force(writeOffset, tornEnd - writeOffset);
+        }
+        committed = new Position(segmentId, writeOffset);
+        logger.info("Audit log resumed at segment {}, sequence {}, last hash {}",
+                segmentId, nextSequence, HexFormat.of().formatHex(lastHash));
+    }
+
+    /**
+     * End of the single record that may start at {@code offset}, when nothing but zeroes follows it;
+     * -1 if there is more data after it
+     */
+    private int tornTailEnd(int offset) {
+        if (offset + Integer.BYTES > segmentBytes) {
+            return offset;
+        }
+        long length = mapped.getInt(offset);
+        long end = offset + Integer.BYTES;
+        if (length > 0 && end + length + AuditSegmentFormat.HASH_SIZE <= segmentBytes) {
+            end += length + AuditSegmentFormat.HASH_SIZE;
+        }
+        for (int i = (int) end; i < segmentBytes; i++) {
+            if (mapped.get(i) != 0) {
+                return -1;
+            }
+        }
+        // A clean end marker needs no clearing
+        for (int i = offset; i < end; i++) {
+            if (mapped.get(i) != 0) {
+                return (int) end;
+            }
+        }
+        return offset;
+    }
+
+    private void openSegment(long id, long firstSequence) throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        channel = FileChannel.open(segmentPath(id),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Mapping past the end grows the file to its full size up front
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        AuditSegmentFormat.writeHeader(mapped, new Header(id, firstSequence, lastHash));
+        mapped.putInt(AuditSegmentFormat.HEADER_SIZE, 0);
+        mapped.force(0, AuditSegmentFormat.HEADER_SIZE + Integer.BYTES);
+        segmentId = id;
+        writeOffset = AuditSegmentFormat.HEADER_SIZE;
+        logger.info("Opened audit segment {} starting at sequence {}", id, firstSequence);
+    }
+
+    private static long segmentId(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,19 @@
+// File: src/main/java/com/bankingsystem/audit/AuditRecord.java
+package com.bankingsystem.audit;
+
+import java.time.Instant;
+
+/**
+ * One entry of the audit log.
+ * {@code hash} is the hex SHA-256 of the previous record's hash followed by this record's fields,
+ * so changing or removing any record breaks every hash after it.
+ */
+public record AuditRecord(long sequence,
+                          Instant timestamp,
+                          String category,
+                          String userId,
+                          String accountNumber,
+                          String action,
+                          String details,
+                          String hash) {
+}
@@ -0,0 +1,148 @@
+// File: src/main/java/com/bankingsystem/audit/AuditSegmentFormat.java
+package com.bankingsystem.audit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * On-disk layout of audit segments.
+ *
+ * A segment starts with a fixed header (magic, version, segment id, first sequence and the hash of the
+ * last record of the previous segment). Records follow as {@code [int length][payload][32-byte hash]};
+ * a zero length marks the end of the written data.
+ */
+final class AuditSegmentFormat {
+
+    static final int MAGIC = 0x4155444C; // "AUDL"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int HASH_SIZE = 32;
+    static final byte[] GENESIS_HASH = new byte[HASH_SIZE];
+
+    // Keeps every string within DataOutput.writeUTF's limit even for 3-byte characters
+    private static final int MAX_FIELD_CHARS = 8192;
+
+    private AuditSegmentFormat() {}
+
+    record Header(long segmentId, long firstSequence, byte[] previousHash) {}
+
+    /**
+     * A record read back from a segment, with the offset of the record that follows it
+     */
+    record Located(AuditRecord record, byte[] payload, byte[] hash, long offset, long nextOffset) {}
+
+    static void writeHeader(ByteBuffer buffer, Header header) {
+        buffer.putInt(0, MAGIC);
+        buffer.putShort(4, VERSION);
+        buffer.putLong(6, header.segmentId());
+        buffer.putLong(14, header.firstSequence());
+        buffer.put(22, header.previousHash());
+    }
+
+    static Header readHeader(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(channel, buffer, 0);
+        if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION) {
+            throw new IOException("Not an audit segment");
+        }
+        byte[] previousHash = new byte[HASH_SIZE];
+        buffer.get(22, previousHash);
+        return new Header(buffer.getLong(6), buffer.getLong(14), previousHash);
+    }
+
+    static byte[] encodePayload(long sequence, long timestampMillis, String category, String userId,
+                                String accountNumber, String action, String details) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(sequence);
+            out.writeLong(timestampMillis);
+            out.writeUTF(field(category));
+            out.writeUTF(field(userId));
+            out.writeUTF(field(accountNumber));
+            out.writeUTF(field(action));
+            out.writeUTF(field(details));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static byte[] chainHash(MessageDigest digest, byte[] previousHash, byte[] payload) {
+        digest.reset();
+        digest.update(previousHash);
+        digest.update(payload);
+        return digest.digest();
+    }
+
+    /**
+     * Read the record at {@code offset}, or null at the end marker or a torn/unreadable tail
+     */
+    static Located readRecord(FileChannel channel, long offset) throws IOException {
+        if (offset + Integer.BYTES > channel.size()) {
+            return null;
+        }
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+        readFully(channel, lengthBuffer, offset);
+        int length = lengthBuffer.getInt(0);
+        if (length <= 0 || offset + Integer.BYTES + length + HASH_SIZE > channel.size()) {
+            return null;
+        }
+        ByteBuffer body = ByteBuffer.allocate(length + HASH_SIZE);
+        readFully(channel, body, offset + Integer.BYTES);
+        byte[] payload = Arrays.copyOfRange(body.array(), 0, length);
+        byte[] hash = Arrays.copyOfRange(body.array(), length, length + HASH_SIZE);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            AuditRecord record = new AuditRecord(in.readLong(), Instant.ofEpochMilli(in.readLong()),
+                    in.readUTF(), emptyToNull(in.readUTF()), emptyToNull(in.readUTF()), in.readUTF(),
+                    emptyToNull(in.readUTF()), HexFormat.of().formatHex(hash));
+            return new Located(record, payload, hash, offset, offset + Integer.BYTES + length + HASH_SIZE);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Private helper methods
+
+    private static String field(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.length() > MAX_FIELD_CHARS ? value.substring(0, MAX_FIELD_CHARS) : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long read = 0;
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position + read);
+            if (n < 0) {
+                throw new EOFException();
+            }
+            read += n;
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,352 @@
+// File: src/main/java/com/bankingsystem/cache/CompactBinaryRedisSerializer.java
+package com.bankingsystem.cache;
+
+import com.bankingsystem.dto.response.account.AccountResponse;
+import com.bankingsystem.enums.AccountStatus;
+import com.bankingsystem.enums.AccountType;
+import com.bankingsystem.enums.Currency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Schema-versioned binary serializer for cached DTOs.
+ *
+ * Layout: {@code [type tag][schema version][presence bitmap varint][present fields...]}.
+ * Amounts are written as scale + zigzag-varint unscaled value, dates as epoch-day varints, timestamps as
+ * epoch-day + nano-of-day and enums as ordinals, so a typical AccountResponse is a fraction of its JSON
+ * size and needs no reflection. Types without a binary schema fall back to tagged JSON.
+ *
+ * A {@link StampedValue} envelope is written as {@code [tag][version][loadedAt][computeMillis]} followed by
+ * the serialized inner value, so refresh-ahead metadata costs a few bytes and stays readable on every node.
+ *
+ * Reordering an enum or changing a field list requires a new schema version. Entries written with an
+ * unknown version deserialize to null, which the cache treats as a miss, so rolling deploys degrade
+ * to reloads instead of errors.
+ */
+public class CompactBinaryRedisSerializer implements RedisSerializer<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactBinaryRedisSerializer.class);
+
+    private static final byte TAG_JSON = 0;
+    private static final byte TAG_ACCOUNT_RESPONSE = 1;
+    private static final byte TAG_STAMPED = 2;
+
+    private static final byte ACCOUNT_RESPONSE_VERSION = 1;
+    private static final byte STAMPED_VERSION = 1;
+
+    private static final AccountType[] ACCOUNT_TYPES = AccountType.values();
+    private static final AccountStatus[] ACCOUNT_STATUSES = AccountStatus.values();
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    // Scratch buffers larger than this are not kept for reuse
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<Output> BUFFERS = ThreadLocal.withInitial(() -> new Output(512));
+
+    private final GenericJackson2JsonRedisSerializer jsonFallback = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (value instanceof StampedValue stamped) {
+            return serializeStamped(stamped);
+        }
+        if (!(value instanceof AccountResponse response)) {
+            byte[] json = jsonFallback.serialize(value);
+            byte[] tagged = new byte[json.length + 1];
+            tagged[0] = TAG_JSON;
+            System.arraycopy(json, 0, tagged, 1, json.length);
+            return tagged;
+        }
+
+        Output out = BUFFERS.get();
+        out.reset();
+        try {
+            out.writeByte(TAG_ACCOUNT_RESPONSE);
+            out.writeByte(ACCOUNT_RESPONSE_VERSION);
+            writeAccountResponse(out, response);
+            return out.toByteArray();
+        } finally {
+            if (out.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFERS.remove();
+            }
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        switch (bytes[0]) {
+            case TAG_JSON:
+                return jsonFallback.deserialize(Arrays.copyOfRange(bytes, 1, bytes.length));
+            case TAG_ACCOUNT_RESPONSE:
+                if (bytes.length < 2 || bytes[1] != ACCOUNT_RESPONSE_VERSION) {
+                    logger.debug("Ignoring cached AccountResponse with unknown schema version");
+                    return null;
+                }
+                try {
+                    return readAccountResponse(new Input(bytes, 2));
+                } catch (RuntimeException e) {
+                    throw new SerializationException("Corrupt cached AccountResponse", e);
+                }
+            case TAG_STAMPED:
+                if (bytes.length < 2 || bytes[1] != STAMPED_VERSION) {
+                    logger.debug("Ignoring cached value with unknown envelope version");
+                    return null;
+                }
+                return deserializeStamped(bytes);
+            default:
+                // Written before this serializer was installed (plain JSON starts with '{')
+                return null;
+        }
+    }
+
+    // StampedValue envelope, version 1
+
+    private byte[] serializeStamped(StampedValue stamped) {
+        // Serialize the inner value first: it reuses this thread's buffer
+        byte[] inner = serialize(stamped.value());
+        Output out = BUFFERS.get();
+        out.reset();
+        try {
+            out.writeByte(TAG_STAMPED);
+            out.writeByte(STAMPED_VERSION);
+            out.writeVarLong(stamped.loadedAtMillis());
+            out.writeVarLong(stamped.computeMillis());
+            out.writeBytes(inner);
+            return out.toByteArray();
+        } finally {
+            if (out.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFERS.remove();
+            }
+        }
+    }
+
+    private Object deserializeStamped(byte[] bytes) {
+        long loadedAt;
+        long computeMillis;
+        Input in = new Input(bytes, 2);
+        try {
+            loadedAt = in.readVarLong();
+            computeMillis = in.readVarLong();
+        } catch (RuntimeException e) {
+            throw new SerializationException("Corrupt cached value envelope", e);
+        }
+        Object value = deserialize(Arrays.copyOfRange(bytes, in.position, bytes.length));
+        return value == null ? null : new StampedValue(value, loadedAt, computeMillis);
+    }
+
+    // AccountResponse schema, version 1
+
+    private static void writeAccountResponse(Output out, AccountResponse r) {
+        long present = 0;
+        present |= bit(0, r.getAccountNumber());
+        present |= bit(1, r.getAccountName());
+        present |= bit(2, r.getAccountType());
+        present |= bit(3, r.getStatus());
+        present |= bit(4, r.getCurrency());
+        present |= bit(5, r.getBalance());
+        present |= bit(6, r.getAvailableBalance());
+        present |= bit(7, r.getOpenDate());
+        present |= bit(8, r.getLastTransactionDate());
+        present |= bit(9, r.getCustomerId());
+        present |= bit(10, r.getCustomerName());
+        present |= bit(11, r.getInterestRate());
+        present |= bit(12, r.getMinimumBalance());
+        present |= bit(13, r.getDailyLimit());
+        present |= bit(14, r.getMonthlyFee());
+        out.writeVarLong(present);
+
+        if (r.getAccountNumber() != null) out.writeString(r.getAccountNumber());
+        if (r.getAccountName() != null) out.writeString(r.getAccountName());
+        if (r.getAccountType() != null) out.writeVarLong(r.getAccountType().ordinal());
+        if (r.getStatus() != null) out.writeVarLong(r.getStatus().ordinal());
+        if (r.getCurrency() != null) out.writeVarLong(r.getCurrency().ordinal());
+        if (r.getBalance() != null) out.writeDecimal(r.getBalance());
+        if (r.getAvailableBalance() != null) out.writeDecimal(r.getAvailableBalance());
+        if (r.getOpenDate() != null) out.writeZigZag(r.getOpenDate().toEpochDay());
+        if (r.getLastTransactionDate() != null) out.writeDateTime(r.getLastTransactionDate());
+        if (r.getCustomerId() != null) out.writeString(r.getCustomerId());
+        if (r.getCustomerName() != null) out.writeString(r.getCustomerName());
+        if (r.getInterestRate() != null) out.writeDecimal(r.getInterestRate());
+        if (r.getMinimumBalance() != null) out.writeDecimal(r.getMinimumBalance());
+        if (r.getDailyLimit() != null) out.writeDecimal(r.getDailyLimit());
+        if (r.getMonthlyFee() != null) out.writeDecimal(r.getMonthlyFee());
+    }
+
+    private static AccountResponse readAccountResponse(Input in) {
+        long present = in.readVarLong();
+        AccountResponse r = new AccountResponse();
+        if (has(present, 0)) r.setAccountNumber(in.readString());
+        if (has(present, 1)) r.setAccountName(in.readString());
+        if (has(present, 2)) r.setAccountType(ACCOUNT_TYPES[(int) in.readVarLong()]);
+        if (has(present, 3)) r.setStatus(ACCOUNT_STATUSES[(int) in.readVarLong()]);
+        if (has(present, 4)) r.setCurrency(CURRENCIES[(int) in.readVarLong()]);
+        if (has(present, 5)) r.setBalance(in.readDecimal());
+        if (has(present, 6)) r.setAvailableBalance(in.readDecimal());
+        if (has(present, 7)) r.setOpenDate(LocalDate.ofEpochDay(in.readZigZag()));
+        if (has(present, 8)) r.setLastTransactionDate(in.readDateTime());
+        if (has(present, 9)) r.setCustomerId(in.readString());
+        if (has(present, 10)) r.setCustomerName(in.readString());
+        if (has(present, 11)) r.setInterestRate(in.readDecimal());
+        if (has(present, 12)) r.setMinimumBalance(in.readDecimal());
+        if (has(present, 13)) r.setDailyLimit(in.readDecimal());
+        if (has(present, 14)) r.setMonthlyFee(in.readDecimal());
+        return r;
+    }
+
+    private static long bit(int index, Object field) {
+        return field == null ? 0L : 1L << index;
+    }
+
+    private static boolean has(long present, int index) {
+        return (present & (1L << index)) != 0;
+    }
+
+    /**
+     * Growable output buffer, reused per thread
+     */
+    private static final class Output {
+        private byte[] buffer;
+        private int position;
+
+        Output(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void reset() { position = 0; }
+
+        int capacity() { return buffer.length; }
+
+        byte[] toByteArray() { return Arrays.copyOf(buffer, position); }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            writeBytes(utf8);
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        /**
+         * Scale + 1 then zigzag unscaled value; scale 0 marks an unscaled value wider than 63 bits
+         */
+        void writeDecimal(BigDecimal value) {
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < 64 && value.scale() >= 0) {
+                writeVarLong(value.scale() + 1L);
+                writeZigZag(unscaled.longValue());
+            } else {
+                writeVarLong(0);
+                writeZigZag(value.scale());
+                byte[] bytes = unscaled.toByteArray();
+                writeVarLong(bytes.length);
+                ensure(bytes.length);
+                System.arraycopy(bytes, 0, buffer, position, bytes.length);
+                position += bytes.length;
+            }
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            writeZigZag(value.toLocalDate().toEpochDay());
+            writeVarLong(value.toLocalTime().toNanoOfDay());
+        }
+
+        private void ensure(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    /**
+     * Cursor over a serialized entry
+     */
+    private static final class Input {
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalStateException("Malformed varint");
+        }
+
+        long readZigZag() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        BigDecimal readDecimal() {
+            long scalePlusOne = readVarLong();
+            if (scalePlusOne > 0) {
+                return BigDecimal.valueOf(readZigZag(), (int) (scalePlusOne - 1));
+            }
+            int scale = (int) readZigZag();
+            int length = (int) readVarLong();
+            BigInteger unscaled = new BigInteger(Arrays.copyOfRange(buffer, position, position + length));
+            position += length;
+            return new BigDecimal(unscaled, scale);
+        }
+
+        LocalDateTime readDateTime() {
+            LocalDate date = LocalDate.ofEpochDay(readZigZag());
+            return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong()));
+        }
+    }
+}
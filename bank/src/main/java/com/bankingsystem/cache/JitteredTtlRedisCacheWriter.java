@@ -0,0 +1,79 @@
+// File: src/main/java/com/bankingsystem/cache/JitteredTtlRedisCacheWriter.java
+package com.bankingsystem.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis cache writer that shortens each entry's TTL by a random fraction, so entries written together
+ * (e.g. after a deploy warms the cache) do not all expire in the same instant.
+ * Decorates the writer rather than the configuration because per-entry TTL functions are not
+ * available in this Spring Data Redis version.
+ */
+public class JitteredTtlRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final double jitter;
+
+    /**
+     * @param jitter Maximum fraction of the TTL to remove, e.g. 0.1 for up to 10%
+     */
+    public JitteredTtlRedisCacheWriter(RedisCacheWriter delegate, double jitter) {
+        this.delegate = delegate;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        delegate.put(name, key, value, jittered(ttl));
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return delegate.get(name, key);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return delegate.putIfAbsent(name, key, value, jittered(ttl));
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new JitteredTtlRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), jitter);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    private Duration jittered(@Nullable Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative() || jitter <= 0) {
+            return ttl;
+        }
+        long millis = ttl.toMillis();
+        long reduction = (long) (millis * jitter * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(Math.max(1L, millis - reduction));
+    }
+}
@@ -0,0 +1,210 @@
+// File: src/main/java/com/bankingsystem/cache/SingleFlightCache.java
+package com.bankingsystem.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cache decorator that protects loaders from stampedes.
+ *
+ * <ul>
+ *   <li>Single flight: concurrent misses for one key on this node share one loader call; the others
+ *       wait on its future.</li>
+ *   <li>Refresh-ahead (XFetch): a hit is reloaded early with a probability that rises as the entry
+ *       approaches expiry and with how expensive it was to load, so hot keys are usually refreshed
+ *       before they expire and never all miss together. The reload runs on the refresh executor while
+ *       the caller gets the cached value, so loaders must not rely on the request thread's context.</li>
+ * </ul>
+ * Both apply to {@link #get(Object, Callable)}, i.e. {@code @Cacheable(sync = true)}. Values are stored
+ * as {@link StampedValue} so the load time and cost travel with the entry across nodes.
+ */
+public class SingleFlightCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlightCache.class);
+
+    private final Cache delegate;
+    private final long ttlMillis;
+    private final double beta;
+    private final Executor refreshExecutor;
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter loads;
+    private final Counter coalesced;
+    private final Counter earlyRefreshes;
+
+    /**
+     * @param ttlMillis Earliest time after loading at which the delegate may expire the entry
+     * @param beta XFetch aggressiveness; 1.0 is the standard setting, larger refreshes earlier
+     * @param refreshExecutor Runs early refreshes off the caller's thread
+     */
+    public SingleFlightCache(Cache delegate, long ttlMillis, double beta, Executor refreshExecutor,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlMillis;
+        this.beta = beta;
+        this.refreshExecutor = refreshExecutor;
+        this.loads = counter(meterRegistry, "banking.cache.loads", delegate.getName());
+        this.coalesced = counter(meterRegistry, "banking.cache.loads.coalesced", delegate.getName());
+        this.earlyRefreshes = counter(meterRegistry, "banking.cache.refresh.early", delegate.getName());
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(unwrap(wrapper.get()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            return (T) load(key, valueLoader);
+        }
+
+        Object cached = wrapper.get();
+        if (cached instanceof StampedValue stamped && shouldRefreshEarly(stamped) && !inFlight.containsKey(key)) {
+            refreshAsync(key, valueLoader, stamped.value());
+        }
+        return (T) unwrap(cached);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            // Nulls are not cached (the Redis tier rejects them), so drop any previous value instead
+            delegate.evict(key);
+            return;
+        }
+        delegate.put(key, new StampedValue(value, System.currentTimeMillis(), 0L));
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    // Private helper methods
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing, key, valueLoader);
+        }
+        return loadAndStore(key, valueLoader, mine);
+    }
+
+    /**
+     * Reload a key that is still cached on the refresh executor; concurrent misses join the same future
+     */
+    private void refreshAsync(Object key, Callable<?> valueLoader, Object current) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return;
+        }
+        earlyRefreshes.increment();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    loadAndStore(key, valueLoader, mine);
+                } catch (ValueRetrievalException e) {
+                    // The cached value is still within its TTL, so callers keep getting it
+                    logger.warn("Early refresh failed, serving cached value: cache={}, key={}", getName(), key, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Executor saturated: skip this refresh, a later hit will try again
+            inFlight.remove(key, mine);
+            mine.complete(current);
+        }
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader, CompletableFuture<Object> mine) {
+        try {
+            loads.increment();
+            long started = System.nanoTime();
+            Object value = valueLoader.call();
+            long computeMillis = (System.nanoTime() - started) / 1_000_000;
+            if (value != null) {
+                delegate.put(key, new StampedValue(value, System.currentTimeMillis(), computeMillis));
+            }
+            mine.complete(value);
+            return value;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future, Object key, Callable<?> valueLoader) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    /**
+     * XFetch: refresh when {@code now - computeTime * beta * ln(rand) >= expiry}
+     */
+    private boolean shouldRefreshEarly(StampedValue stamped) {
+        long expiry = stamped.loadedAtMillis() + ttlMillis;
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = -Math.max(1L, stamped.computeMillis()) * beta * Math.log(random);
+        return System.currentTimeMillis() + gap >= expiry;
+    }
+
+    private static Object unwrap(Object value) {
+        return value instanceof StampedValue stamped ? stamped.value() : value;
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String cacheName) {
+        return Counter.builder(name).tag("cache", cacheName).register(registry);
+    }
+}
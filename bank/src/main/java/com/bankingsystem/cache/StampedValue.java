@@ -0,0 +1,12 @@
+// File: src/main/java/com/bankingsystem/cache/StampedValue.java
+package com.bankingsystem.cache;
+
+/**
+ * Cached value with the load metadata {@link SingleFlightCache} needs for early refresh.
+ * Stored in both cache tiers; callers only ever see {@code value}.
+ *
+ * @param value Cached value
+ * @param loadedAtMillis Wall-clock time the value was loaded
+ * @param computeMillis How long the load took
+ */
+public record StampedValue(Object value, long loadedAtMillis, long computeMillis) {}
@@ -0,0 +1,154 @@
+// File: src/main/java/com/bankingsystem/cache/TwoTierCache.java
+package com.bankingsystem.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with an in-heap Caffeine near tier in front of a shared Redis tier.
+ *
+ * Reads hit the near tier first and fall through to Redis, populating the near tier on the way back.
+ * Writes and evictions go to both tiers. Evictions, and writes that replace a value already in Redis, are
+ * broadcast so other nodes drop their near copies. Filling an absent key is not: other nodes only copy
+ * what Redis holds, so at most a copy of an expired entry survives, for no longer than the near TTL.
+ * Keys are normalised to strings in the near tier, matching how RedisCache builds its keys, so an
+ * invalidation message can address them.
+ */
+public class TwoTierCache implements Cache {
+
+    /**
+     * Sends an invalidation for {@code key} (or the whole cache when null) to the other nodes
+     */
+    interface InvalidationPublisher {
+        void publish(String cacheName, String key);
+    }
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> near;
+    private final Cache remote;
+    private final InvalidationPublisher publisher;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    TwoTierCache(String name,
+                 com.github.benmanes.caffeine.cache.Cache<String, Object> near,
+                 Cache remote,
+                 InvalidationPublisher publisher,
+                 MeterRegistry meterRegistry) {
+        this.name = name;
+        this.near = near;
+        this.remote = remote;
+        this.publisher = publisher;
+        this.remoteHits = Counter.builder("banking.cache.remote.gets")
+                .tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.remoteMisses = Counter.builder("banking.cache.remote.gets")
+                .tag("cache", name).tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return near;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String nearKey = nearKey(key);
+        Object value = near.getIfPresent(nearKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return wrapper;
+        }
+        remoteHits.increment();
+        near.put(nearKey, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // Caffeine runs the mapping function once per key on this node; Redis is only asked on a near miss
+        return (T) near.get(nearKey(key), ignored -> {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                remoteHits.increment();
+                return wrapper.get();
+            }
+            remoteMisses.increment();
+            return remote.get(key, valueLoader);
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            // The Redis tier does not store nulls
+            evict(key);
+            return;
+        }
+        String nearKey = nearKey(key);
+        boolean replaced = remote.putIfAbsent(key, value) != null;
+        if (replaced) {
+            remote.put(key, value);
+        }
+        near.put(nearKey, value);
+        if (replaced) {
+            publisher.publish(name, nearKey);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        String nearKey = nearKey(key);
+        remote.evict(key);
+        near.invalidate(nearKey);
+        publisher.publish(name, nearKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        near.invalidateAll();
+        publisher.publish(name, null);
+    }
+
+    /**
+     * Apply an invalidation received from another node; the shared tier is already up to date
+     */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            near.invalidateAll();
+        } else {
+            near.invalidate(key);
+        }
+    }
+
+    private static String nearKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,144 @@
+// File: src/main/java/com/bankingsystem/cache/TwoTierCacheManager.java
+package com.bankingsystem.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Cache manager layering a per-node Caffeine near cache over a Redis-backed cache manager.
+ *
+ * Every evict, clear and replacing put is published on a Redis channel tagged with this node's id; other
+ * nodes drop the affected near entries on receipt. Near-cache size and TTL come from
+ * {@link TwoTierCacheProperties}; the TTL also bounds staleness if a message is lost.
+ * Hit ratio and evictions are exported as {@code cache.*} meters with {@code tier=near}.
+ *
+ * Callers get each two-tier cache wrapped in a {@link SingleFlightCache}, so {@code @Cacheable(sync = true)}
+ * methods load a missing key once per node and refresh hot keys ahead of their Redis expiry.
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private static final char SEPARATOR = '\u001F';
+    private static final String CLEAR_ALL = "\u0000";
+
+    private final CacheManager remoteManager;
+    private final TwoTierCacheProperties properties;
+    private final Duration remoteTtl;
+    private final StringRedisTemplate redisTemplate;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, SingleFlightCache> decorated = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteManager,
+                               TwoTierCacheProperties properties,
+                               Duration remoteTtl,
+                               StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               Executor refreshExecutor,
+                               MeterRegistry meterRegistry) {
+        this.remoteManager = remoteManager;
+        this.properties = properties;
+        this.remoteTtl = remoteTtl;
+        this.redisTemplate = redisTemplate;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getInvalidationChannel()));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        SingleFlightCache cache = decorated.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return decorated.computeIfAbsent(name, cacheName -> decorate(caches.computeIfAbsent(cacheName,
+                n -> createCache(n, remote))));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteManager.getCacheNames();
+    }
+
+    /**
+     * Invalidation broadcast from another node: {@code nodeId, cacheName, key}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(CLEAR_ALL.equals(parts[2]) ? null : parts[2]);
+            invalidationCounter(parts[1], "remote").increment();
+        }
+    }
+
+    // Private helper methods
+
+    private TwoTierCache createCache(String name, Cache remote) {
+        TwoTierCacheProperties.Spec spec = properties.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> near = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, near, name, "tier", "near");
+        logger.info("Two-tier cache '{}' created: nearMaxSize={}, nearTtl={}", name, spec.getMaximumSize(), spec.getTtl());
+        return new TwoTierCache(name, near, remote, this::publish, meterRegistry);
+    }
+
+    private SingleFlightCache decorate(TwoTierCache cache) {
+        // Refresh-ahead targets the earliest possible expiry of a jittered entry
+        long earliestExpiryMillis = (long) (remoteTtl.toMillis() * (1.0 - properties.getTtlJitter()));
+        return new SingleFlightCache(cache, earliestExpiryMillis, properties.getEarlyRefreshBeta(),
+                refreshExecutor, meterRegistry);
+    }
+
+    private void publish(String cacheName, String key) {
+        String message = nodeId + SEPARATOR + cacheName + SEPARATOR + (key == null ? CLEAR_ALL : key);
+        try {
+            redisTemplate.convertAndSend(properties.getInvalidationChannel(), message);
+            invalidationCounter(cacheName, "local").increment();
+        } catch (RuntimeException e) {
+            // Other nodes fall back to the near-cache TTL
+            logger.warn("Failed to publish cache invalidation: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    private Counter invalidationCounter(String cacheName, String source) {
+        return Counter.builder("banking.cache.invalidations")
+                .tag("cache", cacheName)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,72 @@
+// File: src/main/java/com/bankingsystem/cache/TwoTierCacheProperties.java
+package com.bankingsystem.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Near-cache settings for {@link TwoTierCacheManager}, bound from {@code banking.cache}.
+ * Caches without an entry under {@code caches} use {@code default-spec}.
+ */
+@ConfigurationProperties(prefix = "banking.cache")
+public class TwoTierCacheProperties {
+
+    /**
+     * Redis pub/sub channel used to broadcast evictions to other nodes
+     */
+    private String invalidationChannel = "banking:cache:invalidation";
+
+    /**
+     * Fraction of the Redis TTL randomly cut from each entry so entries written together expire apart
+     */
+    private double ttlJitter = 0.1;
+
+    /**
+     * Refresh-ahead aggressiveness for single-flight loads; 0 disables early refresh
+     */
+    private double earlyRefreshBeta = 1.0;
+
+    private Spec defaultSpec = new Spec();
+
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaultSpec);
+    }
+
+    // Getters and Setters
+    public String getInvalidationChannel() { return invalidationChannel; }
+    public void setInvalidationChannel(String invalidationChannel) { this.invalidationChannel = invalidationChannel; }
+
+    public double getTtlJitter() { return ttlJitter; }
+    public void setTtlJitter(double ttlJitter) { this.ttlJitter = ttlJitter; }
+
+    public double getEarlyRefreshBeta() { return earlyRefreshBeta; }
+    public void setEarlyRefreshBeta(double earlyRefreshBeta) { this.earlyRefreshBeta = earlyRefreshBeta; }
+
+    public Spec getDefaultSpec() { return defaultSpec; }
+    public void setDefaultSpec(Spec defaultSpec) { this.defaultSpec = defaultSpec; }
+
+    public Map<String, Spec> getCaches() { return caches; }
+    public void setCaches(Map<String, Spec> caches) { this.caches = caches; }
+
+    /**
+     * Size and TTL of one near cache
+     */
+    public static class Spec {
+
+        private long maximumSize = 10_000;
+
+        // Short by default: the TTL bounds staleness if an invalidation message is lost
+        private Duration ttl = Duration.ofSeconds(30);
+
+        public long getMaximumSize() { return maximumSize; }
+        public void setMaximumSize(long maximumSize) { this.maximumSize = maximumSize; }
+
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+    }
+}
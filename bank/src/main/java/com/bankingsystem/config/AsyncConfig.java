@@ -0,0 +1,110 @@
+// File: src/main/java/com/bankingsystem/config/AsyncConfig.java
+package com.bankingsystem.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Execution mode for blocking work: {@code banking.execution.mode} is {@code platform} (default) or {@code virtual}.
+ *
+ * In virtual mode Tomcat request handling, {@code @Async} methods and the notification fan-out each run
+ * on a new virtual thread per task. Concurrency is then bounded by semaphores (the executor concurrency
+ * limit, {@link ConnectionPermitDataSource} and the notification limit) instead of by pool sizes. On
+ * runtimes without virtual threads the mode falls back to platform threads.
+ */
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    @Value("${banking.execution.mode:platform}")
+    private String mode;
+
+    @Value("${banking.execution.async.core-size:8}")
+    private int asyncCoreSize;
+
+    @Value("${banking.execution.async.max-size:32}")
+    private int asyncMaxSize;
+
+    @Value("${banking.execution.async.queue-capacity:1000}")
+    private int asyncQueueCapacity;
+
+    @Value("${banking.execution.async.virtual-concurrency-limit:1000}")
+    private int asyncVirtualConcurrencyLimit;
+
+    /**
+     * Executor for {@code @Async} methods and the notification fan-out
+     */
+    @Bean(name = "taskExecutor")
+    public AsyncTaskExecutor taskExecutor() {
+        Optional<ThreadFactory> virtual = virtualThreadFactory("async-");
+        if (virtual.isPresent()) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(virtual.get());
+            // Throttles submitters once the limit is reached, like a full queue would
+            executor.setConcurrencyLimit(asyncVirtualConcurrencyLimit);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-");
+        executor.setCorePoolSize(asyncCoreSize);
+        executor.setMaxPoolSize(asyncMaxSize);
+        executor.setQueueCapacity(asyncQueueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs each Tomcat request on its own virtual thread; a no-op in platform mode
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        Optional<ThreadFactory> virtual = virtualThreadFactory("http-");
+        return protocolHandler -> virtual.ifPresent(factory -> {
+            Executor executor = task -> factory.newThread(task).start();
+            protocolHandler.setExecutor(executor);
+        });
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return new SimpleAsyncUncaughtExceptionHandler();
+    }
+
+    public boolean isVirtualMode() {
+        return "virtual".equalsIgnoreCase(mode) && VirtualThreads.isSupported();
+    }
+
+    // Private helper methods
+
+    private Optional<ThreadFactory> virtualThreadFactory(String prefix) {
+        if (!"virtual".equalsIgnoreCase(mode)) {
+            return Optional.empty();
+        }
+        Optional<ThreadFactory> factory = VirtualThreads.factory(prefix);
+        if (factory.isEmpty()) {
+            logger.warn("banking.execution.mode=virtual requires Java 21+, running {} on platform threads", prefix);
+        }
+        return factory;
+    }
+}
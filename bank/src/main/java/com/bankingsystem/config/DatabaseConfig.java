@@ -7,18 +7,30 @@ package com.bankingsystem.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 /**
  * Database configuration class.
  * Configures connection pooling, JPA repositories, and database-specific settings.
+ *
+ * With {@code banking.datasource.replica.enabled}, read-only transactions are routed to a separate replica
+ * pool (see {@link ReplicaRoutingDataSource}); migrations always run against the primary. Each pool
+ * publishes {@code hikaricp.*} metrics tagged with its pool name.
  */
 @Configuration
 @EnableJpaRepositories(basePackages = "com.bankingsystem.repository")
@@ -36,36 +48,123 @@ public class DatabaseConfig {
     @Value("${spring.datasource.driver-class-name}")
     private String driverClassName;
 
+    @Value("${banking.datasource.primary.maximum-pool-size:20}")
+    private int primaryMaxPoolSize;
+
+    @Value("${banking.datasource.primary.minimum-idle:5}")
+    private int primaryMinIdle;
+
+    @Value("${banking.datasource.replica.url:}")
+    private String replicaJdbcUrl;
+
+    @Value("${banking.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${banking.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${banking.datasource.replica.maximum-pool-size:30}")
+    private int replicaMaxPoolSize;
+
+    @Value("${banking.datasource.replica.minimum-idle:5}")
+    private int replicaMinIdle;
+
+    @Value("${banking.datasource.replica.max-lag-seconds:2}")
+    private double replicaMaxLagSeconds;
+
+    @Value("${banking.datasource.replica.lag-query}")
+    private String replicaLagQuery;
+
+    @Value("${banking.execution.mode:platform}")
+    private String executionMode;
+
+    @Value("${banking.execution.db-permit-timeout:2s}")
+    private Duration dbPermitTimeout;
+
     /**
-     * Primary DataSource bean with HikariCP connection pooling
+     * Primary (read-write) pool with HikariCP connection pooling
      */
     @Bean
-    @Primary
+    @FlywayDataSource
     @ConfigurationProperties("spring.datasource.hikari")
-    public DataSource dataSource() {
+    public HikariDataSource primaryDataSource(MeterRegistry meterRegistry) {
+        HikariConfig config = poolConfig("primary", jdbcUrl, username, password, meterRegistry);
+        config.setMaximumPoolSize(primaryMaxPoolSize);
+        config.setMinimumIdle(primaryMinIdle);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Read replica pool, sized separately since reporting and history reads are the bulk of the load
+     */
+    @Bean
+    @ConditionalOnProperty(name = "banking.datasource.replica.enabled", havingValue = "true")
+    public HikariDataSource replicaDataSource(MeterRegistry meterRegistry) {
+        HikariConfig config = poolConfig("replica", replicaJdbcUrl, replicaUsername, replicaPassword, meterRegistry);
+        config.setMaximumPoolSize(replicaMaxPoolSize);
+        config.setMinimumIdle(replicaMinIdle);
+        config.setReadOnly(true);
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "banking.datasource.replica.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, replicaLagQuery, replicaMaxLagSeconds, meterRegistry);
+    }
+
+    /**
+     * Application DataSource: the primary pool, or a read/write router when a replica is configured.
+     * The lazy proxy defers the connection fetch until the transaction's read-only flag is known.
+     * In virtual-thread mode each pool is fronted by a {@link ConnectionPermitDataSource}.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        DataSource primary = limitConnections(primaryDataSource, "primary", primaryMaxPoolSize, meterRegistry);
+        DataSource replica = replicaDataSource.getIfAvailable();
+        ReplicaLagMonitor lagMonitor = replicaLagMonitor.getIfAvailable();
+        if (replica == null || lagMonitor == null) {
+            return primary;
+        }
+        replica = limitConnections(replica, "replica", replicaMaxPoolSize, meterRegistry);
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry));
+    }
+
+    // Private helper methods
+
+    private DataSource limitConnections(DataSource pool, String poolName, int maxConnections,
+                                        MeterRegistry meterRegistry) {
+        if (!"virtual".equalsIgnoreCase(executionMode) || !VirtualThreads.isSupported()) {
+            return pool;
+        }
+        return new ConnectionPermitDataSource(pool, poolName, maxConnections, dbPermitTimeout, meterRegistry);
+    }
+
+    private HikariConfig poolConfig(String poolName, String url, String user, String pass, MeterRegistry meterRegistry) {
         HikariConfig config = new HikariConfig();
-        config.setJdbcUrl(jdbcUrl);
-        config.setUsername(username);
-        config.setPassword(password);
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(pass);
         config.setDriverClassName(driverClassName);
 
         // Connection pool settings
-        config.setMaximumPoolSize(20);
-        config.setMinimumIdle(5);
         config.setConnectionTimeout(30000);
         config.setIdleTimeout(600000);
         config.setMaxLifetime(1800000);
         config.setLeakDetectionThreshold(60000);
-
-        return new HikariDataSource(config);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return config;
     }
 
-    // TODO: Configure read-only datasource for reporting queries
     // TODO: Setup database health check indicators
-    // TODO: Configure database metrics collection
 
-    // TODO: Configure database connection pool settings
     // TODO: Configure JPA properties for production optimization
-    // TODO: Setup read/write database separation if needed
     // TODO: Configure database health check endpoints
 }
\ No newline at end of file
@@ -1,25 +1,37 @@
 package com.bankingsystem.config;
 
+import com.bankingsystem.cache.CompactBinaryRedisSerializer;
+import com.bankingsystem.cache.JitteredTtlRedisCacheWriter;
+import com.bankingsystem.cache.TwoTierCacheManager;
+import com.bankingsystem.cache.TwoTierCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * Redis configuration for caching and session management.
  * Configures connection factory, serializers, and cache policies.
  */
 @Configuration
+@EnableConfigurationProperties(TwoTierCacheProperties.class)
 public class RedisConfig {
 
     @Value("${spring.redis.host}")
@@ -31,6 +43,9 @@ public class RedisConfig {
     @Value("${spring.redis.password}")
     private String redisPassword;
 
+    @Value("${spring.cache.redis.time-to-live:600000}")
+    private long cacheTtlMillis;
+
     /**
      * Redis connection factory configuration
      */
@@ -60,22 +75,47 @@ public class RedisConfig {
     }
 
     /**
-     * Cache manager with custom TTL settings
+     * String template for pub/sub messages
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(connectionFactory());
+    }
+
+    /**
+     * Listener container for cross-node cache invalidation messages
      */
     @Bean
-    public CacheManager cacheManager() {
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory());
+        return container;
+    }
+
+    /**
+     * Cache manager with jittered Redis TTLs, fronted by a per-node near cache and single-flight loading
+     */
+    @Bean
+    public CacheManager cacheManager(TwoTierCacheProperties cacheProperties, MeterRegistry meterRegistry,
+                                     @Qualifier("taskExecutor") Executor taskExecutor) {
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(Duration.ofMillis(cacheTtlMillis))
                 .disableCachingNullValues()
                 .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.fromSerializer(new CompactBinaryRedisSerializer()));
 
-        return RedisCacheManager.builder(connectionFactory())
+        RedisCacheWriter cacheWriter = new JitteredTtlRedisCacheWriter(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory()), cacheProperties.getTtlJitter());
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(cacheConfig)
                 .build();
+        // Not a bean, so initialise it explicitly
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(redisCacheManager, cacheProperties, Duration.ofMillis(cacheTtlMillis),
+                stringRedisTemplate(), redisMessageListenerContainer(), taskExecutor, meterRegistry);
     }
 
     // TODO: Configure Redis cluster for high availability
     // TODO: Setup Redis Sentinel for automatic failover
-    // TODO: Configure cache statistics and monitoring
 }
\ No newline at end of file
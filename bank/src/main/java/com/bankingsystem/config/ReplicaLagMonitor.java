@@ -0,0 +1,72 @@
+// File: src/main/java/com/bankingsystem/config/ReplicaLagMonitor.java
+package com.bankingsystem.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Periodically measures how far the read replica is behind the primary.
+ *
+ * {@link ReplicaRoutingDataSource} only sends reads to the replica while the last probe succeeded and
+ * reported a lag within the configured bound; otherwise reads fall back to the primary until the
+ * replica catches up. The measured lag is exported as {@code banking.datasource.replica.lag}.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, double maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        Gauge.builder("banking.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .description("Replication lag of the read replica; NaN while unreachable")
+                .register(meterRegistry);
+        Gauge.builder("banking.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${banking.datasource.replica.lag-check-interval-ms:1000}")
+    public void probe() {
+        boolean wasUsable = usable;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            lagSeconds = lag == null ? 0.0 : lag;
+            usable = lagSeconds <= maxLagSeconds;
+        } catch (RuntimeException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                logger.warn("Replica lag probe failed, routing reads to primary", e);
+            }
+            return;
+        }
+        if (wasUsable != usable) {
+            logger.info("Replica {} for reads: lag={}s, maxLag={}s",
+                    usable ? "enabled" : "disabled", lagSeconds, maxLagSeconds);
+        }
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -1,9 +1,16 @@
 // File: src/main/java/com/bankingsystem/config/SecurityConfig.java
 package com.bankingsystem.config;
 
+import com.bankingsystem.security.PasswordHashingService;
 import com.bankingsystem.security.jwt.JwtAuthenticationEntryPoint;
 import com.bankingsystem.security.jwt.JwtAuthenticationFilter;
+import com.bankingsystem.security.ratelimit.RateLimitFilter;
+import com.bankingsystem.security.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,8 +20,8 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -26,6 +33,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     @Autowired
@@ -37,12 +45,41 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Value("${banking.security.password-hashing.strength:12}")
+    private int passwordStrength;
+
+    @Value("${banking.security.password-hashing.calibrate:false}")
+    private boolean passwordCalibrate;
+
+    @Value("${banking.security.password-hashing.max-strength:12}")
+    private int passwordMaxStrength;
+
+    @Value("${banking.security.password-hashing.target-ms:100}")
+    private long passwordTargetMillis;
+
+    @Value("${banking.security.password-hashing.threads:0}")
+    private int passwordHashThreads;
+
+    @Value("${banking.security.password-hashing.queue-capacity:64}")
+    private int passwordQueueCapacity;
+
+    @Value("${banking.security.password-hashing.max-wait-ms:2000}")
+    private long passwordMaxWaitMillis;
+
     /**
-     * Password encoder bean using BCrypt
+     * Password encoder bean using BCrypt on a dedicated hashing pool
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHashingService passwordEncoder(MeterRegistry meterRegistry) {
+        // Half the cores by default, so a login spike cannot take the whole CPU
+        int threads = passwordHashThreads > 0
+                ? passwordHashThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PasswordHashingService(passwordStrength, passwordCalibrate, passwordMaxStrength,
+                passwordTargetMillis, threads, passwordQueueCapacity, passwordMaxWaitMillis, meterRegistry);
     }
 
     /**
@@ -57,10 +94,13 @@ public class SecurityConfig {
      * DAO Authentication Provider
      */
     @Bean
-    public DaoAuthenticationProvider daoAuthenticationProvider() {
+    public DaoAuthenticationProvider daoAuthenticationProvider(PasswordEncoder passwordEncoder,
+                                                               UserDetailsPasswordService passwordUpgrader) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        // Rehashes at the current cost after a successful login with an older hash
+        provider.setUserDetailsPasswordService(passwordUpgrader);
         return provider;
     }
 
@@ -72,6 +112,9 @@ public class SecurityConfig {
         http.csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.and())
                 .authorizeHttpRequests(authz -> authz
+                        // Async re-dispatches of Mono/Flux and streaming responses were authorized on the way in
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/public/**").permitAll()
@@ -82,6 +125,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/accounts/**").hasAnyRole("CUSTOMER", "EMPLOYEE", "MANAGER")
                         .requestMatchers("/api/v1/transactions/**").hasAnyRole("CUSTOMER", "EMPLOYEE", "MANAGER")
                         .requestMatchers("/api/v1/customers/**").hasAnyRole("CUSTOMER", "EMPLOYEE", "MANAGER")
+                        .requestMatchers("/api/v2/accounts/**").hasAnyRole("CUSTOMER", "EMPLOYEE", "MANAGER")
 
                         // Employee endpoints
                         .requestMatchers("/api/v1/admin/**").hasAnyRole("EMPLOYEE", "MANAGER", "ADMIN")
@@ -89,6 +133,8 @@ public class SecurityConfig {
 
                         // Admin endpoints
                         .requestMatchers("/api/v1/system/**").hasRole("ADMIN")
+                        // Query counts, metrics and their resets; health and info are public above
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // All other requests require authentication
                         .anyRequest().authenticated()
@@ -97,6 +143,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // After JWT so per-user policies see the principal
+        http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         // TODO: Configure JWT authentication filter
         // TODO: Setup role-based access control
@@ -109,5 +157,4 @@ public class SecurityConfig {
 
     // TODO: Configure CORS policies for different environments
     // TODO: Setup OAuth2 integration for third-party authentication
-    // TODO: Configure rate limiting for authentication endpoints
 }
\ No newline at end of file
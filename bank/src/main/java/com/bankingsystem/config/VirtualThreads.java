@@ -0,0 +1,36 @@
+// File: src/main/java/com/bankingsystem/config/VirtualThreads.java
+package com.bankingsystem.config;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads while the build still targets Java 17.
+ *
+ * {@code Thread.ofVirtual()} is looked up reflectively, so the same artifact uses virtual threads on a
+ * Java 21+ runtime and reports them as unavailable on older ones.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {}
+
+    /**
+     * Factory creating virtual threads named {@code prefix0}, {@code prefix1}, ..., if the runtime supports them
+     */
+    public static Optional<ThreadFactory> factory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Method name = builderType.getMethod("name", String.class, long.class);
+            Method factory = builderType.getMethod("factory");
+            return Optional.of((ThreadFactory) factory.invoke(name.invoke(builder, prefix, 0L)));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static boolean isSupported() {
+        return factory("probe-").isPresent();
+    }
+}
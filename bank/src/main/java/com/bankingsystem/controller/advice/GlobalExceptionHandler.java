@@ -7,10 +7,15 @@ package com.bankingsystem.controller.advice;
 
 import com.bankingsystem.exception.BankingException;
 import com.bankingsystem.exception.AccountNotFoundException;
+import com.bankingsystem.exception.IdempotencyConflictException;
 import com.bankingsystem.exception.InsufficientFundsException;
+import com.bankingsystem.exception.ServiceBusyException;
+import com.bankingsystem.dto.response.common.ApiResponse;
 import com.bankingsystem.dto.response.common.ErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -46,6 +51,26 @@ public class GlobalExceptionHandler {
         return null;
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceBusy(ServiceBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getUserMessage(), ex.getErrorCode()));
+    }
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyConflict(IdempotencyConflictException ex) {
+        HttpStatus status = ex.isInProgress() ? HttpStatus.CONFLICT : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status)
+                .body(ApiResponse.error(ex.getUserMessage(), ex.getErrorCode()));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleAccessDenied(AccessDeniedException ex) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error("You are not authorized to access this account", "ACCESS_DENIED"));
+    }
+
     @ExceptionHandler(BankingException.class)
     public ResponseEntity<ErrorResponse> handleBankingException(BankingException ex) {
         // TODO: Handle general banking exceptions
@@ -6,6 +6,9 @@
 package com.bankingsystem.controller.api.v1;
 
 import com.bankingsystem.service.interfaces.IAccountService;
+import com.bankingsystem.service.interfaces.IAsyncTransactionService;
+import com.bankingsystem.service.interfaces.IIdempotencyService;
+import com.bankingsystem.service.statement.StatementGenerator;
 import com.bankingsystem.dto.request.account.CreateAccountRequest;
 import com.bankingsystem.dto.request.account.DepositRequest;
 import com.bankingsystem.dto.request.account.WithdrawRequest;
@@ -13,19 +16,27 @@ import com.bankingsystem.dto.response.account.AccountResponse;
 import com.bankingsystem.dto.response.account.BalanceResponse;
 import com.bankingsystem.dto.response.common.ApiResponse;
 import com.bankingsystem.dto.response.common.PagedResponse;
+import com.bankingsystem.dto.response.transaction.TransactionResultResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -42,6 +53,15 @@ public class AccountController {
     @Autowired
     private IAccountService accountService;
 
+    @Autowired
+    private StatementGenerator statementGenerator;
+
+    @Autowired
+    private IIdempotencyService idempotencyService;
+
+    @Autowired
+    private IAsyncTransactionService asyncTransactionService;
+
     /**
      * Create a new bank account
      */
@@ -117,6 +137,43 @@ public class AccountController {
         return ResponseEntity.ok(ApiResponse.success("Balance retrieved successfully", response));
     }
 
+    /**
+     * Get account balance at a point in time
+     */
+    @GetMapping("/{accountNumber}/balance/as-of")
+    @Operation(summary = "Get historical balance", description = "Retrieves the account balance as of a date and time")
+    @PreAuthorize("(hasRole('CUSTOMER') or hasRole('EMPLOYEE')) and @accountAccess.canAccess(authentication, #accountNumber)")
+    public ResponseEntity<ApiResponse<BigDecimal>> getBalanceAsOf(
+            @PathVariable @NotBlank String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime timestamp) {
+
+        BigDecimal balance = accountService.getBalanceAsOf(accountNumber, timestamp);
+        return ResponseEntity.ok(ApiResponse.success("Balance retrieved successfully", balance));
+    }
+
+    /**
+     * Download account statement
+     */
+    @GetMapping(value = "/{accountNumber}/statement", produces = "text/csv")
+    @Operation(summary = "Download account statement", description = "Streams the account statement for a period as CSV")
+    @PreAuthorize("(hasRole('CUSTOMER') or hasRole('EMPLOYEE')) and @accountAccess.canAccess(authentication, #accountNumber)")
+    public ResponseEntity<StreamingResponseBody> getStatement(
+            @PathVariable @NotBlank String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        // Fail before the body starts streaming, while a proper error response is still possible
+        statementGenerator.validatePeriod(from, to);
+        accountService.getAccountByNumber(accountNumber);
+
+        StreamingResponseBody body = output -> accountService.generateAccountStatement(accountNumber, from, to, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"statement-" + accountNumber + "-" + from + "-" + to + ".csv\"")
+                .body(body);
+    }
+
     /**
      * Get accounts by customer
      */
@@ -145,10 +202,11 @@ public class AccountController {
      */
     @PostMapping("/{accountNumber}/deposit")
     @Operation(summary = "Deposit money", description = "Deposits money into an account")
-    @PreAuthorize("hasRole('CUSTOMER') or hasRole('EMPLOYEE')")
+    @PreAuthorize("(hasRole('CUSTOMER') or hasRole('EMPLOYEE')) and @accountAccess.canAccess(authentication, #accountNumber)")
     public ResponseEntity<ApiResponse<AccountResponse>> deposit(
             @PathVariable @NotBlank String accountNumber,
-            @Valid @RequestBody DepositRequest request) {
+            @Valid @RequestBody DepositRequest request,
+            @RequestHeader(value = IIdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         // TODO: Implement deposit logic
         // TODO: Validate deposit amount and currency
@@ -157,8 +215,10 @@ public class AccountController {
         // TODO: Update account balance
         // TODO: Send deposit confirmation
 
-        AccountResponse response = accountService.processDeposit(accountNumber, request);
-        return ResponseEntity.ok(ApiResponse.success("Deposit processed successfully", response));
+        return idempotencyService.execute(idempotencyKey, "deposit:" + accountNumber, request, AccountResponse.class, () -> {
+            AccountResponse response = accountService.processDeposit(accountNumber, request);
+            return ResponseEntity.ok(ApiResponse.success("Deposit processed successfully", response));
+        });
     }
 
     /**
@@ -166,10 +226,11 @@ public class AccountController {
      */
     @PostMapping("/{accountNumber}/withdraw")
     @Operation(summary = "Withdraw money", description = "Withdraws money from an account")
-    @PreAuthorize("hasRole('CUSTOMER') or hasRole('EMPLOYEE')")
+    @PreAuthorize("(hasRole('CUSTOMER') or hasRole('EMPLOYEE')) and @accountAccess.canAccess(authentication, #accountNumber)")
     public ResponseEntity<ApiResponse<AccountResponse>> withdraw(
             @PathVariable @NotBlank String accountNumber,
-            @Valid @RequestBody WithdrawRequest request) {
+            @Valid @RequestBody WithdrawRequest request,
+            @RequestHeader(value = IIdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         // TODO: Implement withdrawal logic
         // TODO: Validate sufficient balance
@@ -179,8 +240,52 @@ public class AccountController {
         // TODO: Update account balance
         // TODO: Send withdrawal notification
 
-        AccountResponse response = accountService.processWithdrawal(accountNumber, request);
-        return ResponseEntity.ok(ApiResponse.success("Withdrawal processed successfully", response));
+        return idempotencyService.execute(idempotencyKey, "withdraw:" + accountNumber, request, AccountResponse.class, () -> {
+            AccountResponse response = accountService.processWithdrawal(accountNumber, request);
+            return ResponseEntity.ok(ApiResponse.success("Withdrawal processed successfully", response));
+        });
+    }
+
+    /**
+     * Queue a deposit for background processing
+     */
+    @PostMapping("/{accountNumber}/queued/deposit")
+    @Operation(summary = "Queue deposit",
+            description = "Accepts a deposit once it is durable and applies it in the background. " +
+                    "Poll /api/v1/transactions/queued with the returned transaction ID for the outcome.")
+    @PreAuthorize("(hasRole('CUSTOMER') or hasRole('EMPLOYEE')) and @accountAccess.canAccess(authentication, #accountNumber)")
+    public ResponseEntity<ApiResponse<TransactionResultResponse>> queueDeposit(
+            @PathVariable @NotBlank String accountNumber,
+            @Valid @RequestBody DepositRequest request,
+            @RequestHeader(value = IIdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+
+        return idempotencyService.execute(idempotencyKey, "queued-deposit:" + accountNumber, request,
+                TransactionResultResponse.class, () -> {
+                    TransactionResultResponse response = asyncTransactionService.queueDeposit(accountNumber, request);
+                    return ResponseEntity.status(HttpStatus.ACCEPTED)
+                            .body(ApiResponse.success("Deposit queued for processing", response));
+                });
+    }
+
+    /**
+     * Queue a withdrawal for background processing
+     */
+    @PostMapping("/{accountNumber}/queued/withdraw")
+    @Operation(summary = "Queue withdrawal",
+            description = "Accepts a withdrawal once it is durable; funds are checked when it is applied. " +
+                    "Poll /api/v1/transactions/queued with the returned transaction ID for the outcome.")
+    @PreAuthorize("(hasRole('CUSTOMER') or hasRole('EMPLOYEE')) and @accountAccess.canAccess(authentication, #accountNumber)")
+    public ResponseEntity<ApiResponse<TransactionResultResponse>> queueWithdrawal(
+            @PathVariable @NotBlank String accountNumber,
+            @Valid @RequestBody WithdrawRequest request,
+            @RequestHeader(value = IIdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+
+        return idempotencyService.execute(idempotencyKey, "queued-withdraw:" + accountNumber, request,
+                TransactionResultResponse.class, () -> {
+                    TransactionResultResponse response = asyncTransactionService.queueWithdrawal(accountNumber, request);
+                    return ResponseEntity.status(HttpStatus.ACCEPTED)
+                            .body(ApiResponse.success("Withdrawal queued for processing", response));
+                });
     }
 
     /**
@@ -1,21 +1,29 @@
 package com.bankingsystem.controller.api.v1;
 
+import com.bankingsystem.service.interfaces.IAsyncTransactionService;
+import com.bankingsystem.service.interfaces.IIdempotencyService;
 import com.bankingsystem.service.interfaces.ITransactionService;
+import com.bankingsystem.service.interfaces.ITransactionHistoryService;
 import com.bankingsystem.dto.request.transaction.TransferRequest;
 import com.bankingsystem.dto.request.transaction.TransactionSearchRequest;
 import com.bankingsystem.dto.response.transaction.TransactionResponse;
+import com.bankingsystem.dto.response.transaction.TransactionHistoryItem;
 import com.bankingsystem.dto.response.transaction.TransactionResultResponse;
+import com.bankingsystem.dto.response.transaction.QueuedTransactionStatus;
 import com.bankingsystem.dto.response.common.ApiResponse;
-import com.bankingsystem.dto.response.common.PagedResponse;
+import com.bankingsystem.dto.response.common.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 
 /**
  * REST Controller for Transaction operations.
@@ -30,47 +38,52 @@ public class TransactionController {
     @Autowired
     private ITransactionService transactionService;
 
+    @Autowired
+    private ITransactionHistoryService transactionHistoryService;
+
+    @Autowired
+    private IAsyncTransactionService asyncTransactionService;
+
+    @Autowired
+    private IIdempotencyService idempotencyService;
+
     /**
      * Transfer money between accounts
      */
     @PostMapping("/transfer")
-    @Operation(summary = "Transfer money", description = "Transfers money between two accounts")
-    @PreAuthorize("hasRole('CUSTOMER') or hasRole('EMPLOYEE')")
+    @Operation(summary = "Transfer money",
+            description = "Transfers money between two accounts. Retries with the same Idempotency-Key return the original result.")
+    @PreAuthorize("(hasRole('CUSTOMER') or hasRole('EMPLOYEE')) and @accountAccess.canAccess(authentication, #request.fromAccountNumber)")
     public ResponseEntity<ApiResponse<TransactionResultResponse>> transferMoney(
-            @Valid @RequestBody TransferRequest request) {
-
-        // TODO: Implement money transfer logic
-        // TODO: Validate source and destination accounts
-        // TODO: Check transfer limits and restrictions
-        // TODO: Verify sufficient balance
-        // TODO: Apply transfer fees
-        // TODO: Process transfer transaction atomically
-        // TODO: Send transfer notifications
-
-        TransactionResultResponse response = transactionService.processTransfer(request);
-        return ResponseEntity.ok(ApiResponse.success("Transfer completed successfully", response));
+            @Valid @RequestBody TransferRequest request,
+            @RequestHeader(value = IIdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+
+        return idempotencyService.execute(idempotencyKey, "transfer", request, TransactionResultResponse.class, () -> {
+            TransactionResultResponse response = transactionService.processTransfer(request);
+            if (!response.isSuccess()) {
+                // A refusal is final for this request, so it is stored and replayed like a success
+                return ResponseEntity.unprocessableEntity()
+                        .body(ApiResponse.error(response.getMessage(), response.getErrorCode()));
+            }
+            return ResponseEntity.ok(ApiResponse.success("Transfer completed successfully", response));
+        });
     }
 
     /**
-     * Get transaction history
+     * Get transaction history, newest first, one cursor page at a time
      */
     @GetMapping("/account/{accountNumber}")
-    @Operation(summary = "Get transaction history", description = "Retrieves transaction history for an account")
-    @PreAuthorize("hasRole('CUSTOMER') or hasRole('EMPLOYEE')")
-    public ResponseEntity<ApiResponse<PagedResponse<TransactionResponse>>> getTransactionHistory(
+    @Operation(summary = "Get transaction history",
+            description = "Retrieves transaction history for an account. Pass nextCursor from the previous page to continue.")
+    @PreAuthorize("(hasRole('CUSTOMER') or hasRole('EMPLOYEE')) and @accountAccess.canAccess(authentication, #accountNumber)")
+    public ResponseEntity<ApiResponse<CursorPage<TransactionHistoryItem>>> getTransactionHistory(
             @PathVariable @NotBlank String accountNumber,
             @Valid TransactionSearchRequest searchRequest,
-            Pageable pageable) {
-
-        // TODO: Implement transaction history retrieval
-        // TODO: Apply date range filtering
-        // TODO: Apply transaction type filtering
-        // TODO: Apply amount range filtering
-        // TODO: Ensure user authorization for account access
-        // TODO: Apply pagination and sorting
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(200) int limit) {
 
-        PagedResponse<TransactionResponse> response = transactionService.getTransactionHistory(
-                accountNumber, searchRequest, pageable);
+        CursorPage<TransactionHistoryItem> response = transactionHistoryService.getHistory(
+                accountNumber, searchRequest, cursor, limit);
         return ResponseEntity.ok(ApiResponse.success("Transaction history retrieved successfully", response));
     }
 
@@ -91,6 +104,23 @@ public class TransactionController {
         return ResponseEntity.ok(ApiResponse.success("Transaction details retrieved successfully", response));
     }
 
+    /**
+     * Poll queued transactions
+     */
+    @GetMapping("/queued")
+    @Operation(summary = "Get queued transaction status",
+            description = "Retrieves processing status of transactions accepted by the async queue. " +
+                    "Transactions on accounts the caller cannot access are reported as unknown.")
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('EMPLOYEE')")
+    public ResponseEntity<ApiResponse<List<QueuedTransactionStatus>>> getQueuedStatus(
+            @RequestParam @Size(min = 1, max = 100) List<String> ids) {
+
+        List<QueuedTransactionStatus> response = ids.stream()
+                .map(asyncTransactionService::getQueuedStatus)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success("Queued transaction status retrieved successfully", response));
+    }
+
     /**
      * Reverse a transaction
      */
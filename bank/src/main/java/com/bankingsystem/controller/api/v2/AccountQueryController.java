@@ -0,0 +1,91 @@
+// File: src/main/java/com/bankingsystem/controller/api/v2/AccountQueryController.java
+package com.bankingsystem.controller.api.v2;
+
+import com.bankingsystem.dto.response.account.AccountBalanceView;
+import com.bankingsystem.dto.response.common.ApiResponse;
+import com.bankingsystem.dto.response.transaction.TransactionHistoryItem;
+import com.bankingsystem.security.AccountAccessGuard;
+import com.bankingsystem.service.interfaces.IAccountQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for non-blocking account reads.
+ * Handlers return Mono/Flux, so the servlet thread is released while R2DBC waits on the database.
+ * Account ownership is checked inside the returned publisher, so a cache miss in {@link AccountAccessGuard}
+ * runs its JDBC lookup on a bounded-elastic thread rather than on the request thread.
+ */
+@RestController
+@RequestMapping("/api/v2/accounts")
+@Tag(name = "Account Queries (v2)", description = "Non-blocking balance and history reads")
+@Validated
+@CrossOrigin(origins = "${app.cors.allowed-origins}", maxAge = 3600)
+public class AccountQueryController {
+
+    @Autowired
+    private IAccountQueryService accountQueryService;
+
+    @Autowired
+    private AccountAccessGuard accountAccess;
+
+    /**
+     * Get account balance
+     */
+    @GetMapping("/{accountNumber}/balance")
+    @Operation(summary = "Get account balance", description = "Retrieves the current account balance without blocking")
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('EMPLOYEE')")
+    public Mono<ApiResponse<AccountBalanceView>> getBalance(@PathVariable @NotBlank String accountNumber) {
+        return authorize(accountNumber)
+                .then(accountQueryService.getBalance(accountNumber))
+                .map(balance -> ApiResponse.success("Balance retrieved successfully", balance));
+    }
+
+    /**
+     * Stream transaction history as NDJSON or server-sent events, newest first
+     */
+    @GetMapping(value = "/{accountNumber}/transactions",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Stream transaction history",
+            description = "Streams transactions one JSON object per line (application/x-ndjson) or as server-sent events")
+    @PreAuthorize("hasRole('CUSTOMER') or hasRole('EMPLOYEE')")
+    public Flux<TransactionHistoryItem> streamTransactions(
+            @PathVariable @NotBlank String accountNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            // Same bound as banking.transactions.history.max-page-size and the v1 history endpoint
+            @RequestParam(defaultValue = "200") @Min(1) @Max(200) int limit) {
+        return authorize(accountNumber)
+                .thenMany(accountQueryService.streamHistory(accountNumber, fromDate, toDate, limit));
+    }
+
+    // Private helper methods
+
+    /**
+     * Completes empty if the current user may access the account, otherwise with AccessDeniedException.
+     * The authentication is captured here, on the request thread, since the security context is thread-bound.
+     */
+    private Mono<Void> authorize(String accountNumber) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return Mono.fromCallable(() -> accountAccess.canAccess(authentication, accountNumber))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(allowed -> allowed ? Mono.<Void>empty()
+                        : Mono.error(new AccessDeniedException("Not authorized to access account " + accountNumber)));
+    }
+}
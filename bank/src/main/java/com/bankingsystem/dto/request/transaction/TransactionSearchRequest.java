@@ -0,0 +1,69 @@
+// File: src/main/java/com/bankingsystem/dto/request/transaction/TransactionSearchRequest.java
+package com.bankingsystem.dto.request.transaction;
+
+import com.bankingsystem.enums.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for transaction history filters.
+ * All filters are optional; amounts are in the account's currency.
+ */
+@Schema(description = "Filters for transaction history queries")
+public class TransactionSearchRequest {
+
+    @Schema(description = "First day to include", example = "2024-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;
+
+    @Schema(description = "Last day to include", example = "2024-01-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;
+
+    @Schema(description = "Transaction types to include", example = "[\"DEPOSIT\", \"WITHDRAWAL\"]")
+    @Size(max = 20, message = "Cannot filter on more than 20 transaction types")
+    private List<TransactionType> types;
+
+    @Schema(description = "Minimum transaction amount", example = "10.00")
+    @DecimalMin(value = "0.00", message = "Minimum amount cannot be negative")
+    private BigDecimal minAmount;
+
+    @Schema(description = "Maximum transaction amount", example = "5000.00")
+    @DecimalMin(value = "0.00", message = "Maximum amount cannot be negative")
+    private BigDecimal maxAmount;
+
+    // Default constructor
+    public TransactionSearchRequest() {}
+
+    // Getters and Setters
+    public LocalDate getFromDate() { return fromDate; }
+    public void setFromDate(LocalDate fromDate) { this.fromDate = fromDate; }
+
+    public LocalDate getToDate() { return toDate; }
+    public void setToDate(LocalDate toDate) { this.toDate = toDate; }
+
+    public List<TransactionType> getTypes() { return types; }
+    public void setTypes(List<TransactionType> types) { this.types = types; }
+
+    public BigDecimal getMinAmount() { return minAmount; }
+    public void setMinAmount(BigDecimal minAmount) { this.minAmount = minAmount; }
+
+    public BigDecimal getMaxAmount() { return maxAmount; }
+    public void setMaxAmount(BigDecimal maxAmount) { this.maxAmount = maxAmount; }
+
+    @Override
+    public String toString() {
+        return "TransactionSearchRequest{" +
+                "fromDate=" + fromDate +
+                ", toDate=" + toDate +
+                ", types=" + types +
+                ", minAmount=" + minAmount +
+                ", maxAmount=" + maxAmount +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+// File: src/main/java/com/bankingsystem/dto/response/account/AccountBalanceView.java
+package com.bankingsystem.dto.response.account;
+
+import com.bankingsystem.enums.AccountStatus;
+import com.bankingsystem.enums.Currency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the non-blocking balance endpoint.
+ * Read straight from the accounts table, without loading the Account entity.
+ */
+@Schema(description = "Current account balance")
+public class AccountBalanceView {
+
+    @Schema(description = "Account number", example = "1234567890")
+    private String accountNumber;
+
+    @Schema(description = "Current balance", example = "1500.00")
+    private BigDecimal balance;
+
+    @Schema(description = "Currency", example = "USD")
+    private Currency currency;
+
+    @Schema(description = "Account status", example = "ACTIVE")
+    private AccountStatus status;
+
+    @Schema(description = "Time of the last posted transaction", example = "2024-01-10T14:30:00")
+    private LocalDateTime lastTransactionDate;
+
+    // Default constructor
+    public AccountBalanceView() {}
+
+    // Getters and Setters
+    public String getAccountNumber() { return accountNumber; }
+    public void setAccountNumber(String accountNumber) { this.accountNumber = accountNumber; }
+
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+
+    public Currency getCurrency() { return currency; }
+    public void setCurrency(Currency currency) { this.currency = currency; }
+
+    public AccountStatus getStatus() { return status; }
+    public void setStatus(AccountStatus status) { this.status = status; }
+
+    public LocalDateTime getLastTransactionDate() { return lastTransactionDate; }
+    public void setLastTransactionDate(LocalDateTime lastTransactionDate) { this.lastTransactionDate = lastTransactionDate; }
+
+    @Override
+    public String toString() {
+        return "AccountBalanceView{" +
+                "accountNumber='" + accountNumber + '\'' +
+                ", balance=" + balance +
+                ", currency=" + currency +
+                ", status=" + status +
+                '}';
+    }
+}
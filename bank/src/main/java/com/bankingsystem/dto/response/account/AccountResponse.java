@@ -181,6 +181,18 @@ public class AccountResponse {
     public String getCustomerName() { return customerName; }
     public void setCustomerName(String customerName) { this.customerName = customerName; }
 
+    public BigDecimal getInterestRate() { return interestRate; }
+    public void setInterestRate(BigDecimal interestRate) { this.interestRate = interestRate; }
+
+    public BigDecimal getMinimumBalance() { return minimumBalance; }
+    public void setMinimumBalance(BigDecimal minimumBalance) { this.minimumBalance = minimumBalance; }
+
+    public BigDecimal getDailyLimit() { return dailyLimit; }
+    public void setDailyLimit(BigDecimal dailyLimit) { this.dailyLimit = dailyLimit; }
+
+    public BigDecimal getMonthlyFee() { return monthlyFee; }
+    public void setMonthlyFee(BigDecimal monthlyFee) { this.monthlyFee = monthlyFee; }
+
     @Override
     public String toString() {
         return "AccountResponse{" +
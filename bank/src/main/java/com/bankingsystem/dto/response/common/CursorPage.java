@@ -0,0 +1,50 @@
+// File: src/main/java/com/bankingsystem/dto/response/common/CursorPage.java
+package com.bankingsystem.dto.response.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated result.
+ * Pass {@code nextCursor} back to fetch the following page; it is null on the last page.
+ */
+@Schema(description = "Cursor-paginated result page")
+public class CursorPage<T> {
+
+    @Schema(description = "Items on this page")
+    private List<T> items;
+
+    @Schema(description = "Opaque cursor for the next page (absent on the last page)", example = "MjAyNC0wMS0xMFQxNDozMDowMHw...")
+    private String nextCursor;
+
+    @Schema(description = "Whether more items follow this page", example = "true")
+    private boolean hasMore;
+
+    // Default constructor
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+
+    @Override
+    public String toString() {
+        return "CursorPage{" +
+                "items=" + (items == null ? 0 : items.size()) +
+                ", nextCursor='" + nextCursor + '\'' +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
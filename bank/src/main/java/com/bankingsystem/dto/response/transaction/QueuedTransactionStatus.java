@@ -0,0 +1,49 @@
+// File: src/main/java/com/bankingsystem/dto/response/transaction/QueuedTransactionStatus.java
+package com.bankingsystem.dto.response.transaction;
+
+import com.bankingsystem.enums.TransactionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for polling the state of a queued transaction.
+ */
+@Schema(description = "Processing state of a transaction accepted by the async queue")
+public class QueuedTransactionStatus {
+
+    @Schema(description = "Transaction identifier returned when the request was queued", example = "TXN-3f2a...")
+    private String transactionId;
+
+    @Schema(description = "Current processing status", example = "COMPLETED")
+    private TransactionStatus status;
+
+    @Schema(description = "Failure reason (present only when status is FAILED)")
+    private String message;
+
+    // Default constructor
+    public QueuedTransactionStatus() {}
+
+    public QueuedTransactionStatus(String transactionId, TransactionStatus status, String message) {
+        this.transactionId = transactionId;
+        this.status = status;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public String getTransactionId() { return transactionId; }
+    public void setTransactionId(String transactionId) { this.transactionId = transactionId; }
+
+    public TransactionStatus getStatus() { return status; }
+    public void setStatus(TransactionStatus status) { this.status = status; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    @Override
+    public String toString() {
+        return "QueuedTransactionStatus{" +
+                "transactionId='" + transactionId + '\'' +
+                ", status=" + status +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+// File: src/main/java/com/bankingsystem/dto/response/transaction/TransactionHistoryItem.java
+package com.bankingsystem.dto.response.transaction;
+
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one row of transaction history.
+ * Read straight from the transactions table, without loading the Transaction entity.
+ */
+@Schema(description = "Transaction history entry")
+public class TransactionHistoryItem {
+
+    @Schema(description = "Transaction identifier", example = "TXN-3f2a...")
+    private String transactionId;
+
+    @Schema(description = "Transaction type", example = "DEPOSIT")
+    private TransactionType transactionType;
+
+    @Schema(description = "Transaction amount", example = "250.00")
+    private BigDecimal amount;
+
+    @Schema(description = "Fees charged", example = "0.00")
+    private BigDecimal fees;
+
+    @Schema(description = "Currency", example = "USD")
+    private Currency currency;
+
+    @Schema(description = "Time the transaction was posted", example = "2024-01-10T14:30:00")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "Description or memo", example = "Salary")
+    private String description;
+
+    @Schema(description = "Processing status", example = "COMPLETED")
+    private TransactionStatus status;
+
+    // Default constructor
+    public TransactionHistoryItem() {}
+
+    // Getters and Setters
+    public String getTransactionId() { return transactionId; }
+    public void setTransactionId(String transactionId) { this.transactionId = transactionId; }
+
+    public TransactionType getTransactionType() { return transactionType; }
+    public void setTransactionType(TransactionType transactionType) { this.transactionType = transactionType; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public BigDecimal getFees() { return fees; }
+    public void setFees(BigDecimal fees) { this.fees = fees; }
+
+    public Currency getCurrency() { return currency; }
+    public void setCurrency(Currency currency) { this.currency = currency; }
+
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public TransactionStatus getStatus() { return status; }
+    public void setStatus(TransactionStatus status) { this.status = status; }
+
+    @Override
+    public String toString() {
+        return "TransactionHistoryItem{" +
+                "transactionId='" + transactionId + '\'' +
+                ", transactionType=" + transactionType +
+                ", amount=" + amount +
+                ", currency=" + currency +
+                ", timestamp=" + timestamp +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -8,6 +8,8 @@ package com.bankingsystem.entity.account;
 import com.bankingsystem.entity.base.AuditableEntity;
 import com.bankingsystem.entity.person.Customer;
 import com.bankingsystem.entity.transaction.Transaction;
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.entity.valueobject.MoneyConverter;
 import com.bankingsystem.enums.AccountStatus;
 import com.bankingsystem.enums.Currency;
 import com.bankingsystem.service.interfaces.IInterestCalculator;
@@ -29,8 +31,12 @@ public abstract class Account extends AuditableEntity {
     @Column(name = "account_number", unique = true, nullable = false)
     protected String accountNumber;
 
-    @Column(name = "balance", nullable = false)
-    protected Double balance;
+    // Balance changes are posted through IBalanceLedger and written with relative SQL updates,
+    // so entity saves must never write back a stale balance
+    // Stored as minor units (BIGINT); the currency comes from the currency column
+    @Convert(converter = MoneyConverter.class)
+    @Column(name = "balance", nullable = false, updatable = false)
+    protected Money balance;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "currency")
@@ -70,4 +76,13 @@ public abstract class Account extends AuditableEntity {
     // TODO: Implement abstract close() method
     // TODO: Implement abstract validateTransaction() method
     // TODO: Implement all getter and setter methods
+
+    public Money getBalance() {
+        return balance == null ? null : balance.withCurrency(currency);
+    }
+
+    public void setBalance(Money balance) { this.balance = balance; }
+
+    public Currency getCurrency() { return currency; }
+    public void setCurrency(Currency currency) { this.currency = currency; }
 }
\ No newline at end of file
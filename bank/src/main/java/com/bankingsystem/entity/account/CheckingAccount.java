@@ -1,6 +1,8 @@
 // File: src/main/java/com/bankingsystem/entity/account/CheckingAccount.java
 package com.bankingsystem.entity.account;
 
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.entity.valueobject.MoneyConverter;
 import jakarta.persistence.*;
 import java.util.List;
 
@@ -9,11 +11,13 @@ import java.util.List;
 @DiscriminatorValue("CHECKING")
 public class CheckingAccount extends Account {
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "overdraft_limit")
-    private Double overdraftLimit;
+    private Money overdraftLimit;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "monthly_fee")
-    private Double monthlyFee;
+    private Money monthlyFee;
 
     @Column(name = "free_transactions_limit")
     private Integer freeTransactionsLimit;
@@ -25,4 +29,16 @@ public class CheckingAccount extends Account {
     // TODO: Override close() method
     // TODO: Override validateTransaction() method
     // TODO: Implement all getter and setter methods
+
+    public Money getOverdraftLimit() {
+        return overdraftLimit == null ? null : overdraftLimit.withCurrency(currency);
+    }
+
+    public void setOverdraftLimit(Money overdraftLimit) { this.overdraftLimit = overdraftLimit; }
+
+    public Money getMonthlyFee() {
+        return monthlyFee == null ? null : monthlyFee.withCurrency(currency);
+    }
+
+    public void setMonthlyFee(Money monthlyFee) { this.monthlyFee = monthlyFee; }
 }
\ No newline at end of file
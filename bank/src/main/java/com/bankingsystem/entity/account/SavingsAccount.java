@@ -1,6 +1,8 @@
 // File: src/main/java/com/bankingsystem/entity/account/SavingsAccount.java
 package com.bankingsystem.entity.account;
 
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.entity.valueobject.MoneyConverter;
 import jakarta.persistence.*;
 
 @Entity
@@ -11,8 +13,9 @@ public class SavingsAccount extends Account {
     @Column(name = "interest_rate")
     private Double interestRate;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "minimum_balance")
-    private Double minimumBalance;
+    private Money minimumBalance;
 
     @Column(name = "withdrawal_limit")
     private Integer withdrawalLimit;
@@ -27,4 +30,13 @@ public class SavingsAccount extends Account {
     // TODO: Override close() method with minimum balance check
     // TODO: Override validateTransaction() method
     // TODO: Implement all getter and setter methods
+
+    public Double getInterestRate() { return interestRate; }
+    public void setInterestRate(Double interestRate) { this.interestRate = interestRate; }
+
+    public Money getMinimumBalance() {
+        return minimumBalance == null ? null : minimumBalance.withCurrency(currency);
+    }
+
+    public void setMinimumBalance(Money minimumBalance) { this.minimumBalance = minimumBalance; }
 }
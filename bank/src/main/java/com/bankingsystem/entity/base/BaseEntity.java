@@ -16,13 +16,14 @@ import java.util.UUID;
 /**
  * Base entity class with common fields for all entities.
  * Provides primary key, versioning, and audit timestamps.
+ * Keys are time-ordered UUIDs so inserts stay at the end of the primary key index.
  */
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
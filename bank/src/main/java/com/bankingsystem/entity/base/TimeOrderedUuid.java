@@ -0,0 +1,19 @@
+// File: src/main/java/com/bankingsystem/entity/base/TimeOrderedUuid.java
+package com.bankingsystem.entity.base;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates the annotated identifier as a time-ordered UUIDv7 (see {@link com.bankingsystem.util.UuidV7}).
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedUuid {}
@@ -2,11 +2,13 @@
 package com.bankingsystem.entity.security;
 
 import com.bankingsystem.entity.base.BaseEntity;
+import com.bankingsystem.security.AuthorityCacheInvalidator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import java.util.Set;
 
 @Entity
+@EntityListeners(AuthorityCacheInvalidator.class)
 @Table(name = "roles")
 public class Role extends BaseEntity {
 
@@ -7,12 +7,14 @@ package com.bankingsystem.entity.security;
 
 import com.bankingsystem.entity.base.AuditableEntity;
 import com.bankingsystem.entity.person.Person;
+import com.bankingsystem.security.AuthorityCacheInvalidator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
+@EntityListeners(AuthorityCacheInvalidator.class)
 @Table(name = "users")
 public class User extends AuditableEntity {
 
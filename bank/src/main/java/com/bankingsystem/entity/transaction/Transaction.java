@@ -8,6 +8,8 @@ package com.bankingsystem.entity.transaction;
 import com.bankingsystem.entity.base.AuditableEntity;
 import com.bankingsystem.entity.account.Account;
 import com.bankingsystem.entity.person.BankEmployee;
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.entity.valueobject.MoneyConverter;
 import com.bankingsystem.enums.TransactionType;
 import com.bankingsystem.enums.TransactionStatus;
 import com.bankingsystem.enums.Currency;
@@ -27,8 +29,10 @@ public abstract class Transaction extends AuditableEntity {
     @Column(name = "transaction_type")
     protected TransactionType transactionType;
 
+    // Stored as minor units (BIGINT); the currency comes from the currency column
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "amount", nullable = false)
-    protected Double amount;
+    protected Money amount;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "currency")
@@ -44,8 +48,9 @@ public abstract class Transaction extends AuditableEntity {
     @Column(name = "status")
     protected TransactionStatus status;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(name = "fees")
-    protected Double fees;
+    protected Money fees;
 
     @Column(name = "authorization_code")
     protected String authorizationCode;
@@ -64,4 +69,19 @@ public abstract class Transaction extends AuditableEntity {
     // TODO: Implement abstract calculateFees() method
     // TODO: Implement getAuditTrail() method
     // TODO: Implement all getter and setter methods
+
+    public Money getAmount() {
+        return amount == null ? null : amount.withCurrency(currency);
+    }
+
+    public void setAmount(Money amount) { this.amount = amount; }
+
+    public Money getFees() {
+        return fees == null ? null : fees.withCurrency(currency);
+    }
+
+    public void setFees(Money fees) { this.fees = fees; }
+
+    public Currency getCurrency() { return currency; }
+    public void setCurrency(Currency currency) { this.currency = currency; }
 }
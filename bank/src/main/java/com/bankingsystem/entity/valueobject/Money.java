@@ -2,36 +2,221 @@
 package com.bankingsystem.entity.valueobject;
 
 import com.bankingsystem.enums.Currency;
-import jakarta.persistence.Embeddable;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
-@Embeddable
-public class Money {
+/**
+ * Immutable monetary amount held as a count of minor units (cents, pence, yen) in a {@code long}.
+ *
+ * Arithmetic stays in primitive longs and throws {@link ArithmeticException} on overflow instead of
+ * wrapping. {@link BigDecimal} is only used at the API boundary ({@link #of}, {@link #toBigDecimal})
+ * and as the fallback when a fixed-point multiplication does not fit in 64 bits.
+ * Persisted as a BIGINT through {@link MoneyConverter}.
+ */
+public final class Money implements Comparable<Money>, Serializable {
 
-    private BigDecimal amount;
+    private static final long serialVersionUID = 1L;
 
-    @Enumerated(EnumType.STRING)
-    private Currency currency;
+    private static final Currency[] CURRENCIES = Currency.values();
 
-    public Money() {
-        this.amount = BigDecimal.ZERO;
-        this.currency = Currency.USD;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private static final Money[] ZEROS = new Money[CURRENCIES.length];
+
+    static {
+        for (Currency currency : CURRENCIES) {
+            ZEROS[currency.ordinal()] = new Money(0L, (byte) currency.ordinal());
+        }
+    }
+
+    private final long minorUnits;
+    private final byte currencyOrdinal;
+
+    private Money(long minorUnits, byte currencyOrdinal) {
+        this.minorUnits = minorUnits;
+        this.currencyOrdinal = currencyOrdinal;
+    }
+
+    // Factory methods
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        if (minorUnits == 0L) {
+            return zero(currency);
+        }
+        return new Money(minorUnits, (byte) currency.ordinal());
+    }
+
+    /**
+     * Create from a decimal amount, rounding half-up to the currency's minor unit
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        return ofMinor(toMinorUnits(amount, currency), currency);
+    }
+
+    public static Money zero(Currency currency) {
+        return ZEROS[currency.ordinal()];
+    }
+
+    /**
+     * Convert a decimal amount to minor units of the given currency
+     * @throws ArithmeticException if the amount does not fit in a long
+     */
+    public static long toMinorUnits(BigDecimal amount, Currency currency) {
+        return amount.setScale(currency.getMinorDigits(), RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    /**
+     * Convert minor units of the given currency to a decimal amount
+     */
+    public static BigDecimal toBigDecimal(long minorUnits, Currency currency) {
+        return BigDecimal.valueOf(minorUnits, currency.getMinorDigits());
+    }
+
+    // Accessors
+
+    public long getMinorUnits() { return minorUnits; }
+
+    public Currency getCurrency() { return CURRENCIES[currencyOrdinal]; }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(minorUnits, getCurrency());
+    }
+
+    /**
+     * Same minor units tagged with another currency. This is not an FX conversion; it is used to
+     * restore the currency of a value read from a column that only stores the minor units.
+     */
+    public Money withCurrency(Currency currency) {
+        if (currency == null || currency.ordinal() == currencyOrdinal) {
+            return this;
+        }
+        return ofMinor(minorUnits, currency);
+    }
+
+    // Arithmetic
+
+    public Money add(Money other) {
+        requireSameCurrency(other);
+        if (other.minorUnits == 0L) {
+            return this;
+        }
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currencyOrdinal);
     }
 
-    public Money(BigDecimal amount, Currency currency) {
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
-        this.currency = currency;
+    public Money subtract(Money other) {
+        requireSameCurrency(other);
+        if (other.minorUnits == 0L) {
+            return this;
+        }
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currencyOrdinal);
     }
 
-    // TODO: Implement add() method
-    // TODO: Implement subtract() method
-    // TODO: Implement multiply() method
-    // TODO: Implement divide() method
-    // TODO: Implement isPositive() method
-    // TODO: Implement isNegative() method
-    // TODO: Implement convertTo() method for currency conversion
-    // TODO: Implement equals() and hashCode() methods
+    public Money negate() {
+        return minorUnits == 0L ? this : new Money(Math.negateExact(minorUnits), currencyOrdinal);
+    }
+
+    public Money multiply(long multiplier) {
+        return ofMinor(Math.multiplyExact(minorUnits, multiplier), getCurrency());
+    }
+
+    /**
+     * Multiply by a fixed-point factor {@code factor / 10^factorScale}, rounding half-up.
+     * Exact 128-bit product, so no allocation unless the intermediate does not fit in a long.
+     */
+    public Money multiply(long factor, int factorScale) {
+        if (factorScale < 0 || factorScale >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("Unsupported factor scale: " + factorScale);
+        }
+        long high = Math.multiplyHigh(minorUnits, factor);
+        long low = minorUnits * factor;
+        if (high != (low >> 63)) {
+            return multiply(BigDecimal.valueOf(factor, factorScale));
+        }
+
+        long divisor = POWERS_OF_TEN[factorScale];
+        long quotient = low / divisor;
+        long remainder = low % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(low);
+        }
+        return ofMinor(quotient, getCurrency());
+    }
+
+    /**
+     * Multiply by an arbitrary decimal factor, rounding half-up to the minor unit
+     */
+    public Money multiply(BigDecimal factor) {
+        long result = BigDecimal.valueOf(minorUnits)
+                .multiply(factor)
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+        return ofMinor(result, getCurrency());
+    }
+
+    // Predicates
+
+    public boolean isZero() { return minorUnits == 0L; }
+    public boolean isPositive() { return minorUnits > 0L; }
+    public boolean isNegative() { return minorUnits < 0L; }
+
+    public boolean isLessThan(Money other) {
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * Convert to another currency at the given rate, rounding half-up to the target's minor unit.
+     * The rate is supplied by the caller; this class does not look up exchange rates.
+     * @param target Currency to convert to
+     * @param rate Units of {@code target} per unit of this currency
+     */
+    public Money convertTo(Currency target, BigDecimal rate) {
+        if (rate == null || rate.signum() <= 0) {
+            throw new IllegalArgumentException("Exchange rate must be positive: " + rate);
+        }
+        if (target.ordinal() == currencyOrdinal && rate.compareTo(BigDecimal.ONE) == 0) {
+            return this;
+        }
+        return of(toBigDecimal().multiply(rate), target);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money)) return false;
+        Money money = (Money) o;
+        return minorUnits == money.minorUnits && currencyOrdinal == money.currencyOrdinal;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currencyOrdinal;
+    }
+
+    @Override
+    public String toString() {
+        return getCurrency().name() + " " + toBigDecimal().toPlainString();
+    }
+
+    // Private helper methods
+
+    private void requireSameCurrency(Money other) {
+        if (other.currencyOrdinal != currencyOrdinal) {
+            throw new IllegalArgumentException(
+                    "Currency mismatch: " + getCurrency() + " vs " + other.getCurrency());
+        }
+    }
 }
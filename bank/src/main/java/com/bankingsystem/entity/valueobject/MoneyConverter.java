@@ -0,0 +1,26 @@
+// File: src/main/java/com/bankingsystem/entity/valueobject/MoneyConverter.java
+package com.bankingsystem.entity.valueobject;
+
+import com.bankingsystem.enums.Currency;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link Money} as its minor units in a BIGINT column.
+ *
+ * The column carries no currency, so values are read back tagged as {@link Currency#USD};
+ * entity getters re-tag them with the owning row's currency via {@link Money#withCurrency}.
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.getMinorUnits();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long minorUnits) {
+        return minorUnits == null ? null : Money.ofMinor(minorUnits, Currency.USD);
+    }
+}
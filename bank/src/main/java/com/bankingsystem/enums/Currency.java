@@ -2,21 +2,28 @@
 package com.bankingsystem.enums;
 
 public enum Currency {
-    USD("US Dollar", "$"),
-    EUR("Euro", "€"),
-    GBP("British Pound", "£"),
-    CAD("Canadian Dollar", "C$"),
-    AUD("Australian Dollar", "A$"),
-    JPY("Japanese Yen", "¥");
+    USD("US Dollar", "$", 2),
+    EUR("Euro", "€", 2),
+    GBP("British Pound", "£", 2),
+    CAD("Canadian Dollar", "C$", 2),
+    AUD("Australian Dollar", "A$", 2),
+    JPY("Japanese Yen", "¥", 0);
 
     private final String displayName;
     private final String symbol;
+    private final int minorDigits;
 
-    Currency(String displayName, String symbol) {
+    Currency(String displayName, String symbol, int minorDigits) {
         this.displayName = displayName;
         this.symbol = symbol;
+        this.minorDigits = minorDigits;
     }
 
     public String getDisplayName() { return displayName; }
     public String getSymbol() { return symbol; }
+
+    /**
+     * Number of decimal digits of the minor unit (2 for cents, 0 for yen)
+     */
+    public int getMinorDigits() { return minorDigits; }
 }
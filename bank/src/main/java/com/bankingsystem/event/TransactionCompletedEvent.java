@@ -0,0 +1,22 @@
+// File: src/main/java/com/bankingsystem/event/TransactionCompletedEvent.java
+package com.bankingsystem.event;
+
+import com.bankingsystem.enums.ContactMethod;
+import com.bankingsystem.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when a deposit or withdrawal has been posted, for customer notifications.
+ * Carries plain values rather than entities, since it is handled after the transaction has committed.
+ */
+public record TransactionCompletedEvent(UUID recipientId,
+                                        String email,
+                                        String phoneNumber,
+                                        ContactMethod preferredContact,
+                                        TransactionType type,
+                                        BigDecimal amount,
+                                        LocalDateTime occurredAt) {
+}
@@ -0,0 +1,32 @@
+// File: src/main/java/com/bankingsystem/exception/IdempotencyConflictException.java
+package com.bankingsystem.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key cannot be honoured: it was already used with a different
+ * request body (422 Unprocessable Entity), or the original request is still running (409 Conflict).
+ */
+public class IdempotencyConflictException extends BankingException {
+
+    private final boolean inProgress;
+
+    private IdempotencyConflictException(String errorCode, String message, String userMessage, boolean inProgress) {
+        super(errorCode, message, userMessage);
+        this.inProgress = inProgress;
+    }
+
+    public static IdempotencyConflictException reused(String key) {
+        return new IdempotencyConflictException("IDEMPOTENCY_KEY_REUSED",
+                "Idempotency key " + key + " was already used with a different request",
+                "This Idempotency-Key was already used for a different request.", false);
+    }
+
+    public static IdempotencyConflictException inProgress(String key) {
+        return new IdempotencyConflictException("IDEMPOTENCY_KEY_IN_PROGRESS",
+                "Request with idempotency key " + key + " is still being processed",
+                "The original request is still being processed. Please retry shortly.", true);
+    }
+
+    public boolean isInProgress() {
+        return inProgress;
+    }
+}
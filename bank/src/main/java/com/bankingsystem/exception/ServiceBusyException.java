@@ -0,0 +1,20 @@
+// File: src/main/java/com/bankingsystem/exception/ServiceBusyException.java
+package com.bankingsystem.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request is shed instead of queued.
+ * Mapped to 503 Service Unavailable with a Retry-After header.
+ */
+public class ServiceBusyException extends BankingException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String errorCode, String message, long retryAfterSeconds) {
+        super(errorCode, message, "The service is busy. Please retry shortly.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,25 @@
+// File: src/main/java/com/bankingsystem/listener/TransactionEventListener.java
+package com.bankingsystem.listener;
+
+import com.bankingsystem.async.NotificationDispatcher;
+import com.bankingsystem.event.TransactionCompletedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Hands transaction notifications to the dispatcher once the posting transaction has committed,
+ * so rolled-back postings never notify and slow delivery never holds database locks.
+ */
+@Component
+public class TransactionEventListener {
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionCompleted(TransactionCompletedEvent event) {
+        notificationDispatcher.enqueue(event);
+    }
+}
@@ -0,0 +1,32 @@
+// File: src/main/java/com/bankingsystem/monitoring/QueryCountEndpoint.java
+package com.bankingsystem.monitoring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint {@code /actuator/querycounts}: Hibernate statements per endpoint
+ * (requests, total, mean and max per request). DELETE resets the totals.
+ */
+@Component
+@Endpoint(id = "querycounts")
+public class QueryCountEndpoint {
+
+    @Autowired
+    private QueryCountRegistry registry;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> queryCounts() {
+        return registry.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        registry.reset();
+    }
+}
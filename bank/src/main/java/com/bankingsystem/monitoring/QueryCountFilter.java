@@ -0,0 +1,36 @@
+// File: src/main/java/com/bankingsystem/monitoring/QueryCountFilter.java
+package com.bankingsystem.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a statement-counting scope around each request and records it under the matched
+ * route pattern (e.g. {@code GET /api/v1/accounts/{accountNumber}}), so IDs do not explode the key space.
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private QueryCountRegistry registry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountRegistry.Scope scope = registry.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            registry.end(scope, request.getMethod() + " " + (pattern == null ? "UNMAPPED" : pattern));
+        }
+    }
+}
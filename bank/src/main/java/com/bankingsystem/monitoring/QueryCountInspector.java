@@ -0,0 +1,33 @@
+// File: src/main/java/com/bankingsystem/monitoring/QueryCountInspector.java
+package com.bankingsystem.monitoring;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Hibernate statement inspector feeding {@link QueryCountRegistry}.
+ * Registers itself with the session factory, so it can be a Spring bean rather than a class name
+ * in the JPA properties.
+ */
+@Component
+public class QueryCountInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    @Autowired
+    private QueryCountRegistry registry;
+
+    @Override
+    public String inspect(String sql) {
+        registry.onStatement(sql);
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
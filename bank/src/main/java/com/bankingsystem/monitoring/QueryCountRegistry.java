@@ -0,0 +1,136 @@
+// File: src/main/java/com/bankingsystem/monitoring/QueryCountRegistry.java
+package com.bankingsystem.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL statements Hibernate issues per HTTP request and aggregates them per endpoint.
+ *
+ * {@link QueryCountFilter} opens a scope around each request and {@link QueryCountInspector} counts
+ * into it. A request issuing more than {@code max-statements-per-request} statements is logged, or
+ * fails with an {@link IllegalStateException} when {@code fail-on-exceed} is set, which turns N+1
+ * regressions into test failures. Only Hibernate statements are counted; JdbcTemplate paths are not.
+ */
+@Component
+public class QueryCountRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountRegistry.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${banking.query-guard.max-statements-per-request:20}")
+    private int maxStatementsPerRequest;
+
+    @Value("${banking.query-guard.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Statement count of one request
+     */
+    static final class Scope {
+        private int statements;
+        private boolean reported;
+
+        int statements() { return statements; }
+    }
+
+    private static final class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+        private final DistributionSummary summary;
+
+        EndpointStats(DistributionSummary summary) {
+            this.summary = summary;
+        }
+    }
+
+    Scope begin() {
+        Scope scope = new Scope();
+        current.set(scope);
+        return scope;
+    }
+
+    void end(Scope scope, String endpoint) {
+        current.remove();
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, key -> new EndpointStats(
+                DistributionSummary.builder("banking.http.db.statements")
+                        .description("Hibernate statements per request")
+                        .tag("endpoint", key)
+                        .register(meterRegistry)));
+        endpointStats.requests.increment();
+        endpointStats.statements.add(scope.statements);
+        endpointStats.max.accumulateAndGet(scope.statements, Math::max);
+        endpointStats.summary.record(scope.statements);
+    }
+
+    /**
+     * Called for every statement Hibernate prepares
+     */
+    void onStatement(String sql) {
+        Scope scope = current.get();
+        if (scope == null) {
+            return;
+        }
+        scope.statements++;
+        if (scope.statements <= maxStatementsPerRequest) {
+            return;
+        }
+        if (failOnExceed) {
+            throw new IllegalStateException("Request issued more than " + maxStatementsPerRequest
+                    + " SQL statements; latest: " + sql);
+        }
+        if (!scope.reported) {
+            scope.reported = true;
+            logger.warn("Request exceeded {} SQL statements, likely an N+1 load; latest: {}",
+                    maxStatementsPerRequest, sql);
+        }
+    }
+
+    /**
+     * Per-endpoint totals, sorted by endpoint
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        stats.forEach((endpoint, endpointStats) -> {
+            long requests = endpointStats.requests.sum();
+            long statements = endpointStats.statements.sum();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", requests);
+            row.put("statements", statements);
+            row.put("mean", requests == 0 ? 0.0 : (double) statements / requests);
+            row.put("max", endpointStats.max.get());
+            result.put(endpoint, row);
+        });
+        return result;
+    }
+
+    /**
+     * Clear the totals; the Micrometer summaries keep their own history
+     */
+    public void reset() {
+        stats.values().forEach(endpointStats -> {
+            endpointStats.requests.reset();
+            endpointStats.statements.reset();
+            endpointStats.max.set(0);
+        });
+    }
+}
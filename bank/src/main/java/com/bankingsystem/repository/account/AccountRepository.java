@@ -3,7 +3,11 @@ package com.bankingsystem.repository.account;
 
 import com.bankingsystem.entity.account.Account;
 import com.bankingsystem.entity.person.Customer;
+import com.bankingsystem.entity.valueobject.Money;
 import com.bankingsystem.enums.AccountStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,11 +30,25 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
      */
     Optional<Account> findByAccountNumber(String accountNumber);
 
+    /**
+     * Find account by account number with its owner loaded in the same query,
+     * for callers that map to AccountResponse (customer ID and name)
+     */
+    @EntityGraph(attributePaths = "owner")
+    Optional<Account> findWithOwnerByAccountNumber(String accountNumber);
+
     /**
      * Find all accounts owned by a customer
      */
     List<Account> findByOwner(Customer owner);
 
+    /**
+     * Find one page of a customer's accounts, owner fetched with each row so mapping a page
+     * does not issue one owner query per account
+     */
+    @EntityGraph(attributePaths = "owner")
+    Page<Account> findByOwner(Customer owner, Pageable pageable);
+
     /**
      * Find all accounts with specific status
      */
@@ -41,7 +59,7 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
      * Custom query using @Query annotation
      */
     @Query("SELECT a FROM Account a WHERE a.balance < :amount")
-    List<Account> findAccountsWithLowBalance(@Param("amount") Double amount);
+    List<Account> findAccountsWithLowBalance(@Param("amount") Money amount);
 
     /**
      * Find active accounts for a customer
@@ -0,0 +1,121 @@
+// File: src/main/java/com/bankingsystem/repository/account/DailyBalanceSnapshotRepository.java
+package com.bankingsystem.repository.account;
+
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Closing balance per account per day, kept in daily_balance_snapshot.
+ *
+ * Every posting path calls {@link #recordClosing} in the same database transaction as its balance UPDATE,
+ * after the account row is locked, with the date of the timestamp it gives its COMPLETED transactions rows.
+ * That timestamp is read under the lock, so per account it follows lock order, and
+ * {@code closing(D) = closing(D-1) + net of COMPLETED rows timestamped on D} holds across midnight. A day without
+ * postings has no row, which means its balance equals the previous snapshot. {@link #balanceAsOf} therefore needs
+ * one snapshot lookup plus at most one day of transactions.
+ */
+@Repository
+public class DailyBalanceSnapshotRepository {
+
+    private static final String UPSERT_BY_ID_SQL =
+            "INSERT INTO daily_balance_snapshot (account_id, snapshot_date, closing_balance) " +
+            "SELECT id, :date, balance FROM accounts WHERE id IN (:ids) " +
+            "ON CONFLICT (account_id, snapshot_date) DO UPDATE SET closing_balance = EXCLUDED.closing_balance";
+
+    private static final String PREVIOUS_SNAPSHOT_SQL =
+            "SELECT snapshot_date, closing_balance FROM daily_balance_snapshot " +
+            "WHERE account_id = :accountId AND snapshot_date < :date ORDER BY snapshot_date DESC LIMIT 1";
+
+    private static final String NEXT_SNAPSHOT_SQL =
+            "SELECT snapshot_date, closing_balance FROM daily_balance_snapshot " +
+            "WHERE account_id = :accountId AND snapshot_date >= :date ORDER BY snapshot_date LIMIT 1";
+
+    private static final String CURRENT_BALANCE_SQL = "SELECT balance FROM accounts WHERE id = :accountId";
+
+    private static final String NET_CHANGE_SQL =
+            "SELECT COALESCE(SUM(CASE WHEN transaction_type IN (:credits) THEN amount " +
+            "WHEN transaction_type IN (:debits) THEN -(amount + COALESCE(fees, 0)) ELSE 0 END), 0) FROM transactions " +
+            "WHERE account_id = :accountId AND status = :status AND timestamp >= :from AND timestamp < :to";
+
+    private static final List<String> CREDIT_TYPES = Arrays.stream(TransactionType.values())
+            .filter(TransactionType::increasesBalance).map(Enum::name).toList();
+
+    private static final List<String> DEBIT_TYPES = Arrays.stream(TransactionType.values())
+            .filter(TransactionType::decreasesBalance).map(Enum::name).toList();
+
+    // Upper bound for "everything since" when no snapshot follows the requested time
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private record Snapshot(LocalDate date, long closingMinor) {}
+
+    /**
+     * Record the current balance of each account as its closing balance for {@code date}.
+     * Must run in the transaction that changed the balances.
+     */
+    public void recordClosing(Collection<UUID> accountIds, LocalDate date) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        namedJdbcTemplate.update(UPSERT_BY_ID_SQL,
+                new MapSqlParameterSource("ids", accountIds).addValue("date", Date.valueOf(date)));
+    }
+
+    /**
+     * Balance in minor units immediately before {@code at}
+     */
+    public long balanceAsOf(UUID accountId, LocalDateTime at) {
+        LocalDate day = at.toLocalDate();
+
+        // Usual case: the latest earlier close plus what was posted today before the requested time
+        Snapshot previous = findSnapshot(PREVIOUS_SNAPSHOT_SQL, accountId, day);
+        if (previous != null) {
+            return previous.closingMinor() + netChange(accountId, day.atStartOfDay(), at);
+        }
+
+        // Nothing earlier (history before snapshots began): work back from the first close at or after it
+        Snapshot next = findSnapshot(NEXT_SNAPSHOT_SQL, accountId, day);
+        if (next != null) {
+            return next.closingMinor() - netChange(accountId, at, next.date().plusDays(1).atStartOfDay());
+        }
+
+        // No snapshots yet: work back from the live balance
+        Long balance = namedJdbcTemplate.queryForObject(CURRENT_BALANCE_SQL,
+                new MapSqlParameterSource("accountId", accountId), Long.class);
+        return (balance == null ? 0L : balance) - netChange(accountId, at, END_OF_TIME);
+    }
+
+    // Private helper methods
+
+    private Snapshot findSnapshot(String sql, UUID accountId, LocalDate day) {
+        List<Snapshot> rows = namedJdbcTemplate.query(sql,
+                new MapSqlParameterSource("accountId", accountId).addValue("date", Date.valueOf(day)),
+                (rs, rowNum) -> new Snapshot(rs.getDate("snapshot_date").toLocalDate(), rs.getLong("closing_balance")));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private long netChange(UUID accountId, LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource params = new MapSqlParameterSource("accountId", accountId)
+                .addValue("status", TransactionStatus.COMPLETED.name())
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("credits", CREDIT_TYPES)
+                .addValue("debits", DEBIT_TYPES);
+        Long net = namedJdbcTemplate.queryForObject(NET_CHANGE_SQL, params, Long.class);
+        return net == null ? 0L : net;
+    }
+}
@@ -0,0 +1,105 @@
+// File: src/main/java/com/bankingsystem/repository/account/ReactiveAccountReadRepository.java
+package com.bankingsystem.repository.account;
+
+import com.bankingsystem.dto.response.account.AccountBalanceView;
+import com.bankingsystem.dto.response.transaction.TransactionHistoryItem;
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.AccountStatus;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import io.r2dbc.spi.Row;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking reads of balances and transaction history over R2DBC.
+ *
+ * Uses its own R2DBC connection pool against the same schema, so polling traffic on the v2 API never
+ * competes with the Hikari pool used by the JPA write paths. Queries mirror the JDBC read models
+ * ({@code TransactionHistoryServiceImpl}) and return DTOs directly.
+ */
+@Repository
+public class ReactiveAccountReadRepository {
+
+    private static final String BALANCE_SQL =
+            "SELECT account_number, balance, currency, status, last_transaction_date " +
+            "FROM accounts WHERE account_number = :accountNumber";
+
+    private static final String ACCOUNT_ID_SQL =
+            "SELECT id FROM accounts WHERE account_number = :accountNumber";
+
+    private static final String HISTORY_SQL =
+            "SELECT transaction_id, transaction_type, amount, fees, currency, timestamp, description, status " +
+            "FROM transactions WHERE account_id = :accountId " +
+            "AND timestamp >= :from AND timestamp < :to " +
+            "ORDER BY timestamp DESC, id DESC LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveAccountReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<AccountBalanceView> findBalance(String accountNumber) {
+        return databaseClient.sql(BALANCE_SQL)
+                .bind("accountNumber", accountNumber)
+                .map((row, metadata) -> mapBalance(row))
+                .one();
+    }
+
+    public Mono<UUID> findAccountId(String accountNumber) {
+        return databaseClient.sql(ACCOUNT_ID_SQL)
+                .bind("accountNumber", accountNumber)
+                .map((row, metadata) -> row.get("id", UUID.class))
+                .one();
+    }
+
+    /**
+     * Transactions in {@code [from, to)}, newest first; rows are emitted as the driver decodes them
+     */
+    public Flux<TransactionHistoryItem> streamHistory(UUID accountId, LocalDateTime from, LocalDateTime to, int limit) {
+        return databaseClient.sql(HISTORY_SQL)
+                .bind("accountId", accountId)
+                .bind("from", from)
+                .bind("to", to)
+                .bind("limit", limit)
+                .map((row, metadata) -> mapHistoryItem(row))
+                .all();
+    }
+
+    // Private helper methods
+
+    private static AccountBalanceView mapBalance(Row row) {
+        Currency currency = Currency.valueOf(row.get("currency", String.class));
+        AccountBalanceView view = new AccountBalanceView();
+        view.setAccountNumber(row.get("account_number", String.class));
+        view.setBalance(Money.toBigDecimal(row.get("balance", Long.class), currency));
+        view.setCurrency(currency);
+        String status = row.get("status", String.class);
+        view.setStatus(status == null ? null : AccountStatus.valueOf(status));
+        view.setLastTransactionDate(row.get("last_transaction_date", LocalDateTime.class));
+        return view;
+    }
+
+    private static TransactionHistoryItem mapHistoryItem(Row row) {
+        Currency currency = Currency.valueOf(row.get("currency", String.class));
+        TransactionHistoryItem item = new TransactionHistoryItem();
+        item.setTransactionId(row.get("transaction_id", String.class));
+        item.setTransactionType(TransactionType.valueOf(row.get("transaction_type", String.class)));
+        item.setAmount(Money.toBigDecimal(row.get("amount", Long.class), currency));
+        Long fees = row.get("fees", Long.class);
+        item.setFees(fees == null ? null : Money.toBigDecimal(fees, currency));
+        item.setCurrency(currency);
+        item.setTimestamp(row.get("timestamp", LocalDateTime.class));
+        item.setDescription(row.get("description", String.class));
+        String status = row.get("status", String.class);
+        item.setStatus(status == null ? null : TransactionStatus.valueOf(status));
+        return item;
+    }
+}
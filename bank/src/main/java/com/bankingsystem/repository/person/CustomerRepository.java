@@ -6,6 +6,7 @@
 package com.bankingsystem.repository.person;
 
 import com.bankingsystem.entity.person.Customer;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,6 +20,12 @@ public interface CustomerRepository extends JpaRepository<Customer, UUID> {
 
     Optional<Customer> findByCustomerId(String customerId);
 
+    /**
+     * Find customer with all accounts loaded in the same query, for profile responses
+     */
+    @EntityGraph(attributePaths = "accounts")
+    Optional<Customer> findWithAccountsByCustomerId(String customerId);
+
     Optional<Customer> findByContactInfoEmail(String email);
 
     List<Customer> findByCustomerType(String customerType);
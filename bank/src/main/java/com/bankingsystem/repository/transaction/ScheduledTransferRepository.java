@@ -0,0 +1,199 @@
+// File: src/main/java/com/bankingsystem/repository/transaction/ScheduledTransferRepository.java
+package com.bankingsystem.repository.transaction;
+
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Storage for transfers scheduled for a later date, in scheduled_transfers.
+ *
+ * A row moves PENDING -> PROCESSING when a node claims it and PROCESSING -> COMPLETED in the transaction
+ * that posts the transfer, so a transfer and its completion commit together. Claims are conditional
+ * on the current status, which makes every node safe to fire the same row: only one claim succeeds.
+ */
+@Repository
+public class ScheduledTransferRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO scheduled_transfers (id, from_account_number, to_account_number, amount, currency, " +
+            "description, scheduled_date, execute_at, status, attempts, created_by, created_date) " +
+            "VALUES (:id, :from, :to, :amount, :currency, :description, :scheduledDate, :executeAt, :status, 0, " +
+            ":createdBy, :createdDate)";
+
+    // Upcoming rows in [from, to), plus anything long overdue that a previous load or claim missed
+    private static final String PENDING_SQL =
+            "SELECT id, execute_at FROM scheduled_transfers WHERE status = :pending " +
+            "AND ((execute_at >= :from AND execute_at < :to) OR execute_at < :overdueBefore)";
+
+    private static final String CLAIM_SQL =
+            "UPDATE scheduled_transfers SET status = :processing, claimed_at = :now, attempts = attempts + 1 " +
+            "WHERE id IN (:ids) AND status = :pending AND execute_at <= :now " +
+            "RETURNING id, from_account_number, to_account_number, amount, currency, description, attempts, claimed_at";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE scheduled_transfers SET status = :completed, transaction_id = :transactionId, " +
+            "completed_at = :now, last_error = NULL WHERE id = :id AND status = :processing AND claimed_at = :claimedAt";
+
+    private static final String FAIL_SQL =
+            "UPDATE scheduled_transfers SET status = :failed, last_error = :error, completed_at = :now " +
+            "WHERE id = :id AND status = :processing AND claimed_at = :claimedAt";
+
+    private static final String RETRY_SQL =
+            "UPDATE scheduled_transfers SET status = :pending, execute_at = :retryAt, last_error = :error, " +
+            "claimed_at = NULL WHERE id = :id AND status = :processing AND claimed_at = :claimedAt";
+
+    private static final String RECOVER_SQL =
+            "UPDATE scheduled_transfers SET status = :pending, claimed_at = NULL " +
+            "WHERE status = :processing AND claimed_at < :cutoff";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * A claimed transfer, ready to post. {@code claimedAt} identifies the claim: once a stale claim has been
+     * released and taken again, updates made under the old one no longer match.
+     */
+    public record ScheduledTransfer(UUID id, String fromAccountNumber, String toAccountNumber, long amountMinor,
+                                    Currency currency, String description, int attempts, LocalDateTime claimedAt) {}
+
+    /**
+     * When a pending transfer is due
+     */
+    public record Due(UUID id, LocalDateTime executeAt) {}
+
+    /**
+     * Final or retry outcome of a claimed transfer; {@code retryAt} is null for a final failure
+     */
+    public record Outcome(UUID id, LocalDateTime claimedAt, String error, LocalDateTime retryAt) {}
+
+    public ScheduledTransferRepository(DataSource dataSource,
+                                       @Value("${banking.scheduled-transfers.fetch-size:5000}") int fetchSize) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void insert(UUID id, String fromAccountNumber, String toAccountNumber, long amountMinor, Currency currency,
+                       String description, LocalDate scheduledDate, LocalDateTime executeAt, String createdBy) {
+        namedJdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource("id", id)
+                .addValue("from", fromAccountNumber)
+                .addValue("to", toAccountNumber)
+                .addValue("amount", amountMinor)
+                .addValue("currency", currency.name())
+                .addValue("description", description)
+                .addValue("scheduledDate", Date.valueOf(scheduledDate))
+                .addValue("executeAt", executeAt)
+                .addValue("status", TransactionStatus.PENDING.name())
+                .addValue("createdBy", createdBy)
+                .addValue("createdDate", LocalDateTime.now()));
+    }
+
+    /**
+     * Stream pending transfers due in {@code [from, to)} or before {@code overdueBefore}.
+     * PostgreSQL only honours the fetch size inside a transaction, so call this within one.
+     */
+    public void forEachPending(LocalDateTime from, LocalDateTime to, LocalDateTime overdueBefore, Consumer<Due> action) {
+        MapSqlParameterSource params = new MapSqlParameterSource("pending", TransactionStatus.PENDING.name())
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("overdueBefore", overdueBefore);
+        namedJdbcTemplate.query(PENDING_SQL, params, (RowCallbackHandler) rs ->
+                action.accept(new Due(rs.getObject("id", UUID.class), rs.getObject("execute_at", LocalDateTime.class))));
+    }
+
+    /**
+     * Claim the given transfers for execution; rows already claimed elsewhere, or not yet due, are skipped
+     */
+    public List<ScheduledTransfer> claim(Collection<UUID> ids, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                .addValue("now", now)
+                .addValue("pending", TransactionStatus.PENDING.name())
+                .addValue("processing", TransactionStatus.PROCESSING.name());
+        return namedJdbcTemplate.query(CLAIM_SQL, params, (rs, rowNum) -> new ScheduledTransfer(
+                rs.getObject("id", UUID.class),
+                rs.getString("from_account_number"),
+                rs.getString("to_account_number"),
+                rs.getLong("amount"),
+                Currency.valueOf(rs.getString("currency")),
+                rs.getString("description"),
+                rs.getInt("attempts"),
+                rs.getObject("claimed_at", LocalDateTime.class)));
+    }
+
+    /**
+     * Mark a claimed transfer completed. Must run in the transaction that posts it.
+     * @return false if the claim was lost, in which case the caller must roll back
+     */
+    public boolean markCompleted(UUID id, LocalDateTime claimedAt, String transactionId) {
+        return namedJdbcTemplate.update(COMPLETE_SQL, new MapSqlParameterSource("id", id)
+                .addValue("claimedAt", claimedAt)
+                .addValue("transactionId", transactionId)
+                .addValue("now", LocalDateTime.now())
+                .addValue("completed", TransactionStatus.COMPLETED.name())
+                .addValue("processing", TransactionStatus.PROCESSING.name())) == 1;
+    }
+
+    /**
+     * Record failures and retries of claimed transfers in two batches
+     */
+    public void recordOutcomes(List<Outcome> outcomes) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] failed = outcomes.stream()
+                .filter(outcome -> outcome.retryAt() == null)
+                .map(outcome -> outcomeParams(outcome, now))
+                .toArray(SqlParameterSource[]::new);
+        SqlParameterSource[] retried = outcomes.stream()
+                .filter(outcome -> outcome.retryAt() != null)
+                .map(outcome -> outcomeParams(outcome, now))
+                .toArray(SqlParameterSource[]::new);
+        if (failed.length > 0) {
+            namedJdbcTemplate.batchUpdate(FAIL_SQL, failed);
+        }
+        if (retried.length > 0) {
+            namedJdbcTemplate.batchUpdate(RETRY_SQL, retried);
+        }
+    }
+
+    /**
+     * Return claims older than {@code cutoff} to PENDING; their node stopped before finishing them
+     */
+    public int releaseStaleClaims(LocalDateTime cutoff) {
+        return namedJdbcTemplate.update(RECOVER_SQL, new MapSqlParameterSource("cutoff", cutoff)
+                .addValue("pending", TransactionStatus.PENDING.name())
+                .addValue("processing", TransactionStatus.PROCESSING.name()));
+    }
+
+    // Private helper methods
+
+    private static MapSqlParameterSource outcomeParams(Outcome outcome, LocalDateTime now) {
+        String error = outcome.error();
+        if (error != null && error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        return new MapSqlParameterSource("id", outcome.id())
+                .addValue("claimedAt", outcome.claimedAt())
+                .addValue("error", error)
+                .addValue("retryAt", outcome.retryAt())
+                .addValue("now", now)
+                .addValue("pending", TransactionStatus.PENDING.name())
+                .addValue("failed", TransactionStatus.FAILED.name())
+                .addValue("processing", TransactionStatus.PROCESSING.name());
+    }
+}
@@ -0,0 +1,93 @@
+// File: src/main/java/com/bankingsystem/repository/transaction/TransactionStatementRepository.java
+package com.bankingsystem.repository.transaction;
+
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Forward-only reads of posted transactions for statements.
+ *
+ * Rows are streamed with a JDBC fetch size instead of being loaded as a list, so a multi-year statement
+ * holds one fetch window in memory. PostgreSQL only honours the fetch size inside a transaction, so
+ * callers must consume {@link #streamPostings} within one and close the stream when done.
+ */
+@Repository
+public class TransactionStatementRepository {
+
+    private static final String ACCOUNT_SQL =
+            "SELECT id, account_number, currency, balance FROM accounts WHERE account_number = :accountNumber";
+
+    private static final String POSTINGS_SQL =
+            "SELECT transaction_id, transaction_type, amount, fees, timestamp, description FROM transactions " +
+            "WHERE account_id = :accountId AND status = :status " +
+            "AND timestamp >= :from AND timestamp < :to " +
+            "ORDER BY timestamp, id";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    /**
+     * Account fields a statement needs
+     */
+    public record StatementAccount(UUID id, String accountNumber, Currency currency, long balanceMinor) {}
+
+    /**
+     * One posted transaction; {@code signedMinor} is positive for credits and negative for debits, fees included
+     */
+    public record Posting(LocalDateTime timestamp, String transactionId, TransactionType type,
+                          String description, long signedMinor) {}
+
+    public TransactionStatementRepository(DataSource dataSource,
+                                          @Value("${banking.statements.fetch-size:1000}") int fetchSize) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public Optional<StatementAccount> findAccount(String accountNumber) {
+        List<StatementAccount> rows = namedJdbcTemplate.query(ACCOUNT_SQL,
+                new MapSqlParameterSource("accountNumber", accountNumber),
+                (rs, rowNum) -> new StatementAccount(rs.getObject("id", UUID.class), rs.getString("account_number"),
+                        Currency.valueOf(rs.getString("currency")), rs.getLong("balance")));
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Completed postings in {@code [from, to)}, oldest first
+     */
+    public Stream<Posting> streamPostings(UUID accountId, LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource params = new MapSqlParameterSource("accountId", accountId)
+                .addValue("status", TransactionStatus.COMPLETED.name())
+                .addValue("from", from)
+                .addValue("to", to);
+        return namedJdbcTemplate.queryForStream(POSTINGS_SQL, params, (rs, rowNum) -> {
+            TransactionType type = TransactionType.valueOf(rs.getString("transaction_type"));
+            long amount = rs.getLong("amount");
+            long fees = rs.getLong("fees");
+            return new Posting(rs.getObject("timestamp", LocalDateTime.class), rs.getString("transaction_id"),
+                    type, rs.getString("description"), signed(type, amount, fees));
+        });
+    }
+
+    /**
+     * Balance effect of a row; fees are charged on top of the amount of a debit
+     */
+    public static long signed(TransactionType type, long amountMinor, long feesMinor) {
+        if (type.increasesBalance()) {
+            return amountMinor;
+        }
+        return type.decreasesBalance() ? -Math.addExact(amountMinor, feesMinor) : 0L;
+    }
+}
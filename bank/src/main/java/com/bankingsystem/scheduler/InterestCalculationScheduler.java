@@ -0,0 +1,401 @@
+// File: src/main/java/com/bankingsystem/scheduler/InterestCalculationScheduler.java
+package com.bankingsystem.scheduler;
+
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.repository.account.DailyBalanceSnapshotRepository;
+import com.bankingsystem.service.ledger.AccountLockStripes;
+import com.bankingsystem.service.strategy.interest.RateFactorCache;
+import com.bankingsystem.service.strategy.interest.TieredInterestStrategy;
+import com.bankingsystem.util.UuidV7;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Nightly interest accrual for savings and checking accounts.
+ *
+ * Interest is posted at compounding-period boundaries (the 1st of the month for monthly compounding).
+ * Each account records the boundary it has been paid through, so a run after downtime catches up on
+ * every missed period and a repeated run posts nothing. A missed period earns on the balance the account closed
+ * it with ({@link DailyBalanceSnapshotRepository}) plus the interest of the missed periods before it. Accounts are read in keyset-paginated pages,
+ * interest is computed in parallel from cached growth factors ({@link RateFactorCache}), and balances
+ * and INTEREST_EARNED rows are written in JDBC batches. Interest is earned on complete periods only.
+ * Each write batch re-reads its balances under the row locks and recomputes any that moved in the meantime.
+ */
+@Component
+public class InterestCalculationScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterestCalculationScheduler.class);
+
+    private static final String ACCOUNT_CACHE = "accounts";
+
+    private static final String DUE_EXISTS_SQL =
+            "SELECT EXISTS (SELECT 1 FROM accounts WHERE interest_posted_through < ? " +
+            "AND status = 'ACTIVE' AND account_type IN ('SAVINGS', 'CHECKING'))";
+
+    // Keyset pagination on the unique account_number index; no OFFSET scans over millions of rows
+    private static final String SELECT_DUE_SQL =
+            "SELECT a.id, a.account_number, a.account_type, a.balance, a.currency, a.interest_posted_through, " +
+            "s.interest_rate FROM accounts a LEFT JOIN savings_accounts s ON s.id = a.id " +
+            "WHERE a.account_number > ? AND a.interest_posted_through < ? " +
+            "AND a.status = 'ACTIVE' AND a.account_type IN ('SAVINGS', 'CHECKING') " +
+            "ORDER BY a.account_number LIMIT ?";
+
+    // Guarded on the paid-through date so a concurrent or repeated run cannot post twice
+    private static final String POST_INTEREST_SQL =
+            "UPDATE accounts SET balance = balance + ?, interest_posted_through = ?, " +
+            "last_transaction_date = ?, version = version + 1 " +
+            "WHERE id = ? AND interest_posted_through < ?";
+
+    // Same lock order as every other multi-account writer; the balance read here is the one interest is paid on
+    private static final String LOCK_BALANCES_SQL =
+            "SELECT id, balance FROM accounts WHERE id IN (%s) ORDER BY account_number FOR UPDATE";
+
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO transactions (id, transaction_id, transaction_type, amount, currency, timestamp, " +
+            "description, status, fees, account_id, created_date, version, active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, 0, true)";
+
+    private static final long[] NO_CLOSINGS = new long[0];
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AccountLockStripes lockStripes;
+
+    @Autowired
+    private DailyBalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private RateFactorCache factorCache;
+
+    @Autowired
+    private TieredInterestStrategy tieredStrategy;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${banking.accounts.savings.interest-rate:0.025}")
+    private double defaultSavingsRate;
+
+    @Value("${banking.interest.checking-rate:0.001}")
+    private double checkingRate;
+
+    @Value("${banking.interest.compounding-frequency:12}")
+    private int compoundingFrequency;
+
+    @Value("${banking.interest.page-size:5000}")
+    private int pageSize;
+
+    @Value("${banking.interest.write-batch-size:200}")
+    private int writeBatchSize;
+
+    @Value("${banking.interest.parallelism:0}")
+    private int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void init() {
+        if (compoundingFrequency <= 0 || 12 % compoundingFrequency != 0) {
+            throw new IllegalStateException("Compounding frequency must divide 12, got " + compoundingFrequency);
+        }
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Nightly trigger; does real work only when a period boundary has passed
+     */
+    @Scheduled(cron = "${banking.interest.cron:0 30 1 * * *}")
+    public void accrueInterest() {
+        run(LocalDate.now());
+    }
+
+    /**
+     * Post interest for every account not yet paid through the period containing {@code today}
+     * @param today Business date of the run
+     * @return Number of interest transactions posted
+     */
+    public int run(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Interest accrual already running, skipping");
+            return 0;
+        }
+        try {
+            LocalDate boundary = periodStart(today);
+            Boolean due = jdbcTemplate.queryForObject(DUE_EXISTS_SQL, Boolean.class, Date.valueOf(boundary));
+            if (!Boolean.TRUE.equals(due)) {
+                return 0;
+            }
+            return accrueThrough(boundary);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // Private helper methods
+
+    private int accrueThrough(LocalDate boundary) {
+        long started = System.nanoTime();
+        int scanned = 0;
+        int posted = 0;
+        String after = "";
+
+        while (true) {
+            List<DueAccount> page = jdbcTemplate.query(SELECT_DUE_SQL, (rs, rowNum) -> new DueAccount(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("account_number"),
+                    "SAVINGS".equals(rs.getString("account_type")),
+                    rs.getLong("balance"),
+                    Currency.valueOf(rs.getString("currency")),
+                    rs.getDate("interest_posted_through").toLocalDate(),
+                    nullableRate(rs)),
+                    after, Date.valueOf(boundary), pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            after = page.get(page.size() - 1).accountNumber();
+            scanned += page.size();
+            Map<UUID, long[]> closings = earlierClosings(page, boundary);
+
+            // Pure CPU work, so it runs on the dedicated pool instead of the common one
+            List<Accrual> accruals = pool.submit(() -> page.parallelStream()
+                    .map(account -> accrue(account, boundary, closings.getOrDefault(account.id(), NO_CLOSINGS)))
+                    .toList()).join();
+
+            for (int from = 0; from < accruals.size(); from += writeBatchSize) {
+                posted += post(accruals.subList(from, Math.min(accruals.size(), from + writeBatchSize)), boundary,
+                        closings);
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        logger.info("Interest accrual through {}: scanned={}, posted={}, took={}ms",
+                boundary, scanned, posted, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return posted;
+    }
+
+    /**
+     * Closing balances of the periods before the last one, for accounts that missed more than one period.
+     * Read up front so the parallel accrual does no I/O.
+     */
+    private Map<UUID, long[]> earlierClosings(List<DueAccount> page, LocalDate boundary) {
+        Map<UUID, long[]> closings = new HashMap<>();
+        for (DueAccount account : page) {
+            List<LocalDate> ends = periodEnds(account.postedThrough(), boundary);
+            if (ends.size() < 2) {
+                continue;
+            }
+            long[] balances = new long[ends.size() - 1];
+            for (int i = 0; i < balances.length; i++) {
+                balances[i] = snapshotRepository.balanceAsOf(account.id(), ends.get(i).atStartOfDay());
+            }
+            closings.put(account.id(), balances);
+        }
+        if (!closings.isEmpty()) {
+            logger.info("Catching up interest on {} accounts that missed more than one period", closings.size());
+        }
+        return closings;
+    }
+
+    /**
+     * Interest owed through {@code boundary}, period by period
+     * @param closings Closing balance of each period before the last; the last period uses the current balance
+     */
+    private Accrual accrue(DueAccount account, LocalDate boundary, long[] closings) {
+        List<LocalDate> ends = periodEnds(account.postedThrough(), boundary);
+        LocalDate start = account.postedThrough();
+        long interest = 0L;
+        for (int i = 0; i < ends.size(); i++) {
+            long closing = i < closings.length ? closings[i] : account.balanceMinor();
+            // Interest of earlier missed periods would have been in the balance had it been posted on time
+            interest += periodInterest(account, closing + interest, start, ends.get(i));
+            start = ends.get(i);
+        }
+        // Zero-interest accounts still move their paid-through date forward
+        return new Accrual(account, interest);
+    }
+
+    private long periodInterest(DueAccount account, long balance, LocalDate start, LocalDate end) {
+        if (balance <= 0) {
+            return 0L;
+        }
+        Money principal = Money.ofMinor(balance, account.currency());
+
+        long growth;
+        if (account.savings()) {
+            // Savings interest is earned on complete periods only
+            if (ChronoUnit.MONTHS.between(start, end) < 12 / compoundingFrequency) {
+                return 0L;
+            }
+            BigDecimal baseRate = BigDecimal.valueOf(account.rate() != null ? account.rate() : defaultSavingsRate);
+            long rateMicros = RateFactorCache.rateMicros(tieredStrategy.rateFor(baseRate, principal));
+            growth = factorCache.growthFixedPoint(rateMicros, compoundingFrequency, 1);
+        } else {
+            int days = (int) ChronoUnit.DAYS.between(start, end);
+            growth = factorCache.growthFixedPoint(RateFactorCache.rateMicros(checkingRate), RateFactorCache.SIMPLE, days);
+        }
+        return growth > 0 ? principal.multiply(growth, RateFactorCache.FACTOR_SCALE).getMinorUnits() : 0L;
+    }
+
+    private int post(List<Accrual> computed, LocalDate boundary, Map<UUID, long[]> closings) {
+        List<String> accountNumbers = computed.stream().map(Accrual::accountNumber).toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date through = Date.valueOf(boundary);
+        String description = "Interest through " + boundary.minusDays(1);
+
+        try (AccountLockStripes.Held ignored = lockStripes.lockAll(accountNumbers)) {
+            List<Accrual> applied = transactionTemplate.execute(status -> {
+                List<Accrual> batch = underLock(computed, boundary, closings);
+                List<Object[]> updates = new ArrayList<>(batch.size());
+                for (Accrual accrual : batch) {
+                    updates.add(new Object[]{accrual.interestMinor(), through, now, accrual.id(), through});
+                }
+                int[] counts = jdbcTemplate.batchUpdate(POST_INTEREST_SQL, updates);
+                // Read under the row locks, so rows and closings fall on the same day in lock order
+                Timestamp postedAt = Timestamp.valueOf(LocalDateTime.now());
+
+                List<Accrual> credited = new ArrayList<>(batch.size());
+                List<Object[]> rows = new ArrayList<>(batch.size());
+                for (int i = 0; i < counts.length; i++) {
+                    Accrual accrual = batch.get(i);
+                    if (counts[i] == 0 || accrual.interestMinor() == 0) {
+                        continue;
+                    }
+                    credited.add(accrual);
+                    rows.add(new Object[]{UuidV7.next(), "TXN-" + UuidV7.next(),
+                            TransactionType.INTEREST_EARNED.name(), accrual.interestMinor(),
+                            accrual.currency().name(), postedAt, description,
+                            TransactionStatus.COMPLETED.name(), accrual.id(), postedAt});
+                }
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, rows);
+                    snapshotRepository.recordClosing(credited.stream().map(Accrual::id).toList(),
+                            postedAt.toLocalDateTime().toLocalDate());
+                }
+                return credited;
+            });
+            // Committed: cached account responses of the credited accounts are stale
+            evictCached(applied.stream().map(Accrual::accountNumber).toList());
+            return applied.size();
+        }
+    }
+
+    /**
+     * Lock the batch's rows and recompute any accrual whose balance moved since its page was read, so the last
+     * period earns on the balance that is actually credited
+     */
+    private List<Accrual> underLock(List<Accrual> computed, LocalDate boundary, Map<UUID, long[]> closings) {
+        String placeholders = String.join(", ", Collections.nCopies(computed.size(), "?"));
+        Map<UUID, Long> balances = new HashMap<>();
+        jdbcTemplate.query(String.format(LOCK_BALANCES_SQL, placeholders),
+                rs -> { balances.put(rs.getObject("id", UUID.class), rs.getLong("balance")); },
+                computed.stream().map(Accrual::id).toArray());
+
+        List<Accrual> current = new ArrayList<>(computed.size());
+        for (Accrual accrual : computed) {
+            Long balance = balances.get(accrual.id());
+            if (balance != null && balance != accrual.account().balanceMinor()) {
+                accrual = accrue(accrual.account().withBalance(balance), boundary,
+                        closings.getOrDefault(accrual.id(), NO_CLOSINGS));
+            }
+            current.add(accrual);
+        }
+        return current;
+    }
+
+    private void evictCached(List<String> accountNumbers) {
+        Cache cache = cacheManager.getCache(ACCOUNT_CACHE);
+        if (cache != null) {
+            accountNumbers.forEach(cache::evict);
+        }
+    }
+
+    private static Double nullableRate(ResultSet rs) throws SQLException {
+        double rate = rs.getDouble("interest_rate");
+        return rs.wasNull() ? null : rate;
+    }
+
+    /**
+     * End (exclusive) of each compounding period from {@code postedThrough} up to {@code boundary}
+     */
+    private List<LocalDate> periodEnds(LocalDate postedThrough, LocalDate boundary) {
+        int monthsPerPeriod = 12 / compoundingFrequency;
+        List<LocalDate> ends = new ArrayList<>();
+        for (LocalDate end = periodStart(postedThrough).plusMonths(monthsPerPeriod);
+             end.isBefore(boundary); end = end.plusMonths(monthsPerPeriod)) {
+            ends.add(end);
+        }
+        ends.add(boundary);
+        return ends;
+    }
+
+    /**
+     * First day of the compounding period containing {@code date}
+     */
+    private LocalDate periodStart(LocalDate date) {
+        int monthsPerPeriod = 12 / compoundingFrequency;
+        int month = ((date.getMonthValue() - 1) / monthsPerPeriod) * monthsPerPeriod + 1;
+        return LocalDate.of(date.getYear(), month, 1);
+    }
+
+    private record DueAccount(UUID id, String accountNumber, boolean savings, long balanceMinor,
+                              Currency currency, LocalDate postedThrough, Double rate) {
+
+        DueAccount withBalance(long balance) {
+            return new DueAccount(id, accountNumber, savings, balance, currency, postedThrough, rate);
+        }
+    }
+
+    private record Accrual(DueAccount account, long interestMinor) {
+
+        UUID id() { return account.id(); }
+
+        String accountNumber() { return account.accountNumber(); }
+
+        Currency currency() { return account.currency(); }
+    }
+}
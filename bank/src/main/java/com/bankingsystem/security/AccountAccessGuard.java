@@ -0,0 +1,99 @@
+// File: src/main/java/com/bankingsystem/security/AccountAccessGuard.java
+package com.bankingsystem.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Decides whether the caller may act on an account.
+ *
+ * Staff roles may access any account; everyone else only accounts owned by the customer linked to their user
+ * (users.person_id = accounts.customer_id). Ownership does not change once an account is opened, so answers are
+ * cached per user and account number. Usable from SpEL as {@code @accountAccess.canAccess(authentication, #n)}.
+ */
+@Component("accountAccess")
+public class AccountAccessGuard {
+
+    private static final Set<String> STAFF_ROLES = Set.of("ROLE_EMPLOYEE", "ROLE_MANAGER", "ROLE_ADMIN");
+
+    private static final String OWNS_ACCOUNT_SQL =
+            "SELECT EXISTS (SELECT 1 FROM accounts a JOIN users u ON u.person_id = a.customer_id " +
+            "WHERE a.account_number = :accountNumber AND u.username = :username)";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final LoadingCache<Ownership, Boolean> cache;
+
+    private record Ownership(String username, String accountNumber) {}
+
+    public AccountAccessGuard(NamedParameterJdbcTemplate namedJdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${banking.security.account-access.max-size:100000}") long maxSize,
+                              @Value("${banking.security.account-access.ttl:10m}") Duration ttl) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accountAccess");
+    }
+
+    /**
+     * Whether {@code authentication} may read or act on the account
+     */
+    public boolean canAccess(Authentication authentication, String accountNumber) {
+        if (authentication == null || !authentication.isAuthenticated() || accountNumber == null) {
+            return false;
+        }
+        if (isStaff(authentication)) {
+            return true;
+        }
+        return cache.get(new Ownership(authentication.getName(), accountNumber));
+    }
+
+    /**
+     * Same as {@link #canAccess(Authentication, String)} for the current request's user
+     */
+    public boolean canAccess(String accountNumber) {
+        return canAccess(SecurityContextHolder.getContext().getAuthentication(), accountNumber);
+    }
+
+    /**
+     * Throw {@link AccessDeniedException} unless the current user may access the account
+     */
+    public void checkAccess(String accountNumber) {
+        if (!canAccess(accountNumber)) {
+            throw new AccessDeniedException("Not authorized to access account " + accountNumber);
+        }
+    }
+
+    public static boolean isStaff(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (STAFF_ROLES.contains(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Private helper methods
+
+    private Boolean load(Ownership key) {
+        return namedJdbcTemplate.queryForObject(OWNS_ACCOUNT_SQL,
+                new MapSqlParameterSource("accountNumber", key.accountNumber()).addValue("username", key.username()),
+                Boolean.class);
+    }
+}
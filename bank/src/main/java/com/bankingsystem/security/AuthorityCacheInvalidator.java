@@ -0,0 +1,35 @@
+// File: src/main/java/com/bankingsystem/security/AuthorityCacheInvalidator.java
+package com.bankingsystem.security;
+
+import com.bankingsystem.entity.security.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * JPA entity listener on User, Role and Permission that keeps {@link UserAuthorityCache} current.
+ * A user change evicts that user; a role or permission change may affect anyone and evicts everything.
+ * Instantiated by Hibernate through Spring's bean container, so it can be autowired.
+ */
+public class AuthorityCacheInvalidator {
+
+    @Autowired
+    private ObjectProvider<UserAuthorityCache> authorityCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        UserAuthorityCache cache = authorityCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        if (entity instanceof User user) {
+            cache.evictAfterCommit(user.getUsername());
+        } else {
+            cache.evictAllAfterCommit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+// File: src/main/java/com/bankingsystem/security/JdbcUserPasswordUpgrader.java
+package com.bankingsystem.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores the rehashed password when DaoAuthenticationProvider upgrades a hash with an outdated cost.
+ * A single-column UPDATE, so the login does not load or dirty the User entity graph.
+ */
+@Component
+public class JdbcUserPasswordUpgrader implements UserDetailsPasswordService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcUserPasswordUpgrader.class);
+
+    private static final String UPDATE_PASSWORD_SQL =
+            "UPDATE users SET password_hash = :passwordHash WHERE username = :username";
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        int updated = namedJdbcTemplate.update(UPDATE_PASSWORD_SQL, new MapSqlParameterSource()
+                .addValue("passwordHash", newPassword)
+                .addValue("username", user.getUsername()));
+        if (updated == 1) {
+            logger.info("Upgraded password hash for user {}", user.getUsername());
+        }
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+}
@@ -0,0 +1,162 @@
+// File: src/main/java/com/bankingsystem/security/PasswordHashingService.java
+package com.bankingsystem.security;
+
+import com.bankingsystem.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt password encoder that runs hashing on a dedicated, bounded CPU pool.
+ *
+ * A login spike can then use at most {@code threads} cores; the rest stay available for other requests
+ * such as balance reads. Work beyond {@code queue-capacity} waiting hashes, or waiting longer than
+ * {@code max-wait}, fails with {@link ServiceBusyException} (503) instead of piling up request threads.
+ *
+ * The cost factor is {@code strength} (12 by default) on every node. With {@code calibrate} set, a node whose
+ * hash at that cost is fast enough raises it, up to {@code max-strength}, while a hash still fits {@code target-ms};
+ * calibration never lowers the configured cost. Hashes stored with a lower cost report
+ * {@link #upgradeEncoding(String)} so DaoAuthenticationProvider rehashes them after a successful login.
+ */
+public class PasswordHashingService implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+
+    private final Timer hashTimer;
+    private final Timer matchTimer;
+    private final Timer queueWait;
+    private final Counter rejected;
+
+    public PasswordHashingService(int configuredStrength, boolean calibrate, int maxStrength, long targetMillis,
+                                  int threads, int queueCapacity, long maxWaitMillis, MeterRegistry meterRegistry) {
+        this.strength = calibrate ? calibrate(configuredStrength, maxStrength, targetMillis) : configuredStrength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.maxWaitMillis = maxWaitMillis;
+
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadIds.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("banking.security.password.hash")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("banking.security.password.hash")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("banking.security.password.queue.wait")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("banking.security.password.rejected").register(meterRegistry);
+        Gauge.builder("banking.security.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("banking.security.password.strength", () -> strength).register(meterRegistry);
+
+        logger.info("Password hashing: bcrypt cost {}, {} threads, queue {}", strength, threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), hashTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // Private helper methods
+
+    private <T> T submit(Callable<T> work, Timer timer) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy("Password hashing queue is full");
+        }
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw busy("Password hashing did not complete within " + maxWaitMillis + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw busy("Interrupted waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static ServiceBusyException busy(String message) {
+        return new ServiceBusyException("AUTHENTICATION_BUSY", message, 1);
+    }
+
+    /**
+     * Highest cost in [configured, max] whose hash fits the target on this machine; each step doubles the time.
+     * Never below the configured cost, however slow the node is.
+     */
+    private static int calibrate(int minStrength, int maxStrength, long targetMillis) {
+        String salt = BCrypt.gensalt(minStrength);
+        BCrypt.hashpw("warm-up", salt);
+        long started = System.nanoTime();
+        BCrypt.hashpw("calibration", salt);
+        double millis = (System.nanoTime() - started) / 1_000_000.0;
+
+        int chosen = minStrength;
+        while (chosen < maxStrength && millis * 2 <= targetMillis) {
+            millis *= 2;
+            chosen++;
+        }
+        logger.info("Calibrated bcrypt cost {} (~{} ms per hash, target {} ms)", chosen, Math.round(millis), targetMillis);
+        return chosen;
+    }
+}
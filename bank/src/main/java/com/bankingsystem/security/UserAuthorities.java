@@ -0,0 +1,25 @@
+// File: src/main/java/com/bankingsystem/security/UserAuthorities.java
+package com.bankingsystem.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Set;
+
+/**
+ * Immutable snapshot of a user's account flags and granted authorities (roles and permissions).
+ * Built once by {@link UserAuthorityCache} and shared by every request of that user.
+ */
+public record UserAuthorities(String username,
+                              boolean enabled,
+                              boolean accountNonLocked,
+                              boolean accountNonExpired,
+                              Set<GrantedAuthority> authorities) {
+
+    public UserAuthorities {
+        authorities = Set.copyOf(authorities);
+    }
+
+    public boolean isActive() {
+        return enabled && accountNonLocked && accountNonExpired;
+    }
+}
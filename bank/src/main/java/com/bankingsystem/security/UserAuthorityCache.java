@@ -0,0 +1,160 @@
+// File: src/main/java/com/bankingsystem/security/UserAuthorityCache.java
+package com.bankingsystem.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Per-user cache of resolved authorities.
+ *
+ * Loaded with one flat JDBC query over users, roles and permissions instead of the entities' eager
+ * many-to-many graph. Entries are evicted when a user, role or permission changes (see
+ * {@link AuthorityCacheInvalidator}), on this node after commit and on other nodes through a Redis channel;
+ * {@code ttl} bounds staleness if a message is missed.
+ */
+@Component
+public class UserAuthorityCache implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAuthorityCache.class);
+
+    private static final String ALL_USERS = "*";
+
+    private static final String AUTHORITIES_SQL =
+            "SELECT u.username, u.is_enabled, u.is_account_non_locked, u.is_account_non_expired, " +
+            "r.name AS role_name, p.name AS permission_name FROM users u " +
+            "LEFT JOIN user_roles ur ON ur.user_id = u.id " +
+            "LEFT JOIN roles r ON r.id = ur.role_id " +
+            "LEFT JOIN role_permissions rp ON rp.role_id = r.id " +
+            "LEFT JOIN permissions p ON p.id = rp.permission_id " +
+            "WHERE u.username = :username";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final String invalidationChannel;
+    private final LoadingCache<String, UserAuthorities> cache;
+
+    public UserAuthorityCache(NamedParameterJdbcTemplate namedJdbcTemplate,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Value("${banking.security.authorities.max-size:50000}") long maxSize,
+                              @Value("${banking.security.authorities.ttl:5m}") Duration ttl,
+                              @Value("${banking.security.authorities.invalidation-channel:banking:security:authorities}")
+                              String invalidationChannel) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userAuthorities");
+        listenerContainer.addMessageListener(this, new ChannelTopic(invalidationChannel));
+    }
+
+    /**
+     * Authorities of the user, or null if no such user exists
+     */
+    public UserAuthorities get(String username) {
+        return cache.get(username);
+    }
+
+    /**
+     * Drop one user's entry on every node once the current transaction commits
+     */
+    public void evictAfterCommit(String username) {
+        afterCommit(() -> broadcast(username));
+    }
+
+    /**
+     * Drop all entries on every node once the current transaction commits; used for role and permission changes
+     */
+    public void evictAllAfterCommit() {
+        afterCommit(() -> broadcast(ALL_USERS));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // Private helper methods
+
+    private UserAuthorities load(String username) {
+        return namedJdbcTemplate.query(AUTHORITIES_SQL, new MapSqlParameterSource("username", username), rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            String name = rs.getString("username");
+            boolean enabled = rs.getBoolean("is_enabled");
+            boolean nonLocked = rs.getBoolean("is_account_non_locked");
+            boolean nonExpired = rs.getBoolean("is_account_non_expired");
+            Set<GrantedAuthority> authorities = new HashSet<>();
+            do {
+                String role = rs.getString("role_name");
+                if (role != null) {
+                    authorities.add(new SimpleGrantedAuthority(role.startsWith("ROLE_") ? role : "ROLE_" + role));
+                }
+                String permission = rs.getString("permission_name");
+                if (permission != null) {
+                    authorities.add(new SimpleGrantedAuthority(permission));
+                }
+            } while (rs.next());
+            return new UserAuthorities(name, enabled, nonLocked, nonExpired, authorities);
+        });
+    }
+
+    private void evictLocal(String username) {
+        if (ALL_USERS.equals(username)) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(username);
+        }
+    }
+
+    private void broadcast(String username) {
+        evictLocal(username);
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, username);
+        } catch (RuntimeException e) {
+            // Other nodes fall back to the TTL
+            logger.warn("Could not publish authority invalidation for {}", username, e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
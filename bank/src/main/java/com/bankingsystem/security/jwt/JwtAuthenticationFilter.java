@@ -0,0 +1,70 @@
+// File: src/main/java/com/bankingsystem/security/jwt/JwtAuthenticationFilter.java
+package com.bankingsystem.security.jwt;
+
+import com.bankingsystem.security.UserAuthorities;
+import com.bankingsystem.security.UserAuthorityCache;
+import com.bankingsystem.security.jwt.JwtTokenProvider.VerifiedToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests carrying a {@code Bearer} access token.
+ *
+ * Both steps are cached: the signature check through {@link VerifiedTokenCache} and the user's
+ * authorities through {@link UserAuthorityCache}, so a warm request does no parsing, HMAC or database work.
+ * Invalid tokens leave the request unauthenticated and the entry point answers 401.
+ */
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    @Autowired
+    private VerifiedTokenCache tokenCache;
+
+    @Autowired
+    private UserAuthorityCache authorityCache;
+
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            authenticate(request, header.substring(BEARER_PREFIX.length()).trim());
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // Private helper methods
+
+    private void authenticate(HttpServletRequest request, String token) {
+        VerifiedToken verified = tokenCache.verify(token);
+        if (verified == null) {
+            return;
+        }
+        UserAuthorities user = authorityCache.get(verified.username());
+        if (user == null || !user.isActive()) {
+            return;
+        }
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(user.username(), null, user.authorities());
+        authentication.setDetails(detailsSource.buildDetails(request));
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+    }
+}
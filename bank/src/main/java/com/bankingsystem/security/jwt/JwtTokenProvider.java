@@ -0,0 +1,89 @@
+// File: src/main/java/com/bankingsystem/security/jwt/JwtTokenProvider.java
+package com.bankingsystem.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed access tokens.
+ * Verification is the expensive step; callers on the request path go through {@link VerifiedTokenCache}.
+ */
+@Component
+public class JwtTokenProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long expirationMs;
+
+    /**
+     * Claims of a token whose signature and expiry have been checked
+     */
+    public record VerifiedToken(String username, long issuedAtMillis, long expiresAtMillis) {
+
+        public boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+
+    public JwtTokenProvider(@Value("${banking.security.jwt.secret}") String secret,
+                            @Value("${banking.security.jwt.expiration:86400000}") long expirationMs) {
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes(secret));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.expirationMs = expirationMs;
+    }
+
+    public String generateToken(String username) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(username)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plusMillis(expirationMs)))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    /**
+     * Parse and verify a token
+     * @throws JwtException if the token is malformed, forged or expired
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new JwtException("Token has no subject or expiry");
+        }
+        long issuedAt = claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime();
+        return new VerifiedToken(claims.getSubject(), issuedAt, claims.getExpiration().getTime());
+    }
+
+    // Private helper methods
+
+    private static byte[] keyBytes(String secret) {
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= 32) {
+            return bytes;
+        }
+        // HS256 needs a 256-bit key; short development secrets are stretched rather than rejected
+        logger.warn("JWT secret is shorter than 256 bits; set JWT_SECRET to a longer value outside development");
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+// File: src/main/java/com/bankingsystem/security/jwt/VerifiedTokenCache.java
+package com.bankingsystem.security.jwt;
+
+import com.bankingsystem.security.jwt.JwtTokenProvider.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of tokens that have already passed signature verification.
+ *
+ * Keyed by the SHA-256 of the token, so raw bearer tokens are never retained, and each entry expires
+ * together with its token (capped at {@code max-ttl}). A hit costs one hash and a map lookup instead of
+ * a parse and HMAC check. Rejected tokens are not cached.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<TokenKey, VerifiedToken> cache;
+    private final Counter rejected;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private record TokenKey(long a, long b, long c, long d) {}
+
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider, MeterRegistry meterRegistry,
+                              @Value("${banking.security.jwt.cache.max-size:100000}") long maxSize,
+                              @Value("${banking.security.jwt.cache.max-ttl:15m}") Duration maxTtl) {
+        this.tokenProvider = tokenProvider;
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<TokenKey, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(TokenKey key, VerifiedToken token, long currentTime) {
+                        long untilExpiry = TimeUnit.MILLISECONDS.toNanos(
+                                token.expiresAtMillis() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(TokenKey key, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(TokenKey key, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.rejected = Counter.builder("banking.security.jwt.rejected").register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtVerifiedTokens");
+    }
+
+    /**
+     * Verified claims of the token, or null if it is invalid or expired
+     */
+    public VerifiedToken verify(String token) {
+        TokenKey key = keyOf(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached;
+        }
+        try {
+            VerifiedToken verified = tokenProvider.verify(token);
+            cache.put(key, verified);
+            return verified;
+        } catch (JwtException | IllegalArgumentException e) {
+            rejected.increment();
+            return null;
+        }
+    }
+
+    // Private helper methods
+
+    private static TokenKey keyOf(String token) {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenKey(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+}
@@ -0,0 +1,79 @@
+// File: src/main/java/com/bankingsystem/security/ratelimit/RateLimitFilter.java
+package com.bankingsystem.security.ratelimit;
+
+import com.bankingsystem.security.ratelimit.RateLimitProperties.KeyType;
+import com.bankingsystem.security.ratelimit.RateLimiter.Route;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link RateLimiter} policies and answers 429 with {@code Retry-After} when a bucket is empty.
+ *
+ * Runs after JWT authentication so per-user policies can key on the principal; login and registration
+ * are keyed by client address and are refused before any password hashing or database work.
+ * Behind a proxy, {@code server.forward-headers-strategy} must be set so the remote address is the client's.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BODY =
+            "{\"success\":false,\"message\":\"Too many requests, please retry later\",\"errorCode\":\"RATE_LIMITED\"}";
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = rateLimiter.match(request.getMethod(), request.getRequestURI());
+        if (route != null) {
+            long waitNanos = rateLimiter.tryAcquire(route, clientKey(route, request));
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // Private helper methods
+
+    private static String clientKey(Route route, HttpServletRequest request) {
+        if (route.getKeyType() == KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()) {
+                return authentication.getName();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(BODY);
+    }
+}
@@ -0,0 +1,113 @@
+// File: src/main/java/com/bankingsystem/security/ratelimit/RateLimitProperties.java
+package com.bankingsystem.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rate limit settings, bound from {@code banking.rate-limit}.
+ * Policies are tried in declaration order and the first one matching a request applies.
+ */
+@ConfigurationProperties(prefix = "banking.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How often local counts are pushed to Redis and cluster-wide totals read back
+     */
+    private long syncIntervalMs = 1000;
+
+    /**
+     * Length of the fixed window the cluster-wide count is kept for
+     */
+    private Duration window = Duration.ofMinutes(1);
+
+    /**
+     * Buckets full for this long are dropped
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Per-policy bucket limit; clients beyond it share one overflow bucket until idle buckets are dropped
+     */
+    private int maxBuckets = 100_000;
+
+    private String keyPrefix = "banking:ratelimit:";
+
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getSyncIntervalMs() { return syncIntervalMs; }
+    public void setSyncIntervalMs(long syncIntervalMs) { this.syncIntervalMs = syncIntervalMs; }
+
+    public Duration getWindow() { return window; }
+    public void setWindow(Duration window) { this.window = window; }
+
+    public Duration getIdleTimeout() { return idleTimeout; }
+    public void setIdleTimeout(Duration idleTimeout) { this.idleTimeout = idleTimeout; }
+
+    public int getMaxBuckets() { return maxBuckets; }
+    public void setMaxBuckets(int maxBuckets) { this.maxBuckets = maxBuckets; }
+
+    public String getKeyPrefix() { return keyPrefix; }
+    public void setKeyPrefix(String keyPrefix) { this.keyPrefix = keyPrefix; }
+
+    public Map<String, Policy> getPolicies() { return policies; }
+    public void setPolicies(Map<String, Policy> policies) { this.policies = policies; }
+
+    /**
+     * What a client is identified by
+     */
+    public enum KeyType {
+        IP,
+        // Falls back to the IP for unauthenticated requests
+        USER
+    }
+
+    /**
+     * One route's limit. A request matches when its path starts with {@code path-prefix} and ends with
+     * {@code path-suffix} (either may be omitted) and, if set, its method equals {@code method}.
+     */
+    public static class Policy {
+
+        private String pathPrefix;
+        private String pathSuffix;
+        private String method;
+        private KeyType key = KeyType.IP;
+
+        /**
+         * Burst size: requests allowed at once from a full bucket
+         */
+        private int capacity = 10;
+
+        /**
+         * Sustained rate once the burst is used up
+         */
+        private int refillPerMinute = 60;
+
+        public String getPathPrefix() { return pathPrefix; }
+        public void setPathPrefix(String pathPrefix) { this.pathPrefix = pathPrefix; }
+
+        public String getPathSuffix() { return pathSuffix; }
+        public void setPathSuffix(String pathSuffix) { this.pathSuffix = pathSuffix; }
+
+        public String getMethod() { return method; }
+        public void setMethod(String method) { this.method = method; }
+
+        public KeyType getKey() { return key; }
+        public void setKey(KeyType key) { this.key = key; }
+
+        public int getCapacity() { return capacity; }
+        public void setCapacity(int capacity) { this.capacity = capacity; }
+
+        public int getRefillPerMinute() { return refillPerMinute; }
+        public void setRefillPerMinute(int refillPerMinute) { this.refillPerMinute = refillPerMinute; }
+    }
+}
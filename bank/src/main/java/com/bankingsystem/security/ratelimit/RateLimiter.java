@@ -0,0 +1,219 @@
+// File: src/main/java/com/bankingsystem/security/ratelimit/RateLimiter.java
+package com.bankingsystem.security.ratelimit;
+
+import com.bankingsystem.security.ratelimit.RateLimitProperties.KeyType;
+import com.bankingsystem.security.ratelimit.RateLimitProperties.Policy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * In-memory token buckets per route and client, kept roughly consistent across nodes through Redis.
+ *
+ * The request path only touches local state: one map lookup and one CAS on the client's {@link TokenBucket}.
+ * Every {@code sync-interval-ms} the tokens each bucket handed out are added to a per-window counter in Redis
+ * (one pipelined round trip for all buckets); a bucket whose cluster-wide count is over the window's limit is
+ * closed on this node until the window ends. A client spreading requests over N nodes can therefore exceed
+ * the limit by at most what N local buckets allow in one sync interval. If Redis is down, local limits still apply.
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final String OVERFLOW_CLIENT = "overflow";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Route[] routes;
+    private final String keyPrefix;
+    private final long windowMillis;
+    private final long idleNanos;
+    private final int maxBuckets;
+    private final Counter syncFailures;
+
+    /**
+     * A compiled policy and its buckets
+     */
+    public static final class Route {
+
+        private final String name;
+        private final String pathPrefix;
+        private final String pathSuffix;
+        private final String method;
+        private final KeyType keyType;
+        private final int capacity;
+        private final long intervalNanos;
+        private final long windowLimit;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflow;
+        private final Function<String, TokenBucket> newBucket;
+        private final Counter rejected;
+
+        private Route(String name, Policy policy, long windowMillis, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.pathPrefix = policy.getPathPrefix();
+            this.pathSuffix = policy.getPathSuffix();
+            this.method = policy.getMethod();
+            this.keyType = policy.getKey();
+            this.capacity = policy.getCapacity();
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / policy.getRefillPerMinute();
+            // A full burst plus whatever refills during the window
+            this.windowLimit = capacity + policy.getRefillPerMinute() * windowMillis / TimeUnit.MINUTES.toMillis(1);
+            this.overflow = new TokenBucket(intervalNanos, capacity, System.nanoTime());
+            // Created once so the lookup on the request path does not allocate a capturing lambda
+            this.newBucket = client -> new TokenBucket(intervalNanos, capacity, System.nanoTime());
+            this.rejected = Counter.builder("banking.ratelimit.rejected")
+                    .tag("policy", name)
+                    .register(meterRegistry);
+            Gauge.builder("banking.ratelimit.buckets", buckets, Map::size)
+                    .tag("policy", name)
+                    .register(meterRegistry);
+        }
+
+        public String getName() { return name; }
+        public KeyType getKeyType() { return keyType; }
+
+        private boolean matches(String requestMethod, String path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod))
+                    && (pathPrefix == null || path.startsWith(pathPrefix))
+                    && (pathSuffix == null || path.endsWith(pathSuffix));
+        }
+    }
+
+    private record PendingSync(TokenBucket bucket, String key, long taken, long limit) {}
+
+    public RateLimiter(RateLimitProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = properties.getKeyPrefix();
+        this.windowMillis = properties.getWindow().toMillis();
+        this.idleNanos = properties.getIdleTimeout().toNanos();
+        this.maxBuckets = properties.getMaxBuckets();
+        this.syncFailures = Counter.builder("banking.ratelimit.sync.failures").register(meterRegistry);
+
+        List<Route> compiled = new ArrayList<>();
+        properties.getPolicies().forEach((name, policy) -> {
+            compiled.add(new Route(name, policy, windowMillis, meterRegistry));
+            logger.info("Rate limit policy {}: {} burst, {}/min per {}", name,
+                    policy.getCapacity(), policy.getRefillPerMinute(), policy.getKey());
+        });
+        this.routes = compiled.toArray(new Route[0]);
+    }
+
+    /**
+     * First route whose policy covers the request, or null if the request is not limited
+     */
+    public Route match(String method, String path) {
+        for (Route route : routes) {
+            if (route.matches(method, path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Take a token from the client's bucket
+     * @return 0 if the request may proceed, otherwise nanoseconds until it would
+     */
+    public long tryAcquire(Route route, String client) {
+        long now = System.nanoTime();
+        TokenBucket bucket = route.buckets.get(client);
+        if (bucket == null) {
+            // Past the limit, e.g. under an address spray, unknown clients share one bucket until idle ones are dropped
+            bucket = route.buckets.size() < maxBuckets
+                    ? route.buckets.computeIfAbsent(client, route.newBucket)
+                    : route.overflow;
+        }
+        long wait = bucket.tryAcquire(now);
+        if (wait > 0) {
+            route.rejected.increment();
+        }
+        return wait;
+    }
+
+    /**
+     * Push local counts to Redis, close buckets over their cluster-wide limit and drop idle ones
+     */
+    @Scheduled(fixedDelayString = "${banking.rate-limit.sync-interval-ms:1000}")
+    public void sync() {
+        long nowNanos = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        long window = nowMillis / windowMillis;
+        long windowEnd = nowNanos + TimeUnit.MILLISECONDS.toNanos((window + 1) * windowMillis - nowMillis);
+
+        List<PendingSync> pending = new ArrayList<>();
+        for (Route route : routes) {
+            route.buckets.forEach((client, bucket) -> {
+                long taken = bucket.drainUnsynced();
+                if (taken > 0) {
+                    pending.add(new PendingSync(bucket, redisKey(route, client, window), taken, route.windowLimit));
+                } else if (bucket.isIdle(nowNanos, idleNanos)) {
+                    route.buckets.remove(client, bucket);
+                }
+            });
+            long overflowTaken = route.overflow.drainUnsynced();
+            if (overflowTaken > 0) {
+                pending.add(new PendingSync(route.overflow, redisKey(route, OVERFLOW_CLIENT, window),
+                        overflowTaken, route.windowLimit));
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                increment(connection, pending);
+                return null;
+            });
+            int closed = 0;
+            for (int i = 0; i < pending.size(); i++) {
+                // Results alternate INCRBY total, PEXPIRE flag
+                Object total = results.get(2 * i);
+                PendingSync sync = pending.get(i);
+                if (total instanceof Long count && count > sync.limit()) {
+                    sync.bucket().blockUntil(windowEnd);
+                    closed++;
+                }
+            }
+            if (closed > 0) {
+                logger.debug("Rate limit sync closed {} buckets over their cluster-wide limit", closed);
+            }
+        } catch (DataAccessException e) {
+            // Counts from this round are lost; local buckets keep limiting on their own
+            syncFailures.increment();
+            logger.warn("Rate limit sync to Redis failed for {} buckets: {}", pending.size(), e.getMessage());
+        }
+    }
+
+    // Private helper methods
+
+    private void increment(RedisConnection connection, List<PendingSync> pending) {
+        for (PendingSync sync : pending) {
+            byte[] key = sync.key().getBytes(StandardCharsets.UTF_8);
+            connection.stringCommands().incrBy(key, sync.taken());
+            // Outlive the window a little so late syncs from other nodes still land on the same counter
+            connection.keyCommands().pExpire(key, windowMillis * 2);
+        }
+    }
+
+    private String redisKey(Route route, String client, long window) {
+        return keyPrefix + route.name + ":" + client + ":" + window;
+    }
+}
@@ -0,0 +1,77 @@
+// File: src/main/java/com/bankingsystem/security/ratelimit/TokenBucket.java
+package com.bankingsystem.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket for one client of one policy.
+ *
+ * Kept in its GCRA form: instead of a token count and a refill timestamp, a single {@link AtomicLong}
+ * holds the time at which the bucket would be full again. Taking a token advances that time by one refill
+ * interval; the request is refused if that would put it more than {@code capacity} intervals ahead of now.
+ * One CAS per request and no allocation.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    // Time (System.nanoTime) at which the bucket is full again
+    private final AtomicLong fullAt;
+
+    // Tokens taken since the last Redis sync
+    private final AtomicLong unsynced = new AtomicLong();
+
+    // Set by the Redis sync when the cluster-wide count for the current window is exhausted
+    private volatile long blockedUntil;
+
+    TokenBucket(long intervalNanos, int capacity, long now) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(now);
+        this.blockedUntil = now;
+    }
+
+    /**
+     * Take one token
+     * @return 0 if the request may proceed, otherwise nanoseconds until it would
+     */
+    long tryAcquire(long now) {
+        long blocked = blockedUntil - now;
+        if (blocked > 0) {
+            return blocked;
+        }
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                unsynced.incrementAndGet();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Tokens taken since the previous call
+     */
+    long drainUnsynced() {
+        return unsynced.getAndSet(0);
+    }
+
+    void blockUntil(long until) {
+        if (until - blockedUntil > 0) {
+            blockedUntil = until;
+        }
+    }
+
+    /**
+     * True once the bucket has been full for at least {@code idleNanos} and nothing is waiting to be synced
+     */
+    boolean isIdle(long now, long idleNanos) {
+        return now - fullAt.get() > idleNanos && now - blockedUntil > 0 && unsynced.get() == 0;
+    }
+}
@@ -7,13 +7,14 @@ package com.bankingsystem.service.factory;
 
 import com.bankingsystem.entity.account.Account;
 import com.bankingsystem.entity.person.Customer;
+import com.bankingsystem.entity.valueobject.Money;
 import com.bankingsystem.enums.AccountType;
 import org.springframework.stereotype.Component;
 
 @Component
 public abstract class AccountFactory {
 
-    public static Account createAccount(AccountType type, Customer customer, Double initialDeposit) {
+    public static Account createAccount(AccountType type, Customer customer, Money initialDeposit) {
         // TODO: Implement factory method pattern
         // TODO: Validate account creation parameters
         // TODO: Delegate to specific factory based on account type
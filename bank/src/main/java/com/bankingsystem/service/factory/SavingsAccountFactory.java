@@ -4,6 +4,7 @@ package com.bankingsystem.service.factory;
 import com.bankingsystem.entity.account.Account;
 import com.bankingsystem.entity.account.SavingsAccount;
 import com.bankingsystem.entity.person.Customer;
+import com.bankingsystem.entity.valueobject.Money;
 import com.bankingsystem.enums.AccountType;
 import org.springframework.stereotype.Component;
 
@@ -11,7 +12,7 @@ import org.springframework.stereotype.Component;
 public class SavingsAccountFactory extends AccountFactory {
 
     @Override
-    public Account createAccount(AccountType type, Customer customer, Double initialDeposit) {
+    public Account createAccount(AccountType type, Customer customer, Money initialDeposit) {
         // TODO: Create new SavingsAccount instance
         // TODO: Set savings-specific properties (interest rate, minimum balance)
         // TODO: Set initial deposit
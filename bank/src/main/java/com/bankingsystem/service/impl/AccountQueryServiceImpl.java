@@ -0,0 +1,53 @@
+// File: src/main/java/com/bankingsystem/service/impl/AccountQueryServiceImpl.java
+package com.bankingsystem.service.impl;
+
+import com.bankingsystem.dto.response.account.AccountBalanceView;
+import com.bankingsystem.dto.response.transaction.TransactionHistoryItem;
+import com.bankingsystem.exception.AccountNotFoundException;
+import com.bankingsystem.repository.account.ReactiveAccountReadRepository;
+import com.bankingsystem.service.interfaces.IAccountQueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of non-blocking account reads over R2DBC.
+ */
+@Service
+public class AccountQueryServiceImpl implements IAccountQueryService {
+
+    @Autowired
+    private ReactiveAccountReadRepository readRepository;
+
+    @Value("${banking.reactive.query-timeout:5s}")
+    private Duration queryTimeout;
+
+    @Value("${banking.transactions.history.max-page-size:200}")
+    private int maxPageSize;
+
+    @Override
+    public Mono<AccountBalanceView> getBalance(String accountNumber) {
+        return readRepository.findBalance(accountNumber)
+                .switchIfEmpty(Mono.error(() -> new AccountNotFoundException(accountNumber)))
+                .timeout(queryTimeout);
+    }
+
+    @Override
+    public Flux<TransactionHistoryItem> streamHistory(String accountNumber, LocalDate fromDate, LocalDate toDate,
+                                                      int limit) {
+        LocalDateTime from = fromDate == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : fromDate.atStartOfDay();
+        LocalDateTime to = (toDate == null ? LocalDate.now() : toDate).plusDays(1).atStartOfDay();
+        int cappedLimit = Math.max(1, Math.min(limit, maxPageSize));
+
+        return readRepository.findAccountId(accountNumber)
+                .switchIfEmpty(Mono.error(() -> new AccountNotFoundException(accountNumber)))
+                .timeout(queryTimeout)
+                .flatMapMany(accountId -> readRepository.streamHistory(accountId, from, to, cappedLimit));
+    }
+}
@@ -8,11 +8,15 @@ package com.bankingsystem.service.impl;
 import com.bankingsystem.service.interfaces.IAccountService;
 import com.bankingsystem.service.interfaces.INotificationService;
 import com.bankingsystem.service.interfaces.IAuditService;
+import com.bankingsystem.service.interfaces.IBalanceLedger;
+import com.bankingsystem.service.interfaces.IInterestCalculator;
 import com.bankingsystem.service.factory.AccountFactory;
 import com.bankingsystem.repository.account.AccountRepository;
+import com.bankingsystem.repository.account.DailyBalanceSnapshotRepository;
 import com.bankingsystem.repository.person.CustomerRepository;
 import com.bankingsystem.entity.account.Account;
 import com.bankingsystem.entity.person.Customer;
+import com.bankingsystem.entity.valueobject.Money;
 import com.bankingsystem.dto.request.account.CreateAccountRequest;
 import com.bankingsystem.dto.request.account.DepositRequest;
 import com.bankingsystem.dto.response.account.AccountResponse;
@@ -25,6 +29,7 @@ import com.bankingsystem.exception.InvalidTransactionException;
 import com.bankingsystem.exception.InsufficientFundsException;
 import com.bankingsystem.enums.AccountStatus;
 import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.service.statement.StatementGenerator;
 import com.bankingsystem.util.AccountNumberGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,9 +39,12 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -56,6 +64,9 @@ public class AccountServiceImpl implements IAccountService {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private List<IInterestCalculator> interestCalculators;
+
     @Autowired
     private AccountFactory accountFactory;
 
@@ -65,12 +76,21 @@ public class AccountServiceImpl implements IAccountService {
     @Autowired
     private AccountNumberGenerator accountNumberGenerator;
 
+    @Autowired
+    private StatementGenerator statementGenerator;
+
+    @Autowired
+    private DailyBalanceSnapshotRepository snapshotRepository;
+
     @Autowired
     private INotificationService notificationService;
 
     @Autowired
     private IAuditService auditService;
 
+    @Autowired
+    private IBalanceLedger balanceLedger;
+
     @Override
     @Transactional
     public AccountResponse createAccount(CreateAccountRequest request) {
@@ -96,7 +116,7 @@ public class AccountServiceImpl implements IAccountService {
 
             // TODO: Set account properties
             account.setCurrency(request.getCurrency());
-            account.setBalance(request.getInitialDeposit());
+            account.setBalance(Money.of(request.getInitialDeposit(), request.getCurrency()));
             account.setStatus(AccountStatus.ACTIVE);
             account.setOpenDate(LocalDate.now());
 
@@ -133,11 +153,14 @@ public class AccountServiceImpl implements IAccountService {
     }
 
     @Override
-    @Cacheable(value = "accounts", key = "#accountNumber")
+    // Not read-only, so it reads the primary: a lagging replica would refill the cache with the balance
+    // that an eviction after a posting just removed, and it would then stay there for the whole TTL
+    @Transactional
+    @Cacheable(value = "accounts", key = "#accountNumber", sync = true)
     public AccountResponse getAccountByNumber(String accountNumber) {
         logger.debug("Retrieving account: {}", accountNumber);
 
-        Account account = accountRepository.findByAccountNumber(accountNumber)
+        Account account = accountRepository.findWithOwnerByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
         // TODO: Apply security checks for account access
@@ -154,6 +177,7 @@ public class AccountServiceImpl implements IAccountService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PagedResponse<AccountResponse> getAccountsByCustomer(String customerId, Pageable pageable) {
         logger.debug("Retrieving accounts for customer: {}", customerId);
 
@@ -184,41 +208,38 @@ public class AccountServiceImpl implements IAccountService {
     }
 
     @Override
-    @CacheEvict(value = "accounts", key = "#accountNumber")
     @Transactional
     public AccountResponse processDeposit(String accountNumber, DepositRequest request) {
         logger.info("Processing deposit: account={}, amount={}", accountNumber, request.getAmount());
 
         try {
             // TODO: Find and validate account
-            Account account = accountRepository.findByAccountNumber(accountNumber)
+            Account account = accountRepository.findWithOwnerByAccountNumber(accountNumber)
                     .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
             // TODO: Validate deposit request
             validateDepositRequest(account, request);
 
-            // TODO: Update account balance
-            BigDecimal newBalance = account.getBalance().add(request.getAmount());
-            account.setBalance(newBalance);
-            account.setLastTransactionDate(LocalDateTime.now());
-
-            // TODO: Save updated account
-            Account updatedAccount = accountRepository.save(account);
-
-            // TODO: Create transaction record
-            createDepositTransaction(updatedAccount, request);
+            // The transaction row is written in this transaction; the ledger adds it to the balance in a batch
+            // after commit, so the managed entity is left untouched to avoid an UPDATE and optimistic-lock contention.
+            // The cached account is evicted once the balance is written.
+            IBalanceLedger.Posting posting = createDepositTransaction(account, request);
+            BigDecimal newBalance = Money.toBigDecimal(posting.balanceMinor(), account.getCurrency());
 
             // TODO: Send deposit notification
             notificationService.sendTransactionNotification(
-                    updatedAccount.getOwner(), TransactionType.DEPOSIT, request.getAmount());
+                    account.getOwner(), TransactionType.DEPOSIT, request.getAmount());
 
             // TODO: Log deposit for audit
-            auditService.logTransaction(updatedAccount, TransactionType.DEPOSIT, request.getAmount());
+            auditService.logTransaction(account, TransactionType.DEPOSIT, request.getAmount());
 
             logger.info("Deposit processed successfully: account={}, newBalance={}",
                     accountNumber, newBalance);
 
-            return accountMapper.toResponse(updatedAccount);
+            AccountResponse response = accountMapper.toResponse(account);
+            response.setBalance(newBalance);
+            response.setLastTransactionDate(LocalDateTime.now());
+            return response;
 
         } catch (Exception e) {
             logger.error("Failed to process deposit: account={}", accountNumber, e);
@@ -227,46 +248,37 @@ public class AccountServiceImpl implements IAccountService {
     }
 
     @Override
-    @CacheEvict(value = "accounts", key = "#accountNumber")
     @Transactional
     public AccountResponse processWithdrawal(String accountNumber, WithdrawRequest request) {
         logger.info("Processing withdrawal: account={}, amount={}", accountNumber, request.getAmount());
 
         try {
             // TODO: Find and validate account
-            Account account = accountRepository.findByAccountNumber(accountNumber)
+            Account account = accountRepository.findWithOwnerByAccountNumber(accountNumber)
                     .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
             // TODO: Validate withdrawal request
             validateWithdrawalRequest(account, request);
 
-            // TODO: Check sufficient balance
-            if (account.getBalance().compareTo(request.getAmount()) < 0) {
-                throw new InsufficientFundsException(accountNumber, account.getBalance(), request.getAmount());
-            }
-
-            // TODO: Update account balance
-            BigDecimal newBalance = account.getBalance().subtract(request.getAmount());
-            account.setBalance(newBalance);
-            account.setLastTransactionDate(LocalDateTime.now());
-
-            // TODO: Save updated account
-            Account updatedAccount = accountRepository.save(account);
-
-            // TODO: Create transaction record
-            createWithdrawalTransaction(updatedAccount, request);
+            // Debited with a conditional UPDATE in this transaction, together with the transaction row;
+            // throws InsufficientFundsException if the committed balance does not cover the amount
+            IBalanceLedger.Posting posting = createWithdrawalTransaction(account, request);
+            BigDecimal newBalance = Money.toBigDecimal(posting.balanceMinor(), account.getCurrency());
 
             // TODO: Send withdrawal notification
             notificationService.sendTransactionNotification(
-                    updatedAccount.getOwner(), TransactionType.WITHDRAWAL, request.getAmount());
+                    account.getOwner(), TransactionType.WITHDRAWAL, request.getAmount());
 
             // TODO: Log withdrawal for audit
-            auditService.logTransaction(updatedAccount, TransactionType.WITHDRAWAL, request.getAmount());
+            auditService.logTransaction(account, TransactionType.WITHDRAWAL, request.getAmount());
 
             logger.info("Withdrawal processed successfully: account={}, newBalance={}",
                     accountNumber, newBalance);
 
-            return accountMapper.toResponse(updatedAccount);
+            AccountResponse response = accountMapper.toResponse(account);
+            response.setBalance(newBalance);
+            response.setLastTransactionDate(LocalDateTime.now());
+            return response;
 
         } catch (Exception e) {
             logger.error("Failed to process withdrawal: account={}", accountNumber, e);
@@ -281,7 +293,7 @@ public class AccountServiceImpl implements IAccountService {
         logger.info("Freezing account: {}, reason: {}", accountNumber, reason);
 
         try {
-            Account account = accountRepository.findByAccountNumber(accountNumber)
+            Account account = accountRepository.findWithOwnerByAccountNumber(accountNumber)
                     .orElseThrow(() -> new AccountNotFoundException(accountNumber));
 
             // TODO: Validate account can be frozen
@@ -327,12 +339,22 @@ public class AccountServiceImpl implements IAccountService {
     }
 
     @Override
-    public Double calculateInterestForAccount(String accountNumber) {
-        // TODO: Find account by number
-        // TODO: Get interest calculator for account type
-        // TODO: Calculate interest based on balance and time
-        // TODO: Return calculated interest
-        return null;
+    public BigDecimal calculateInterestForAccount(String accountNumber) {
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+
+        // Calculators are injected in @Order order, so the first match is the most specific strategy
+        IInterestCalculator calculator = interestCalculators.stream()
+                .filter(candidate -> candidate.appliesTo(account))
+                .findFirst()
+                .orElse(null);
+        if (calculator == null) {
+            return BigDecimal.ZERO;
+        }
+
+        // Interest accrued so far in the current month
+        LocalDate today = LocalDate.now();
+        return calculator.calculateInterest(account, today.withDayOfMonth(1), today);
     }
 
     @Override
@@ -346,6 +368,22 @@ public class AccountServiceImpl implements IAccountService {
         return false;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal getBalanceAsOf(String accountNumber, LocalDateTime asOf) {
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+        return Money.toBigDecimal(snapshotRepository.balanceAsOf(account.getId(), asOf), account.getCurrency());
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void generateAccountStatement(String accountNumber, LocalDate startDate, LocalDate endDate,
+                                         OutputStream output) {
+        // One snapshot for the opening balance and the streamed rows, and a transaction for the cursor fetch size
+        statementGenerator.writeCsv(accountNumber, startDate, endDate, output);
+    }
+
     // Private helper methods
     private void validateAccountCreationRules(Customer customer, CreateAccountRequest request) {
         // TODO: Implement account creation validation rules
@@ -386,19 +424,15 @@ public class AccountServiceImpl implements IAccountService {
         // - Link to account
     }
 
-    private void createDepositTransaction(Account account, DepositRequest request) {
-        // TODO: Create deposit transaction record
-        // - Generate transaction ID
-        // - Set transaction details from request
-        // - Link to account
-        // - Set processing status
+    private IBalanceLedger.Posting createDepositTransaction(Account account, DepositRequest request) {
+        return balanceLedger.credit(account.getId(), account.getAccountNumber(), TransactionType.DEPOSIT,
+                Money.toMinorUnits(request.getAmount(), account.getCurrency()), account.getCurrency(),
+                request.getDescription());
     }
 
-    private void createWithdrawalTransaction(Account account, WithdrawRequest request) {
-        // TODO: Create withdrawal transaction record
-        // - Generate transaction ID
-        // - Set transaction details from request
-        // - Link to account
-        // - Set processing status
+    private IBalanceLedger.Posting createWithdrawalTransaction(Account account, WithdrawRequest request) {
+        return balanceLedger.debit(account.getId(), account.getAccountNumber(), TransactionType.WITHDRAWAL,
+                Money.toMinorUnits(request.getAmount(), account.getCurrency()), account.getCurrency(),
+                request.getDescription());
     }
 }
\ No newline at end of file
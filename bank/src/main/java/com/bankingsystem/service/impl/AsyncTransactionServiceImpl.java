@@ -1,28 +1,76 @@
 package com.bankingsystem.service.impl;
 
-import com.bankingsystem.service.interfaces.ITransactionService;
-import org.springframework.scheduling.annotation.Async;
+import com.bankingsystem.async.AsyncTransactionProcessor;
+import com.bankingsystem.dto.response.transaction.QueuedTransactionStatus;
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.security.AccountAccessGuard;
+import com.bankingsystem.service.interfaces.IAsyncTransactionService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Asynchronous implementation of transaction processing.
  * Used for high-volume batch processing or when immediate response isn't required.
+ * Requests are acknowledged once durable in the journal and applied in micro-batches
+ * by {@link AsyncTransactionProcessor}; clients poll {@link #getQueuedStatus(String)}.
  */
 @Service("asyncTransactionService")
-public class AsyncTransactionServiceImpl implements ITransactionService {
+public class AsyncTransactionServiceImpl implements IAsyncTransactionService {
+
+    @Autowired
+    private AsyncTransactionProcessor processor;
+
+    @Autowired
+    private AccountAccessGuard accountAccess;
 
-    @Async
     @Override
     public TransactionResultResponse processDeposit(DepositRequest request) {
-        // Asynchronous processing logic
-        // Queue transaction for batch processing
-        // Return immediate acknowledgment
+        return queueDeposit(request.getAccountNumber(), request);
+    }
+
+    @Override
+    public TransactionResultResponse processWithdrawal(WithdrawRequest request) {
+        return queueWithdrawal(request.getAccountNumber(), request);
+    }
+
+    @Override
+    public TransactionResultResponse queueDeposit(String accountNumber, DepositRequest request) {
+        String transactionId = processor.submit(
+                accountNumber,
+                TransactionType.DEPOSIT,
+                Money.toMinorUnits(request.getAmount(), request.getCurrency()),
+                request.getCurrency(),
+                request.getDescription());
+
         return TransactionResultResponse.queued(
-                generateTransactionId(),
+                transactionId,
                 "Transaction queued for processing"
         );
     }
 
+    @Override
+    public TransactionResultResponse queueWithdrawal(String accountNumber, WithdrawRequest request) {
+        String transactionId = processor.submit(
+                accountNumber,
+                TransactionType.WITHDRAWAL,
+                Money.toMinorUnits(request.getAmount(), request.getCurrency()),
+                request.getCurrency(),
+                request.getDescription());
+
+        return TransactionResultResponse.queued(
+                transactionId,
+                "Transaction queued for processing"
+        );
+    }
+
+    @Override
+    public QueuedTransactionStatus getQueuedStatus(String transactionId) {
+        return processor.find(transactionId)
+                .filter(tracked -> accountAccess.canAccess(tracked.accountNumber()))
+                .map(AsyncTransactionProcessor.TrackedStatus::status)
+                .orElseGet(() -> new QueuedTransactionStatus(transactionId, null, "Unknown transaction"));
+    }
+
     // Other async implementations...
-}
\ No newline at end of file
+}
@@ -5,31 +5,109 @@
 // File: src/main/java/com/bankingsystem/service/impl/AuditServiceImpl.java
 package com.bankingsystem.service.impl;
 
+import com.bankingsystem.audit.AuditLogWriter;
 import com.bankingsystem.service.interfaces.IAuditService;
-import com.bankingsystem.entity.security.AuditLog;
+import com.bankingsystem.entity.account.Account;
+import com.bankingsystem.entity.person.Customer;
+import com.bankingsystem.enums.AccountStatus;
+import com.bankingsystem.enums.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Audit service writing to the append-only, hash-chained {@link AuditLogWriter} instead of a table,
+ * so auditing adds no rows to the request's database transaction. With {@code await-durable} the caller
+ * waits for the group commit that makes its record durable.
+ */
 @Service
 public class AuditServiceImpl implements IAuditService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuditServiceImpl.class);
+
+    private static final String CATEGORY_TRANSACTION = "TRANSACTION";
+    private static final String CATEGORY_ACCOUNT = "ACCOUNT";
+    private static final String CATEGORY_SECURITY = "SECURITY";
+    private static final String CATEGORY_DATA_ACCESS = "DATA_ACCESS";
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Value("${banking.audit.await-durable:true}")
+    private boolean awaitDurable;
+
+    @Value("${banking.audit.await-timeout-ms:1000}")
+    private long awaitTimeoutMs;
+
     public void logTransaction(String transactionId, String userId, String action, String details) {
-        // TODO: Create audit log entry
-        // TODO: Include timestamp and user information
-        // TODO: Store sensitive transaction details securely
-        // TODO: Ensure audit logs are tamper-proof
+        write(CATEGORY_TRANSACTION, userId, null, action, "transactionId=" + transactionId + "; " + details);
+    }
+
+    public void logTransaction(Account account, TransactionType type, BigDecimal amount) {
+        write(CATEGORY_TRANSACTION, currentUser(), account.getAccountNumber(), type.name(),
+                "amount=" + amount.toPlainString() + "; currency=" + account.getCurrency());
+    }
+
+    public void logAccountCreation(Account account, Customer customer) {
+        write(CATEGORY_ACCOUNT, currentUser(), account.getAccountNumber(), "ACCOUNT_CREATED",
+                "customerId=" + customer.getCustomerId() + "; currency=" + account.getCurrency());
+    }
+
+    public void logAccountStatusChange(Account account, AccountStatus newStatus, String reason) {
+        write(CATEGORY_ACCOUNT, currentUser(), account.getAccountNumber(), "STATUS_" + newStatus.name(),
+                "reason=" + reason);
     }
 
     public void logSecurityEvent(String userId, String event, String ipAddress, String details) {
-        // TODO: Log security-related events
         // TODO: Include geolocation information
         // TODO: Flag suspicious activities
         // TODO: Integrate with fraud detection system
+        write(CATEGORY_SECURITY, userId, null, event, "ip=" + ipAddress + "; " + details);
     }
 
     public void logDataAccess(String userId, String resource, String action) {
-        // TODO: Log data access for compliance
         // TODO: Track personal information access
         // TODO: Monitor for unauthorized access patterns
-        // TODO: Generate compliance reports
+        write(CATEGORY_DATA_ACCESS, userId, null, action, "resource=" + resource);
+    }
+
+    // Private helper methods
+
+    private void write(String category, String userId, String accountNumber, String action, String details) {
+        CompletableFuture<Long> durable = auditLogWriter.append(category, userId, accountNumber, action, details);
+        if (!awaitDurable) {
+            durable.whenComplete((sequence, error) -> {
+                if (error != null) {
+                    logger.error("Audit record lost: category={}, action={}, account={}",
+                            category, action, accountNumber, error);
+                }
+            });
+            return;
+        }
+        try {
+            durable.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted waiting for audit record: category={}, action={}", category, action);
+        } catch (ExecutionException | TimeoutException e) {
+            // The business operation has already happened; an audit failure must not undo it
+            logger.error("Audit record not confirmed: category={}, action={}, account={}",
+                    category, action, accountNumber, e);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "system" : authentication.getName();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,400 @@
+// File: src/main/java/com/bankingsystem/service/impl/IdempotencyServiceImpl.java
+package com.bankingsystem.service.impl;
+
+import com.bankingsystem.dto.response.common.ApiResponse;
+import com.bankingsystem.exception.BankingException;
+import com.bankingsystem.exception.IdempotencyConflictException;
+import com.bankingsystem.service.interfaces.IIdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key handling backed by Redis with a per-node cache in front.
+ *
+ * A key is scoped to the operation and the authenticated user and remembers a SHA-256 fingerprint of the
+ * request body, so reusing it for a different request is refused. Concurrent duplicates on one node wait for
+ * the first request's future instead of reaching Redis; across nodes the first request claims the key with
+ * SET NX and the others poll until its response is stored. Only responses are stored: if the operation throws,
+ * the claim is released and a retry runs it again. If Redis is unavailable, deduplication is node-local only.
+ * A claim expires after in-progress-ttl so a crashed node cannot hold a key forever; while the operation is still
+ * running its owner keeps pushing that expiry back, so a slow request is never run a second time alongside it.
+ */
+@Service
+public class IdempotencyServiceImpl implements IIdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    // Status of a claim whose request has not finished yet
+    private static final int PENDING = 0;
+
+    // Deletes the claim only if it is still ours, not one taken over after it expired
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0",
+            Long.class);
+
+    // Pushes the claim's expiry back, again only if it is still ours
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String keyPrefix;
+    private final Duration ttl;
+    private final Duration inProgressTtl;
+    private final long waitTimeoutMillis;
+    private final int maxKeyLength;
+
+    private final Cache<String, StoredResponse> completed;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService heartbeat;
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter coalesced;
+    private final Counter conflicts;
+    private final Counter redisFailures;
+
+    /**
+     * A stored response, or with status {@link #PENDING} a claim whose body is the owner's token
+     */
+    record StoredResponse(String fingerprint, int status, String body) {
+        boolean isPending() {
+            return status == PENDING;
+        }
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<StoredResponse> result) {}
+
+    public IdempotencyServiceImpl(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${banking.idempotency.key-prefix:banking:idempotency:}") String keyPrefix,
+                                  @Value("${banking.idempotency.ttl:24h}") Duration ttl,
+                                  @Value("${banking.idempotency.in-progress-ttl:30s}") Duration inProgressTtl,
+                                  @Value("${banking.idempotency.wait-timeout:10s}") Duration waitTimeout,
+                                  @Value("${banking.idempotency.max-key-length:128}") int maxKeyLength,
+                                  @Value("${banking.idempotency.local.max-size:100000}") long localMaxSize,
+                                  @Value("${banking.idempotency.local.ttl:10m}") Duration localTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+        this.inProgressTtl = inProgressTtl;
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.maxKeyLength = maxKeyLength;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl.compareTo(ttl) < 0 ? localTtl : ttl)
+                .build();
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.executed = outcome(meterRegistry, "executed");
+        this.replayed = outcome(meterRegistry, "replayed");
+        this.coalesced = outcome(meterRegistry, "coalesced");
+        this.conflicts = outcome(meterRegistry, "conflict");
+        this.redisFailures = Counter.builder("banking.idempotency.redis.failures").register(meterRegistry);
+    }
+
+    @Override
+    public <T> ResponseEntity<ApiResponse<T>> execute(String idempotencyKey, String operation, Object request,
+                                                      Class<T> dataType,
+                                                      Supplier<ResponseEntity<ApiResponse<T>>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > maxKeyLength) {
+            throw new BankingException("INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency key longer than " + maxKeyLength + " characters",
+                    "The Idempotency-Key header is too long.");
+        }
+        String scopedKey = operation + ":" + currentUser() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        StoredResponse stored = completed.getIfPresent(scopedKey);
+        if (stored != null) {
+            return replay(stored, fingerprint, idempotencyKey, dataType);
+        }
+
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(scopedKey, mine);
+        if (running != null) {
+            if (!running.fingerprint().equals(fingerprint)) {
+                conflicts.increment();
+                throw IdempotencyConflictException.reused(idempotencyKey);
+            }
+            coalesced.increment();
+            return replay(await(running.result(), idempotencyKey), fingerprint, idempotencyKey, dataType);
+        }
+
+        try {
+            StoredResponse result = claim(scopedKey, fingerprint, idempotencyKey);
+            if (!result.isPending()) {
+                completed.put(scopedKey, result);
+                mine.result().complete(result);
+                return replay(result, fingerprint, idempotencyKey, dataType);
+            }
+
+            ResponseEntity<ApiResponse<T>> response;
+            ClaimRenewal renewal = new ClaimRenewal(scopedKey, write(result));
+            renewal.schedule();
+            try {
+                response = action.get();
+            } catch (RuntimeException e) {
+                renewal.cancel();
+                release(scopedKey, result);
+                throw e;
+            }
+            renewal.cancel();
+            executed.increment();
+            StoredResponse outcome = store(scopedKey, fingerprint, response);
+            completed.put(scopedKey, outcome);
+            mine.result().complete(outcome);
+            return response;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scopedKey, mine);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    // Private helper methods
+
+    /**
+     * Claim the key in Redis, or return the response stored by whoever claimed it first
+     * @return A pending claim if this request should run, otherwise the stored response
+     */
+    private StoredResponse claim(String scopedKey, String fingerprint, String idempotencyKey) {
+        String redisKey = keyPrefix + scopedKey;
+        StoredResponse claim = new StoredResponse(fingerprint, PENDING, UUID.randomUUID().toString());
+        String claimValue = write(claim);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        long pauseMillis = 10;
+        try {
+            while (true) {
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(redisKey, claimValue, inProgressTtl))) {
+                    return claim;
+                }
+                String existing = redisTemplate.opsForValue().get(redisKey);
+                if (existing != null) {
+                    StoredResponse stored = read(existing);
+                    if (!stored.fingerprint().equals(fingerprint)) {
+                        conflicts.increment();
+                        throw IdempotencyConflictException.reused(idempotencyKey);
+                    }
+                    if (!stored.isPending()) {
+                        return stored;
+                    }
+                    // Another node is running it; wait for its response rather than running it twice
+                    if (System.nanoTime() - deadline > 0) {
+                        throw IdempotencyConflictException.inProgress(idempotencyKey);
+                    }
+                    Thread.sleep(pauseMillis);
+                    pauseMillis = Math.min(pauseMillis * 2, 200);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyConflictException.inProgress(idempotencyKey);
+        } catch (DataAccessException e) {
+            redisFailures.increment();
+            logger.warn("Idempotency store unavailable, deduplicating {} on this node only: {}",
+                    scopedKey, e.getMessage());
+            return claim;
+        }
+    }
+
+    private StoredResponse store(String scopedKey, String fingerprint, ResponseEntity<?> response) {
+        StoredResponse stored = new StoredResponse(fingerprint, response.getStatusCode().value(),
+                write(response.getBody()));
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + scopedKey, write(stored), ttl);
+        } catch (DataAccessException e) {
+            // The operation has happened; a retry reaching another node would run it again
+            redisFailures.increment();
+            logger.error("Failed to store idempotent response for {}", scopedKey, e);
+        }
+        return stored;
+    }
+
+    private void release(String scopedKey, StoredResponse claim) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(keyPrefix + scopedKey), write(claim));
+        } catch (DataAccessException e) {
+            // The claim expires after in-progress-ttl
+            redisFailures.increment();
+            logger.warn("Failed to release idempotency claim {}: {}", scopedKey, e.getMessage());
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> replay(StoredResponse stored, String fingerprint,
+                                                      String idempotencyKey, Class<T> dataType) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            conflicts.increment();
+            throw IdempotencyConflictException.reused(idempotencyKey);
+        }
+        replayed.increment();
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, dataType);
+        try {
+            ApiResponse<T> body = objectMapper.readValue(stored.body(), type);
+            return ResponseEntity.status(stored.status()).header(REPLAYED_HEADER, "true").body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response cannot be read", e);
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> result, String idempotencyKey) {
+        try {
+            return result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw IdempotencyConflictException.inProgress(idempotencyKey);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyConflictException.inProgress(idempotencyKey);
+        } catch (ExecutionException e) {
+            // Duplicates of a failed request fail the same way
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Idempotent request failed", e.getCause());
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Cannot fingerprint request", e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize idempotency record", e);
+        }
+    }
+
+    private StoredResponse read(String value) {
+        try {
+            return objectMapper.readValue(value, StoredResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read idempotency record", e);
+        }
+    }
+
+    /**
+     * Extends a claim every third of in-progress-ttl until cancelled, so it outlives a slow operation
+     * but still frees up within one in-progress-ttl of its owner dying
+     */
+    private final class ClaimRenewal implements Runnable {
+        private final String scopedKey;
+        private final String claimValue;
+        private volatile boolean cancelled;
+        private volatile ScheduledFuture<?> next;
+
+        ClaimRenewal(String scopedKey, String claimValue) {
+            this.scopedKey = scopedKey;
+            this.claimValue = claimValue;
+        }
+
+        void schedule() {
+            try {
+                next = heartbeat.schedule(this, Math.max(1, inProgressTtl.toMillis() / 3), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the claim simply expires
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> pending = next;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(keyPrefix + scopedKey), claimValue,
+                        String.valueOf(inProgressTtl.toMillis()));
+                if (extended == null || extended == 0) {
+                    if (!cancelled) {
+                        // Expired while Redis was unreachable and possibly taken over; nothing left to extend
+                        logger.warn("Idempotency claim {} was lost while its request was still running", scopedKey);
+                    }
+                    return;
+                }
+            } catch (DataAccessException e) {
+                redisFailures.increment();
+                logger.debug("Failed to extend idempotency claim {}: {}", scopedKey, e.getMessage());
+            }
+            if (!cancelled) {
+                schedule();
+            }
+        }
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("banking.idempotency.requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "anonymous" : authentication.getName();
+    }
+}
@@ -8,16 +8,60 @@ package com.bankingsystem.service.impl;
 import com.bankingsystem.service.interfaces.INotificationService;
 import com.bankingsystem.entity.person.Person;
 import com.bankingsystem.entity.transaction.Transaction;
+import com.bankingsystem.entity.valueobject.ContactInfo;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.event.TransactionCompletedEvent;
 import com.bankingsystem.listener.INotificationObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
 
+/**
+ * Notification service fanning events out to the registered observers.
+ * Each observer is called on the shared task executor (virtual threads in virtual mode); a semaphore caps
+ * concurrent deliveries so a burst cannot open more mail/SMS connections than the providers accept.
+ * Transaction notifications are published as events and delivered by the NotificationDispatcher after commit.
+ */
 @Service
 public class NotificationServiceImpl implements INotificationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
+
     private final List<INotificationObserver> observers = new CopyOnWriteArrayList<>();
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Value("${banking.execution.notification-concurrency:50}")
+    private int maxConcurrentDeliveries;
+
+    private Semaphore deliveryPermits;
+
+    /**
+     * Event data for a direct notification
+     */
+    public record NotificationPayload(String message, Person recipient) {}
+
+    @PostConstruct
+    void init() {
+        deliveryPermits = new Semaphore(maxConcurrentDeliveries);
+    }
+
     public void addObserver(INotificationObserver observer) {
         observers.add(observer);
     }
@@ -30,11 +74,25 @@ public class NotificationServiceImpl implements INotificationService {
     public void sendNotification(String message, Person recipient) {
         // TODO: Determine notification preferences for recipient
         // TODO: Create notification event
-        // TODO: Notify all observers
+        notifyObservers("NOTIFICATION", new NotificationPayload(message, recipient));
         // TODO: Log notification attempt
         // TODO: Handle delivery failures
     }
 
+    @Override
+    public void sendTransactionNotification(Person recipient, TransactionType type, BigDecimal amount) {
+        // Only published here; delivery happens after the caller's transaction commits
+        ContactInfo contactInfo = recipient.getContactInfo();
+        eventPublisher.publishEvent(new TransactionCompletedEvent(
+                recipient.getId(),
+                contactInfo == null ? null : contactInfo.getEmail(),
+                contactInfo == null ? null : contactInfo.getPhoneNumber(),
+                contactInfo == null ? null : contactInfo.getPreferredContact(),
+                type,
+                amount,
+                LocalDateTime.now()));
+    }
+
     @Override
     public void sendTransactionAlert(Transaction transaction) {
         // TODO: Create transaction alert message
@@ -45,8 +103,26 @@ public class NotificationServiceImpl implements INotificationService {
     }
 
     private void notifyObservers(String eventType, Object eventData) {
-        // TODO: Notify all registered observers
-        // TODO: Handle observer failures gracefully
-        // TODO: Log notification attempts
+        for (INotificationObserver observer : observers) {
+            taskExecutor.execute(() -> deliver(observer, eventType, eventData));
+        }
+    }
+
+    private void deliver(INotificationObserver observer, String eventType, Object eventData) {
+        try {
+            // Waiting here is cheap on a virtual thread and keeps the caller from blocking
+            deliveryPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            observer.update(eventType, eventData);
+        } catch (RuntimeException e) {
+            // One failing channel must not affect the others
+            logger.warn("Notification observer {} failed for {}", observer.getClass().getSimpleName(), eventType, e);
+        } finally {
+            deliveryPermits.release();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+// File: src/main/java/com/bankingsystem/service/impl/TransactionHistoryServiceImpl.java
+package com.bankingsystem.service.impl;
+
+import com.bankingsystem.dto.request.transaction.TransactionSearchRequest;
+import com.bankingsystem.dto.response.common.CursorPage;
+import com.bankingsystem.dto.response.transaction.TransactionHistoryItem;
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.exception.AccountNotFoundException;
+import com.bankingsystem.exception.BankingException;
+import com.bankingsystem.service.interfaces.ITransactionHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset-paginated transaction history.
+ *
+ * Rows are ordered by {@code (timestamp, id)} descending and each page continues strictly after the last
+ * row of the previous one, so the query is a range scan on idx_transactions_account_timestamp_id at any
+ * depth instead of an OFFSET that reads and discards every earlier row. Only the columns the response
+ * needs are selected; no entities or lazy associations are loaded.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TransactionHistoryServiceImpl implements ITransactionHistoryService {
+
+    private static final String ACCOUNT_SQL =
+            "SELECT id, currency FROM accounts WHERE account_number = :accountNumber";
+
+    private static final String HISTORY_SELECT =
+            "SELECT t.id, t.transaction_id, t.transaction_type, t.amount, t.fees, t.currency, t.timestamp, " +
+            "t.description, t.status FROM transactions t WHERE t.account_id = :accountId";
+
+    private static final String HISTORY_ORDER = " ORDER BY t.timestamp DESC, t.id DESC LIMIT :fetch";
+
+    private static final char CURSOR_SEPARATOR = '|';
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Value("${banking.transactions.history.max-page-size:200}")
+    private int maxPageSize;
+
+    private record AccountKey(UUID id, Currency currency) {}
+
+    private record Position(LocalDateTime timestamp, UUID id) {}
+
+    private record Row(Position position, TransactionHistoryItem item) {}
+
+    @Override
+    public CursorPage<TransactionHistoryItem> getHistory(String accountNumber, TransactionSearchRequest filters,
+                                                         String cursor, int limit) {
+        AccountKey account = findAccount(accountNumber);
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+
+        StringBuilder sql = new StringBuilder(HISTORY_SELECT);
+        MapSqlParameterSource params = new MapSqlParameterSource("accountId", account.id());
+
+        if (cursor != null && !cursor.isBlank()) {
+            Position after = decodeCursor(cursor);
+            // Row-value comparison keeps the predicate on the index order
+            sql.append(" AND (t.timestamp, t.id) < (:afterTimestamp, :afterId)");
+            params.addValue("afterTimestamp", after.timestamp()).addValue("afterId", after.id());
+        }
+        if (filters != null) {
+            appendFilters(sql, params, filters, account.currency());
+        }
+        sql.append(HISTORY_ORDER);
+        // One extra row tells us whether another page exists
+        params.addValue("fetch", pageSize + 1);
+
+        List<Row> rows = namedJdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> mapRow(rs));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Row> page = hasMore ? rows.subList(0, pageSize) : rows;
+        List<TransactionHistoryItem> items = new ArrayList<>(page.size());
+        for (Row row : page) {
+            items.add(row.item());
+        }
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1).position()) : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    // Private helper methods
+
+    private AccountKey findAccount(String accountNumber) {
+        List<AccountKey> accounts = namedJdbcTemplate.query(ACCOUNT_SQL,
+                new MapSqlParameterSource("accountNumber", accountNumber),
+                (rs, rowNum) -> new AccountKey(rs.getObject("id", UUID.class), Currency.valueOf(rs.getString("currency"))));
+        if (accounts.isEmpty()) {
+            throw new AccountNotFoundException(accountNumber);
+        }
+        return accounts.get(0);
+    }
+
+    private static void appendFilters(StringBuilder sql, MapSqlParameterSource params,
+                                      TransactionSearchRequest filters, Currency currency) {
+        if (filters.getFromDate() != null) {
+            sql.append(" AND t.timestamp >= :fromTimestamp");
+            params.addValue("fromTimestamp", filters.getFromDate().atStartOfDay());
+        }
+        if (filters.getToDate() != null) {
+            sql.append(" AND t.timestamp < :toTimestamp");
+            params.addValue("toTimestamp", filters.getToDate().plusDays(1).atStartOfDay());
+        }
+        if (filters.getTypes() != null && !filters.getTypes().isEmpty()) {
+            sql.append(" AND t.transaction_type IN (:types)");
+            params.addValue("types", filters.getTypes().stream().map(Enum::name).toList());
+        }
+        if (filters.getMinAmount() != null) {
+            sql.append(" AND t.amount >= :minAmount");
+            params.addValue("minAmount", Money.toMinorUnits(filters.getMinAmount(), currency));
+        }
+        if (filters.getMaxAmount() != null) {
+            sql.append(" AND t.amount <= :maxAmount");
+            params.addValue("maxAmount", Money.toMinorUnits(filters.getMaxAmount(), currency));
+        }
+    }
+
+    private static Row mapRow(ResultSet rs) throws SQLException {
+        Currency currency = Currency.valueOf(rs.getString("currency"));
+        TransactionHistoryItem item = new TransactionHistoryItem();
+        item.setTransactionId(rs.getString("transaction_id"));
+        item.setTransactionType(TransactionType.valueOf(rs.getString("transaction_type")));
+        item.setAmount(Money.toBigDecimal(rs.getLong("amount"), currency));
+        long fees = rs.getLong("fees");
+        item.setFees(rs.wasNull() ? null : Money.toBigDecimal(fees, currency));
+        item.setCurrency(currency);
+        LocalDateTime timestamp = rs.getObject("timestamp", LocalDateTime.class);
+        item.setTimestamp(timestamp);
+        item.setDescription(rs.getString("description"));
+        String status = rs.getString("status");
+        item.setStatus(status == null ? null : TransactionStatus.valueOf(status));
+        return new Row(new Position(timestamp, rs.getObject("id", UUID.class)), item);
+    }
+
+    private static String encodeCursor(Position position) {
+        String raw = position.timestamp().toString() + CURSOR_SEPARATOR + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            return new Position(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BankingException("INVALID_CURSOR", "Malformed history cursor: " + cursor,
+                    "The page cursor is invalid. Please restart from the first page.");
+        }
+    }
+}
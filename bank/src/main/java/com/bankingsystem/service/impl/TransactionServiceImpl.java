@@ -2,22 +2,37 @@
 package com.bankingsystem.service.impl;
 
 import com.bankingsystem.service.interfaces.ITransactionService;
+import com.bankingsystem.service.interfaces.IBalanceLedger;
+import com.bankingsystem.service.transfer.ScheduledTransferEngine;
+import com.bankingsystem.service.transfer.TransferEngine;
 import com.bankingsystem.repository.transaction.TransactionRepository;
 import com.bankingsystem.repository.account.AccountRepository;
 import com.bankingsystem.entity.account.Account;
-import com.bankingsystem.entity.transaction.Transaction;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.entity.valueobject.Money;
 import com.bankingsystem.exception.InsufficientFundsException;
+import com.bankingsystem.exception.InvalidTransactionException;
 import com.bankingsystem.exception.AccountNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
 /**
  * Standard implementation of transaction processing.
  * This is the default implementation used in production.
  */
+@Primary
 @Service("standardTransactionService")
 @Transactional
 public class TransactionServiceImpl implements ITransactionService {
@@ -33,6 +48,15 @@ public class TransactionServiceImpl implements ITransactionService {
     @Autowired
     private INotificationService notificationService;
 
+    @Autowired
+    private IBalanceLedger balanceLedger;
+
+    @Autowired
+    private TransferEngine transferEngine;
+
+    @Autowired
+    private ScheduledTransferEngine scheduledTransferEngine;
+
     @Override
     public TransactionResultResponse processDeposit(DepositRequest request) {
         logger.info("Processing deposit: accountNumber={}, amount={}",
@@ -44,27 +68,25 @@ public class TransactionServiceImpl implements ITransactionService {
                     .orElseThrow(() -> new AccountNotFoundException(request.getAccountNumber()));
 
             // Validate deposit
-            if (request.getAmount() <= 0) {
+            if (request.getAmount().signum() <= 0) {
                 throw new InvalidTransactionException("Deposit amount must be positive");
             }
 
-            // Process deposit
-            account.setBalance(account.getBalance() + request.getAmount());
-            accountRepository.save(account);
-
-            // Create transaction record
-            Transaction transaction = createDepositTransaction(account, request);
-            transactionRepository.save(transaction);
+            // Transaction row written in this transaction; the balance follows in a ledger batch after commit
+            IBalanceLedger.Posting posting = balanceLedger.credit(account.getId(), account.getAccountNumber(),
+                    TransactionType.DEPOSIT, Money.toMinorUnits(request.getAmount(), account.getCurrency()),
+                    account.getCurrency(), request.getDescription());
 
             // Send notification
-            notificationService.sendTransactionAlert(transaction);
+            notificationService.sendTransactionNotification(
+                    account.getOwner(), TransactionType.DEPOSIT, request.getAmount());
 
-            logger.info("Deposit processed successfully: transactionId={}", transaction.getTransactionId());
+            logger.info("Deposit processed successfully: transactionId={}", posting.transactionId());
 
             return TransactionResultResponse.success(
-                    transaction.getTransactionId(),
+                    posting.transactionId(),
                     "Deposit processed successfully",
-                    account.getBalance()
+                    Money.toBigDecimal(posting.balanceMinor(), account.getCurrency())
             );
 
         } catch (Exception e) {
@@ -97,18 +119,45 @@ public class TransactionServiceImpl implements ITransactionService {
         return null;
     }
 
+    /**
+     * Runs outside the class-level transaction: the engine commits each transfer in its own transaction
+     * while it still holds the account locks, and a refused transfer must not mark an outer one rollback-only
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TransactionResultResponse processTransfer(TransferRequest request) {
-        // TODO: Validate transfer request
-        // TODO: Find source and destination accounts
-        // TODO: Check sufficient balance in source
-        // TODO: Check transfer limits
-        // TODO: Create transfer transaction
-        // TODO: Update both account balances atomically
-        // TODO: Apply any fees
-        // TODO: Save transaction record
-        // TODO: Send notifications to both parties
-        return null;
+        logger.info("Processing transfer: from={}, to={}, amount={}",
+                request.getFromAccountNumber(), request.getToAccountNumber(), request.getAmount());
+
+        try {
+            if (!request.isImmediate()) {
+                return scheduleTransfer(request);
+            }
+
+            // Locks both accounts in a fixed order, checks limits and posts debit (plus fee), credit and both
+            // TRANSFER_OUT / TRANSFER_IN rows in a single round trip
+            TransferEngine.TransferResult result = transferEngine.transfer(
+                    request.getFromAccountNumber(),
+                    request.getToAccountNumber(),
+                    request.getAmount(),
+                    request.getCurrency(),
+                    request.getDescription());
+
+            // Published now, delivered to both parties after commit
+            notifyParty(request.getFromAccountNumber(), TransactionType.TRANSFER_OUT, request.getAmount());
+            notifyParty(request.getToAccountNumber(), TransactionType.TRANSFER_IN, request.getAmount());
+
+            return TransactionResultResponse.success(
+                    result.debitTransactionId(),
+                    "Transfer completed successfully",
+                    result.fromBalance()
+            );
+
+        } catch (AccountNotFoundException | InsufficientFundsException | InvalidTransactionException e) {
+            // Refusals only; anything else propagates so the request fails and can be retried
+            logger.warn("Transfer refused: {}", e.getMessage());
+            return TransactionResultResponse.failure("TRANSFER_FAILED", e.getMessage());
+        }
     }
 
     @Override
@@ -125,8 +174,38 @@ public class TransactionServiceImpl implements ITransactionService {
 
     // Other method implementations...
 
-    private Transaction createDepositTransaction(Account account, DepositRequest request) {
-        // Implementation for creating deposit transaction entity
-        return null; // TODO: Implement
+    private TransactionResultResponse scheduleTransfer(TransferRequest request) {
+        LocalDate scheduledDate = parseScheduledDate(request.getScheduledDate());
+        UUID id = scheduledTransferEngine.schedule(
+                request.getFromAccountNumber(),
+                request.getToAccountNumber(),
+                request.getAmount(),
+                request.getCurrency(),
+                request.getDescription(),
+                scheduledDate,
+                currentUser());
+        return TransactionResultResponse.success(id.toString(), "Transfer scheduled for " + scheduledDate, null);
+    }
+
+    private void notifyParty(String accountNumber, TransactionType type, BigDecimal amount) {
+        accountRepository.findWithOwnerByAccountNumber(accountNumber).ifPresent(account ->
+                notificationService.sendTransactionNotification(account.getOwner(), type, amount));
     }
+
+    private static LocalDate parseScheduledDate(String scheduledDate) {
+        if (scheduledDate == null || scheduledDate.isBlank()) {
+            throw new InvalidTransactionException("Scheduled date is required for a transfer that is not immediate");
+        }
+        try {
+            return LocalDate.parse(scheduledDate);
+        } catch (DateTimeParseException e) {
+            throw new InvalidTransactionException("Scheduled date must be in yyyy-MM-dd format: " + scheduledDate);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "system" : authentication.getName();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+// File: src/main/java/com/bankingsystem/service/interfaces/IAccountQueryService.java
+package com.bankingsystem.service.interfaces;
+
+import com.bankingsystem.dto.response.account.AccountBalanceView;
+import com.bankingsystem.dto.response.transaction.TransactionHistoryItem;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Interface for non-blocking account reads backing the v2 API.
+ * Nothing here blocks a request thread or takes a JDBC connection.
+ */
+public interface IAccountQueryService {
+
+    /**
+     * Get the current balance of an account
+     * @param accountNumber Account to query
+     * @return Balance, or an error signal with AccountNotFoundException
+     */
+    Mono<AccountBalanceView> getBalance(String accountNumber);
+
+    /**
+     * Stream an account's transactions, newest first
+     * @param accountNumber Account to query
+     * @param fromDate First day to include, or null for no lower bound
+     * @param toDate Last day to include, or null for today
+     * @param limit Maximum number of items to emit
+     * @return History items as they are read
+     */
+    Flux<TransactionHistoryItem> streamHistory(String accountNumber, LocalDate fromDate, LocalDate toDate, int limit);
+}
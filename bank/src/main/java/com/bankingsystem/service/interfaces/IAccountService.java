@@ -13,7 +13,10 @@ import com.bankingsystem.dto.response.account.BalanceResponse;
 import com.bankingsystem.dto.response.common.PagedResponse;
 import com.bankingsystem.enums.AccountStatus;
 import org.springframework.data.domain.Pageable;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -128,11 +131,19 @@ public interface IAccountService {
     List<AccountResponse> getDormantAccounts(int daysSinceLastTransaction);
 
     /**
-     * Generate account statement
+     * Get the balance an account had at a point in time
+     * @param accountNumber Account to query
+     * @param asOf Point in time; postings at exactly this instant are excluded
+     * @return Balance in the account currency
+     */
+    BigDecimal getBalanceAsOf(String accountNumber, LocalDateTime asOf);
+
+    /**
+     * Generate account statement as CSV, streamed to {@code output} row by row
      * @param accountNumber Account to generate statement for
-     * @param startDate Statement start date
-     * @param endDate Statement end date
-     * @return Account statement data
+     * @param startDate Statement start date (inclusive)
+     * @param endDate Statement end date (inclusive)
+     * @param output Destination, e.g. the HTTP response body; not closed
      */
-    AccountStatement generateAccountStatement(String accountNumber, String startDate, String endDate);
+    void generateAccountStatement(String accountNumber, LocalDate startDate, LocalDate endDate, OutputStream output);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+// File: src/main/java/com/bankingsystem/service/interfaces/IAsyncTransactionService.java
+package com.bankingsystem.service.interfaces;
+
+import com.bankingsystem.dto.request.account.DepositRequest;
+import com.bankingsystem.dto.request.account.WithdrawRequest;
+import com.bankingsystem.dto.response.transaction.QueuedTransactionStatus;
+import com.bankingsystem.dto.response.transaction.TransactionResultResponse;
+
+/**
+ * Interface for deposits and withdrawals that are acknowledged once queued and applied in the background.
+ * Results are polled with {@link #getQueuedStatus(String)}.
+ */
+public interface IAsyncTransactionService extends ITransactionService {
+
+    /**
+     * Queue a deposit to an account
+     * @param accountNumber Account to credit
+     * @param request Amount, currency and description
+     * @return Result with status PENDING and the transaction ID to poll
+     */
+    TransactionResultResponse queueDeposit(String accountNumber, DepositRequest request);
+
+    /**
+     * Queue a withdrawal from an account; funds are checked when the batch is applied
+     * @param accountNumber Account to debit
+     * @param request Amount, currency and description
+     * @return Result with status PENDING and the transaction ID to poll
+     */
+    TransactionResultResponse queueWithdrawal(String accountNumber, WithdrawRequest request);
+
+    /**
+     * Get the processing state of a queued transaction. Transactions on accounts the caller
+     * may not access are reported as unknown.
+     * @param transactionId ID returned when the request was queued
+     * @return Current status
+     */
+    QueuedTransactionStatus getQueuedStatus(String transactionId);
+}
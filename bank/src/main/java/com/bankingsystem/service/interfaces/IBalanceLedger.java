@@ -0,0 +1,64 @@
+// File: src/main/java/com/bankingsystem/service/interfaces/IBalanceLedger.java
+package com.bankingsystem.service.interfaces;
+
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionType;
+
+import java.util.UUID;
+
+/**
+ * Balance postings for deposits and withdrawals.
+ * Every posting writes its transactions row in the caller's database transaction. Debits also update the balance there,
+ * so the accounts table never over-states funds and any node can check funds against it. Credits are written behind:
+ * the row is stored as PROCESSING and, once the caller commits, its balance update is batched with other credits to
+ * the same account; the row is then COMPLETED and stamped with the time the credit reached the balance. Amounts are minor units of the account currency (see Money).
+ */
+public interface IBalanceLedger {
+
+    /**
+     * Result of a posting
+     * @param transactionId ID of the transactions row written for the posting
+     * @param balanceMinor Balance including this posting
+     */
+    record Posting(String transactionId, long balanceMinor) {}
+
+    /**
+     * Record a credit in the caller's transaction; the balance is updated shortly after it commits
+     * @param accountId Account to credit
+     * @param accountNumber Its account number
+     * @param type Transaction type of the row, e.g. DEPOSIT
+     * @param amountMinor Positive amount in minor units
+     * @param currency Account currency
+     * @param description Optional memo stored on the row
+     * @return Transaction ID and the written-through balance plus this credit; other credits still waiting
+     *         to be batched are not included
+     */
+    Posting credit(UUID accountId, String accountNumber, TransactionType type, long amountMinor,
+                   Currency currency, String description);
+
+    /**
+     * Debit an account in the caller's transaction
+     * @param accountId Account to debit
+     * @param accountNumber Its account number
+     * @param type Transaction type of the row, e.g. WITHDRAWAL
+     * @param amountMinor Positive amount in minor units
+     * @param currency Account currency
+     * @param description Optional memo stored on the row
+     * @return Transaction ID and the new balance
+     * @throws com.bankingsystem.exception.InsufficientFundsException if the committed balance does not cover the amount
+     */
+    Posting debit(UUID accountId, String accountNumber, TransactionType type, long amountMinor,
+                  Currency currency, String description);
+
+    /**
+     * Credits to an account that are committed on this node but not yet in its balance
+     * @param accountNumber Account to look up
+     * @return Sum in minor units
+     */
+    long pendingCredits(String accountNumber);
+
+    /**
+     * Write all committed credits through to the accounts table
+     */
+    void flush();
+}
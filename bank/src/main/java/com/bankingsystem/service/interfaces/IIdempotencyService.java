@@ -0,0 +1,29 @@
+// File: src/main/java/com/bankingsystem/service/interfaces/IIdempotencyService.java
+package com.bankingsystem.service.interfaces;
+
+import com.bankingsystem.dto.response.common.ApiResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Interface for running money-moving requests at most once per client-supplied Idempotency-Key.
+ */
+public interface IIdempotencyService {
+
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Run the action once for this key and return its response; repeats get the stored response back
+     * @param idempotencyKey Value of the Idempotency-Key header, or null to run the action unconditionally
+     * @param operation Name of the operation including its path variables, e.g. "withdraw:ACC-0000000001"
+     * @param request Request body; a repeat with a different body is rejected
+     * @param dataType Type of the response's data, used to read a stored response back
+     * @param action The operation itself
+     * @return Response of the single execution
+     * @throws com.bankingsystem.exception.IdempotencyConflictException if the key was used with a different
+     *         request, or the first request is still running on another node
+     */
+    <T> ResponseEntity<ApiResponse<T>> execute(String idempotencyKey, String operation, Object request,
+                                               Class<T> dataType, Supplier<ResponseEntity<ApiResponse<T>>> action);
+}
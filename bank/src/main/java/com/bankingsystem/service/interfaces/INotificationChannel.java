@@ -0,0 +1,25 @@
+// File: src/main/java/com/bankingsystem/service/interfaces/INotificationChannel.java
+package com.bankingsystem.service.interfaces;
+
+import com.bankingsystem.enums.ContactMethod;
+import com.bankingsystem.service.notification.CoalescedNotification;
+
+import java.util.List;
+
+/**
+ * Interface for one customer notification channel (email, SMS, push...).
+ * Implementations are discovered as beans by the notification dispatcher.
+ */
+public interface INotificationChannel {
+
+    /**
+     * Contact method this channel delivers
+     */
+    ContactMethod getChannel();
+
+    /**
+     * Deliver a batch of notifications, reusing one provider connection where possible
+     * @param batch Notifications for this channel
+     */
+    void deliver(List<CoalescedNotification> batch);
+}
@@ -0,0 +1,24 @@
+// File: src/main/java/com/bankingsystem/service/interfaces/ITransactionHistoryService.java
+package com.bankingsystem.service.interfaces;
+
+import com.bankingsystem.dto.request.transaction.TransactionSearchRequest;
+import com.bankingsystem.dto.response.common.CursorPage;
+import com.bankingsystem.dto.response.transaction.TransactionHistoryItem;
+
+/**
+ * Interface for read-only transaction history queries.
+ * Pages are keyset-based, so every page costs the same however deep the caller scrolls.
+ */
+public interface ITransactionHistoryService {
+
+    /**
+     * Get one page of an account's transactions, newest first
+     * @param accountNumber Account to query
+     * @param filters Optional date, type and amount filters
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param limit Maximum number of items to return
+     * @return Page of history items with the cursor for the next page
+     */
+    CursorPage<TransactionHistoryItem> getHistory(String accountNumber, TransactionSearchRequest filters,
+                                                  String cursor, int limit);
+}
@@ -0,0 +1,116 @@
+// File: src/main/java/com/bankingsystem/service/ledger/AccountLockStripes.java
+package com.bankingsystem.service.ledger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped per-account locks shared by every in-process balance writer.
+ * Multi-account operations always acquire stripes in ascending index order,
+ * so A->B and B->A transfers can never wait on each other in a cycle.
+ */
+@Component
+public class AccountLockStripes {
+
+    @Value("${banking.ledger.lock-stripes:1024}")
+    private int stripeCount;
+
+    private ReentrantLock[] stripes;
+    private int stripeMask;
+
+    @PostConstruct
+    void init() {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new ReentrantLock[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        stripeMask = count - 1;
+    }
+
+    /**
+     * Lock a single account
+     * @return Handle that releases the lock when closed
+     */
+    public Held lock(String accountNumber) {
+        ReentrantLock lock = stripes[indexFor(accountNumber)];
+        lock.lock();
+        return lock::unlock;
+    }
+
+    /**
+     * Lock two accounts in a fixed global order (by stripe index)
+     * @return Handle that releases both locks when closed
+     */
+    public Held lockBoth(String first, String second) {
+        int a = indexFor(first);
+        int b = indexFor(second);
+        if (a == b) {
+            ReentrantLock lock = stripes[a];
+            lock.lock();
+            return lock::unlock;
+        }
+
+        ReentrantLock lower = stripes[Math.min(a, b)];
+        ReentrantLock upper = stripes[Math.max(a, b)];
+        lower.lock();
+        try {
+            upper.lock();
+        } catch (RuntimeException e) {
+            lower.unlock();
+            throw e;
+        }
+        return () -> {
+            upper.unlock();
+            lower.unlock();
+        };
+    }
+
+    /**
+     * Lock any number of accounts in ascending stripe order
+     * @return Handle that releases all locks when closed
+     */
+    public Held lockAll(Collection<String> accountNumbers) {
+        int[] indexes = accountNumbers.stream()
+                .mapToInt(this::indexFor)
+                .distinct()
+                .sorted()
+                .toArray();
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                acquired++;
+            }
+        } catch (RuntimeException e) {
+            unlock(indexes, acquired);
+            throw e;
+        }
+        int count = acquired;
+        return () -> unlock(indexes, count);
+    }
+
+    private void unlock(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    private int indexFor(String accountNumber) {
+        int h = accountNumber.hashCode();
+        return (h ^ (h >>> 16)) & stripeMask;
+    }
+
+    /**
+     * Lock handle for try-with-resources
+     */
+    @FunctionalInterface
+    public interface Held extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,88 @@
+// File: src/main/java/com/bankingsystem/service/ledger/LedgerShard.java
+package com.bankingsystem.service.ledger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer partition of the balance ledger.
+ * Holds committed credits not yet written to the accounts table. All state is confined to one thread,
+ * so recording a credit needs no locks.
+ */
+class LedgerShard {
+
+    /**
+     * Committed credit waiting for the batch update
+     */
+    record PendingCredit(String accountNumber, String transactionId, long amountMinor) {}
+
+    private final ExecutorService writer;
+    private final List<PendingCredit> pending = new ArrayList<>();
+    private final Map<String, Long> pendingByAccount = new HashMap<>();
+
+    LedgerShard(int index) {
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-shard-" + index);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Run a task on the shard's writer thread
+     */
+    <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, writer);
+    }
+
+    /**
+     * Add a committed credit; must only be called on the writer thread
+     */
+    void add(PendingCredit credit) {
+        pending.add(credit);
+        pendingByAccount.merge(credit.accountNumber(), credit.amountMinor(), Long::sum);
+    }
+
+    /**
+     * Sum of an account's pending credits; must only be called on the writer thread
+     */
+    long pendingMinor(String accountNumber) {
+        return pendingByAccount.getOrDefault(accountNumber, 0L);
+    }
+
+    /**
+     * Collect and clear all pending credits; must only be called on the writer thread
+     */
+    List<PendingCredit> drainPending() {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        List<PendingCredit> drained = new ArrayList<>(pending);
+        pending.clear();
+        pendingByAccount.clear();
+        return drained;
+    }
+
+    /**
+     * Put back credits whose write-through failed; must only be called on the writer thread
+     */
+    void restorePending(List<PendingCredit> failed) {
+        failed.forEach(this::add);
+    }
+
+    void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
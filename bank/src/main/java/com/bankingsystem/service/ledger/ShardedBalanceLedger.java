@@ -0,0 +1,357 @@
+// File: src/main/java/com/bankingsystem/service/ledger/ShardedBalanceLedger.java
+package com.bankingsystem.service.ledger;
+
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.exception.AccountNotFoundException;
+import com.bankingsystem.exception.InsufficientFundsException;
+import com.bankingsystem.repository.account.DailyBalanceSnapshotRepository;
+import com.bankingsystem.service.interfaces.IBalanceLedger;
+import com.bankingsystem.util.UuidV7;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Balance ledger that batches credits per account, partitioned by account-number hash into single-writer shards.
+ *
+ * A credit's row is inserted as PROCESSING in the caller's transaction and handed to its shard only after that
+ * transaction commits, so a rolled-back request never reaches the ledger. A scheduled flush locks the accounts in
+ * account-number order like every other multi-account writer, then moves the committed rows to COMPLETED and adds
+ * their sum to each account in the same transaction. Rows are stamped with the time they reach the balance, read
+ * after the locks are held, and the closing balance is recorded under that date, so a day's snapshot always equals
+ * the previous one plus that day's rows. Because the rows are flipped conditionally, a flush and the recovery of
+ * rows stranded by a stopped node can never both apply the same credit.
+ *
+ * Debits are not deferred: they update the balance in the caller's transaction with a conditional relative UPDATE,
+ * so funds checks on every node see the same committed balance, which never includes money that is not there.
+ */
+@Component
+public class ShardedBalanceLedger implements IBalanceLedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedBalanceLedger.class);
+
+    private static final String ACCOUNT_CACHE = "accounts";
+
+    private static final String SELECT_BALANCE_SQL = "SELECT balance FROM accounts WHERE id = :accountId";
+
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO transactions (id, transaction_id, transaction_type, amount, currency, timestamp, " +
+            "description, status, fees, account_id, created_date, version, active) " +
+            "VALUES (:id, :transactionId, :type, :amount, :currency, :now, :description, :status, 0, :accountId, " +
+            ":now, 0, true)";
+
+    private static final String LOCK_ACCOUNTS_SQL =
+            "SELECT id FROM accounts WHERE account_number IN (:accountNumbers) ORDER BY account_number FOR UPDATE";
+
+    // Row lock plus re-check under READ COMMITTED: concurrent debits serialise and none can overdraw
+    private static final String DEBIT_SQL =
+            "UPDATE accounts SET balance = balance - :amount, last_transaction_date = :now, version = version + 1 " +
+            "WHERE id = :accountId AND balance >= :amount RETURNING balance";
+
+    // Net credit per account of the rows this statement moved to COMPLETED
+    private static final String COMPLETE_CREDITS_SQL =
+            "WITH done AS (" +
+            "  UPDATE transactions SET status = :completed, timestamp = :now " +
+            "  WHERE transaction_id IN (:transactionIds) AND status = :processing " +
+            "  RETURNING account_id, amount) " +
+            "SELECT a.id, a.account_number, SUM(d.amount) AS net FROM done d JOIN accounts a ON a.id = d.account_id " +
+            "GROUP BY a.id, a.account_number ORDER BY a.account_number";
+
+    // Served by idx_transactions_processing
+    private static final String STRANDED_CREDITS_SQL =
+            "SELECT t.transaction_id, a.account_number FROM transactions t JOIN accounts a ON a.id = t.account_id " +
+            "WHERE t.status = :processing AND t.created_date < :cutoff ORDER BY t.created_date LIMIT :limit";
+
+    private static final String APPLY_CREDIT_SQL =
+            "UPDATE accounts SET balance = balance + :delta, last_transaction_date = :now, version = version + 1 " +
+            "WHERE id = :id";
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DailyBalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${banking.ledger.shards:16}")
+    private int shardCount;
+
+    @Value("${banking.ledger.batch-size:500}")
+    private int batchSize;
+
+    @Value("${banking.ledger.stranded-after:5m}")
+    private Duration strandedAfter;
+
+    private LedgerShard[] shards;
+    private int shardMask;
+
+    private record Credited(UUID accountId, String accountNumber, long netMinor) {}
+
+    @PostConstruct
+    void init() {
+        // Round up to a power of two so the shard index is a mask instead of a modulo
+        int count = Integer.highestOneBit(Math.max(1, shardCount - 1)) << 1;
+        shards = new LedgerShard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new LedgerShard(i);
+        }
+        shardMask = count - 1;
+        logger.info("Balance ledger started with {} shards", count);
+    }
+
+    @Override
+    public Posting credit(UUID accountId, String accountNumber, TransactionType type, long amountMinor,
+                          Currency currency, String description) {
+        requirePositive(amountMinor);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Ledger credits must be recorded inside a transaction");
+        }
+
+        // Provisional timestamp; the flush restamps the row when the credit reaches the balance
+        String transactionId = insertTransaction(accountId, type, amountMinor, currency, description,
+                TransactionStatus.PROCESSING, LocalDateTime.now());
+        LedgerShard.PendingCredit credit = new LedgerShard.PendingCredit(accountNumber, transactionId, amountMinor);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                LedgerShard shard = shardFor(accountNumber);
+                try {
+                    shard.submit(() -> {
+                        shard.add(credit);
+                        return null;
+                    });
+                } catch (RejectedExecutionException e) {
+                    // Shutting down: the committed row stays PROCESSING and is applied by recovery
+                    logger.warn("Ledger stopped; credit {} left for recovery", transactionId);
+                }
+            }
+        });
+
+        // One read only: adding the shard's pending sum would race a flush that has drained it but not yet
+        // committed, counting those credits twice or not at all
+        long committed = namedJdbcTemplate.queryForObject(SELECT_BALANCE_SQL,
+                new MapSqlParameterSource("accountId", accountId), Long.class);
+        return new Posting(transactionId, committed + amountMinor);
+    }
+
+    @Override
+    public Posting debit(UUID accountId, String accountNumber, TransactionType type, long amountMinor,
+                         Currency currency, String description) {
+        requirePositive(amountMinor);
+        List<Long> updated = namedJdbcTemplate.queryForList(DEBIT_SQL, new MapSqlParameterSource("amount", amountMinor)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()))
+                .addValue("accountId", accountId), Long.class);
+        if (updated.isEmpty()) {
+            List<Long> balance = namedJdbcTemplate.queryForList(SELECT_BALANCE_SQL,
+                    new MapSqlParameterSource("accountId", accountId), Long.class);
+            if (balance.isEmpty()) {
+                throw new AccountNotFoundException(accountNumber);
+            }
+            throw new InsufficientFundsException(accountNumber,
+                    Money.toBigDecimal(balance.get(0), currency),
+                    Money.toBigDecimal(amountMinor, currency));
+        }
+
+        // Read under the row lock, so the row and its closing fall on the same day in lock order
+        LocalDateTime postedAt = LocalDateTime.now();
+        String transactionId = insertTransaction(accountId, type, amountMinor, currency, description,
+                TransactionStatus.COMPLETED, postedAt);
+        snapshotRepository.recordClosing(List.of(accountId), postedAt.toLocalDate());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCached(List.of(accountNumber));
+                }
+            });
+        } else {
+            evictCached(List.of(accountNumber));
+        }
+        return new Posting(transactionId, updated.get(0));
+    }
+
+    @Override
+    public long pendingCredits(String accountNumber) {
+        LedgerShard shard = shardFor(accountNumber);
+        return await(shard.submit(() -> shard.pendingMinor(accountNumber)));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${banking.ledger.flush-interval-ms:50}")
+    public void flush() {
+        for (LedgerShard shard : shards) {
+            List<LedgerShard.PendingCredit> pending = await(shard.submit(shard::drainPending));
+            if (pending.isEmpty()) {
+                continue;
+            }
+            try {
+                // One transaction per shard; rows already COMPLETED are skipped, so a retry never double-applies
+                List<Credited> credited = transactionTemplate.execute(status -> writeThrough(pending));
+                evictCached(credited.stream().map(Credited::accountNumber).toList());
+            } catch (RuntimeException e) {
+                logger.error("Ledger write-through failed for {} credits, will retry", pending.size(), e);
+                shard.submit(() -> {
+                    shard.restorePending(pending);
+                    return null;
+                });
+            }
+        }
+    }
+
+    /**
+     * Apply credits left PROCESSING by a node that stopped before flushing them
+     */
+    @Scheduled(fixedDelayString = "${banking.ledger.recovery-interval-ms:60000}")
+    public void recoverStranded() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(strandedAfter);
+        List<LedgerShard.PendingCredit> stranded;
+        do {
+            stranded = namedJdbcTemplate.query(STRANDED_CREDITS_SQL,
+                    new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff))
+                            .addValue("limit", batchSize)
+                            .addValue("processing", TransactionStatus.PROCESSING.name()),
+                    (rs, rowNum) -> new LedgerShard.PendingCredit(rs.getString("account_number"),
+                            rs.getString("transaction_id"), 0L));
+            if (stranded.isEmpty()) {
+                break;
+            }
+            // Rows flipped meanwhile by a flush or another node are skipped by the conditional update
+            List<LedgerShard.PendingCredit> batch = stranded;
+            List<Credited> credited = transactionTemplate.execute(status -> writeThrough(batch));
+            if (!credited.isEmpty()) {
+                logger.warn("Recovered stranded ledger credits for {} accounts", credited.size());
+                evictCached(credited.stream().map(Credited::accountNumber).toList());
+            }
+        } while (stranded.size() == batchSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        for (LedgerShard shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    // Private helper methods
+
+    private String insertTransaction(UUID accountId, TransactionType type, long amountMinor, Currency currency,
+                                     String description, TransactionStatus status, LocalDateTime now) {
+        String transactionId = "TXN-" + UuidV7.next();
+        namedJdbcTemplate.update(INSERT_TRANSACTION_SQL, new MapSqlParameterSource("id", UuidV7.next())
+                .addValue("transactionId", transactionId)
+                .addValue("type", type.name())
+                .addValue("amount", amountMinor)
+                .addValue("currency", currency.name())
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("description", description)
+                .addValue("status", status.name())
+                .addValue("accountId", accountId));
+        return transactionId;
+    }
+
+    private List<Credited> writeThrough(List<LedgerShard.PendingCredit> pending) {
+        // Chunks in one global order, so the accounts are locked in account-number order overall
+        List<String> accountNumbers = pending.stream()
+                .map(LedgerShard.PendingCredit::accountNumber)
+                .distinct()
+                .sorted()
+                .toList();
+        for (int from = 0; from < accountNumbers.size(); from += batchSize) {
+            namedJdbcTemplate.queryForList(LOCK_ACCOUNTS_SQL, new MapSqlParameterSource("accountNumbers",
+                    accountNumbers.subList(from, Math.min(accountNumbers.size(), from + batchSize))), UUID.class);
+        }
+
+        // Read once every lock is held: later postings to these accounts are stamped after it
+        LocalDateTime now = LocalDateTime.now();
+        List<Credited> credited = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<String> transactionIds = pending.subList(from, Math.min(pending.size(), from + batchSize)).stream()
+                    .map(LedgerShard.PendingCredit::transactionId)
+                    .toList();
+            credited.addAll(namedJdbcTemplate.query(COMPLETE_CREDITS_SQL,
+                    new MapSqlParameterSource("transactionIds", transactionIds)
+                            .addValue("now", Timestamp.valueOf(now))
+                            .addValue("completed", TransactionStatus.COMPLETED.name())
+                            .addValue("processing", TransactionStatus.PROCESSING.name()),
+                    (rs, rowNum) -> new Credited(rs.getObject("id", UUID.class), rs.getString("account_number"),
+                            rs.getLong("net"))));
+        }
+        return applyCredits(credited, now);
+    }
+
+    private List<Credited> applyCredits(List<Credited> credited, LocalDateTime now) {
+        if (credited.isEmpty()) {
+            return credited;
+        }
+        MapSqlParameterSource[] updates = credited.stream()
+                .map(credit -> new MapSqlParameterSource("delta", credit.netMinor())
+                        .addValue("now", Timestamp.valueOf(now))
+                        .addValue("id", credit.accountId()))
+                .toArray(MapSqlParameterSource[]::new);
+        namedJdbcTemplate.batchUpdate(APPLY_CREDIT_SQL, updates);
+        snapshotRepository.recordClosing(credited.stream().map(Credited::accountId).distinct().toList(),
+                now.toLocalDate());
+        return credited;
+    }
+
+    private void evictCached(Collection<String> accountNumbers) {
+        Cache cache = cacheManager.getCache(ACCOUNT_CACHE);
+        if (cache != null) {
+            accountNumbers.forEach(cache::evict);
+        }
+    }
+
+    private static void requirePositive(long amountMinor) {
+        if (amountMinor <= 0) {
+            throw new IllegalArgumentException("Posting amount must be positive: " + amountMinor);
+        }
+    }
+
+    private LedgerShard shardFor(String accountNumber) {
+        int h = accountNumber.hashCode();
+        return shards[(h ^ (h >>> 16)) & shardMask];
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+// File: src/main/java/com/bankingsystem/service/notification/CoalescedNotification.java
+package com.bankingsystem.service.notification;
+
+import com.bankingsystem.enums.ContactMethod;
+import com.bankingsystem.event.TransactionCompletedEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * All alerts for one recipient and channel that arrived within one coalescing window, oldest first.
+ * Delivered as a single message.
+ */
+public record CoalescedNotification(UUID recipientId, ContactMethod channel, List<TransactionCompletedEvent> events) {
+
+    /**
+     * Address on the notification's channel: email for EMAIL and MAIL, phone number otherwise
+     */
+    public String address() {
+        TransactionCompletedEvent latest = events.get(events.size() - 1);
+        return channel == ContactMethod.EMAIL || channel == ContactMethod.MAIL ? latest.email() : latest.phoneNumber();
+    }
+}
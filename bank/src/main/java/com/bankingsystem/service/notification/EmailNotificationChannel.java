@@ -0,0 +1,78 @@
+// File: src/main/java/com/bankingsystem/service/notification/EmailNotificationChannel.java
+package com.bankingsystem.service.notification;
+
+import com.bankingsystem.enums.ContactMethod;
+import com.bankingsystem.event.TransactionCompletedEvent;
+import com.bankingsystem.service.interfaces.INotificationChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Email delivery of transaction notifications.
+ * A batch is sent in one call, so JavaMail reuses a single SMTP connection for all of its messages.
+ * Without {@code spring.mail.host} no mail sender exists and notifications are only logged.
+ */
+@Component
+public class EmailNotificationChannel implements INotificationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailNotificationChannel.class);
+
+    @Autowired
+    private ObjectProvider<JavaMailSender> mailSender;
+
+    @Value("${banking.notifications.mail-from:no-reply@bankingsystem.com}")
+    private String mailFrom;
+
+    @Override
+    public ContactMethod getChannel() {
+        return ContactMethod.EMAIL;
+    }
+
+    @Override
+    public void deliver(List<CoalescedNotification> batch) {
+        List<SimpleMailMessage> messages = new ArrayList<>(batch.size());
+        for (CoalescedNotification notification : batch) {
+            if (notification.address() == null) {
+                continue;
+            }
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(mailFrom);
+            message.setTo(notification.address());
+            message.setSubject(notification.events().size() == 1
+                    ? "Account activity"
+                    : notification.events().size() + " new account transactions");
+            message.setText(body(notification));
+            messages.add(message);
+        }
+
+        JavaMailSender sender = mailSender.getIfAvailable();
+        if (sender == null) {
+            logger.debug("No mail sender configured, skipping {} email notifications", messages.size());
+            return;
+        }
+        if (!messages.isEmpty()) {
+            sender.send(messages.toArray(new SimpleMailMessage[0]));
+        }
+    }
+
+    // Private helper methods
+
+    private static String body(CoalescedNotification notification) {
+        StringBuilder text = new StringBuilder("The following transactions were posted to your account:\n\n");
+        for (TransactionCompletedEvent event : notification.events()) {
+            text.append(event.occurredAt()).append("  ")
+                    .append(event.type()).append("  ")
+                    .append(event.amount().toPlainString()).append('\n');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,86 @@
+// File: src/main/java/com/bankingsystem/service/statement/CsvStatementWriter.java
+package com.bankingsystem.service.statement;
+
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.repository.transaction.TransactionStatementRepository.Posting;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes an account statement as CSV, one row at a time.
+ * Columns are fixed so the output can be fed straight into a spreadsheet or a PDF template.
+ */
+public class CsvStatementWriter {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer out;
+    private final Currency currency;
+
+    public CsvStatementWriter(Writer out, Currency currency) {
+        this.out = out;
+        this.currency = currency;
+    }
+
+    public void writeHeader(String accountNumber, LocalDate startDate, LocalDate endDate, long openingMinor)
+            throws IOException {
+        out.write("Account," + escape(accountNumber) + '\n');
+        out.write("Period," + startDate + ',' + endDate + '\n');
+        out.write("Currency," + currency.name() + '\n');
+        out.write("Opening balance," + format(openingMinor) + "\n\n");
+        out.write("Date,Transaction ID,Type,Description,Debit,Credit,Balance\n");
+    }
+
+    public void writePosting(Posting posting, long balanceMinor) throws IOException {
+        long signed = posting.signedMinor();
+        out.write(posting.timestamp() == null ? "" : TIMESTAMP_FORMAT.format(posting.timestamp()));
+        out.write(',');
+        out.write(escape(posting.transactionId()));
+        out.write(',');
+        out.write(posting.type().name());
+        out.write(',');
+        out.write(escape(posting.description()));
+        out.write(',');
+        out.write(signed < 0 ? format(-signed) : "");
+        out.write(',');
+        out.write(signed > 0 ? format(signed) : "");
+        out.write(',');
+        out.write(format(balanceMinor));
+        out.write('\n');
+    }
+
+    public void writeFooter(long totalDebitsMinor, long totalCreditsMinor, long closingMinor, long count)
+            throws IOException {
+        out.write('\n');
+        out.write("Transactions," + count + '\n');
+        out.write("Total debits," + format(totalDebitsMinor) + '\n');
+        out.write("Total credits," + format(totalCreditsMinor) + '\n');
+        out.write("Closing balance," + format(closingMinor) + '\n');
+        out.flush();
+    }
+
+    // Private helper methods
+
+    private String format(long minor) {
+        return Money.toBigDecimal(minor, currency).toPlainString();
+    }
+
+    private static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        // Leading formula characters are neutralised so spreadsheets do not evaluate them
+        char first = value.charAt(0);
+        String safe = (first == '=' || first == '+' || first == '-' || first == '@') ? "'" + value : value;
+        return quote ? '"' + safe.replace("\"", "\"\"") + '"' : safe;
+    }
+}
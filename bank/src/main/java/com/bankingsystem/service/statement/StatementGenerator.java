@@ -0,0 +1,107 @@
+// File: src/main/java/com/bankingsystem/service/statement/StatementGenerator.java
+package com.bankingsystem.service.statement;
+
+import com.bankingsystem.exception.AccountNotFoundException;
+import com.bankingsystem.exception.BankingException;
+import com.bankingsystem.repository.account.DailyBalanceSnapshotRepository;
+import com.bankingsystem.repository.transaction.TransactionStatementRepository;
+import com.bankingsystem.repository.transaction.TransactionStatementRepository.Posting;
+import com.bankingsystem.repository.transaction.TransactionStatementRepository.StatementAccount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams an account statement straight to an output stream.
+ *
+ * The opening balance comes from the daily balance snapshots (at most one day of transactions on top);
+ * postings are then read with a forward-only cursor and the running balance is carried row to row, so
+ * memory use does not depend on the number of transactions. Must run inside a read-only transaction
+ * (see {@link TransactionStatementRepository}).
+ */
+@Component
+public class StatementGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementGenerator.class);
+
+    @Autowired
+    private TransactionStatementRepository statementRepository;
+
+    @Autowired
+    private DailyBalanceSnapshotRepository snapshotRepository;
+
+    @Value("${banking.statements.max-period-days:3660}")
+    private long maxPeriodDays;
+
+    /**
+     * Check the period before the response is committed, so errors can still become a 4xx
+     */
+    public void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new BankingException("INVALID_STATEMENT_PERIOD",
+                    "Invalid statement period: " + startDate + " to " + endDate,
+                    "The statement end date must be on or after the start date.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) > maxPeriodDays) {
+            throw new BankingException("INVALID_STATEMENT_PERIOD",
+                    "Statement period exceeds " + maxPeriodDays + " days",
+                    "The requested statement period is too long.");
+        }
+    }
+
+    public void writeCsv(String accountNumber, LocalDate startDate, LocalDate endDate, OutputStream output) {
+        validatePeriod(startDate, endDate);
+        StatementAccount account = statementRepository.findAccount(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(accountNumber));
+
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = endDate.plusDays(1).atStartOfDay();
+
+        long openingMinor = snapshotRepository.balanceAsOf(account.id(), from);
+
+        long started = System.nanoTime();
+        long count = 0;
+        long running = openingMinor;
+        long debits = 0;
+        long credits = 0;
+
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 16 * 1024);
+        CsvStatementWriter csv = new CsvStatementWriter(writer, account.currency());
+        try (Stream<Posting> postings = statementRepository.streamPostings(account.id(), from, to)) {
+            csv.writeHeader(account.accountNumber(), startDate, endDate, openingMinor);
+            Iterator<Posting> iterator = postings.iterator();
+            while (iterator.hasNext()) {
+                Posting posting = iterator.next();
+                running = Math.addExact(running, posting.signedMinor());
+                if (posting.signedMinor() < 0) {
+                    debits -= posting.signedMinor();
+                } else {
+                    credits += posting.signedMinor();
+                }
+                csv.writePosting(posting, running);
+                count++;
+            }
+            csv.writeFooter(debits, credits, running, count);
+        } catch (IOException e) {
+            // Usually the client went away mid-download
+            throw new UncheckedIOException("Failed to write statement for " + accountNumber, e);
+        }
+
+        logger.info("Statement generated: accountNumber={}, period={}..{}, rows={}, took={}ms",
+                accountNumber, startDate, endDate, count, (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -3,62 +3,60 @@ package com.bankingsystem.service.strategy.interest;
 import com.bankingsystem.service.interfaces.IInterestCalculator;
 import com.bankingsystem.entity.account.Account;
 import com.bankingsystem.entity.account.SavingsAccount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Compound interest calculation strategy.
  * Formula: A = P(1 + r/n)^(nt) - P
+ * A period still in progress accrues simple interest for its elapsed part, so month-to-date figures are not zero.
  * Used for savings accounts and long-term investments.
+ * Growth factors come from {@link RateFactorCache}, so repeated calls never re-run the power.
  */
 @Component
+@Order(2)
 public class CompoundInterestStrategy implements IInterestCalculator {
 
     private static final BigDecimal SAVINGS_RATE = new BigDecimal("0.025"); // 2.5%
-    private static final Integer MONTHLY_COMPOUNDING = 12;
 
-    @Override
-    public BigDecimal calculateInterest(Account account, LocalDate fromDate, LocalDate toDate) {
-        BigDecimal principal = new BigDecimal(account.getBalance().toString());
-        BigDecimal rate = getInterestRate(account);
-        Integer compoundingFreq = getCompoundingFrequency();
-
-        // Calculate time in years
-        long days = java.time.temporal.ChronoUnit.DAYS.between(fromDate, toDate);
-        BigDecimal timeInYears = new BigDecimal(days).divide(new BigDecimal("365"), 6, RoundingMode.HALF_UP);
+    @Autowired
+    private RateFactorCache factorCache;
 
-        // Compound Interest Formula: A = P(1 + r/n)^(nt)
-        BigDecimal ratePerPeriod = rate.divide(new BigDecimal(compoundingFreq), 6, RoundingMode.HALF_UP);
-        BigDecimal onePlusRate = BigDecimal.ONE.add(ratePerPeriod);
-        BigDecimal exponent = timeInYears.multiply(new BigDecimal(compoundingFreq));
+    @Value("${banking.interest.compounding-frequency:12}")
+    private int compoundingFrequency;
 
-        // A = P × (1 + r/n)^(nt)
-        BigDecimal finalAmount = principal.multiply(
-                onePlusRate.pow(exponent.intValue())
-        );
+    @Override
+    public BigDecimal calculateInterest(Account account, LocalDate fromDate, LocalDate toDate) {
+        long days = ChronoUnit.DAYS.between(fromDate, toDate);
 
-        // Interest = A - P
-        return finalAmount.subtract(principal).setScale(2, RoundingMode.HALF_UP);
+        // Interest = P × ((1 + r/n)^(nt) - 1), whole periods cached and the partial one accrued on top
+        BigDecimal growth = factorCache.accruedGrowth(getInterestRate(account), getCompoundingFrequency(), days);
+        return account.getBalance().multiply(growth).toBigDecimal();
     }
 
     @Override
     public BigDecimal getInterestRate(Account account) {
         if (account instanceof SavingsAccount) {
             SavingsAccount savings = (SavingsAccount) account;
-            return new BigDecimal(savings.getInterestRate().toString());
+            if (savings.getInterestRate() != null) {
+                return BigDecimal.valueOf(savings.getInterestRate());
+            }
         }
         return SAVINGS_RATE;
     }
 
     @Override
     public Integer getCompoundingFrequency() {
-        return MONTHLY_COMPOUNDING;
+        return compoundingFrequency;
     }
 
     @Override
     public boolean appliesTo(Account account) {
         return account instanceof SavingsAccount;
     }
-}
\ No newline at end of file
+}
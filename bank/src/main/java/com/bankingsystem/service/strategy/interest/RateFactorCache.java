@@ -0,0 +1,161 @@
+// File: src/main/java/com/bankingsystem/service/strategy/interest/RateFactorCache.java
+package com.bankingsystem.service.strategy.interest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared cache of interest growth factors, keyed by (annual rate, compounding frequency, periods).
+ *
+ * A growth factor is {@code (1 + r/n)^k - 1} for compound interest, or {@code r * days / 365} when the
+ * frequency is {@link #SIMPLE} and periods are days. Rates are normalised to millionths, so 0.025 and
+ * 0.0250 share an entry. Factors are kept both as a {@link BigDecimal} and as a fixed-point long at
+ * {@link #FACTOR_SCALE} for {@code Money.multiply(long, int)}.
+ *
+ * The cache is split into independently locked LRU segments so parallel callers rarely contend.
+ */
+@Component
+public class RateFactorCache {
+
+    /**
+     * Frequency value for simple (non-compounding) interest; periods are then days
+     */
+    public static final int SIMPLE = 0;
+
+    /**
+     * Scale of the fixed-point factors returned by {@link #growthFixedPoint}
+     */
+    public static final int FACTOR_SCALE = 15;
+
+    private static final int SEGMENTS = 16;
+    private static final BigDecimal DAYS_IN_YEAR = new BigDecimal("365");
+
+    @Value("${banking.interest.factor-cache-size:4096}")
+    private int maxEntries;
+
+    private Segment[] segments;
+
+    @PostConstruct
+    void init() {
+        int perSegment = Math.max(16, maxEntries / SEGMENTS);
+        segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    /**
+     * Growth factor for a decimal annual rate
+     * @param annualRate Annual rate as decimal (0.025 for 2.5%)
+     * @param frequency Compounding periods per year, or {@link #SIMPLE}
+     * @param periods Elapsed compounding periods (days for simple interest)
+     */
+    public BigDecimal growth(BigDecimal annualRate, int frequency, int periods) {
+        return factor(rateMicros(annualRate), frequency, periods).decimal();
+    }
+
+    /**
+     * Growth factor as a fixed-point long at {@link #FACTOR_SCALE}
+     * @param rateMicros Annual rate in millionths (25000 for 2.5%)
+     */
+    public long growthFixedPoint(long rateMicros, int frequency, int periods) {
+        return factor(rateMicros, frequency, periods).fixedPoint();
+    }
+
+    /**
+     * Growth factor over a number of days: compounded for the whole periods elapsed, then simple interest
+     * on the grown balance for the part of a period left over, so a period in progress accrues
+     * @param annualRate Annual rate as decimal (0.025 for 2.5%)
+     * @param frequency Compounding periods per year
+     * @param days Days elapsed
+     */
+    public BigDecimal accruedGrowth(BigDecimal annualRate, int frequency, long days) {
+        long rateMicros = rateMicros(annualRate);
+        if (days <= 0 || rateMicros == 0) {
+            return BigDecimal.ZERO;
+        }
+        int periods = (int) (days * frequency / 365);
+        BigDecimal compound = factor(rateMicros, frequency, periods).decimal();
+
+        // Remainder in units of 1 / (365 * frequency) years
+        long remainder = days * frequency - periods * 365L;
+        BigDecimal partial = BigDecimal.valueOf(rateMicros, 6)
+                .multiply(BigDecimal.valueOf(remainder))
+                .divide(BigDecimal.valueOf(365L * frequency), MathContext.DECIMAL128);
+
+        // (1 + compound) * (1 + partial) - 1
+        return compound.add(partial).add(compound.multiply(partial))
+                .setScale(FACTOR_SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    public static long rateMicros(BigDecimal annualRate) {
+        return annualRate.movePointRight(6).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+    }
+
+    public static long rateMicros(double annualRate) {
+        return Math.round(annualRate * 1_000_000d);
+    }
+
+    // Private helper methods
+
+    private Factor factor(long rateMicros, int frequency, int periods) {
+        if (periods <= 0 || rateMicros == 0) {
+            return Factor.ZERO;
+        }
+        FactorKey key = new FactorKey(rateMicros, frequency, periods);
+        Segment segment = segments[(key.hashCode() & 0x7fffffff) % SEGMENTS];
+        synchronized (segment) {
+            Factor cached = segment.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // Computed outside the lock; a racing duplicate computation yields the same value
+        Factor computed = compute(rateMicros, frequency, periods);
+        synchronized (segment) {
+            segment.put(key, computed);
+        }
+        return computed;
+    }
+
+    private static Factor compute(long rateMicros, int frequency, int periods) {
+        BigDecimal rate = BigDecimal.valueOf(rateMicros, 6);
+        BigDecimal growth;
+        if (frequency == SIMPLE) {
+            growth = rate.multiply(BigDecimal.valueOf(periods)).divide(DAYS_IN_YEAR, MathContext.DECIMAL128);
+        } else {
+            BigDecimal onePlusRate = BigDecimal.ONE.add(
+                    rate.divide(BigDecimal.valueOf(frequency), MathContext.DECIMAL128));
+            growth = onePlusRate.pow(periods, MathContext.DECIMAL128).subtract(BigDecimal.ONE);
+        }
+        BigDecimal scaled = growth.setScale(FACTOR_SCALE, RoundingMode.HALF_EVEN);
+        return new Factor(scaled, scaled.unscaledValue().longValueExact());
+    }
+
+    private record FactorKey(long rateMicros, int frequency, int periods) {}
+
+    private record Factor(BigDecimal decimal, long fixedPoint) {
+        static final Factor ZERO = new Factor(BigDecimal.ZERO, 0L);
+    }
+
+    private static final class Segment extends LinkedHashMap<FactorKey, Factor> {
+        private final int maxEntries;
+
+        Segment(int maxEntries) {
+            super(64, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<FactorKey, Factor> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
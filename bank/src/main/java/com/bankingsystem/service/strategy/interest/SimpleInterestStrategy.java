@@ -4,11 +4,12 @@ package com.bankingsystem.service.strategy.interest;
 import com.bankingsystem.service.interfaces.IInterestCalculator;
 import com.bankingsystem.entity.account.Account;
 import com.bankingsystem.entity.account.CheckingAccount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.Period;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Simple interest calculation strategy.
@@ -16,50 +17,32 @@ import java.time.Period;
  * Used for checking accounts and short-term deposits.
  */
 @Component
+@Order(3)
 public class SimpleInterestStrategy implements IInterestCalculator {
 
-    private static final BigDecimal DAYS_IN_YEAR = new BigDecimal("365");
     private static final BigDecimal CHECKING_RATE = new BigDecimal("0.001"); // 0.1%
 
+    @Autowired
+    private RateFactorCache factorCache;
+
     @Override
     public BigDecimal calculateInterest(Account account, LocalDate fromDate, LocalDate toDate) {
-        // TODO: Implement simple interest calculation
-        // Formula: Principal * Rate * Time / 365
-        // TODO: Get account balance
-        // TODO: Get interest rate based on account type
-        // TODO: Calculate daily interest
-        // TODO: Return total interest for the period
-
-        BigDecimal principal = new BigDecimal(account.getBalance().toString());
-        BigDecimal rate = getInterestRate(account);
-
-        // Calculate days between dates
-        Period period = Period.between(fromDate, toDate);
-        BigDecimal days = new BigDecimal(period.getDays());
-
-        // Simple Interest Formula: P × R × T
-        BigDecimal interest = principal
-                .multiply(rate)
-                .multiply(days)
-                .divide(DAYS_IN_YEAR, 2, RoundingMode.HALF_UP);
+        // Total days, not Period.getDays(), which only returns the day-of-month component
+        long days = ChronoUnit.DAYS.between(fromDate, toDate);
 
-        return interest;
-
-        return null;
+        // Simple Interest Formula: P × R × T, with R × T cached per (rate, days)
+        long growth = factorCache.growthFixedPoint(
+                RateFactorCache.rateMicros(getInterestRate(account)), RateFactorCache.SIMPLE, (int) days);
+        return account.getBalance().multiply(growth, RateFactorCache.FACTOR_SCALE).toBigDecimal();
     }
 
     @Override
     public BigDecimal getInterestRate(Account account) {
-
-        // TODO: Return interest rate based on account type and customer type
         // TODO: Consider promotional rates
-        // TODO: Consider balance tiers
         if (account instanceof CheckingAccount) {
             return CHECKING_RATE;
         }
         return BigDecimal.ZERO;
-
-        return null;
     }
 
     @Override
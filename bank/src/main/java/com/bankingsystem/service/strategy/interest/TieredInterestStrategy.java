@@ -0,0 +1,110 @@
+// File: src/main/java/com/bankingsystem/service/strategy/interest/TieredInterestStrategy.java
+package com.bankingsystem.service.strategy.interest;
+
+import com.bankingsystem.entity.account.Account;
+import com.bankingsystem.entity.account.SavingsAccount;
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.service.interfaces.IInterestCalculator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Balance-tiered interest strategy for savings accounts.
+ * The whole balance earns the base rate plus the bonus of the highest tier it reaches, compounded
+ * {@code banking.interest.compounding-frequency} times a year. Tiers are configured as {@code threshold=bonus}
+ * pairs, e.g. {@code 10000.00=0.005,100000.00=0.010}. Ordered ahead of {@link CompoundInterestStrategy},
+ * so it takes over savings accounts when enabled.
+ */
+@Component
+@Order(1)
+public class TieredInterestStrategy implements IInterestCalculator {
+
+    private static final BigDecimal DEFAULT_BASE_RATE = new BigDecimal("0.025"); // 2.5%
+
+    @Autowired
+    private RateFactorCache factorCache;
+
+    @Value("${banking.interest.compounding-frequency:12}")
+    private int compoundingFrequency;
+
+    @Value("${banking.interest.tiered.enabled:false}")
+    private boolean enabled;
+
+    @Value("${banking.interest.tiered.tiers:10000.00=0.005,100000.00=0.010}")
+    private String tierSpec;
+
+    private Tier[] tiers;
+
+    @PostConstruct
+    void init() {
+        // Highest threshold first, so the first match is the tier that applies
+        tiers = Arrays.stream(tierSpec.split(","))
+                .map(String::trim)
+                .filter(spec -> !spec.isEmpty())
+                .map(Tier::parse)
+                .sorted(Comparator.comparing(Tier::threshold).reversed())
+                .toArray(Tier[]::new);
+    }
+
+    @Override
+    public BigDecimal calculateInterest(Account account, LocalDate fromDate, LocalDate toDate) {
+        long days = ChronoUnit.DAYS.between(fromDate, toDate);
+        BigDecimal growth = factorCache.accruedGrowth(getInterestRate(account), getCompoundingFrequency(), days);
+        return account.getBalance().multiply(growth).toBigDecimal();
+    }
+
+    @Override
+    public BigDecimal getInterestRate(Account account) {
+        BigDecimal baseRate = DEFAULT_BASE_RATE;
+        if (account instanceof SavingsAccount savings && savings.getInterestRate() != null) {
+            baseRate = BigDecimal.valueOf(savings.getInterestRate());
+        }
+        return rateFor(baseRate, account.getBalance());
+    }
+
+    /**
+     * Effective annual rate for a balance: base rate plus the bonus of the highest tier reached.
+     * Only a handful of distinct rates result, which keeps {@link RateFactorCache} hit rates high.
+     */
+    public BigDecimal rateFor(BigDecimal baseRate, Money balance) {
+        if (!enabled || balance == null) {
+            return baseRate;
+        }
+        BigDecimal amount = balance.toBigDecimal();
+        for (Tier tier : tiers) {
+            if (amount.compareTo(tier.threshold()) >= 0) {
+                return baseRate.add(tier.bonus());
+            }
+        }
+        return baseRate;
+    }
+
+    @Override
+    public Integer getCompoundingFrequency() {
+        return compoundingFrequency;
+    }
+
+    @Override
+    public boolean appliesTo(Account account) {
+        return enabled && account instanceof SavingsAccount;
+    }
+
+    private record Tier(BigDecimal threshold, BigDecimal bonus) {
+        static Tier parse(String spec) {
+            String[] parts = spec.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid interest tier '" + spec + "', expected threshold=bonus");
+            }
+            return new Tier(new BigDecimal(parts[0].trim()), new BigDecimal(parts[1].trim()));
+        }
+    }
+}
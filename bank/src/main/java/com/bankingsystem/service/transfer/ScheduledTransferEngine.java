@@ -0,0 +1,350 @@
+// File: src/main/java/com/bankingsystem/service/transfer/ScheduledTransferEngine.java
+package com.bankingsystem.service.transfer;
+
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.exception.AccountNotFoundException;
+import com.bankingsystem.exception.InsufficientFundsException;
+import com.bankingsystem.exception.InvalidTransactionException;
+import com.bankingsystem.repository.transaction.ScheduledTransferRepository;
+import com.bankingsystem.repository.transaction.ScheduledTransferRepository.Due;
+import com.bankingsystem.repository.transaction.ScheduledTransferRepository.Outcome;
+import com.bankingsystem.repository.transaction.ScheduledTransferRepository.ScheduledTransfer;
+import com.bankingsystem.util.HierarchicalTimingWheel;
+import com.bankingsystem.util.UuidV7;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Executes transfers scheduled for a later date.
+ *
+ * Transfers due within {@code load-horizon} are read from scheduled_transfers into a
+ * {@link HierarchicalTimingWheel} (O(1) per insert, whatever the number of standing orders) owned by one
+ * ticker thread. Every tick the due transfers are handed to a small worker pool in batches: each batch is
+ * claimed with one UPDATE, and each claimed transfer is posted through {@link TransferEngine} with its row
+ * marked COMPLETED in the same database transaction. Every node loads the same rows; the claim decides
+ * which one runs each transfer.
+ *
+ * Date-only schedules would all fall due at midnight, so each transfer is given a fixed offset within
+ * {@code spread-window} when it is created. On startup, claims left by a stopped node are released
+ * and the horizon reloaded, so transfers missed during downtime run immediately.
+ */
+@Component
+public class ScheduledTransferEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledTransferEngine.class);
+
+    // 64 slots per level, 4 levels: at 1 s ticks the wheel spans about 194 days
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_LEVELS = 4;
+
+    // Re-read a little of the previous range so a row committed during a load is not missed
+    private static final Duration LOAD_OVERLAP = Duration.ofMinutes(1);
+
+    @Autowired
+    private ScheduledTransferRepository repository;
+
+    @Autowired
+    private TransferEngine transferEngine;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${banking.scheduled-transfers.enabled:true}")
+    private boolean enabled;
+
+    @Value("${banking.scheduled-transfers.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${banking.scheduled-transfers.load-horizon:48h}")
+    private Duration loadHorizon;
+
+    @Value("${banking.scheduled-transfers.spread-window:2h}")
+    private Duration spreadWindow;
+
+    @Value("${banking.scheduled-transfers.batch-size:200}")
+    private int batchSize;
+
+    @Value("${banking.scheduled-transfers.parallelism:4}")
+    private int parallelism;
+
+    @Value("${banking.scheduled-transfers.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${banking.scheduled-transfers.retry-delay:5m}")
+    private Duration retryDelay;
+
+    @Value("${banking.scheduled-transfers.processing-timeout:10m}")
+    private Duration processingTimeout;
+
+    // Handed from loaders and request threads to the ticker, which owns the wheel
+    private final Queue<Due> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wheelSize = new AtomicInteger();
+
+    private HierarchicalTimingWheel<UUID> wheel;
+    private ExecutorService workers;
+    private Thread ticker;
+    private volatile boolean running;
+    private volatile LocalDateTime loadedUntil;
+
+    private Counter completed;
+    private Counter failed;
+    private Counter retried;
+
+    /**
+     * Recover and start firing once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            logger.info("Scheduled transfer execution is disabled on this node");
+            return;
+        }
+        wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_BITS, WHEEL_LEVELS, System.currentTimeMillis());
+        if (loadHorizon.toMillis() >= wheel.spanMillis()) {
+            throw new IllegalStateException("banking.scheduled-transfers.load-horizon exceeds the timing wheel span of "
+                    + Duration.ofMillis(wheel.spanMillis()));
+        }
+        completed = outcomeCounter("completed");
+        failed = outcomeCounter("failed");
+        retried = outcomeCounter("retried");
+        Gauge.builder("banking.scheduled.transfers.wheel.size", wheelSize, AtomicInteger::get).register(meterRegistry);
+
+        AtomicInteger threadIds = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "scheduled-transfer-" + threadIds.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("banking.scheduled.transfers.batches.queued", pool, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+        workers = pool;
+
+        releaseStaleClaims();
+        LocalDateTime now = LocalDateTime.now();
+        load(LocalDateTime.of(1970, 1, 1, 0, 0), now.plus(loadHorizon), now);
+
+        running = true;
+        ticker = new Thread(this::tickLoop, "scheduled-transfer-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    /**
+     * Store a transfer for its scheduled date
+     * @return ID of the scheduled transfer
+     */
+    public UUID schedule(String fromAccountNumber, String toAccountNumber, BigDecimal amount, Currency currency,
+                         String description, LocalDate scheduledDate, String createdBy) {
+        if (fromAccountNumber.equals(toAccountNumber)) {
+            throw new InvalidTransactionException("Cannot transfer to the same account");
+        }
+        if (scheduledDate.isBefore(LocalDate.now())) {
+            throw new InvalidTransactionException("Scheduled date " + scheduledDate + " is in the past");
+        }
+        long amountMinor = Money.toMinorUnits(amount, currency);
+        if (amountMinor <= 0) {
+            throw new InvalidTransactionException("Transfer amount must be positive");
+        }
+
+        UUID id = UuidV7.next();
+        LocalDateTime executeAt = scheduledDate.atStartOfDay().plus(spreadOffset(id));
+        repository.insert(id, fromAccountNumber, toAccountNumber, amountMinor, currency, description,
+                scheduledDate, executeAt, createdBy);
+        // Within the loaded range the next load will not see it, so hand it to the wheel directly,
+        // once the row is committed and can be claimed
+        if (enabled && executeAt.isBefore(LocalDateTime.now().plus(loadHorizon))) {
+            afterCommit(() -> inbox.add(new Due(id, executeAt)));
+        }
+        logger.info("Transfer {} scheduled: from={}, to={}, amount={}, executeAt={}",
+                id, fromAccountNumber, toAccountNumber, amount, executeAt);
+        return id;
+    }
+
+    /**
+     * Move the loaded range forward so the wheel always holds the next {@code load-horizon} of transfers,
+     * and pick up transfers left behind by other nodes
+     */
+    @Scheduled(fixedDelayString = "${banking.scheduled-transfers.load-interval-ms:600000}")
+    public void extendHorizon() {
+        if (!running) {
+            return;
+        }
+        releaseStaleClaims();
+        LocalDateTime now = LocalDateTime.now();
+        load(loadedUntil.minus(LOAD_OVERLAP), now.plus(loadHorizon), now.minus(processingTimeout));
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (ticker != null) {
+            ticker.interrupt();
+            ticker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (workers != null) {
+            // Claimed transfers that do not finish are released after processing-timeout
+            workers.shutdown();
+            workers.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    // Private helper methods
+
+    private void releaseStaleClaims() {
+        int released = repository.releaseStaleClaims(LocalDateTime.now().minus(processingTimeout));
+        if (released > 0) {
+            logger.warn("Released {} scheduled transfers claimed by a node that did not finish them", released);
+        }
+    }
+
+    private void load(LocalDateTime from, LocalDateTime to, LocalDateTime overdueBefore) {
+        long started = System.nanoTime();
+        AtomicInteger count = new AtomicInteger();
+        transactionTemplate.executeWithoutResult(status ->
+                repository.forEachPending(from, to, overdueBefore, due -> {
+                    inbox.add(due);
+                    count.incrementAndGet();
+                }));
+        loadedUntil = to;
+        logger.info("Loaded {} scheduled transfers due before {} in {} ms",
+                count.get(), to, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void tickLoop() {
+        List<UUID> due = new ArrayList<>();
+        while (running) {
+            try {
+                for (Due next; (next = inbox.poll()) != null; ) {
+                    if (!wheel.add(next.id(), toEpochMillis(next.executeAt()))) {
+                        logger.warn("Scheduled transfer {} at {} is beyond the timing wheel", next.id(), next.executeAt());
+                    }
+                }
+                wheel.advance(System.currentTimeMillis(), due::add);
+                wheelSize.set(wheel.size());
+                for (int from = 0; from < due.size(); from += batchSize) {
+                    List<UUID> batch = List.copyOf(due.subList(from, Math.min(from + batchSize, due.size())));
+                    workers.execute(() -> fire(batch));
+                }
+                due.clear();
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(tickMillis));
+            } catch (RuntimeException e) {
+                // Transfers handed over in this tick are lost from the wheel; the overdue sweep reloads them
+                logger.error("Scheduled transfer tick failed", e);
+                due.clear();
+            }
+        }
+    }
+
+    private void fire(List<UUID> batch) {
+        List<ScheduledTransfer> claimed;
+        try {
+            claimed = repository.claim(batch, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            logger.error("Failed to claim {} scheduled transfers; they will be picked up by the overdue sweep",
+                    batch.size(), e);
+            return;
+        }
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (ScheduledTransfer transfer : claimed) {
+            try {
+                transferEngine.transfer(transfer.fromAccountNumber(), transfer.toAccountNumber(),
+                        Money.toBigDecimal(transfer.amountMinor(), transfer.currency()), transfer.currency(),
+                        transfer.description(), result -> {
+                            if (!repository.markCompleted(transfer.id(), transfer.claimedAt(), result.debitTransactionId())) {
+                                throw new IllegalStateException("Claim on scheduled transfer " + transfer.id() + " was lost");
+                            }
+                        });
+                completed.increment();
+            } catch (AccountNotFoundException | InsufficientFundsException | InvalidTransactionException e) {
+                // Retrying would not change the outcome
+                outcomes.add(new Outcome(transfer.id(), transfer.claimedAt(), e.getMessage(), null));
+                failed.increment();
+            } catch (RuntimeException e) {
+                logger.warn("Scheduled transfer {} failed on attempt {}: {}",
+                        transfer.id(), transfer.attempts(), e.getMessage());
+                if (transfer.attempts() < maxAttempts) {
+                    LocalDateTime retryAt = LocalDateTime.now().plus(retryDelay);
+                    outcomes.add(new Outcome(transfer.id(), transfer.claimedAt(), e.getMessage(), retryAt));
+                    inbox.add(new Due(transfer.id(), retryAt));
+                    retried.increment();
+                } else {
+                    outcomes.add(new Outcome(transfer.id(), transfer.claimedAt(), e.getMessage(), null));
+                    failed.increment();
+                }
+            }
+        }
+        if (!outcomes.isEmpty()) {
+            repository.recordOutcomes(outcomes);
+        }
+        logger.debug("Scheduled transfer batch: {} due, {} claimed, {} not completed",
+                batch.size(), claimed.size(), outcomes.size());
+    }
+
+    private Duration spreadOffset(UUID id) {
+        long windowMillis = spreadWindow.toMillis();
+        if (windowMillis <= 0) {
+            return Duration.ZERO;
+        }
+        // The random bits of the UUID spread transfers evenly and give each one a stable offset
+        return Duration.ofMillis(Math.floorMod(id.getLeastSignificantBits(), windowMillis));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Counter outcomeCounter(String outcome) {
+        return Counter.builder("banking.scheduled.transfers.executed")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
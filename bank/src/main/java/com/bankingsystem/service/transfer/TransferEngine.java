@@ -0,0 +1,236 @@
+// File: src/main/java/com/bankingsystem/service/transfer/TransferEngine.java
+package com.bankingsystem.service.transfer;
+
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.AccountStatus;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.exception.AccountNotFoundException;
+import com.bankingsystem.exception.InsufficientFundsException;
+import com.bankingsystem.exception.InvalidTransactionException;
+import com.bankingsystem.repository.account.DailyBalanceSnapshotRepository;
+import com.bankingsystem.service.ledger.AccountLockStripes;
+import com.bankingsystem.util.UuidV7;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Atomic account-to-account transfer pipeline.
+ *
+ * Both accounts are locked in a fixed order, first in-process through {@link AccountLockStripes}
+ * and then in the database with an ordered {@code SELECT ... FOR UPDATE}. The debit, the credit and
+ * both TRANSFER_OUT / TRANSFER_IN rows are then written in a single statement round trip.
+ *
+ * Each transfer commits in its own transaction before the in-process locks are released, so callers must
+ * not already be in a transaction: joining one would move the commit outside the locks, and a refusal
+ * would mark the caller's transaction rollback-only.
+ */
+@Component
+public class TransferEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferEngine.class);
+
+    private static final String ACCOUNT_CACHE = "accounts";
+
+    // ORDER BY makes PostgreSQL take the row locks in account-number order on every node
+    private static final String LOCK_ACCOUNTS_SQL =
+            "SELECT id, account_number, balance, status, currency FROM accounts " +
+            "WHERE account_number IN (?, ?) ORDER BY account_number FOR UPDATE";
+
+    // Data-modifying CTE: both balance updates and both ledger rows in one statement
+    private static final String POST_TRANSFER_SQL =
+            "WITH debit AS (" +
+            "  UPDATE accounts SET balance = balance - ?, last_transaction_date = ?, version = version + 1 " +
+            "  WHERE id = ? RETURNING id), " +
+            "credit AS (" +
+            "  UPDATE accounts SET balance = balance + ?, last_transaction_date = ?, version = version + 1 " +
+            "  WHERE id = ? RETURNING id) " +
+            "INSERT INTO transactions (id, transaction_id, transaction_type, amount, currency, timestamp, " +
+            "  description, status, fees, account_id, created_date, version, active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, (SELECT id FROM debit), ?, 0, true), " +
+            "       (?, ?, ?, ?, ?, ?, ?, ?, 0, (SELECT id FROM credit), ?, 0, true)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AccountLockStripes lockStripes;
+
+    @Autowired
+    private DailyBalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private TransferPolicy transferPolicy;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Result of a completed transfer
+     */
+    public record TransferResult(String debitTransactionId,
+                                 String creditTransactionId,
+                                 BigDecimal fromBalance,
+                                 BigDecimal toBalance) {}
+
+    /**
+     * Move money between two accounts atomically
+     * @param fromAccountNumber Account to debit
+     * @param toAccountNumber Account to credit
+     * @param amount Positive transfer amount; the {@link TransferPolicy} fee is debited on top of it
+     * @param currency Transfer currency; must match both accounts
+     * @param description Optional memo stored on both transaction rows
+     * @return Transaction IDs and resulting balances
+     */
+    public TransferResult transfer(String fromAccountNumber, String toAccountNumber,
+                                   BigDecimal amount, Currency currency, String description) {
+        return transfer(fromAccountNumber, toAccountNumber, amount, currency, description, null);
+    }
+
+    /**
+     * Move money between two accounts atomically, running extra work in the same database transaction
+     * @param inTransaction Called after the postings are written and before commit; if it throws,
+     *                      the transfer is rolled back. May be null.
+     * @see #transfer(String, String, BigDecimal, Currency, String)
+     */
+    public TransferResult transfer(String fromAccountNumber, String toAccountNumber, BigDecimal amount,
+                                   Currency currency, String description, Consumer<TransferResult> inTransaction) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Transfers commit in their own transaction under the account locks; "
+                    + "call the engine outside any transaction");
+        }
+        if (fromAccountNumber.equals(toAccountNumber)) {
+            throw new InvalidTransactionException("Cannot transfer to the same account");
+        }
+        long amountMinor = Money.toMinorUnits(amount, currency);
+        if (amountMinor <= 0) {
+            throw new InvalidTransactionException("Transfer amount must be positive");
+        }
+
+        try (AccountLockStripes.Held ignored = lockStripes.lockBoth(fromAccountNumber, toAccountNumber)) {
+            TransferResult result = transactionTemplate.execute(status -> {
+                TransferResult posted = postTransfer(fromAccountNumber, toAccountNumber, amountMinor, currency,
+                        description);
+                if (inTransaction != null) {
+                    inTransaction.accept(posted);
+                }
+                return posted;
+            });
+            // Committed by now; cached account responses still carry the old balances
+            evictCached(List.of(fromAccountNumber, toAccountNumber));
+
+            logger.info("Transfer completed: from={}, to={}, amount={}, debitTxn={}",
+                    fromAccountNumber, toAccountNumber, amount, result.debitTransactionId());
+            return result;
+        }
+    }
+
+    // Private helper methods
+
+    private TransferResult postTransfer(String fromAccountNumber, String toAccountNumber,
+                                        long amountMinor, Currency currency, String description) {
+        Map<String, LockedAccount> locked = lockAccounts(fromAccountNumber, toAccountNumber);
+        LockedAccount from = locked.get(fromAccountNumber);
+        LockedAccount to = locked.get(toAccountNumber);
+
+        validateAccount(from, currency);
+        validateAccount(to, currency);
+        // Under the source row lock, so concurrent transfers from the account are counted against its limit
+        transferPolicy.checkLimits(from.id(), fromAccountNumber, amountMinor, currency);
+        long feeMinor = transferPolicy.feeMinor(currency);
+        long debitMinor = Math.addExact(amountMinor, feeMinor);
+
+        // Committed balance under the row lock: ledger debits are applied before commit and unflushed ledger
+        // credits only add to it, so it never counts money that is not there
+        long available = from.balanceMinor();
+        if (available < debitMinor) {
+            throw new InsufficientFundsException(fromAccountNumber,
+                    Money.toBigDecimal(available, currency),
+                    Money.toBigDecimal(debitMinor, currency));
+        }
+        long toBalance = to.balanceMinor();
+
+        LocalDateTime postedAt = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(postedAt);
+        String debitTransactionId = newTransactionId();
+        String creditTransactionId = newTransactionId();
+        String status = TransactionStatus.COMPLETED.name();
+
+        jdbcTemplate.update(POST_TRANSFER_SQL,
+                debitMinor, now, from.id(),
+                amountMinor, now, to.id(),
+                UuidV7.next(), debitTransactionId, TransactionType.TRANSFER_OUT.name(), amountMinor,
+                currency.name(), now, description, status, feeMinor, now,
+                UuidV7.next(), creditTransactionId, TransactionType.TRANSFER_IN.name(), amountMinor,
+                currency.name(), now, description, status, now);
+        snapshotRepository.recordClosing(List.of(from.id(), to.id()), postedAt.toLocalDate());
+
+        return new TransferResult(debitTransactionId, creditTransactionId,
+                Money.toBigDecimal(available - debitMinor, currency),
+                Money.toBigDecimal(toBalance + amountMinor, currency));
+    }
+
+    private Map<String, LockedAccount> lockAccounts(String fromAccountNumber, String toAccountNumber) {
+        Map<String, LockedAccount> locked = new HashMap<>(4);
+        jdbcTemplate.query(LOCK_ACCOUNTS_SQL, rs -> {
+            LockedAccount account = new LockedAccount(
+                    rs.getObject("id", UUID.class),
+                    rs.getLong("balance"),
+                    AccountStatus.valueOf(rs.getString("status")),
+                    Currency.valueOf(rs.getString("currency")));
+            locked.put(rs.getString("account_number"), account);
+        }, fromAccountNumber, toAccountNumber);
+
+        if (!locked.containsKey(fromAccountNumber)) {
+            throw new AccountNotFoundException(fromAccountNumber);
+        }
+        if (!locked.containsKey(toAccountNumber)) {
+            throw new AccountNotFoundException(toAccountNumber);
+        }
+        return locked;
+    }
+
+    private void validateAccount(LockedAccount account, Currency currency) {
+        if (!account.status().canPerformTransactions()) {
+            throw new InvalidTransactionException("Account cannot perform transactions in status: "
+                    + account.status());
+        }
+        if (account.currency() != currency) {
+            throw new InvalidTransactionException("Currency mismatch: account is " + account.currency()
+                    + ", transfer is " + currency);
+        }
+    }
+
+    private void evictCached(List<String> accountNumbers) {
+        Cache cache = cacheManager.getCache(ACCOUNT_CACHE);
+        if (cache != null) {
+            accountNumbers.forEach(cache::evict);
+        }
+    }
+
+    private static String newTransactionId() {
+        return "TXN-" + UuidV7.next();
+    }
+
+    private record LockedAccount(UUID id, long balanceMinor, AccountStatus status, Currency currency) {}
+}
@@ -0,0 +1,75 @@
+// File: src/main/java/com/bankingsystem/service/transfer/TransferPolicy.java
+package com.bankingsystem.service.transfer;
+
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.exception.BankingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Limits and fees applied to every transfer, immediate or scheduled.
+ * Amounts are configured in major units and apply in the transfer currency.
+ */
+@Component
+public class TransferPolicy {
+
+    // Served by idx_transactions_account_timestamp_id; fees are in their own column and do not count
+    private static final String SENT_TODAY_SQL =
+            "SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE account_id = :accountId " +
+            "AND transaction_type = :type AND status = :status AND timestamp >= :from";
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Value("${banking.transfers.max-amount:50000}")
+    private BigDecimal maxAmount;
+
+    @Value("${banking.transfers.daily-limit:100000}")
+    private BigDecimal dailyLimit;
+
+    @Value("${banking.transfers.fee:0}")
+    private BigDecimal fee;
+
+    /**
+     * Flat fee charged to the source account
+     * @return Fee in minor units of {@code currency}
+     */
+    public long feeMinor(Currency currency) {
+        return Money.toMinorUnits(fee, currency);
+    }
+
+    /**
+     * Reject the transfer if it exceeds the per-transfer or daily outgoing limit.
+     * Call with the source account row locked, so concurrent transfers from it are counted.
+     */
+    public void checkLimits(UUID fromAccountId, String fromAccountNumber, long amountMinor, Currency currency) {
+        if (amountMinor > Money.toMinorUnits(maxAmount, currency)) {
+            throw new BankingException("TRANSFER_LIMIT_EXCEEDED",
+                    "Transfer of " + Money.toBigDecimal(amountMinor, currency) + " exceeds the per-transfer limit",
+                    "The amount exceeds the maximum of " + maxAmount + " " + currency + " per transfer.");
+        }
+
+        long sentToday = namedJdbcTemplate.queryForObject(SENT_TODAY_SQL,
+                new MapSqlParameterSource("accountId", fromAccountId)
+                        .addValue("type", TransactionType.TRANSFER_OUT.name())
+                        .addValue("status", TransactionStatus.COMPLETED.name())
+                        .addValue("from", Timestamp.valueOf(LocalDate.now().atStartOfDay())),
+                Long.class);
+        if (sentToday + amountMinor > Money.toMinorUnits(dailyLimit, currency)) {
+            throw new BankingException("DAILY_TRANSFER_LIMIT_EXCEEDED",
+                    "Account " + fromAccountNumber + " would exceed its daily transfer limit",
+                    "This transfer would exceed your daily limit of " + dailyLimit + " " + currency + ".");
+        }
+    }
+}
@@ -5,25 +5,53 @@
 // File: src/main/java/com/bankingsystem/util/AccountNumberGenerator.java
 package com.bankingsystem.util;
 
+import com.bankingsystem.exception.BankingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import java.security.SecureRandom;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Utility class for generating unique account numbers.
  * Ensures account numbers are unique, secure, and follow business format.
+ *
+ * Format: ACC-PPPPPPPPPC, where P is a 9-digit keyed permutation of a sequence number and C is
+ * the Luhn check digit. Each node leases blocks of sequence numbers from {@code account_number_seq}
+ * and hands them out from an {@link AtomicLong}, so uniqueness needs no database existence checks.
+ * The permutation key must never change once numbers have been issued.
  */
 @Component
 public class AccountNumberGenerator {
 
+    private static final Logger logger = LoggerFactory.getLogger(AccountNumberGenerator.class);
+
     private static final String ACCOUNT_PREFIX = "ACC";
     private static final int ACCOUNT_NUMBER_LENGTH = 10;
-    private static final SecureRandom random = new SecureRandom();
+
+    // 9 permuted digits; the 10th is the Luhn check digit
+    private static final long DOMAIN = 1_000_000_000L;
+    private static final int HALF_BITS = 15;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int FEISTEL_ROUNDS = 4;
+
+    private static final String NEXT_BLOCK_SQL = "SELECT nextval('account_number_seq')";
+    private static final String BLOCK_SIZE_SQL =
+            "SELECT increment_by FROM pg_sequences WHERE sequencename = 'account_number_seq'";
 
     @Autowired
-    private AccountRepository accountRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${banking.accounts.number.permutation-key:7046029254386353131}")
+    private long permutationKey;
+
+    private final ReentrantLock leaseLock = new ReentrantLock();
+
+    private volatile Block block = Block.EMPTY;
+    private long blockSize;
 
     /**
      * Generate unique account number
@@ -31,27 +59,10 @@ public class AccountNumberGenerator {
      * @return Unique account number
      */
     public String generateAccountNumber(String accountType) {
-        String accountNumber;
-        int attempts = 0;
-        int maxAttempts = 100;
-
-        do {
-            accountNumber = generateAccountNumberInternal(accountType);
-            attempts++;
-
-            if (attempts > maxAttempts) {
-                throw new RuntimeException("Failed to generate unique account number after " + maxAttempts + " attempts");
-            }
-
-        } while (accountRepository.existsByAccountNumber(accountNumber));
-
-        return accountNumber;
-
-        // TODO: Implement account number generation logic
-        // TODO: Ensure uniqueness
-        // TODO: Add checksum validation
         // TODO: Consider different formats for different account types
-        return null;
+        long sequence = nextSequence();
+        String digits = String.format("%09d", permute(sequence));
+        return ACCOUNT_PREFIX + "-" + digits + generateChecksum(digits);
     }
 
     /**
@@ -66,11 +77,14 @@ public class AccountNumberGenerator {
 
         // Check format: ACC-XXXXXXXXXX (ACC- followed by 10 digits)
         String pattern = "^" + ACCOUNT_PREFIX + "-\\d{" + ACCOUNT_NUMBER_LENGTH + "}$";
-        return accountNumber.matches(pattern);
+        if (!accountNumber.matches(pattern)) {
+            return false;
+        }
 
-        // TODO: Implement account number validation
-        // TODO: Check format and checksum
-        return false;
+        // Last digit must be the Luhn check digit of the rest
+        String digits = accountNumber.substring(ACCOUNT_PREFIX.length() + 1);
+        int checkDigit = digits.charAt(digits.length() - 1) - '0';
+        return generateChecksum(digits.substring(0, digits.length() - 1)) == checkDigit;
     }
 
     /**
@@ -85,44 +99,109 @@ public class AccountNumberGenerator {
     }
 
     /**
-     * Generate checksum for account number validation
-     * @param accountNumber Account number without checksum
+     * Generate checksum for account number validation (Luhn algorithm)
+     * @param accountNumber Account number without checksum; non-digit characters are ignored
      * @return Checksum digit
      */
     public int generateChecksum(String accountNumber) {
-        // TODO: Implement Luhn algorithm or similar for checksum generation
-        // This adds an extra layer of validation for account numbers
-        return 0;
+        int sum = 0;
+        // Double every second digit starting from the rightmost, where the check digit will be appended
+        boolean doubleIt = true;
+        for (int i = accountNumber.length() - 1; i >= 0; i--) {
+            char c = accountNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                continue;
+            }
+            int digit = c - '0';
+            if (doubleIt) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubleIt = !doubleIt;
+        }
+        return (10 - sum % 10) % 10;
     }
 
     // Private helper methods
-    private String generateAccountNumberInternal(String accountType) {
-        StringBuilder accountNumber = new StringBuilder();
 
-        // Add prefix
-        accountNumber.append(ACCOUNT_PREFIX).append("-");
+    /**
+     * Next sequence number; lock-free unless the current block is used up
+     */
+    private long nextSequence() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return value;
+            }
+            leaseBlock(current);
+        }
+    }
 
-        // Generate random digits
-        for (int i = 0; i < ACCOUNT_NUMBER_LENGTH; i++) {
-            accountNumber.append(random.nextInt(10));
+    private void leaseBlock(Block exhausted) {
+        leaseLock.lock();
+        try {
+            // Another thread may have leased a block while this one waited
+            if (block != exhausted) {
+                return;
+            }
+            if (blockSize == 0) {
+                Long increment = jdbcTemplate.queryForObject(BLOCK_SIZE_SQL, Long.class);
+                blockSize = increment == null ? 1 : increment;
+            }
+            Long start = jdbcTemplate.queryForObject(NEXT_BLOCK_SQL, Long.class);
+            if (start == null || start >= DOMAIN) {
+                throw new BankingException("ACCOUNT_NUMBERS_EXHAUSTED", "Account number sequence exhausted");
+            }
+            block = new Block(start, Math.min(start + blockSize, DOMAIN));
+            logger.debug("Leased account number block [{}, {})", start, block.end);
+        } finally {
+            leaseLock.unlock();
         }
+    }
 
-        return accountNumber.toString();
+    /**
+     * Keyed bijection on [0, 10^9): a 4-round Feistel network over 30 bits with cycle walking,
+     * so consecutive sequence numbers map to unrelated-looking account numbers
+     */
+    private long permute(long value) {
+        long result = value;
+        do {
+            result = feistel(result);
+        } while (result >= DOMAIN);
+        return result;
     }
 
-    // Alternative generation methods
-    private String generateSequentialAccountNumber(String accountType) {
-        // TODO: Implement sequential account number generation
-        // Useful for testing or when predictable numbers are needed
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        return ACCOUNT_PREFIX + "-" + timestamp.substring(timestamp.length() - ACCOUNT_NUMBER_LENGTH);
+    private long feistel(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int round = 0; round < FEISTEL_ROUNDS; round++) {
+            long next = left ^ (mix(right ^ (permutationKey + round * 0x9E3779B97F4A7C15L)) & HALF_MASK);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
     }
 
-    private String generateHybridAccountNumber(String accountType) {
-        // TODO: Implement hybrid approach (partial sequential, partial random)
-        // Combines benefits of both approaches
-        String dateComponent = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyMMdd"));
-        String randomComponent = String.format("%04d", random.nextInt(10000));
-        return ACCOUNT_PREFIX + "-" + dateComponent + randomComponent;
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Block {
+        static final Block EMPTY = new Block(0, 0);
+
+        final AtomicLong next;
+        final long end;
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
     }
-}
\ No newline at end of file
+}
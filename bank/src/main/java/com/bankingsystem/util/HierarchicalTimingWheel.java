@@ -0,0 +1,127 @@
+// File: src/main/java/com/bankingsystem/util/HierarchicalTimingWheel.java
+package com.bankingsystem.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for large numbers of deadlines.
+ *
+ * Level 0 has {@code 2^bits} slots of one tick each; every level above has the same number of slots, each
+ * covering a whole revolution of the level below. An entry goes into the lowest level whose span covers its
+ * distance from now, so {@link #add} is O(1) whatever the number of entries. When time crosses a slot boundary
+ * of a higher level, that slot's entries are redistributed into the levels below (each entry moves at most
+ * once per level). Deadlines are rounded up to the tick, so nothing fires early.
+ *
+ * Not thread-safe: one thread owns the wheel and calls both {@link #add} and {@link #advance}.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final ArrayDeque<Entry<T>>[][] levels;
+    private final List<T> overdue = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    private record Entry<T>(T item, long tick) {}
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int bits, int levelCount, long startMillis) {
+        if (bits * levelCount >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Wheel span does not fit in a long: " + bits + " bits x " + levelCount);
+        }
+        this.tickMillis = tickMillis;
+        this.bits = bits;
+        this.mask = (1 << bits) - 1;
+        this.levels = new ArrayDeque[levelCount][1 << bits];
+        for (ArrayDeque<Entry<T>>[] level : levels) {
+            for (int slot = 0; slot < level.length; slot++) {
+                level[slot] = new ArrayDeque<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Latest deadline the wheel can hold, as an offset from the current time
+     */
+    public long spanMillis() {
+        return tickMillis << (bits * levels.length);
+    }
+
+    /**
+     * Schedule an item; a deadline already passed fires on the next {@link #advance}
+     * @return false if the deadline is beyond {@link #spanMillis()}
+     */
+    public boolean add(T item, long deadlineMillis) {
+        long tick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        long delta = tick - currentTick;
+        if (delta <= 0) {
+            overdue.add(item);
+            size++;
+            return true;
+        }
+        for (int level = 0; level < levels.length; level++) {
+            if (delta < 1L << (bits * (level + 1))) {
+                levels[level][slot(tick, level)].add(new Entry<>(item, tick));
+                size++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Move the wheel to {@code nowMillis} and hand every item whose deadline has passed to {@code due}
+     */
+    public void advance(long nowMillis, Consumer<T> due) {
+        if (!overdue.isEmpty()) {
+            size -= overdue.size();
+            overdue.forEach(due);
+            overdue.clear();
+        }
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Higher levels first, so their entries are in place before the lower slots are read
+            for (int level = levels.length - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    cascade(levels[level][slot(currentTick, level)], due);
+                }
+            }
+            ArrayDeque<Entry<T>> slot = levels[0][slot(currentTick, 0)];
+            size -= slot.size();
+            for (Entry<T> entry; (entry = slot.poll()) != null; ) {
+                due.accept(entry.item());
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Private helper methods
+
+    private void cascade(ArrayDeque<Entry<T>> slot, Consumer<T> due) {
+        int count = slot.size();
+        for (int i = 0; i < count; i++) {
+            Entry<T> entry = slot.poll();
+            size--;
+            if (entry.tick() <= currentTick) {
+                due.accept(entry.item());
+            } else {
+                add(entry.item(), entry.tick() * tickMillis);
+            }
+        }
+    }
+
+    private int slot(long tick, int level) {
+        return (int) (tick >>> (bits * level)) & mask;
+    }
+}
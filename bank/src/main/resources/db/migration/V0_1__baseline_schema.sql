@@ -0,0 +1,176 @@
+-- Schema as it stood before migrations were introduced, so an empty database can be built from V0_1 up.
+-- Existing databases are baselined at this version (spring.flyway.baseline-version) and skip it.
+-- Money columns are still decimal amounts here; V1 converts them to minor units.
+
+-- People and security
+
+CREATE TABLE persons (
+    id                 UUID         PRIMARY KEY,
+    created_date       TIMESTAMP    NOT NULL,
+    last_modified_date TIMESTAMP,
+    version            BIGINT,
+    active             BOOLEAN,
+    created_by         VARCHAR(255),
+    last_modified_by   VARCHAR(255),
+    person_type        VARCHAR(31)  NOT NULL,
+    person_id          VARCHAR(255) NOT NULL UNIQUE,
+    first_name         VARCHAR(255) NOT NULL,
+    last_name          VARCHAR(255) NOT NULL,
+    date_of_birth      DATE,
+    address_street     VARCHAR(255),
+    address_city       VARCHAR(255),
+    address_state      VARCHAR(255),
+    address_zip        VARCHAR(255),
+    address_country    VARCHAR(255),
+    email              VARCHAR(255),
+    phone_number       VARCHAR(255),
+    alternate_phone    VARCHAR(255),
+    preferred_contact  VARCHAR(255)
+);
+
+CREATE TABLE customers (
+    id             UUID         PRIMARY KEY REFERENCES persons (id),
+    customer_id    VARCHAR(255) NOT NULL UNIQUE,
+    customer_type  VARCHAR(255),
+    credit_score   INTEGER,
+    customer_since DATE,
+    loyalty_points INTEGER,
+    risk_level     VARCHAR(255)
+);
+
+CREATE TABLE bank_employees (
+    id            UUID             PRIMARY KEY REFERENCES persons (id),
+    employee_id   VARCHAR(255)     NOT NULL UNIQUE,
+    department    VARCHAR(255),
+    position      VARCHAR(255),
+    salary        DOUBLE PRECISION,
+    hire_date     DATE,
+    supervisor_id UUID             REFERENCES bank_employees (id)
+);
+
+CREATE TABLE tellers (
+    id                      UUID             PRIMARY KEY REFERENCES bank_employees (id),
+    window_number           INTEGER,
+    daily_transaction_limit DOUBLE PRECISION
+);
+
+CREATE TABLE permissions (
+    id                 UUID         PRIMARY KEY,
+    created_date       TIMESTAMP    NOT NULL,
+    last_modified_date TIMESTAMP,
+    version            BIGINT,
+    active             BOOLEAN,
+    name               VARCHAR(255) NOT NULL UNIQUE,
+    description        VARCHAR(255),
+    resource           VARCHAR(255),
+    action             VARCHAR(255)
+);
+
+CREATE TABLE roles (
+    id                 UUID         PRIMARY KEY,
+    created_date       TIMESTAMP    NOT NULL,
+    last_modified_date TIMESTAMP,
+    version            BIGINT,
+    active             BOOLEAN,
+    name               VARCHAR(255) NOT NULL UNIQUE,
+    description        VARCHAR(255)
+);
+
+CREATE TABLE role_permissions (
+    role_id       UUID NOT NULL REFERENCES roles (id),
+    permission_id UUID NOT NULL REFERENCES permissions (id),
+    PRIMARY KEY (role_id, permission_id)
+);
+
+CREATE TABLE employee_permissions (
+    employee_id   UUID NOT NULL REFERENCES bank_employees (id),
+    permission_id UUID NOT NULL REFERENCES permissions (id),
+    PRIMARY KEY (employee_id, permission_id)
+);
+
+CREATE TABLE users (
+    id                         UUID         PRIMARY KEY,
+    created_date               TIMESTAMP    NOT NULL,
+    last_modified_date         TIMESTAMP,
+    version                    BIGINT,
+    active                     BOOLEAN,
+    created_by                 VARCHAR(255),
+    last_modified_by           VARCHAR(255),
+    username                   VARCHAR(255) NOT NULL UNIQUE,
+    password_hash              VARCHAR(255) NOT NULL,
+    email                      VARCHAR(255) NOT NULL UNIQUE,
+    is_enabled                 BOOLEAN      NOT NULL,
+    is_account_non_expired     BOOLEAN      NOT NULL,
+    is_account_non_locked      BOOLEAN      NOT NULL,
+    is_credentials_non_expired BOOLEAN      NOT NULL,
+    last_login                 TIMESTAMP,
+    failed_login_attempts      INTEGER,
+    person_id                  UUID         UNIQUE REFERENCES persons (id)
+);
+
+CREATE TABLE user_roles (
+    user_id UUID NOT NULL REFERENCES users (id),
+    role_id UUID NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (user_id, role_id)
+);
+
+-- Accounts
+
+CREATE TABLE accounts (
+    id                    UUID           PRIMARY KEY,
+    created_date          TIMESTAMP      NOT NULL,
+    last_modified_date    TIMESTAMP,
+    version               BIGINT,
+    active                BOOLEAN,
+    created_by            VARCHAR(255),
+    last_modified_by      VARCHAR(255),
+    account_type          VARCHAR(31)    NOT NULL,
+    account_id            VARCHAR(255)   NOT NULL UNIQUE,
+    account_number        VARCHAR(255)   NOT NULL UNIQUE,
+    balance               NUMERIC(19, 2) NOT NULL,
+    currency              VARCHAR(255),
+    open_date             DATE,
+    last_transaction_date TIMESTAMP,
+    status                VARCHAR(255),
+    customer_id           UUID           NOT NULL REFERENCES customers (id)
+);
+
+CREATE INDEX idx_accounts_customer_id ON accounts (customer_id);
+
+CREATE TABLE checking_accounts (
+    id                      UUID           PRIMARY KEY REFERENCES accounts (id),
+    overdraft_limit         NUMERIC(19, 2),
+    monthly_fee             NUMERIC(19, 2),
+    free_transactions_limit INTEGER
+);
+
+CREATE TABLE savings_accounts (
+    id                     UUID             PRIMARY KEY REFERENCES accounts (id),
+    interest_rate          DOUBLE PRECISION,
+    minimum_balance        NUMERIC(19, 2),
+    withdrawal_limit       INTEGER,
+    withdrawals_this_month INTEGER
+);
+
+-- Transactions
+
+CREATE TABLE transactions (
+    id                 UUID           PRIMARY KEY,
+    created_date       TIMESTAMP      NOT NULL,
+    last_modified_date TIMESTAMP,
+    version            BIGINT,
+    active             BOOLEAN,
+    created_by         VARCHAR(255),
+    last_modified_by   VARCHAR(255),
+    transaction_id     VARCHAR(255)   NOT NULL UNIQUE,
+    transaction_type   VARCHAR(31)    NOT NULL,
+    amount             NUMERIC(19, 2) NOT NULL,
+    currency           VARCHAR(255),
+    timestamp          TIMESTAMP,
+    description        VARCHAR(255),
+    status             VARCHAR(255),
+    fees               NUMERIC(19, 2),
+    authorization_code VARCHAR(255),
+    account_id         UUID           REFERENCES accounts (id),
+    processed_by       UUID           REFERENCES bank_employees (id)
+);
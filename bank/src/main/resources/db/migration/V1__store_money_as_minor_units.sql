@@ -0,0 +1,40 @@
+-- Money columns hold integer minor units of the row's currency (cents; whole yen for JPY)
+-- instead of floating-point amounts. See Money / MoneyConverter.
+
+ALTER TABLE accounts
+    ALTER COLUMN balance TYPE BIGINT
+    USING ROUND(balance * CASE WHEN currency = 'JPY' THEN 1 ELSE 100 END)::BIGINT;
+
+ALTER TABLE transactions
+    ALTER COLUMN amount TYPE BIGINT
+    USING ROUND(amount * CASE WHEN currency = 'JPY' THEN 1 ELSE 100 END)::BIGINT,
+    ALTER COLUMN fees TYPE BIGINT
+    USING ROUND(fees * CASE WHEN currency = 'JPY' THEN 1 ELSE 100 END)::BIGINT;
+
+-- Subtype tables have no currency column, so scale through the parent row
+
+ALTER TABLE checking_accounts
+    ADD COLUMN overdraft_limit_minor BIGINT,
+    ADD COLUMN monthly_fee_minor BIGINT;
+
+UPDATE checking_accounts c
+SET overdraft_limit_minor = ROUND(c.overdraft_limit * CASE WHEN a.currency = 'JPY' THEN 1 ELSE 100 END),
+    monthly_fee_minor     = ROUND(c.monthly_fee * CASE WHEN a.currency = 'JPY' THEN 1 ELSE 100 END)
+FROM accounts a
+WHERE a.id = c.id;
+
+ALTER TABLE checking_accounts
+    DROP COLUMN overdraft_limit,
+    DROP COLUMN monthly_fee;
+ALTER TABLE checking_accounts RENAME COLUMN overdraft_limit_minor TO overdraft_limit;
+ALTER TABLE checking_accounts RENAME COLUMN monthly_fee_minor TO monthly_fee;
+
+ALTER TABLE savings_accounts ADD COLUMN minimum_balance_minor BIGINT;
+
+UPDATE savings_accounts s
+SET minimum_balance_minor = ROUND(s.minimum_balance * CASE WHEN a.currency = 'JPY' THEN 1 ELSE 100 END)
+FROM accounts a
+WHERE a.id = s.id;
+
+ALTER TABLE savings_accounts DROP COLUMN minimum_balance;
+ALTER TABLE savings_accounts RENAME COLUMN minimum_balance_minor TO minimum_balance;
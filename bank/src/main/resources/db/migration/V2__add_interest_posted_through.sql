@@ -0,0 +1,8 @@
+-- Period boundary each account has been paid interest through (see InterestCalculationScheduler).
+-- Existing accounts start accruing from the current month instead of being back-paid.
+
+ALTER TABLE accounts ADD COLUMN interest_posted_through DATE NOT NULL DEFAULT CURRENT_DATE;
+
+UPDATE accounts SET interest_posted_through = DATE_TRUNC('month', CURRENT_DATE)::DATE;
+
+CREATE INDEX idx_accounts_interest_posted_through ON accounts (interest_posted_through);
@@ -0,0 +1,10 @@
+-- Source of account number blocks for AccountNumberGenerator.
+-- Each nextval() leases INCREMENT BY consecutive numbers to one node; the generator reads the
+-- increment from pg_sequences, so the block size can be changed here without code changes.
+
+CREATE SEQUENCE account_number_seq
+    START WITH 1
+    INCREMENT BY 1000
+    MINVALUE 1
+    MAXVALUE 999999999
+    NO CYCLE;
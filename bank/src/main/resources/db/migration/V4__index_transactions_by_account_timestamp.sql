@@ -0,0 +1,7 @@
+-- Keyset index for transaction history (see TransactionHistoryServiceImpl).
+-- Matches ORDER BY timestamp DESC, id DESC within one account, so every page is a short range scan
+-- regardless of depth. Built concurrently so existing writers are not blocked; Flyway runs this
+-- migration outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_account_timestamp_id
+    ON transactions (account_id, timestamp DESC, id DESC);
@@ -0,0 +1,13 @@
+-- Closing balance per account per day (see DailyBalanceSnapshotRepository).
+-- Rows are upserted by every posting path; days without postings have no row.
+-- Existing accounts are seeded with today's balance so point-in-time queries have a starting point.
+
+CREATE TABLE daily_balance_snapshot (
+    account_id      UUID    NOT NULL REFERENCES accounts (id),
+    snapshot_date   DATE    NOT NULL,
+    closing_balance BIGINT  NOT NULL,
+    PRIMARY KEY (account_id, snapshot_date)
+);
+
+INSERT INTO daily_balance_snapshot (account_id, snapshot_date, closing_balance)
+SELECT id, CURRENT_DATE, balance FROM accounts;
@@ -0,0 +1,31 @@
+-- Transfers requested for a future date (see ScheduledTransferEngine).
+-- execute_at is the scheduled date's start plus a per-transfer offset inside the spread window,
+-- fixed at insert so every node and every restart fires a transfer at the same moment.
+-- Amounts are minor units, as in accounts.balance.
+
+CREATE TABLE scheduled_transfers (
+    id                  UUID         PRIMARY KEY,
+    from_account_number VARCHAR(20)  NOT NULL,
+    to_account_number   VARCHAR(20)  NOT NULL,
+    amount              BIGINT       NOT NULL CHECK (amount > 0),
+    currency            VARCHAR(3)   NOT NULL,
+    description         VARCHAR(200),
+    scheduled_date      DATE         NOT NULL,
+    execute_at          TIMESTAMP    NOT NULL,
+    status              VARCHAR(20)  NOT NULL,
+    attempts            INT          NOT NULL DEFAULT 0,
+    claimed_at          TIMESTAMP,
+    transaction_id      VARCHAR(50),
+    last_error          VARCHAR(500),
+    created_by          VARCHAR(100),
+    created_date        TIMESTAMP    NOT NULL,
+    completed_at        TIMESTAMP
+);
+
+-- Loader range scans over pending work only; finished rows drop out of the index
+CREATE INDEX idx_scheduled_transfers_pending
+    ON scheduled_transfers (execute_at, id) WHERE status = 'PENDING';
+
+-- Recovery of claims left behind by a node that stopped mid-batch
+CREATE INDEX idx_scheduled_transfers_processing
+    ON scheduled_transfers (claimed_at) WHERE status = 'PROCESSING';
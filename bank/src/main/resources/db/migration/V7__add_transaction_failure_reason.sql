@@ -0,0 +1,4 @@
+-- Why a transaction was rejected. Queued deposits and withdrawals that fail validation are stored
+-- as FAILED rows with a reason, so a journal replay treats them as decided instead of retrying them.
+
+ALTER TABLE transactions ADD COLUMN failure_reason VARCHAR(255);
@@ -0,0 +1,5 @@
+-- Ledger credits are inserted as PROCESSING and flipped to COMPLETED when their balance update is written
+-- (see ShardedBalanceLedger). Recovery of credits stranded by a stopped node scans only these rows.
+
+CREATE INDEX idx_transactions_processing
+    ON transactions (created_date) WHERE status = 'PROCESSING';
@@ -0,0 +1,164 @@
+// File: src/test/java/com/bankingsystem/async/AsyncTransactionProcessorReplayTest.java
+package com.bankingsystem.async;
+
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionStatus;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.support.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A node that acknowledged postings and crashed before (or while) applying them applies each exactly once
+ * when it restarts, whether or not the database already has it.
+ */
+class AsyncTransactionProcessorReplayTest extends PostgresTestSupport {
+
+    private static final String ACCOUNT_NUMBER = "4000000001";
+
+    @TempDir
+    Path journalDir;
+
+    private UUID accountId;
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    @BeforeEach
+    void setUp() {
+        resetData();
+        accountId = createAccount(createCustomer("Replay"), ACCOUNT_NUMBER, "CHECKING", 10_000L, "USD");
+    }
+
+    @Test
+    void restartAppliesEveryAcknowledgedPostingOnce() throws Exception {
+        List<QueuedPosting> acknowledged = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            acknowledged.add(new QueuedPosting("TXN-replay-" + i, ACCOUNT_NUMBER,
+                    i % 4 == 0 ? TransactionType.WITHDRAWAL : TransactionType.DEPOSIT, 100L * i, Currency.USD,
+                    "replay " + i, System.currentTimeMillis()));
+        }
+        // The first batch made it to the database before the crash, the second did not
+        List<QueuedPosting> appliedBeforeCrash = acknowledged.subList(0, 10);
+        TransactionJournal crashed = new TransactionJournal(journalDir, 1 << 20);
+        crashed.recover();
+        crashed.append(appliedBeforeCrash);
+        crashed.append(acknowledged.subList(10, 20));
+        crashed.close();
+        long expected = 10_000L;
+        for (QueuedPosting posting : appliedBeforeCrash) {
+            JDBC.update("INSERT INTO transactions (id, transaction_id, transaction_type, amount, currency, timestamp, " +
+                    "status, fees, account_id, created_date, version, active) " +
+                    "VALUES (gen_random_uuid(), ?, ?, ?, 'USD', now(), 'COMPLETED', 0, ?, now(), 0, true)",
+                    posting.transactionId(), posting.type().name(), posting.amountMinor(), accountId);
+            expected += posting.signedAmountMinor();
+        }
+        JDBC.update("UPDATE accounts SET balance = ? WHERE id = ?", expected, accountId);
+        for (QueuedPosting posting : acknowledged.subList(10, 20)) {
+            expected += posting.signedAmountMinor();
+        }
+
+        AsyncTransactionProcessor processor = processor();
+        ReflectionTestUtils.invokeMethod(processor, "start");
+        try {
+            assertThat(balanceOf(accountId)).isEqualTo(expected);
+            assertThat(JDBC.queryForObject("SELECT count(*) FROM transactions WHERE account_id = ?",
+                    Long.class, accountId)).isEqualTo(acknowledged.size());
+            for (QueuedPosting posting : acknowledged.subList(10, 20)) {
+                assertThat(processor.find(posting.transactionId())).get()
+                        .satisfies(tracked -> assertThat(tracked.status().getStatus())
+                                .isEqualTo(TransactionStatus.COMPLETED));
+            }
+            // Replayed segments are removed once applied
+            try (Stream<Path> left = Files.list(journalDir)) {
+                assertThat(left).isEmpty();
+            }
+
+            // A second restart has nothing to replay and changes nothing
+            ReflectionTestUtils.invokeMethod(processor, "stop");
+            processor = processor();
+            ReflectionTestUtils.invokeMethod(processor, "start");
+            assertThat(balanceOf(accountId)).isEqualTo(expected);
+        } finally {
+            ReflectionTestUtils.invokeMethod(processor, "stop");
+        }
+    }
+
+    @Test
+    void submittedPostingIsDurableBeforeItIsAcknowledged() throws Exception {
+        AsyncTransactionProcessor processor = processor();
+        ReflectionTestUtils.invokeMethod(processor, "start");
+        String transactionId;
+        try {
+            transactionId = processor.submit(ACCOUNT_NUMBER, TransactionType.DEPOSIT, 2_500L, Currency.USD, "queued");
+        } finally {
+            ReflectionTestUtils.invokeMethod(processor, "stop");
+        }
+
+        // Whether or not the drainer applied it before stopping, a restart leaves it applied exactly once
+        AsyncTransactionProcessor restarted = processor();
+        ReflectionTestUtils.invokeMethod(restarted, "start");
+        try {
+            assertThat(balanceOf(accountId)).isEqualTo(12_500L);
+            assertThat(JDBC.queryForObject("SELECT count(*) FROM transactions WHERE transaction_id = ?",
+                    Long.class, transactionId)).isEqualTo(1L);
+        } finally {
+            ReflectionTestUtils.invokeMethod(restarted, "stop");
+        }
+    }
+
+    @Test
+    void appliedBatchEvictsTheCachedAccount() throws Exception {
+        Cache accounts = cacheManager.getCache("accounts");
+        accounts.put(ACCOUNT_NUMBER, "balance before the deposit");
+
+        AsyncTransactionProcessor processor = processor();
+        ReflectionTestUtils.invokeMethod(processor, "start");
+        try {
+            String transactionId = processor.submit(ACCOUNT_NUMBER, TransactionType.DEPOSIT, 500L, Currency.USD, "evicts");
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (processor.find(transactionId).get().status().getStatus() != TransactionStatus.COMPLETED) {
+                assertThat(System.currentTimeMillis()).as("applied in time").isLessThan(deadline);
+                Thread.sleep(10);
+            }
+            // Evicted after commit, before the status turned COMPLETED
+            assertThat(accounts.get(ACCOUNT_NUMBER)).isNull();
+        } finally {
+            ReflectionTestUtils.invokeMethod(processor, "stop");
+        }
+    }
+
+    // Private helper methods
+
+    private AsyncTransactionProcessor processor() {
+        AsyncTransactionProcessor processor = new AsyncTransactionProcessor();
+        ReflectionTestUtils.setField(processor, "namedJdbcTemplate", NAMED_JDBC);
+        ReflectionTestUtils.setField(processor, "transactionTemplate", TRANSACTIONS);
+        ReflectionTestUtils.setField(processor, "lockStripes", lockStripes());
+        ReflectionTestUtils.setField(processor, "snapshotRepository", snapshotRepository());
+        ReflectionTestUtils.setField(processor, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(processor, "journalDir", journalDir.toString());
+        ReflectionTestUtils.setField(processor, "maxSegmentBytes", 1L << 20);
+        ReflectionTestUtils.setField(processor, "queueCapacity", 1000);
+        ReflectionTestUtils.setField(processor, "batchSize", 100);
+        ReflectionTestUtils.setField(processor, "batchWindowMs", 5L);
+        ReflectionTestUtils.setField(processor, "ackTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(processor, "statusRetentionMinutes", 60L);
+        ReflectionTestUtils.setField(processor, "retryBackoffMs", 10L);
+        ReflectionTestUtils.setField(processor, "maxRetryBackoffMs", 100L);
+        return processor;
+    }
+}
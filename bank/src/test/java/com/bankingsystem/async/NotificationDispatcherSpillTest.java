@@ -0,0 +1,112 @@
+// File: src/test/java/com/bankingsystem/async/NotificationDispatcherSpillTest.java
+package com.bankingsystem.async;
+
+import com.bankingsystem.enums.ContactMethod;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.event.TransactionCompletedEvent;
+import com.bankingsystem.service.interfaces.INotificationChannel;
+import com.bankingsystem.service.notification.CoalescedNotification;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Spilled notifications left on disk by an earlier process are all delivered, whatever state the
+ * spill and replay files were left in.
+ */
+class NotificationDispatcherSpillTest {
+
+    @TempDir
+    Path spillDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<UUID> delivered = new CopyOnWriteArrayList<>();
+
+    @Test
+    void interruptedReplayAndNewerSpillAreBothDeliveredSkippingBadLines() throws Exception {
+        List<TransactionCompletedEvent> unfinishedReplay = events(3);
+        List<TransactionCompletedEvent> spilledLater = events(2);
+        List<String> replayLines = lines(unfinishedReplay);
+        // Half a line from a crash mid-write, between good entries
+        replayLines.add(1, "{\"recipientId\":\"");
+        Files.write(spillDir.resolve("notifications.replay"), replayLines, StandardCharsets.UTF_8);
+        Files.write(spillDir.resolve("notifications.spill"), lines(spilledLater), StandardCharsets.UTF_8);
+
+        NotificationDispatcher dispatcher = dispatcher();
+        ReflectionTestUtils.invokeMethod(dispatcher, "start");
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (delivered.size() < 5 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+        } finally {
+            ReflectionTestUtils.invokeMethod(dispatcher, "stop");
+        }
+
+        List<UUID> expected = new ArrayList<>();
+        unfinishedReplay.forEach(event -> expected.add(event.recipientId()));
+        spilledLater.forEach(event -> expected.add(event.recipientId()));
+        assertThat(delivered).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(spillDir.resolve("notifications.replay")).doesNotExist();
+        assertThat(spillDir.resolve("notifications.spill")).doesNotExist();
+    }
+
+    // Private helper methods
+
+    private NotificationDispatcher dispatcher() {
+        INotificationChannel email = new INotificationChannel() {
+            @Override
+            public ContactMethod getChannel() {
+                return ContactMethod.EMAIL;
+            }
+
+            @Override
+            public void deliver(List<CoalescedNotification> batch) {
+                batch.forEach(notification -> notification.events().forEach(e -> delivered.add(e.recipientId())));
+            }
+        };
+        NotificationDispatcher dispatcher = new NotificationDispatcher();
+        ReflectionTestUtils.setField(dispatcher, "channelBeans", List.of(email));
+        ReflectionTestUtils.setField(dispatcher, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(dispatcher, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 100);
+        ReflectionTestUtils.setField(dispatcher, "overflowPolicy", NotificationDispatcher.OverflowPolicy.SPILL);
+        ReflectionTestUtils.setField(dispatcher, "blockTimeoutMs", 50L);
+        ReflectionTestUtils.setField(dispatcher, "coalesceWindowMs", 0L);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "spillDir", spillDir.toString());
+        return dispatcher;
+    }
+
+    private static List<TransactionCompletedEvent> events(int count) {
+        List<TransactionCompletedEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new TransactionCompletedEvent(UUID.randomUUID(), "customer" + i + "@example.com", null,
+                    ContactMethod.EMAIL, TransactionType.DEPOSIT, new BigDecimal("25.00"), LocalDateTime.now()));
+        }
+        return events;
+    }
+
+    private List<String> lines(List<TransactionCompletedEvent> events) throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (TransactionCompletedEvent event : events) {
+            lines.add(objectMapper.writeValueAsString(event));
+        }
+        return lines;
+    }
+}
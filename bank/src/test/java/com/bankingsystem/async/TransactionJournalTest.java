@@ -0,0 +1,196 @@
+// File: src/test/java/com/bankingsystem/async/TransactionJournalTest.java
+package com.bankingsystem.async;
+
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * What a restarted node reads back from the journal after a crash at various points.
+ */
+class TransactionJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private int sequence;
+
+    @Test
+    void acknowledgedBatchesSurviveACrash() throws IOException {
+        List<QueuedPosting> written = new ArrayList<>();
+        TransactionJournal journal = new TransactionJournal(directory, 1 << 20);
+        journal.recover();
+        for (int i = 0; i < 5; i++) {
+            List<QueuedPosting> batch = batch(3);
+            journal.append(batch);
+            written.addAll(batch);
+        }
+        // Crash: closed without any batch being applied
+        journal.close();
+
+        assertThat(new TransactionJournal(directory, 1 << 20).recover()).containsExactlyElementsOf(written);
+    }
+
+    @Test
+    void tornTailIsIgnored() throws IOException {
+        TransactionJournal journal = new TransactionJournal(directory, 1 << 20);
+        journal.recover();
+        List<QueuedPosting> acknowledged = batch(4);
+        journal.append(acknowledged);
+        journal.close();
+
+        // A record header promising more bytes than made it to disk
+        Path segment = onlySegment();
+        Files.write(segment, ByteBuffer.allocate(Integer.BYTES + Long.BYTES + 10).putInt(200).putLong(42).array(),
+                StandardOpenOption.APPEND);
+
+        assertThat(new TransactionJournal(directory, 1 << 20).recover()).containsExactlyElementsOf(acknowledged);
+    }
+
+    @Test
+    void recordsAfterAChecksumMismatchAreIgnored() throws IOException {
+        TransactionJournal journal = new TransactionJournal(directory, 1 << 20);
+        journal.recover();
+        List<QueuedPosting> first = batch(1);
+        journal.append(first);
+        long firstRecordEnd = Files.size(onlySegment());
+        journal.append(batch(2));
+        journal.close();
+
+        // Flip a payload byte of the second record
+        try (RandomAccessFile file = new RandomAccessFile(onlySegment().toFile(), "rw")) {
+            long position = firstRecordEnd + Integer.BYTES + Long.BYTES + 4;
+            file.seek(position);
+            int original = file.read();
+            file.seek(position);
+            file.write(original ^ 0xFF);
+        }
+
+        assertThat(new TransactionJournal(directory, 1 << 20).recover()).containsExactlyElementsOf(first);
+    }
+
+    @Test
+    void segmentIsKeptUntilEveryBatchInItIsApplied() throws IOException {
+        // Small segments, so every append after the first rolls over
+        TransactionJournal journal = new TransactionJournal(directory, 1);
+        journal.recover();
+        List<QueuedPosting> stuck = batch(2);
+        long stuckSegment = journal.append(stuck);
+        List<Long> applied = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            applied.add(journal.append(batch(2)));
+        }
+        for (long segment : applied) {
+            journal.batchApplied(segment);
+        }
+        journal.close();
+
+        assertThat(applied).doesNotContain(stuckSegment);
+        // The later, applied segments are gone except the current one; the failed batch is still there
+        List<QueuedPosting> recovered = new TransactionJournal(directory, 1).recover();
+        assertThat(recovered).containsAll(stuck);
+        assertThat(recovered).hasSize(stuck.size() + 2);
+    }
+
+    @Test
+    void discardRecoveredKeepsTheNewSegment() throws IOException {
+        TransactionJournal crashed = new TransactionJournal(directory, 1 << 20);
+        crashed.recover();
+        crashed.append(batch(2));
+        crashed.close();
+
+        TransactionJournal restarted = new TransactionJournal(directory, 1 << 20);
+        assertThat(restarted.recover()).hasSize(2);
+        List<QueuedPosting> fresh = batch(1);
+        restarted.append(fresh);
+        restarted.discardRecovered();
+        restarted.close();
+
+        assertThat(new TransactionJournal(directory, 1 << 20).recover()).containsExactlyElementsOf(fresh);
+    }
+
+    @Test
+    void failedAppendLeavesNoTornBytesBeforeLaterBatches() throws IOException {
+        FailingDiskJournal journal = new FailingDiskJournal(directory);
+        journal.recover();
+        List<QueuedPosting> before = batch(3);
+        long firstSegment = journal.append(before);
+
+        // Half the batch reaches the file, then the disk reports an error
+        journal.failNextWrite = true;
+        assertThatThrownBy(() -> journal.append(batch(3))).isInstanceOf(IOException.class);
+        assertThat(Files.size(directory.resolve(String.format("journal-%020d.log", firstSegment))))
+                .as("torn bytes cut off").isEqualTo(journal.lengthAfterFirstBatch);
+
+        // Acknowledged after the failure, so it must survive a crash too
+        List<QueuedPosting> after = batch(3);
+        assertThat(journal.append(after)).as("rolled to a new segment").isNotEqualTo(firstSegment);
+        journal.close();
+
+        List<QueuedPosting> recovered = new TransactionJournal(directory, 1 << 20).recover();
+        List<QueuedPosting> acknowledged = new ArrayList<>(before);
+        acknowledged.addAll(after);
+        assertThat(recovered).containsExactlyElementsOf(acknowledged);
+    }
+
+    // Private helper methods
+
+    /**
+     * Journal whose next write can be made to fail halfway through
+     */
+    private static final class FailingDiskJournal extends TransactionJournal {
+        private boolean failNextWrite;
+        private long lengthAfterFirstBatch = -1;
+
+        FailingDiskJournal(Path directory) {
+            super(directory, 1 << 20);
+        }
+
+        @Override
+        void writeAndForce(FileChannel channel, ByteBuffer buffer) throws IOException {
+            if (failNextWrite) {
+                failNextWrite = false;
+                buffer.limit(buffer.limit() / 2);
+                channel.write(buffer);
+                throw new IOException("No space left on device");
+            }
+            super.writeAndForce(channel, buffer);
+            if (lengthAfterFirstBatch < 0) {
+                lengthAfterFirstBatch = channel.size();
+            }
+        }
+    }
+
+    private List<QueuedPosting> batch(int size) {
+        List<QueuedPosting> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int n = ++sequence;
+            batch.add(new QueuedPosting("TXN-" + n, "4000000000", n % 2 == 0 ? TransactionType.WITHDRAWAL
+                    : TransactionType.DEPOSIT, 100L * n, Currency.USD, n % 3 == 0 ? null : "posting " + n, 1_000L * n));
+        }
+        return batch;
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> segments = Files.list(directory)) {
+            List<Path> all = segments.toList();
+            assertThat(all).hasSize(1);
+            return all.get(0);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+// File: src/test/java/com/bankingsystem/audit/AuditLogWriterTest.java
+package com.bankingsystem.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Hash chain, segment rollover and what a restarted writer makes of the files it finds.
+ */
+class AuditLogWriterTest {
+
+    private static final int SMALL_SEGMENT = 4096;
+    private static final int LARGE_SEGMENT = 1 << 16;
+
+    @TempDir
+    Path directory;
+
+    private final List<AuditLogWriter> started = new ArrayList<>();
+
+    @AfterEach
+    void stopWriters() {
+        started.forEach(writer -> ReflectionTestUtils.invokeMethod(writer, "stop"));
+    }
+
+    @Test
+    void chainSpansSegmentRollover() throws Exception {
+        AuditLogWriter writer = writer(SMALL_SEGMENT);
+        long last = 0;
+        for (int i = 0; i < 100; i++) {
+            last = append(writer, i);
+        }
+
+        assertThat(last).isEqualTo(100);
+        assertThat(writer.segmentIds()).hasSizeGreaterThan(1);
+        assertThat(writer.verifyChain()).isNull();
+    }
+
+    @Test
+    void restartedWriterContinuesTheChain() throws Exception {
+        AuditLogWriter writer = writer(SMALL_SEGMENT);
+        for (int i = 0; i < 40; i++) {
+            append(writer, i);
+        }
+        stop(writer);
+
+        AuditLogWriter restarted = writer(SMALL_SEGMENT);
+        assertThat(append(restarted, 40)).isEqualTo(41);
+        assertThat(restarted.verifyChain()).isNull();
+    }
+
+    @Test
+    void editedRecordInASealedSegmentBreaksTheChain() throws Exception {
+        AuditLogWriter writer = writer(SMALL_SEGMENT);
+        for (int i = 0; i < 40; i++) {
+            append(writer, i);
+        }
+        stop(writer);
+
+        flipByte(writer.segmentPath(0), AuditSegmentFormat.HEADER_SIZE + Integer.BYTES + 20);
+
+        AuditLogWriter restarted = writer(SMALL_SEGMENT);
+        assertThat(restarted.verifyChain()).startsWith("Hash mismatch at sequence 1 in segment 0");
+    }
+
+    @Test
+    void tornLastRecordIsDiscardedOnRestart() throws Exception {
+        AuditLogWriter writer = writer(LARGE_SEGMENT);
+        for (int i = 0; i < 3; i++) {
+            append(writer, i);
+        }
+        stop(writer);
+
+        // A length and the first few payload bytes of a record whose msync never finished
+        Path segment = writer.segmentPath(0);
+        long end = endOfRecords(segment);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(end);
+            file.writeInt(200);
+            file.writeLong(4);
+            file.writeLong(System.currentTimeMillis());
+        }
+
+        AuditLogWriter restarted = writer(LARGE_SEGMENT);
+        assertThat(append(restarted, 3)).isEqualTo(4);
+        stop(restarted);
+
+        AuditLogWriter reopened = writer(LARGE_SEGMENT);
+        assertThat(reopened.verifyChain()).isNull();
+        assertThat(append(reopened, 4)).isEqualTo(5);
+    }
+
+    @Test
+    void damagedRecordMidSegmentStopsStartupAndIsLeftAlone() throws Exception {
+        AuditLogWriter writer = writer(LARGE_SEGMENT);
+        for (int i = 0; i < 3; i++) {
+            append(writer, i);
+        }
+        stop(writer);
+
+        Path segment = writer.segmentPath(0);
+        flipByte(segment, AuditSegmentFormat.HEADER_SIZE + Integer.BYTES + 20);
+        byte[] before = Files.readAllBytes(segment);
+
+        AuditLogWriter restarted = configured(LARGE_SEGMENT);
+        assertThatThrownBy(() -> ReflectionTestUtils.invokeMethod(restarted, "start"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("offset " + AuditSegmentFormat.HEADER_SIZE);
+        assertThat(Files.readAllBytes(segment)).isEqualTo(before);
+    }
+
+    // Private helper methods
+
+    private AuditLogWriter configured(int segmentBytes) {
+        AuditLogWriter writer = new AuditLogWriter();
+        ReflectionTestUtils.setField(writer, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(writer, "auditDir", directory.toString());
+        ReflectionTestUtils.setField(writer, "segmentBytes", segmentBytes);
+        ReflectionTestUtils.setField(writer, "queueCapacity", 1000);
+        ReflectionTestUtils.setField(writer, "maxBatch", 16);
+        return writer;
+    }
+
+    private AuditLogWriter writer(int segmentBytes) {
+        AuditLogWriter writer = configured(segmentBytes);
+        ReflectionTestUtils.invokeMethod(writer, "start");
+        started.add(writer);
+        return writer;
+    }
+
+    private void stop(AuditLogWriter writer) {
+        started.remove(writer);
+        ReflectionTestUtils.invokeMethod(writer, "stop");
+    }
+
+    private static long append(AuditLogWriter writer, int i) throws Exception {
+        return writer.append("TRANSFER", "user-" + (i % 7), "ACC" + (1000 + i % 5), "TRANSFER_COMPLETED",
+                "Transfer number " + i + " of 100.00 USD").get();
+    }
+
+    private static long endOfRecords(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long offset = AuditSegmentFormat.HEADER_SIZE;
+            AuditSegmentFormat.Located located;
+            while ((located = AuditSegmentFormat.readRecord(channel, offset)) != null) {
+                offset = located.nextOffset();
+            }
+            return offset;
+        }
+    }
+
+    private static void flipByte(Path segment, long position) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0x01);
+        }
+    }
+}
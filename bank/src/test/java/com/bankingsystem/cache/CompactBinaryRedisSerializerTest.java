@@ -0,0 +1,146 @@
+// File: src/test/java/com/bankingsystem/cache/CompactBinaryRedisSerializerTest.java
+package com.bankingsystem.cache;
+
+import com.bankingsystem.dto.response.account.AccountResponse;
+import com.bankingsystem.enums.AccountStatus;
+import com.bankingsystem.enums.AccountType;
+import com.bankingsystem.enums.Currency;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trips, version handling, and size and speed against the JSON the accounts cache used before.
+ */
+class CompactBinaryRedisSerializerTest {
+
+    private final CompactBinaryRedisSerializer serializer = new CompactBinaryRedisSerializer();
+    private final ObjectMapper json = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void accountResponseRoundTrips() {
+        AccountResponse typical = typical();
+        assertThat(serializer.deserialize(serializer.serialize(typical))).usingRecursiveComparison().isEqualTo(typical);
+
+        // Absent fields stay absent
+        AccountResponse sparse = AccountResponse.builder().accountNumber("ACC-0000000018").build();
+        assertThat(serializer.deserialize(serializer.serialize(sparse))).usingRecursiveComparison().isEqualTo(sparse);
+    }
+
+    @Test
+    void edgeValuesRoundTrip() {
+        AccountResponse edge = typical();
+        edge.setAccountName("Épargne – 貯金 🏦");
+        edge.setBalance(new BigDecimal("-12345678901234567890123.4567"));   // wider than 63 bits
+        edge.setAvailableBalance(new BigDecimal("1E+3"));                  // negative scale
+        edge.setInterestRate(new BigDecimal("0.0250"));                    // trailing zero keeps its scale
+        edge.setOpenDate(LocalDate.of(1969, 12, 31));
+        edge.setLastTransactionDate(LocalDateTime.of(1899, 1, 1, 23, 59, 59, 999_999_999));
+
+        AccountResponse read = (AccountResponse) serializer.deserialize(serializer.serialize(edge));
+        assertThat(read).usingRecursiveComparison().isEqualTo(edge);
+        assertThat(read.getInterestRate().scale()).isEqualTo(4);
+    }
+
+    @Test
+    void stampedEnvelopeRoundTrips() {
+        StampedValue stamped = new StampedValue(typical(), 1_760_000_000_000L, 42L);
+        StampedValue read = (StampedValue) serializer.deserialize(serializer.serialize(stamped));
+
+        assertThat(read.loadedAtMillis()).isEqualTo(stamped.loadedAtMillis());
+        assertThat(read.computeMillis()).isEqualTo(42L);
+        assertThat(read.value()).usingRecursiveComparison().isEqualTo(stamped.value());
+    }
+
+    @Test
+    void otherTypesFallBackToJson() {
+        Object value = new HashMap<>(Map.of("owner", "alice", "accounts", 3));
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+    }
+
+    @Test
+    void unreadableEntriesAreMisses() {
+        byte[] current = serializer.serialize(typical());
+        byte[] future = current.clone();
+        future[1] = (byte) (future[1] + 1);
+
+        assertThat(serializer.deserialize(future)).isNull();
+        // Written by the JSON serializer before this one was installed
+        assertThat(serializer.deserialize("{\"accountNumber\":\"ACC-1\"}".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThat(serializer.serialize(null)).isEmpty();
+    }
+
+    @Test
+    void binaryIsAFractionOfJson() throws Exception {
+        int binary = serializer.serialize(typical()).length;
+        int jsonSize = json.writeValueAsBytes(typical()).length;
+
+        System.out.printf("AccountResponse: binary %d bytes, JSON %d bytes%n", binary, jsonSize);
+        assertThat(binary * 3).isLessThan(jsonSize);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void binaryRoundTripIsFasterThanJson() throws Exception {
+        AccountResponse value = typical();
+        int iterations = 200_000;
+        long sink = 0;
+
+        // Warmup, then best of five measured runs each
+        long binaryBest = Long.MAX_VALUE;
+        long jsonBest = Long.MAX_VALUE;
+        for (int run = 0; run < 8; run++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += ((AccountResponse) serializer.deserialize(serializer.serialize(value))).getAccountNumber().length();
+            }
+            long binary = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += json.readValue(json.writeValueAsBytes(value), AccountResponse.class).getAccountNumber().length();
+            }
+            long jsonTime = System.nanoTime() - start;
+
+            if (run >= 3) {
+                binaryBest = Math.min(binaryBest, binary);
+                jsonBest = Math.min(jsonBest, jsonTime);
+            }
+        }
+
+        System.out.printf("Round trip: binary %.0f ns/op, JSON %.0f ns/op [sink %d]%n",
+                (double) binaryBest / iterations, (double) jsonBest / iterations, sink);
+        assertThat(binaryBest).isLessThan(jsonBest);
+    }
+
+    // Private helper methods
+
+    private static AccountResponse typical() {
+        AccountResponse response = AccountResponse.builder()
+                .accountNumber("ACC-4820193576")
+                .accountName("Primary Savings")
+                .accountType(AccountType.values()[0])
+                .status(AccountStatus.ACTIVE)
+                .currency(Currency.USD)
+                .balance(new BigDecimal("2500.75"))
+                .availableBalance(new BigDecimal("2400.75"))
+                .openDate(LocalDate.of(2023, 1, 15))
+                .lastTransactionDate(LocalDateTime.of(2024, 1, 10, 14, 30))
+                .customerId("CUST-123456")
+                .customerName("Sam Doe")
+                .build();
+        response.setInterestRate(new BigDecimal("0.025"));
+        response.setMinimumBalance(new BigDecimal("100.00"));
+        return response;
+    }
+}
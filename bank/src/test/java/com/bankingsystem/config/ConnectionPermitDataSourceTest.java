@@ -0,0 +1,136 @@
+// File: src/test/java/com/bankingsystem/config/ConnectionPermitDataSourceTest.java
+package com.bankingsystem.config;
+
+import com.bankingsystem.support.PostgresTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The permit in front of a pool caps how many threads hold a connection, however many threads there are,
+ * and always comes back: on close, on a failed checkout, and only once per connection.
+ */
+class ConnectionPermitDataSourceTest extends PostgresTestSupport {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void manyThreadsShareAFewConnections() throws Exception {
+        int threads = 1000;
+        ConnectionPermitDataSource dataSource = permits(DATA_SOURCE, 5, Duration.ofSeconds(30));
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        // Thread per task, virtual where the runtime has them, as in virtual execution mode
+        Executor threadPerTask = VirtualThreads.factory("permit-test-")
+                .<Executor>map(factory -> task -> factory.newThread(task).start())
+                .orElse(task -> new Thread(task).start());
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            threadPerTask.execute(() -> {
+                try (Connection connection = dataSource.getConnection();
+                     Statement statement = connection.createStatement()) {
+                    peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    statement.execute("SELECT pg_sleep(0.001)");
+                    active.decrementAndGet();
+                } catch (SQLException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        assertThat(failures).hasValue(0);
+        assertThat(peak.get()).isBetween(1, 5);
+        assertThat(rejected()).isZero();
+    }
+
+    @Test
+    void waitingPastTheTimeoutFailsFast() throws Exception {
+        ConnectionPermitDataSource dataSource = permits(DATA_SOURCE, 1, Duration.ofMillis(100));
+
+        try (Connection held = dataSource.getConnection()) {
+            long start = System.nanoTime();
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class)
+                    .hasMessageContaining("100ms");
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isBetween(90L, 2_000L);
+            assertThat(held.isValid(1)).isTrue();
+        }
+        assertThat(rejected()).isEqualTo(1.0);
+
+        // The held connection's permit came back on close
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+    }
+
+    @Test
+    void closingTwiceReturnsOnePermit() throws Exception {
+        ConnectionPermitDataSource dataSource = permits(DATA_SOURCE, 2, Duration.ofMillis(50));
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        List<Connection> held = new ArrayList<>();
+        try {
+            held.add(dataSource.getConnection());
+            held.add(dataSource.getConnection());
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        } finally {
+            for (Connection c : held) {
+                c.close();
+            }
+        }
+    }
+
+    @Test
+    void failedCheckoutReturnsThePermit() {
+        SQLException poolDown = new SQLException("pool is down");
+        DataSource failing = (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                    throw poolDown;
+                });
+        ConnectionPermitDataSource dataSource = permits(failing, 1, Duration.ofMillis(50));
+
+        // Both attempts reach the pool: the first one's permit was not leaked
+        assertThatThrownBy(dataSource::getConnection).isSameAs(poolDown);
+        assertThatThrownBy(dataSource::getConnection).isSameAs(poolDown);
+        assertThat(rejected()).isZero();
+    }
+
+    // Private helper methods
+
+    private ConnectionPermitDataSource permits(DataSource target, int maxConnections, Duration timeout) {
+        return new ConnectionPermitDataSource(target, "test", maxConnections, timeout, meterRegistry);
+    }
+
+    private double rejected() {
+        return meterRegistry.get("banking.datasource.permits.rejected").tag("pool", "test").counter().count();
+    }
+}
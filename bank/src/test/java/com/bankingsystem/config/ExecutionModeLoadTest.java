@@ -0,0 +1,169 @@
+// File: src/test/java/com/bankingsystem/config/ExecutionModeLoadTest.java
+package com.bankingsystem.config;
+
+import com.bankingsystem.support.PostgresTestSupport;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Platform against virtual execution mode.
+ *
+ * The load harness drives the same blocking request (a slow downstream call, then a short query) from
+ * 5,000 concurrent clients through each mode's request executor and connection pool, and compares
+ * p99 latency and throughput. Timing-sensitive, so it only runs with {@code -Dbenchmarks=true}, and it
+ * needs a Java 21+ runtime for the virtual side.
+ */
+class ExecutionModeLoadTest extends PostgresTestSupport {
+
+    private static final int CLIENTS = 5_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 20;
+    private static final long REMOTE_CALL_MILLIS = 50;
+
+    @Test
+    void platformModeUsesTheBoundedPool() {
+        AsyncTaskExecutor executor = asyncConfig("platform").taskExecutor();
+        try {
+            assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+            assertThat(((ThreadPoolTaskExecutor) executor).getMaxPoolSize()).isEqualTo(32);
+            assertThat(asyncConfig("platform").isVirtualMode()).isFalse();
+        } finally {
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+
+    @Test
+    void virtualModeRunsTasksOnVirtualThreadsWhereSupported() throws Exception {
+        AsyncConfig config = asyncConfig("virtual");
+        AsyncTaskExecutor executor = config.taskExecutor();
+        if (!VirtualThreads.isSupported()) {
+            // Falls back rather than failing to start
+            assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+            assertThat(config.isVirtualMode()).isFalse();
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+            return;
+        }
+        assertThat(config.isVirtualMode()).isTrue();
+        assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        assertThat(((SimpleAsyncTaskExecutor) executor).getConcurrencyLimit()).isEqualTo(1000);
+
+        Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+        assertThat(thread.getName()).startsWith("async-");
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void virtualModeCutsTailLatencyUnderLoad() throws Exception {
+        assumeThat(VirtualThreads.isSupported()).as("virtual threads need a Java 21+ runtime").isTrue();
+        ThreadFactory virtual = VirtualThreads.factory("http-").orElseThrow();
+
+        try (HikariDataSource pool = pool()) {
+            // Platform mode: Tomcat's bounded worker pool straight onto Hikari
+            ExecutorService tomcat = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            Result platform;
+            try {
+                run(tomcat, pool);
+                platform = run(tomcat, pool);
+            } finally {
+                tomcat.shutdown();
+            }
+
+            // Virtual mode: a virtual thread per request, the pool fronted by the connection permit
+            Executor perRequest = task -> virtual.newThread(task).start();
+            DataSource permitted = new ConnectionPermitDataSource(pool, "primary", POOL_SIZE, Duration.ofSeconds(2),
+                    new SimpleMeterRegistry());
+            run(perRequest, permitted);
+            Result virtualMode = run(perRequest, permitted);
+
+            System.out.printf("%d clients, platform: p99 %d ms, %.0f req/s; virtual: p99 %d ms, %.0f req/s%n",
+                    CLIENTS, platform.p99Millis(), platform.throughput(), virtualMode.p99Millis(), virtualMode.throughput());
+            assertThat(platform.failures()).isZero();
+            assertThat(virtualMode.failures()).isZero();
+            assertThat(virtualMode.p99Millis()).isLessThan(platform.p99Millis());
+            assertThat(virtualMode.throughput()).isGreaterThan(platform.throughput());
+        }
+    }
+
+    // Private helper methods
+
+    private record Result(long p99Millis, double throughput, int failures) {}
+
+    private static AsyncConfig asyncConfig(String mode) {
+        AsyncConfig config = new AsyncConfig();
+        ReflectionTestUtils.setField(config, "mode", mode);
+        ReflectionTestUtils.setField(config, "asyncCoreSize", 8);
+        ReflectionTestUtils.setField(config, "asyncMaxSize", 32);
+        ReflectionTestUtils.setField(config, "asyncQueueCapacity", 1000);
+        ReflectionTestUtils.setField(config, "asyncVirtualConcurrencyLimit", 1000);
+        return config;
+    }
+
+    /**
+     * A pool sized like the application's primary pool
+     */
+    private static HikariDataSource pool() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(POSTGRES.getJdbcUrl());
+        config.setUsername(POSTGRES.getUsername());
+        config.setPassword(POSTGRES.getPassword());
+        config.setMaximumPoolSize(POOL_SIZE);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Submit every client's request at once and time each from submission to completion
+     */
+    private static Result run(Executor executor, DataSource dataSource) throws InterruptedException {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long[] latencies = new long[CLIENTS];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CLIENTS; i++) {
+            int client = i;
+            long submitted = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    // Downstream call (fraud check, core banking) that holds no connection
+                    Thread.sleep(REMOTE_CALL_MILLIS);
+                    jdbc.queryForObject("SELECT count(*) FROM accounts", Long.class);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latencies[client] = System.nanoTime() - submitted;
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        long p99 = latencies[(int) Math.ceil(CLIENTS * 0.99) - 1];
+        return new Result(TimeUnit.NANOSECONDS.toMillis(p99), CLIENTS / (elapsed / 1e9), failures.get());
+    }
+}
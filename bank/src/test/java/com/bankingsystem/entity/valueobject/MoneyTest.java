@@ -0,0 +1,109 @@
+// File: src/test/java/com/bankingsystem/entity/valueobject/MoneyTest.java
+package com.bankingsystem.entity.valueobject;
+
+import com.bankingsystem.enums.Currency;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Money arithmetic against BigDecimal as the reference, and its overflow behaviour.
+ */
+class MoneyTest {
+
+    @Property
+    void addAndSubtractMatchBigDecimal(@ForAll @LongRange(min = -1_000_000_000_000_000L, max = 1_000_000_000_000_000L) long a,
+                                       @ForAll @LongRange(min = -1_000_000_000_000_000L, max = 1_000_000_000_000_000L) long b) {
+        Money x = Money.ofMinor(a, Currency.USD);
+        Money y = Money.ofMinor(b, Currency.USD);
+
+        assertThat(x.add(y).toBigDecimal()).isEqualByComparingTo(x.toBigDecimal().add(y.toBigDecimal()));
+        assertThat(x.subtract(y).toBigDecimal()).isEqualByComparingTo(x.toBigDecimal().subtract(y.toBigDecimal()));
+    }
+
+    @Property
+    void fixedPointMultiplyRoundsHalfUpLikeBigDecimal(@ForAll long minorUnits,
+                                                      @ForAll @LongRange(min = -10_000_000_000L, max = 10_000_000_000L) long factor,
+                                                      @ForAll @IntRange(min = 0, max = 18) int scale) {
+        Money money = Money.ofMinor(minorUnits, Currency.EUR);
+        BigDecimal expected = BigDecimal.valueOf(minorUnits).multiply(BigDecimal.valueOf(factor, scale))
+                .setScale(0, RoundingMode.HALF_UP);
+
+        if (expected.bitLength() > 63) {
+            assertThatThrownBy(() -> money.multiply(factor, scale)).isInstanceOf(ArithmeticException.class);
+        } else {
+            // Both the 64-bit path and the BigDecimal fallback for wide intermediates
+            assertThat(money.multiply(factor, scale).getMinorUnits()).isEqualTo(expected.longValueExact());
+        }
+    }
+
+    @Property
+    void decimalRoundTripIsExact(@ForAll long minorUnits) {
+        for (Currency currency : Currency.values()) {
+            Money money = Money.ofMinor(minorUnits, currency);
+            assertThat(Money.of(money.toBigDecimal(), currency)).isEqualTo(money);
+        }
+    }
+
+    @Test
+    void halfwayCasesRoundAwayFromZero() {
+        Money money = Money.ofMinor(5, Currency.USD);
+        assertThat(money.multiply(5, 1).getMinorUnits()).isEqualTo(3);   // 2.5
+        assertThat(money.negate().multiply(5, 1).getMinorUnits()).isEqualTo(-3);
+        assertThat(money.multiply(new BigDecimal("0.3")).getMinorUnits()).isEqualTo(2);   // 1.5
+        assertThat(Money.of(new BigDecimal("0.005"), Currency.USD).getMinorUnits()).isEqualTo(1);
+        assertThat(Money.of(new BigDecimal("0.5"), Currency.JPY).getMinorUnits()).isEqualTo(1);
+    }
+
+    @Test
+    void overflowThrowsInsteadOfWrapping() {
+        Money max = Money.ofMinor(Long.MAX_VALUE, Currency.USD);
+        Money min = Money.ofMinor(Long.MIN_VALUE, Currency.USD);
+        Money one = Money.ofMinor(1, Currency.USD);
+
+        assertThatThrownBy(() -> max.add(one)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> min.subtract(one)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(min::negate).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.multiply(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.multiply(new BigDecimal("1.5"))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e18"), Currency.USD)).isInstanceOf(ArithmeticException.class);
+
+        // A wide intermediate that still fits once scaled back is not an overflow
+        assertThat(max.multiply(500_000_000L, 9).getMinorUnits()).isEqualTo(Long.MAX_VALUE / 2 + 1);
+    }
+
+    @Test
+    void mixingCurrenciesIsRefused() {
+        Money usd = Money.ofMinor(100, Currency.USD);
+        Money eur = Money.ofMinor(100, Currency.EUR);
+
+        assertThatThrownBy(() -> usd.add(eur)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> usd.subtract(eur)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> usd.compareTo(eur)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(usd).isNotEqualTo(eur);
+    }
+
+    @Test
+    void convertToRoundsToTheTargetMinorUnit() {
+        Money usd = Money.of(new BigDecimal("10.00"), Currency.USD);
+
+        assertThat(usd.convertTo(Currency.JPY, new BigDecimal("149.855"))).isEqualTo(Money.ofMinor(1499, Currency.JPY));
+        assertThat(usd.convertTo(Currency.EUR, new BigDecimal("0.92345"))).isEqualTo(Money.ofMinor(923, Currency.EUR));
+        assertThat(usd.convertTo(Currency.USD, BigDecimal.ONE)).isSameAs(usd);
+        assertThatThrownBy(() -> usd.convertTo(Currency.EUR, BigDecimal.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void zeroIsShared() {
+        assertThat(Money.ofMinor(0, Currency.GBP)).isSameAs(Money.zero(Currency.GBP));
+        assertThat(Money.ofMinor(7, Currency.GBP).subtract(Money.ofMinor(7, Currency.GBP))).isEqualTo(Money.zero(Currency.GBP));
+    }
+}
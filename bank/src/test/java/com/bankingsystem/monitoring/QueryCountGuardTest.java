@@ -0,0 +1,186 @@
+// File: src/test/java/com/bankingsystem/monitoring/QueryCountGuardTest.java
+package com.bankingsystem.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Statements are counted per request and aggregated per route, and a request over the limit is
+ * reported once or failed, depending on {@code fail-on-exceed}.
+ */
+class QueryCountGuardTest {
+
+    private static final String ACCOUNT_ROUTE = "/api/v1/accounts/{accountNumber}";
+    private static final int LIMIT = 5;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountRegistry registry;
+    private QueryCountInspector inspector;
+    private QueryCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new QueryCountRegistry();
+        ReflectionTestUtils.setField(registry, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(registry, "maxStatementsPerRequest", LIMIT);
+        ReflectionTestUtils.setField(registry, "failOnExceed", false);
+
+        inspector = new QueryCountInspector();
+        ReflectionTestUtils.setField(inspector, "registry", registry);
+        filter = new QueryCountFilter();
+        ReflectionTestUtils.setField(filter, "registry", registry);
+    }
+
+    @Test
+    void inspectorRegistersItselfWithHibernate() {
+        Map<String, Object> properties = new HashMap<>();
+        inspector.customize(properties);
+
+        assertThat(properties).containsEntry(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+    }
+
+    @Test
+    void statementsAreAggregatedUnderTheRoutePattern() throws Exception {
+        request("GET", "/api/v1/accounts/ACC-1", ACCOUNT_ROUTE, 1);
+        request("GET", "/api/v1/accounts/ACC-2", ACCOUNT_ROUTE, 3);
+        request("GET", "/missing", null, 0);
+
+        Map<String, Map<String, Object>> snapshot = registry.snapshot();
+        assertThat(snapshot).containsOnlyKeys("GET " + ACCOUNT_ROUTE, "GET UNMAPPED");
+        assertThat(snapshot.get("GET " + ACCOUNT_ROUTE))
+                .containsEntry("requests", 2L)
+                .containsEntry("statements", 4L)
+                .containsEntry("mean", 2.0)
+                .containsEntry("max", 3L);
+
+        DistributionSummary summary = meterRegistry.get("banking.http.db.statements")
+                .tag("endpoint", "GET " + ACCOUNT_ROUTE).summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(4.0);
+    }
+
+    @Test
+    void statementsOutsideARequestAreNotCounted() throws Exception {
+        inspector.inspect("select 1");
+        request("GET", "/api/v1/accounts/ACC-1", ACCOUNT_ROUTE, 2);
+        // Scope is closed once the request completes
+        inspector.inspect("select 1");
+
+        assertThat(registry.snapshot().get("GET " + ACCOUNT_ROUTE)).containsEntry("statements", 2L);
+    }
+
+    @Test
+    void concurrentRequestsCountSeparately() throws Exception {
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] workers = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            int statements = t % LIMIT + 1;
+            workers[t] = pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 200; i++) {
+                    request("GET", "/api/v1/accounts/ACC-" + i, ACCOUNT_ROUTE, statements);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(1, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        long expected = 0;
+        for (int t = 0; t < threads; t++) {
+            expected += 200L * (t % LIMIT + 1);
+        }
+        assertThat(registry.snapshot().get("GET " + ACCOUNT_ROUTE))
+                .containsEntry("requests", threads * 200L)
+                .containsEntry("statements", expected)
+                .containsEntry("max", (long) LIMIT);
+    }
+
+    @Test
+    void exceedingTheLimitIsOnlyReportedByDefault() throws Exception {
+        MockHttpServletResponse response = request("GET", "/api/v1/customers/C-1/accounts",
+                "/api/v1/customers/{id}/accounts", LIMIT * 3);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(registry.snapshot().get("GET /api/v1/customers/{id}/accounts"))
+                .containsEntry("statements", (long) LIMIT * 3);
+    }
+
+    @Test
+    void exceedingTheLimitFailsTheRequestWhenConfigured() {
+        ReflectionTestUtils.setField(registry, "failOnExceed", true);
+
+        // At the limit is fine
+        assertThatCode(() -> request("GET", "/api/v1/accounts/ACC-1", ACCOUNT_ROUTE, LIMIT))
+                .doesNotThrowAnyException();
+
+        assertThatThrownBy(() -> request("GET", "/api/v1/accounts/ACC-2", ACCOUNT_ROUTE, LIMIT + 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("more than " + LIMIT)
+                .hasMessageContaining("statement " + (LIMIT + 1));
+
+        // The failed request is still recorded, up to the statement that tripped the guard
+        assertThat(registry.snapshot().get("GET " + ACCOUNT_ROUTE))
+                .containsEntry("requests", 2L)
+                .containsEntry("max", (long) LIMIT + 1);
+    }
+
+    @Test
+    void resetClearsTheTotals() throws Exception {
+        request("GET", "/api/v1/accounts/ACC-1", ACCOUNT_ROUTE, 2);
+        registry.reset();
+
+        assertThat(registry.snapshot().get("GET " + ACCOUNT_ROUTE))
+                .containsEntry("requests", 0L)
+                .containsEntry("statements", 0L)
+                .containsEntry("max", 0L);
+    }
+
+    // Private helper methods
+
+    /**
+     * Run one request through the filter; the handler issues the given number of statements after the
+     * route has been matched, as Spring MVC does
+     */
+    private MockHttpServletResponse request(String method, String uri, String pattern, int statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain handler = (req, res) -> {
+            if (pattern != null) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            }
+            for (int i = 1; i <= statements; i++) {
+                inspector.inspect("select statement " + i);
+            }
+        };
+        filter.doFilter(request, response, handler);
+        return response;
+    }
+}
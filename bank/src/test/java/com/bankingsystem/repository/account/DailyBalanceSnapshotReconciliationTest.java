@@ -0,0 +1,154 @@
+// File: src/test/java/com/bankingsystem/repository/account/DailyBalanceSnapshotReconciliationTest.java
+package com.bankingsystem.repository.account;
+
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.enums.TransactionType;
+import com.bankingsystem.repository.transaction.TransactionStatementRepository;
+import com.bankingsystem.service.interfaces.IBalanceLedger;
+import com.bankingsystem.service.ledger.ShardedBalanceLedger;
+import com.bankingsystem.service.transfer.TransferEngine;
+import com.bankingsystem.support.PostgresTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every posting path must keep {@code closing(D) = closing(D-1) + net of COMPLETED rows timestamped on D},
+ * with the latest closing equal to the live balance. Checked after a random mix of ledger credits and debits
+ * and transfers with a fee, including a credit committed "before midnight" and written through after it.
+ */
+class DailyBalanceSnapshotReconciliationTest extends PostgresTestSupport {
+
+    private static final int ACCOUNTS = 6;
+    private static final int OPERATIONS = 400;
+
+    private DailyBalanceSnapshotRepository snapshots;
+    private ShardedBalanceLedger ledger;
+    private TransferEngine transfers;
+
+    private final List<UUID> ids = new ArrayList<>();
+    private final List<String> numbers = new ArrayList<>();
+
+    private record Row(LocalDateTime timestamp, long signedMinor) {}
+
+    @BeforeEach
+    void setUp() {
+        resetData();
+        snapshots = snapshotRepository();
+        ledger = balanceLedger(snapshots);
+        transfers = transferEngine(snapshots, "50000", "1000000", "0.25");
+
+        UUID customer = createCustomer("Reconcile");
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String number = String.valueOf(2000000000L + i);
+            ids.add(createAccount(customer, number, "CHECKING", 0L, "USD"));
+            numbers.add(number);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(ledger, "shutdown");
+    }
+
+    @Test
+    void closingsReconcileWithPostedRows() {
+        Random random = new Random(42);
+        for (int op = 0; op < OPERATIONS; op++) {
+            int a = random.nextInt(ACCOUNTS);
+            long amount = 1 + random.nextInt(50_000);
+            try {
+                switch (random.nextInt(3)) {
+                    case 0 -> TRANSACTIONS.executeWithoutResult(status -> ledger.credit(ids.get(a), numbers.get(a),
+                            TransactionType.DEPOSIT, amount, Currency.USD, "deposit"));
+                    case 1 -> TRANSACTIONS.executeWithoutResult(status -> ledger.debit(ids.get(a), numbers.get(a),
+                            TransactionType.WITHDRAWAL, amount, Currency.USD, "withdrawal"));
+                    default -> transfers.transfer(numbers.get(a), numbers.get((a + 1) % ACCOUNTS),
+                            BigDecimal.valueOf(amount, 2), Currency.USD, "transfer");
+                }
+            } catch (RuntimeException e) {
+                // Insufficient funds: rolled back, nothing posted
+            }
+            if (op % 25 == 0) {
+                ledger.flush();
+            }
+        }
+        ledger.flush();
+
+        for (int i = 0; i < ACCOUNTS; i++) {
+            assertReconciles(ids.get(i));
+        }
+    }
+
+    @Test
+    void creditCommittedBeforeMidnightCountsOnTheDayItReachesTheBalance() {
+        UUID account = ids.get(0);
+        IBalanceLedger.Posting posting = TRANSACTIONS.execute(status -> ledger.credit(account, numbers.get(0),
+                TransactionType.DEPOSIT, 10_000, Currency.USD, "late deposit"));
+
+        // As if the request ran at 23:59:59 yesterday and the flush only got to it after midnight
+        LocalDateTime lateYesterday = LocalDate.now().atStartOfDay().minusSeconds(1);
+        JDBC.update("UPDATE transactions SET timestamp = ? WHERE transaction_id = ?",
+                Timestamp.valueOf(lateYesterday), posting.transactionId());
+        ledger.flush();
+
+        LocalDateTime stamped = JDBC.queryForObject("SELECT timestamp FROM transactions WHERE transaction_id = ?",
+                Timestamp.class, posting.transactionId()).toLocalDateTime();
+        assertThat(stamped.toLocalDate()).isEqualTo(LocalDate.now());
+        assertThat(snapshots.balanceAsOf(account, LocalDate.now().atStartOfDay())).isZero();
+        assertReconciles(account);
+    }
+
+    // Private helper methods
+
+    private void assertReconciles(UUID accountId) {
+        List<Row> rows = JDBC.query("SELECT transaction_type, amount, fees, timestamp FROM transactions " +
+                        "WHERE account_id = ? AND status = 'COMPLETED' ORDER BY timestamp, id",
+                (rs, rowNum) -> new Row(rs.getTimestamp("timestamp").toLocalDateTime(),
+                        TransactionStatementRepository.signed(TransactionType.valueOf(rs.getString("transaction_type")),
+                                rs.getLong("amount"), rs.getLong("fees"))),
+                accountId);
+
+        TreeMap<LocalDate, Long> closings = new TreeMap<>();
+        JDBC.query("SELECT snapshot_date, closing_balance FROM daily_balance_snapshot WHERE account_id = ?",
+                rs -> {
+                    closings.put(rs.getDate("snapshot_date").toLocalDate(), rs.getLong("closing_balance"));
+                }, accountId);
+
+        // Accounts start at zero, so each closing is the sum of every row up to the end of its day
+        for (Map.Entry<LocalDate, Long> closing : closings.entrySet()) {
+            LocalDateTime endOfDay = closing.getKey().plusDays(1).atStartOfDay();
+            long expected = rows.stream().filter(row -> row.timestamp().isBefore(endOfDay))
+                    .mapToLong(Row::signedMinor).sum();
+            assertThat(closing.getValue()).as("closing of %s on %s", accountId, closing.getKey()).isEqualTo(expected);
+        }
+
+        long total = rows.stream().mapToLong(Row::signedMinor).sum();
+        assertThat(balanceOf(accountId)).isEqualTo(total);
+        if (!rows.isEmpty()) {
+            assertThat(closings).isNotEmpty();
+            assertThat(closings.lastEntry().getValue()).isEqualTo(total);
+        }
+
+        // Point-in-time reads agree with replaying the rows
+        for (int i = 0; i < rows.size(); i += Math.max(1, rows.size() / 10)) {
+            LocalDateTime at = rows.get(i).timestamp();
+            long expected = rows.stream().filter(row -> row.timestamp().isBefore(at)).mapToLong(Row::signedMinor).sum();
+            assertThat(snapshots.balanceAsOf(accountId, at)).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+// File: src/test/java/com/bankingsystem/service/impl/IdempotencyServiceImplTest.java
+package com.bankingsystem.service.impl;
+
+import com.bankingsystem.dto.response.common.ApiResponse;
+import com.bankingsystem.exception.IdempotencyConflictException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key behaviour against a real Redis, with two service instances standing in for two nodes.
+ */
+class IdempotencyServiceImplTest {
+
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    // Short enough that an operation outliving it would be run twice without the claim being extended
+    private static final Duration IN_PROGRESS_TTL = Duration.ofMillis(300);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redis;
+
+    private IdempotencyServiceImpl nodeA;
+    private IdempotencyServiceImpl nodeB;
+
+    @BeforeAll
+    static void startRedis() {
+        REDIS.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redis = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        REDIS.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.getConnectionFactory().getConnection().serverCommands().flushAll();
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(nodeA, "shutdown");
+        ReflectionTestUtils.invokeMethod(nodeB, "shutdown");
+    }
+
+    @Test
+    void repeatedKeyReplaysTheStoredResponse() {
+        AtomicInteger runs = new AtomicInteger();
+
+        ResponseEntity<ApiResponse<String>> first = transfer(nodeA, "key-1", Map.of("amount", 10), runs, 0);
+        ResponseEntity<ApiResponse<String>> second = transfer(nodeA, "key-1", Map.of("amount", 10), runs, 0);
+        // Another node has no local copy and must replay from Redis
+        ResponseEntity<ApiResponse<String>> third = transfer(nodeB, "key-1", Map.of("amount", 10), runs, 0);
+
+        assertThat(runs).hasValue(1);
+        assertThat(first.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        for (ResponseEntity<ApiResponse<String>> replay : List.of(second, third)) {
+            assertThat(replay.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(replay.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+            assertThat(replay.getBody().getData()).isEqualTo(first.getBody().getData());
+        }
+    }
+
+    @Test
+    void keyReusedForAnotherRequestIsRefused() {
+        AtomicInteger runs = new AtomicInteger();
+        transfer(nodeA, "key-2", Map.of("amount", 10), runs, 0);
+
+        assertThatThrownBy(() -> transfer(nodeB, "key-2", Map.of("amount", 11), runs, 0))
+                .isInstanceOf(IdempotencyConflictException.class)
+                .matches(e -> !((IdempotencyConflictException) e).isInProgress());
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void failedOperationReleasesItsClaim() {
+        AtomicInteger runs = new AtomicInteger();
+        assertThatThrownBy(() -> nodeA.execute("key-3", "transfer", Map.of("amount", 10), String.class, () -> {
+            runs.incrementAndGet();
+            throw new IllegalStateException("downstream failure");
+        })).isInstanceOf(IllegalStateException.class);
+
+        ResponseEntity<ApiResponse<String>> retry = transfer(nodeB, "key-3", Map.of("amount", 10), runs, 0);
+
+        assertThat(runs).hasValue(2);
+        assertThat(retry.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+    }
+
+    @Test
+    void slowOperationKeepsItsClaimPastTheInProgressTtl() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        long slowMillis = IN_PROGRESS_TTL.toMillis() * 5;
+
+        CompletableFuture<ResponseEntity<ApiResponse<String>>> original = CompletableFuture.supplyAsync(
+                () -> transfer(nodeA, "key-4", Map.of("amount", 10), runs, slowMillis));
+        // Retry from another node well after the claim's initial expiry, while the original is still running
+        Thread.sleep(IN_PROGRESS_TTL.toMillis() * 2);
+        ResponseEntity<ApiResponse<String>> retry = transfer(nodeB, "key-4", Map.of("amount", 10), runs, 0);
+
+        assertThat(original.get(10, TimeUnit.SECONDS).getBody().getData()).isEqualTo(retry.getBody().getData());
+        assertThat(retry.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(runs).hasValue(1);
+    }
+
+    // Private helper methods
+
+    private static IdempotencyServiceImpl node() {
+        return new IdempotencyServiceImpl(redis, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+                "test:idempotency:", Duration.ofHours(1), IN_PROGRESS_TTL, Duration.ofSeconds(10), 128,
+                1000, Duration.ofMinutes(1));
+    }
+
+    private static ResponseEntity<ApiResponse<String>> transfer(IdempotencyServiceImpl node, String key, Object request,
+                                                                AtomicInteger runs, long durationMillis) {
+        return node.execute(key, "transfer", request, String.class, () -> {
+            int run = runs.incrementAndGet();
+            if (durationMillis > 0) {
+                try {
+                    Thread.sleep(durationMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("Transfer completed", "TXN-" + run));
+        });
+    }
+}
@@ -0,0 +1,129 @@
+// File: src/test/java/com/bankingsystem/service/impl/TransactionHistoryQueryPlanTest.java
+package com.bankingsystem.service.impl;
+
+import com.bankingsystem.dto.response.common.CursorPage;
+import com.bankingsystem.dto.response.transaction.TransactionHistoryItem;
+import com.bankingsystem.support.PostgresTestSupport;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Page 1 and page 5000 of an account's history must cost the same: both are a short range scan on
+ * idx_transactions_account_timestamp_id, with no sort and no rows read and thrown away.
+ * The plans are taken from the SQL the service actually issued.
+ */
+class TransactionHistoryQueryPlanTest extends PostgresTestSupport {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int DEEP_PAGE = 5000;
+    private static final String ACCOUNT_NUMBER = "1000000001";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static RecordingJdbcTemplate recorder;
+    private static TransactionHistoryServiceImpl service;
+
+    @BeforeAll
+    static void seed() {
+        resetData();
+        UUID customer = createCustomer("History");
+        UUID account = createAccount(customer, ACCOUNT_NUMBER, "CHECKING", 0L, "USD");
+        UUID other = createAccount(customer, "1000000002", "CHECKING", 0L, "USD");
+
+        // Deep enough for page 5000 plus one, interleaved with another account's rows
+        int rows = PAGE_SIZE * DEEP_PAGE + 1000;
+        JDBC.update("INSERT INTO transactions (id, transaction_id, transaction_type, amount, currency, timestamp, " +
+                "status, fees, account_id, created_date, version, active) " +
+                "SELECT gen_random_uuid(), 'TXN-' || g, 'DEPOSIT', 100, 'USD', " +
+                "TIMESTAMP '2020-01-01' + g * INTERVAL '1 second', 'COMPLETED', 0, " +
+                "CASE WHEN g % 3 = 0 THEN ?::uuid ELSE ?::uuid END, now(), 0, true " +
+                "FROM generate_series(1, ?) AS g",
+                other, account, rows * 3 / 2);
+        JDBC.execute("ANALYZE transactions");
+
+        recorder = new RecordingJdbcTemplate();
+        service = new TransactionHistoryServiceImpl();
+        ReflectionTestUtils.setField(service, "namedJdbcTemplate", recorder);
+        ReflectionTestUtils.setField(service, "maxPageSize", 200);
+    }
+
+    @Test
+    void deepPageScansNoMoreThanFirstPage() throws Exception {
+        CursorPage<TransactionHistoryItem> page = service.getHistory(ACCOUNT_NUMBER, null, null, PAGE_SIZE);
+        JsonNode firstPlan = explain(recorder.lastSql, recorder.lastParams);
+
+        for (int i = 2; i <= DEEP_PAGE; i++) {
+            page = service.getHistory(ACCOUNT_NUMBER, null, page.getNextCursor(), PAGE_SIZE);
+        }
+        assertThat(page.getItems()).hasSize(PAGE_SIZE);
+        JsonNode deepPlan = explain(recorder.lastSql, recorder.lastParams);
+
+        for (JsonNode plan : List.of(firstPlan, deepPlan)) {
+            List<JsonNode> nodes = flatten(plan.get("Plan"));
+            assertThat(nodes).noneMatch(node -> node.get("Node Type").asText().equals("Seq Scan"));
+            assertThat(nodes).noneMatch(node -> node.get("Node Type").asText().equals("Sort"));
+
+            JsonNode scan = nodes.stream()
+                    .filter(node -> "idx_transactions_account_timestamp_id".equals(node.path("Index Name").asText()))
+                    .findFirst().orElseThrow();
+            // Only the page plus the look-ahead row is read, whatever the depth
+            assertThat(scan.get("Actual Rows").asLong()).isLessThanOrEqualTo(PAGE_SIZE + 1);
+        }
+
+        long firstBuffers = buffers(firstPlan.get("Plan"));
+        long deepBuffers = buffers(deepPlan.get("Plan"));
+        assertThat(deepBuffers).isLessThanOrEqualTo(firstBuffers * 2 + 8);
+    }
+
+    // Private helper methods
+
+    private static JsonNode explain(String sql, SqlParameterSource params) throws Exception {
+        List<String> json = NAMED_JDBC.query("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql, params,
+                (rs, rowNum) -> rs.getString(1));
+        return JSON.readTree(String.join("", json)).get(0);
+    }
+
+    private static List<JsonNode> flatten(JsonNode node) {
+        List<JsonNode> nodes = new ArrayList<>();
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            nodes.addAll(flatten(child));
+        }
+        return nodes;
+    }
+
+    private static long buffers(JsonNode plan) {
+        return plan.get("Shared Hit Blocks").asLong() + plan.get("Shared Read Blocks").asLong();
+    }
+
+    /**
+     * Remembers the last query so its plan can be inspected
+     */
+    private static final class RecordingJdbcTemplate extends NamedParameterJdbcTemplate {
+        private String lastSql;
+        private SqlParameterSource lastParams;
+
+        RecordingJdbcTemplate() {
+            super(DATA_SOURCE);
+        }
+
+        @Override
+        public <T> List<T> query(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper) {
+            lastSql = sql;
+            lastParams = paramSource;
+            return super.query(sql, paramSource, rowMapper);
+        }
+    }
+}
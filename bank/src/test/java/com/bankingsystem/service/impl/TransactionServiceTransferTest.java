@@ -0,0 +1,79 @@
+// File: src/test/java/com/bankingsystem/service/impl/TransactionServiceTransferTest.java
+package com.bankingsystem.service.impl;
+
+import com.bankingsystem.dto.request.account.TransferRequest;
+import com.bankingsystem.dto.response.transaction.TransactionResultResponse;
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.repository.account.AccountRepository;
+import com.bankingsystem.service.interfaces.INotificationService;
+import com.bankingsystem.service.interfaces.ITransactionService;
+import com.bankingsystem.support.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Transfers driven through the transactional service proxy, as the controller calls them: a refusal comes back
+ * as a failure result instead of an unexpected rollback, and a completed transfer is committed on return.
+ */
+class TransactionServiceTransferTest extends PostgresTestSupport {
+
+    private static final long OPENING_MINOR = 10_000;
+
+    private ITransactionService service;
+    private UUID fromId;
+    private UUID toId;
+
+    @BeforeEach
+    void setUp() {
+        resetData();
+        UUID customer = createCustomer("Service");
+        fromId = createAccount(customer, "4000000001", "CHECKING", OPENING_MINOR, "USD");
+        toId = createAccount(customer, "4000000002", "CHECKING", OPENING_MINOR, "USD");
+
+        TransactionServiceImpl target = new TransactionServiceImpl();
+        ReflectionTestUtils.setField(target, "transferEngine",
+                transferEngine(snapshotRepository(), "50000", "1000000", "0.25"));
+        ReflectionTestUtils.setField(target, "accountRepository", Mockito.mock(AccountRepository.class));
+        ReflectionTestUtils.setField(target, "notificationService", Mockito.mock(INotificationService.class));
+
+        // The same @Transactional semantics the application context applies
+        ProxyFactory proxy = new ProxyFactory(target);
+        proxy.addAdvice(new TransactionInterceptor(TRANSACTION_MANAGER, new AnnotationTransactionAttributeSource()));
+        service = (ITransactionService) proxy.getProxy();
+    }
+
+    @Test
+    void refusedTransferIsAFailureResult() {
+        // The fee is debited on top, so the whole balance is not enough
+        TransactionResultResponse result = service.processTransfer(
+                new TransferRequest("4000000001", "4000000002", BigDecimal.valueOf(OPENING_MINOR, 2), Currency.USD));
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getErrorCode()).isEqualTo("TRANSFER_FAILED");
+        assertThat(balanceOf(fromId)).isEqualTo(OPENING_MINOR);
+        assertThat(balanceOf(toId)).isEqualTo(OPENING_MINOR);
+        assertThat(JDBC.queryForObject("SELECT count(*) FROM transactions", Long.class)).isZero();
+    }
+
+    @Test
+    void completedTransferIsCommittedOnReturn() {
+        TransactionResultResponse result = service.processTransfer(
+                new TransferRequest("4000000001", "4000000002", new BigDecimal("10.00"), Currency.USD));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(balanceOf(fromId)).isEqualTo(OPENING_MINOR - 1_025);
+        assertThat(balanceOf(toId)).isEqualTo(OPENING_MINOR + 1_000);
+        assertThat(JDBC.queryForObject("SELECT count(*) FROM transactions WHERE status = 'COMPLETED'", Long.class))
+                .isEqualTo(2);
+    }
+}
@@ -0,0 +1,114 @@
+// File: src/test/java/com/bankingsystem/service/strategy/interest/CompoundInterestStrategyTest.java
+package com.bankingsystem.service.strategy.interest;
+
+import com.bankingsystem.entity.account.SavingsAccount;
+import com.bankingsystem.entity.valueobject.Money;
+import com.bankingsystem.enums.Currency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Compound interest over whole and partial compounding periods, at the configured frequency.
+ */
+class CompoundInterestStrategyTest {
+
+    private static final BigDecimal RATE = new BigDecimal("0.025");
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+
+    private RateFactorCache factorCache;
+
+    @BeforeEach
+    void setUp() {
+        factorCache = new RateFactorCache();
+        ReflectionTestUtils.setField(factorCache, "maxEntries", 4096);
+        ReflectionTestUtils.invokeMethod(factorCache, "init");
+    }
+
+    @Test
+    void wholeYearCompoundsMonthly() {
+        BigDecimal interest = strategy(12).calculateInterest(savings("10000.00"), FROM, FROM.plusDays(365));
+
+        // 10000 × ((1 + 0.025/12)^12 − 1)
+        assertThat(interest).isEqualByComparingTo("252.88");
+        assertThat(interest).isEqualByComparingTo(compound("10000.00", 12, 12));
+    }
+
+    @Test
+    void frequencyComesFromConfiguration() {
+        BigDecimal quarterly = strategy(4).calculateInterest(savings("10000.00"), FROM, FROM.plusDays(365));
+        BigDecimal daily = strategy(365).calculateInterest(savings("10000.00"), FROM, FROM.plusDays(365));
+
+        assertThat(quarterly).isEqualByComparingTo(compound("10000.00", 4, 4));
+        assertThat(daily).isEqualByComparingTo(compound("10000.00", 365, 365));
+        assertThat(quarterly).isLessThan(daily);
+    }
+
+    @Test
+    void periodInProgressAccruesSimpleInterest() {
+        // Half a month: no whole period yet, so exactly simple interest for 15 days
+        BigDecimal halfMonth = strategy(12).calculateInterest(savings("10000.00"), FROM, FROM.plusDays(15));
+        assertThat(halfMonth).isEqualByComparingTo(new BigDecimal("10000.00").multiply(RATE)
+                .multiply(BigDecimal.valueOf(15)).divide(BigDecimal.valueOf(365), 2, RoundingMode.HALF_UP));
+        assertThat(halfMonth).isPositive();
+
+        // 45 days: one whole month compounded, then 175/4380 of a year on the grown balance
+        BigDecimal growth = factorCache.accruedGrowth(RATE, 12, 45);
+        BigDecimal expected = BigDecimal.ONE.add(RATE.divide(BigDecimal.valueOf(12), MathContext.DECIMAL128))
+                .multiply(BigDecimal.ONE.add(RATE.multiply(BigDecimal.valueOf(175))
+                        .divide(BigDecimal.valueOf(4380), MathContext.DECIMAL128)))
+                .subtract(BigDecimal.ONE);
+        assertThat(growth.doubleValue()).isCloseTo(expected.doubleValue(), within(1e-15));
+    }
+
+    @Test
+    void accrualGrowsSmoothlyAcrossPeriodBoundaries() {
+        double oneDay = RATE.doubleValue() / 365;
+        BigDecimal previous = BigDecimal.ZERO;
+        for (int days = 1; days <= 3 * 365; days++) {
+            BigDecimal growth = factorCache.accruedGrowth(RATE, 12, days);
+            double step = growth.subtract(previous).doubleValue();
+            // Never falls back at a boundary, never jumps by more than a day's interest on the grown balance
+            assertThat(step).as("day %d", days).isPositive().isLessThan(oneDay * (1 + growth.doubleValue()) * 1.001);
+            previous = growth;
+        }
+    }
+
+    @Test
+    void nothingAccruesWithoutTimeOrRate() {
+        assertThat(strategy(12).calculateInterest(savings("10000.00"), FROM, FROM)).isEqualByComparingTo("0");
+        assertThat(factorCache.accruedGrowth(BigDecimal.ZERO, 12, 365)).isEqualByComparingTo("0");
+    }
+
+    // Private helper methods
+
+    private CompoundInterestStrategy strategy(int frequency) {
+        CompoundInterestStrategy strategy = new CompoundInterestStrategy();
+        ReflectionTestUtils.setField(strategy, "factorCache", factorCache);
+        ReflectionTestUtils.setField(strategy, "compoundingFrequency", frequency);
+        return strategy;
+    }
+
+    private static SavingsAccount savings(String balance) {
+        SavingsAccount account = new SavingsAccount();
+        account.setCurrency(Currency.USD);
+        account.setBalance(Money.of(new BigDecimal(balance), Currency.USD));
+        account.setInterestRate(RATE.doubleValue());
+        return account;
+    }
+
+    private static BigDecimal compound(String principal, int frequency, int periods) {
+        return new BigDecimal(principal).multiply(BigDecimal.ONE
+                        .add(RATE.divide(BigDecimal.valueOf(frequency), MathContext.DECIMAL128))
+                        .pow(periods, MathContext.DECIMAL128).subtract(BigDecimal.ONE))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,158 @@
+// File: src/test/java/com/bankingsystem/service/transfer/TransferEngineContentionTest.java
+package com.bankingsystem.service.transfer;
+
+import com.bankingsystem.enums.Currency;
+import com.bankingsystem.exception.InsufficientFundsException;
+import com.bankingsystem.support.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Transfers are all-or-nothing and money is conserved when many threads move it between the same few accounts
+ * in both directions at once.
+ */
+class TransferEngineContentionTest extends PostgresTestSupport {
+
+    private static final int ACCOUNTS = 8;
+    private static final int THREADS = 64;
+    private static final int TRANSFERS_PER_THREAD = 50;
+    private static final long OPENING_MINOR = 100_000;
+    private static final long FEE_MINOR = 25;
+
+    private TransferEngine engine;
+    private final List<UUID> ids = new ArrayList<>();
+    private final List<String> numbers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        resetData();
+        engine = transferEngine(snapshotRepository(), "50000", "1000000", "0.25");
+        UUID customer = createCustomer("Contention");
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String number = String.valueOf(3000000000L + i);
+            ids.add(createAccount(customer, number, "CHECKING", OPENING_MINOR, "USD"));
+            numbers.add(number);
+        }
+    }
+
+    @Test
+    void failureInsideTheTransactionLeavesBothAccountsUntouched() {
+        assertThatThrownBy(() -> engine.transfer(numbers.get(0), numbers.get(1), new BigDecimal("10.00"), Currency.USD,
+                "rolled back", result -> {
+                    throw new IllegalStateException("audit write failed");
+                })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(balanceOf(ids.get(0))).isEqualTo(OPENING_MINOR);
+        assertThat(balanceOf(ids.get(1))).isEqualTo(OPENING_MINOR);
+        assertThat(JDBC.queryForObject("SELECT count(*) FROM transactions", Long.class)).isZero();
+    }
+
+    @Test
+    void insufficientFundsPostsNothing() {
+        // The fee is debited on top, so the whole balance is not enough
+        assertThatThrownBy(() -> engine.transfer(numbers.get(0), numbers.get(1),
+                BigDecimal.valueOf(OPENING_MINOR, 2), Currency.USD, "too much"))
+                .isInstanceOf(InsufficientFundsException.class);
+
+        assertThat(balanceOf(ids.get(0))).isEqualTo(OPENING_MINOR);
+        assertThat(balanceOf(ids.get(1))).isEqualTo(OPENING_MINOR);
+        assertThat(JDBC.queryForObject("SELECT count(*) FROM transactions", Long.class)).isZero();
+    }
+
+    @Test
+    void cachedAccountsAreEvictedAfterCommit() {
+        CacheManager cacheManager = (CacheManager) ReflectionTestUtils.getField(engine, "cacheManager");
+        Cache accounts = cacheManager.getCache("accounts");
+        accounts.put(numbers.get(0), "stale");
+        accounts.put(numbers.get(1), "stale");
+        accounts.put(numbers.get(2), "untouched");
+
+        engine.transfer(numbers.get(0), numbers.get(1), new BigDecimal("10.00"), Currency.USD, "evicts");
+
+        assertThat(accounts.get(numbers.get(0))).isNull();
+        assertThat(accounts.get(numbers.get(1))).isNull();
+        assertThat(accounts.get(numbers.get(2))).isNotNull();
+    }
+
+    @Test
+    void joiningACallersTransactionIsRefused() {
+        // Its commit would happen after the account locks are released
+        assertThatThrownBy(() -> TRANSACTIONS.executeWithoutResult(status -> engine.transfer(numbers.get(0),
+                numbers.get(1), new BigDecimal("10.00"), Currency.USD, "nested")))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(balanceOf(ids.get(0))).isEqualTo(OPENING_MINOR);
+        assertThat(JDBC.queryForObject("SELECT count(*) FROM transactions", Long.class)).isZero();
+    }
+
+    @Test
+    void concurrentTransfersConserveMoney() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    int from = random.nextInt(ACCOUNTS);
+                    // Neighbours in both directions, so pairs are locked in opposite orders concurrently
+                    int to = (from + (random.nextBoolean() ? 1 : ACCOUNTS - 1)) % ACCOUNTS;
+                    try {
+                        engine.transfer(numbers.get(from), numbers.get(to),
+                                BigDecimal.valueOf(1 + random.nextInt(5_000), 2), Currency.USD, "contention");
+                        succeeded.incrementAndGet();
+                    } catch (InsufficientFundsException e) {
+                        refused.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            // Fails on a deadlock or any unexpected exception
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        assertThat(succeeded.get() + refused.get()).isEqualTo(THREADS * TRANSFERS_PER_THREAD);
+        assertThat(succeeded.get()).isPositive();
+
+        long total = 0;
+        for (UUID id : ids) {
+            long balance = balanceOf(id);
+            assertThat(balance).isNotNegative();
+            // Each balance is exactly what its own rows say
+            long posted = JDBC.queryForObject("SELECT COALESCE(SUM(CASE WHEN transaction_type = 'TRANSFER_IN' " +
+                    "THEN amount ELSE -(amount + fees) END), 0) FROM transactions WHERE account_id = ?", Long.class, id);
+            assertThat(balance).isEqualTo(OPENING_MINOR + posted);
+            total += balance;
+        }
+        // Only the fees leave the system
+        assertThat(total).isEqualTo(ACCOUNTS * OPENING_MINOR - succeeded.get() * FEE_MINOR);
+        assertThat(JDBC.queryForObject("SELECT count(*) FROM transactions", Long.class))
+                .isEqualTo(2L * succeeded.get());
+    }
+}
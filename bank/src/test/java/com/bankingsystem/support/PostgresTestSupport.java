@@ -0,0 +1,180 @@
+// File: src/test/java/com/bankingsystem/support/PostgresTestSupport.java
+package com.bankingsystem.support;
+
+import com.bankingsystem.repository.account.DailyBalanceSnapshotRepository;
+import com.bankingsystem.service.ledger.AccountLockStripes;
+import com.bankingsystem.service.ledger.ShardedBalanceLedger;
+import com.bankingsystem.service.transfer.TransferEngine;
+import com.bankingsystem.service.transfer.TransferPolicy;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Base class for tests that need the real schema.
+ *
+ * One PostgreSQL container is shared by every test class in the run and migrated once with the
+ * application's Flyway scripts, so tests exercise the same DDL, indexes and SQL dialect as production.
+ * Test classes call {@link #resetData()} to start from empty tables. The factory methods wire the JDBC-based
+ * posting components by hand, without starting the application context (and so without Redis).
+ */
+public abstract class PostgresTestSupport {
+
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    protected static final HikariDataSource DATA_SOURCE;
+    protected static final JdbcTemplate JDBC;
+    protected static final NamedParameterJdbcTemplate NAMED_JDBC;
+    protected static final DataSourceTransactionManager TRANSACTION_MANAGER;
+    protected static final TransactionTemplate TRANSACTIONS;
+
+    static {
+        POSTGRES.start();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(POSTGRES.getJdbcUrl());
+        config.setUsername(POSTGRES.getUsername());
+        config.setPassword(POSTGRES.getPassword());
+        // Enough for the contention tests to hold one connection per thread
+        config.setMaximumPoolSize(80);
+        DATA_SOURCE = new HikariDataSource(config);
+
+        Flyway.configure().dataSource(DATA_SOURCE).locations("classpath:db/migration").load().migrate();
+
+        JDBC = new JdbcTemplate(DATA_SOURCE);
+        NAMED_JDBC = new NamedParameterJdbcTemplate(DATA_SOURCE);
+        TRANSACTION_MANAGER = new DataSourceTransactionManager(DATA_SOURCE);
+        TRANSACTIONS = new TransactionTemplate(TRANSACTION_MANAGER);
+    }
+
+    /**
+     * Empty every table the tests write to
+     */
+    protected static void resetData() {
+        JDBC.execute("TRUNCATE transactions, daily_balance_snapshot, scheduled_transfers, savings_accounts, " +
+                "checking_accounts, accounts, user_roles, users, customers, persons CASCADE");
+    }
+
+    /**
+     * Insert a customer and return its id (accounts.customer_id)
+     */
+    protected static UUID createCustomer(String name) {
+        UUID id = UUID.randomUUID();
+        JDBC.update("INSERT INTO persons (id, created_date, version, active, person_type, person_id, first_name, last_name) " +
+                "VALUES (?, now(), 0, true, 'CUSTOMER', ?, ?, 'Test')", id, "P-" + id, name);
+        JDBC.update("INSERT INTO customers (id, customer_id) VALUES (?, ?)", id, "C-" + id);
+        return id;
+    }
+
+    /**
+     * Insert a user linked to a customer, as AccountAccessGuard expects
+     */
+    protected static void createUser(String username, UUID customerId) {
+        JDBC.update("INSERT INTO users (id, created_date, version, active, username, password_hash, email, is_enabled, " +
+                "is_account_non_expired, is_account_non_locked, is_credentials_non_expired, failed_login_attempts, person_id) " +
+                "VALUES (?, now(), 0, true, ?, 'x', ?, true, true, true, true, 0, ?)",
+                UUID.randomUUID(), username, username + "@example.com", customerId);
+    }
+
+    /**
+     * Insert an active account with the given balance in minor units
+     * @param type SAVINGS or CHECKING
+     */
+    protected static UUID createAccount(UUID customerId, String accountNumber, String type, long balanceMinor,
+                                        String currency) {
+        UUID id = UUID.randomUUID();
+        JDBC.update("INSERT INTO accounts (id, created_date, version, active, account_type, account_id, account_number, " +
+                "balance, currency, open_date, status, customer_id, interest_posted_through) " +
+                "VALUES (?, now(), 0, true, ?, ?, ?, ?, ?, CURRENT_DATE, 'ACTIVE', ?, ?)",
+                id, type, "A-" + id, accountNumber, balanceMinor, currency, customerId,
+                Date.valueOf(LocalDate.now().withDayOfMonth(1)));
+        if ("SAVINGS".equals(type)) {
+            JDBC.update("INSERT INTO savings_accounts (id, interest_rate, minimum_balance, withdrawal_limit, " +
+                    "withdrawals_this_month) VALUES (?, 0.025, 0, 6, 0)", id);
+        } else {
+            JDBC.update("INSERT INTO checking_accounts (id, overdraft_limit, monthly_fee, free_transactions_limit) " +
+                    "VALUES (?, 0, 0, 20)", id);
+        }
+        return id;
+    }
+
+    protected static DailyBalanceSnapshotRepository snapshotRepository() {
+        DailyBalanceSnapshotRepository repository = new DailyBalanceSnapshotRepository();
+        ReflectionTestUtils.setField(repository, "namedJdbcTemplate", NAMED_JDBC);
+        return repository;
+    }
+
+    protected static AccountLockStripes lockStripes() {
+        AccountLockStripes stripes = new AccountLockStripes();
+        ReflectionTestUtils.setField(stripes, "stripeCount", 1024);
+        ReflectionTestUtils.invokeMethod(stripes, "init");
+        return stripes;
+    }
+
+    /**
+     * Ledger with the production defaults; call {@code shutdown} when done to stop its shard threads
+     */
+    protected static ShardedBalanceLedger balanceLedger(DailyBalanceSnapshotRepository snapshots) {
+        ShardedBalanceLedger ledger = new ShardedBalanceLedger();
+        ReflectionTestUtils.setField(ledger, "namedJdbcTemplate", NAMED_JDBC);
+        ReflectionTestUtils.setField(ledger, "transactionTemplate", TRANSACTIONS);
+        ReflectionTestUtils.setField(ledger, "snapshotRepository", snapshots);
+        ReflectionTestUtils.setField(ledger, "cacheManager", new ConcurrentMapCacheManager());
+        ReflectionTestUtils.setField(ledger, "shardCount", 16);
+        ReflectionTestUtils.setField(ledger, "batchSize", 500);
+        ReflectionTestUtils.setField(ledger, "strandedAfter", Duration.ofMinutes(5));
+        ReflectionTestUtils.invokeMethod(ledger, "init");
+        return ledger;
+    }
+
+    /**
+     * Transfer engine with the given limits and flat fee, in major units
+     */
+    protected static TransferEngine transferEngine(DailyBalanceSnapshotRepository snapshots, String maxAmount,
+                                                   String dailyLimit, String fee) {
+        TransferPolicy policy = new TransferPolicy();
+        ReflectionTestUtils.setField(policy, "namedJdbcTemplate", NAMED_JDBC);
+        ReflectionTestUtils.setField(policy, "maxAmount", new BigDecimal(maxAmount));
+        ReflectionTestUtils.setField(policy, "dailyLimit", new BigDecimal(dailyLimit));
+        ReflectionTestUtils.setField(policy, "fee", new BigDecimal(fee));
+
+        TransferEngine engine = new TransferEngine();
+        ReflectionTestUtils.setField(engine, "jdbcTemplate", JDBC);
+        ReflectionTestUtils.setField(engine, "transactionTemplate", TRANSACTIONS);
+        ReflectionTestUtils.setField(engine, "lockStripes", lockStripes());
+        ReflectionTestUtils.setField(engine, "snapshotRepository", snapshots);
+        ReflectionTestUtils.setField(engine, "transferPolicy", policy);
+        ReflectionTestUtils.setField(engine, "cacheManager", new ConcurrentMapCacheManager());
+        return engine;
+    }
+
+    protected static long balanceOf(UUID accountId) {
+        return JDBC.queryForObject("SELECT balance FROM accounts WHERE id = ?", Long.class, accountId);
+    }
+
+    /**
+     * Insert a COMPLETED transactions row without touching the balance
+     */
+    protected static void insertTransaction(UUID accountId, String type, long amountMinor, LocalDateTime timestamp) {
+        JDBC.update("INSERT INTO transactions (id, transaction_id, transaction_type, amount, currency, timestamp, " +
+                "status, fees, account_id, created_date, version, active) " +
+                "VALUES (?, ?, ?, ?, 'USD', ?, 'COMPLETED', 0, ?, ?, 0, true)",
+                UUID.randomUUID(), "TXN-" + UUID.randomUUID(), type, amountMinor,
+                Timestamp.valueOf(timestamp), accountId, Timestamp.valueOf(timestamp));
+    }
+}
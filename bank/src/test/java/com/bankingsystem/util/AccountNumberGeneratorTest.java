@@ -0,0 +1,156 @@
+// File: src/test/java/com/bankingsystem/util/AccountNumberGeneratorTest.java
+package com.bankingsystem.util;
+
+import com.bankingsystem.support.PostgresTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Account numbers are unique across threads and nodes sharing the sequence, and their Luhn digit catches
+ * the typing errors it is meant to.
+ */
+class AccountNumberGeneratorTest extends PostgresTestSupport {
+
+    private static final long DOMAIN = 1_000_000_000L;
+
+    @Test
+    void permutationIsInjectiveAndStaysInRange() throws Exception {
+        AccountNumberGenerator generator = generator(7046029254386353131L);
+        Method permute = AccountNumberGenerator.class.getDeclaredMethod("permute", long.class);
+        permute.setAccessible(true);
+
+        // A dense run of sequence numbers, as issued, and a sparse sample from across the whole domain
+        BitSet seen = new BitSet();
+        Set<Long> sampled = new HashSet<>();
+        for (long sequence = 0; sequence < 2_000_000; sequence++) {
+            long permuted = (long) permute.invoke(generator, sequence);
+            assertThat(permuted).isBetween(0L, DOMAIN - 1);
+            assertThat(seen.get((int) permuted)).as("collision at %d", sequence).isFalse();
+            seen.set((int) permuted);
+        }
+        SplittableRandom random = new SplittableRandom(11);
+        Set<Long> inputs = new HashSet<>();
+        while (inputs.size() < 200_000) {
+            inputs.add(random.nextLong(DOMAIN));
+        }
+        for (long input : inputs) {
+            assertThat(sampled.add((long) permute.invoke(generator, input))).isTrue();
+        }
+
+        // Consecutive sequence numbers do not give consecutive account numbers
+        long first = (long) permute.invoke(generator, 1L);
+        long second = (long) permute.invoke(generator, 2L);
+        assertThat(Math.abs(second - first)).isGreaterThan(1000);
+    }
+
+    @Test
+    void keyChangesTheMapping() throws Exception {
+        Method permute = AccountNumberGenerator.class.getDeclaredMethod("permute", long.class);
+        permute.setAccessible(true);
+        AccountNumberGenerator a = generator(1L);
+        AccountNumberGenerator b = generator(2L);
+
+        int same = 0;
+        for (long sequence = 0; sequence < 1000; sequence++) {
+            if (permute.invoke(a, sequence).equals(permute.invoke(b, sequence))) {
+                same++;
+            }
+        }
+        assertThat(same).isLessThan(5);
+    }
+
+    @Test
+    void luhnDigitDetectsSubstitutionsAndTranspositions() {
+        AccountNumberGenerator generator = generator(7046029254386353131L);
+        assertThat(generator.generateChecksum("7992739871")).isEqualTo(3);
+
+        SplittableRandom random = new SplittableRandom(3);
+        for (int n = 0; n < 2000; n++) {
+            String digits = String.format("%09d", random.nextLong(DOMAIN));
+            String number = "ACC-" + digits + generator.generateChecksum(digits);
+            assertThat(generator.isValidAccountNumber(number)).isTrue();
+
+            char[] body = number.substring(4).toCharArray();
+            for (int i = 0; i < body.length; i++) {
+                for (char d = '0'; d <= '9'; d++) {
+                    if (d != body[i]) {
+                        char[] typo = body.clone();
+                        typo[i] = d;
+                        assertThat(generator.isValidAccountNumber("ACC-" + new String(typo))).isFalse();
+                    }
+                }
+                // Luhn's one blind spot among adjacent swaps is 09 <-> 90
+                if (i + 1 < body.length && body[i] != body[i + 1]
+                        && !(body[i] == '0' && body[i + 1] == '9') && !(body[i] == '9' && body[i + 1] == '0')) {
+                    char[] swapped = body.clone();
+                    swapped[i] = body[i + 1];
+                    swapped[i + 1] = body[i];
+                    assertThat(generator.isValidAccountNumber("ACC-" + new String(swapped))).isFalse();
+                }
+            }
+        }
+        assertThat(generator.isValidAccountNumber("ACC-123")).isFalse();
+        assertThat(generator.isValidAccountNumber(null)).isFalse();
+    }
+
+    @Test
+    void numbersAreUniqueAcrossThreadsAndNodes() throws Exception {
+        JDBC.execute("ALTER SEQUENCE account_number_seq RESTART WITH 1");
+        // Two nodes sharing the sequence, 16 threads each
+        List<AccountNumberGenerator> nodes = List.of(generator(7046029254386353131L), generator(7046029254386353131L));
+        int threads = 32;
+        int perThread = 5_000;
+
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            AccountNumberGenerator node = nodes.get(t % nodes.size());
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    String number = node.generateAccountNumber("CHECKING");
+                    assertThat(node.isValidAccountNumber(number)).isTrue();
+                    assertThat(issued.add(number)).as("duplicate %s", number).isTrue();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        assertThat(issued).hasSize(threads * perThread);
+        // Blocks are leased, not fetched per number: at most one partly used block per node beyond what was issued
+        long leased = JDBC.queryForObject("SELECT last_value FROM account_number_seq", Long.class);
+        assertThat(leased).isLessThanOrEqualTo(threads * perThread + nodes.size() * 1000L + 1);
+    }
+
+    // Private helper methods
+
+    private static AccountNumberGenerator generator(long key) {
+        AccountNumberGenerator generator = new AccountNumberGenerator();
+        ReflectionTestUtils.setField(generator, "jdbcTemplate", JDBC);
+        ReflectionTestUtils.setField(generator, "permutationKey", key);
+        return generator;
+    }
+}
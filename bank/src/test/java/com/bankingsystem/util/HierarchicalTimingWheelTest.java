@@ -0,0 +1,163 @@
+// File: src/test/java/com/bankingsystem/util/HierarchicalTimingWheelTest.java
+package com.bankingsystem.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every item fires exactly once, on the first advance that reaches its deadline rounded up to the tick:
+ * never early, and no later than one tick, whichever level it was first placed in.
+ */
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void firesInDeadlineOrderAcrossEveryLevel() {
+        // 4 slots per level, 3 levels: level 0 holds 1-3 ticks ahead, level 1 up to 15, level 2 up to 63
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, 2, 3, 0);
+        assertThat(wheel.spanMillis()).isEqualTo(64);
+        for (long deadline = 63; deadline >= 1; deadline--) {
+            assertThat(wheel.add(deadline, deadline)).isTrue();
+        }
+        assertThat(wheel.size()).isEqualTo(63);
+
+        for (long now = 1; now <= 63; now++) {
+            List<Long> fired = new ArrayList<>();
+            wheel.advance(now, fired::add);
+            assertThat(fired).as("at %d", now).containsExactly(now);
+            assertThat(wheel.size()).isEqualTo(63 - (int) now);
+        }
+    }
+
+    @Test
+    void deadlinesBeyondTheSpanAreRejected() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 2, 3, 1_000);
+
+        assertThat(wheel.spanMillis()).isEqualTo(640);
+        assertThat(wheel.add("last", 1_000 + 639)).isTrue();
+        assertThat(wheel.add("too far", 1_000 + 640)).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void overdueItemsFireOnTheNextAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 2, 3, 1_000);
+        wheel.add("yesterday", 0);
+        wheel.add("now", 1_000);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_000, fired::add);
+        assertThat(fired).containsExactlyInAnyOrder("yesterday", "now");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlinesRoundUpToTheTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 2, 3, 1_000);
+        wheel.add("at 1031", 1_031);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1_039, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advance(1_040, fired::add);
+        assertThat(fired).containsExactly("at 1031");
+    }
+
+    @Test
+    void randomScheduleMatchesAModel() {
+        for (int seed = 0; seed < 50; seed++) {
+            checkAgainstModel(new SplittableRandom(seed), 10, 2, 3);
+        }
+        // The shape the scheduled transfer engine uses
+        checkAgainstModel(new SplittableRandom(99), 1_000, 6, 4);
+    }
+
+    @Test
+    void largeBacklogDrainsCompletely() {
+        // A first-of-month's worth of standing orders spread over one day, one-second ticks
+        long start = 1_767_225_600_000L;
+        long day = 86_400_000L;
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1_000, 6, 4, start);
+        SplittableRandom random = new SplittableRandom(7);
+        int items = 500_000;
+        long[] deadlines = new long[items];
+        for (int i = 0; i < items; i++) {
+            deadlines[i] = start + random.nextLong(day);
+            assertThat(wheel.add(i, deadlines[i])).isTrue();
+        }
+
+        boolean[] seen = new boolean[items];
+        int[] fired = {0};
+        for (long now = start; now <= start + day + 60_000; now += 60_000) {
+            long reached = now;
+            wheel.advance(now, item -> {
+                assertThat(deadlines[item]).isLessThanOrEqualTo(reached);
+                assertThat(seen[item]).isFalse();
+                seen[item] = true;
+                fired[0]++;
+            });
+        }
+        assertThat(fired[0]).isEqualTo(items);
+        assertThat(wheel.size()).isZero();
+    }
+
+    // Private helper methods
+
+    /**
+     * Interleave adds and advances of random sizes (within a tick, across a few ticks, and across whole
+     * revolutions of the upper levels) and check each firing against the deadline rounded up to the tick
+     */
+    private static void checkAgainstModel(SplittableRandom random, long tickMillis, int bits, int levels) {
+        long now = 1_760_000_000_000L + random.nextLong(tickMillis * 1000);
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(tickMillis, bits, levels, now);
+        long span = wheel.spanMillis();
+
+        Map<Integer, Long> pending = new HashMap<>();
+        int next = 0;
+        for (int round = 0; round < 2_000; round++) {
+            int adds = random.nextInt(8);
+            for (int i = 0; i < adds; i++) {
+                // Mostly within the span, a few already overdue
+                long deadline = now - tickMillis * 4 + random.nextLong(span);
+                if (wheel.add(next, deadline)) {
+                    pending.put(next, deadline);
+                }
+                next++;
+            }
+
+            long step = switch (random.nextInt(4)) {
+                case 0 -> random.nextLong(tickMillis);
+                case 1 -> random.nextLong(tickMillis * 4);
+                case 2 -> random.nextLong(tickMillis << bits);
+                default -> random.nextLong(span / 2);
+            };
+            now += step;
+            long reached = now;
+            List<Integer> fired = new ArrayList<>();
+            wheel.advance(now, fired::add);
+
+            for (Integer item : fired) {
+                Long deadline = pending.remove(item);
+                assertThat(deadline).as("item %d fired twice or was never added", item).isNotNull();
+                long dueAt = ceilToTick(deadline, tickMillis);
+                assertThat(dueAt).as("item %d fired early", item).isLessThanOrEqualTo(reached);
+            }
+            // Whatever is still pending is not due yet
+            for (Map.Entry<Integer, Long> entry : pending.entrySet()) {
+                assertThat(ceilToTick(entry.getValue(), tickMillis)).as("item %d fired late", entry.getKey())
+                        .isGreaterThan(reached);
+            }
+            assertThat(wheel.size()).isEqualTo(pending.size());
+        }
+    }
+
+    private static long ceilToTick(long millis, long tickMillis) {
+        return (millis + tickMillis - 1) / tickMillis * tickMillis;
+    }
+}
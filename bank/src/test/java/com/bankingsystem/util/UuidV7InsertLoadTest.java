@@ -0,0 +1,134 @@
+// File: src/test/java/com/bankingsystem/util/UuidV7InsertLoadTest.java
+package com.bankingsystem.util;
+
+import com.bankingsystem.support.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Time-ordered keys against the random UUIDs they replaced, inserting transactions rows in batches
+ * the way the posting paths do: the primary key index stays dense and inserts get no slower.
+ */
+class UuidV7InsertLoadTest extends PostgresTestSupport {
+
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 500;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        resetData();
+        accountId = createAccount(createCustomer("Load"), "5000000001", "CHECKING", 0L, "USD");
+    }
+
+    @Test
+    void idsAreVersion7AndStrictlyIncreasingPerJvm() throws Exception {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            assertThat(next.version()).isEqualTo(7);
+            assertThat(next.variant()).isEqualTo(2);
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+        long millis = previous.getMostSignificantBits() >>> 16;
+        assertThat(millis).isCloseTo(System.currentTimeMillis(), within(5_000L));
+
+        Set<UUID> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            workers.add(pool.submit(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    assertThat(issued.add(UuidV7.next())).isTrue();
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(1, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+        assertThat(issued).hasSize(16 * 50_000);
+    }
+
+    @Test
+    void timeOrderedKeysKeepThePrimaryKeyIndexDense() {
+        long random = loadAndMeasure(UUID::randomUUID).indexBytes();
+        long ordered = loadAndMeasure(UuidV7::next).indexBytes();
+
+        System.out.printf("transactions_pkey after %d rows: random %d KB, time-ordered %d KB%n",
+                ROWS, random / 1024, ordered / 1024);
+        // Right-edge appends fill leaf pages; random keys split them half-full
+        assertThat(ordered).isLessThan(random * 85 / 100);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void timeOrderedInsertsAreNoSlower() {
+        // Warm both paths once, then measure
+        loadAndMeasure(UUID::randomUUID);
+        loadAndMeasure(UuidV7::next);
+        long random = loadAndMeasure(UUID::randomUUID).nanos();
+        long ordered = loadAndMeasure(UuidV7::next).nanos();
+
+        System.out.printf("%d batched inserts: random %d ms, time-ordered %d ms%n",
+                ROWS, TimeUnit.NANOSECONDS.toMillis(random), TimeUnit.NANOSECONDS.toMillis(ordered));
+        assertThat(ordered).isLessThanOrEqualTo(random * 11 / 10);
+    }
+
+    // Private helper methods
+
+    private record Load(long nanos, long indexBytes) {}
+
+    /**
+     * Insert ROWS transactions rows with the given keys into an emptied table, batched and rewritten into
+     * multi-row INSERTs as the application's datasource does
+     */
+    private Load loadAndMeasure(Supplier<UUID> ids) {
+        JDBC.execute("TRUNCATE transactions CASCADE");
+
+        String url = POSTGRES.getJdbcUrl();
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        try {
+            JdbcTemplate batched = new JdbcTemplate(dataSource);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            long start = System.nanoTime();
+            for (int from = 0; from < ROWS; from += BATCH_SIZE) {
+                List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+                for (int i = from; i < Math.min(ROWS, from + BATCH_SIZE); i++) {
+                    rows.add(new Object[]{ids.get(), "TXN-" + ids.get(), 100L + i, now, accountId, now});
+                }
+                batched.batchUpdate("INSERT INTO transactions (id, transaction_id, transaction_type, amount, currency, " +
+                        "timestamp, status, fees, account_id, created_date, version, active) " +
+                        "VALUES (?, ?, 'DEPOSIT', ?, 'USD', ?, 'COMPLETED', 0, ?, ?, 0, true)", rows);
+            }
+            long nanos = System.nanoTime() - start;
+            long indexBytes = JDBC.queryForObject("SELECT pg_relation_size('transactions_pkey')", Long.class);
+            return new Load(nanos, indexBytes);
+        } finally {
+            dataSource.destroy();
+        }
+    }
+}